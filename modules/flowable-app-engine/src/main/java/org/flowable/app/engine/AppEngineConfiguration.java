@@ -192,7 +192,9 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
 
     public AppEngine buildAppEngine() {
         init();
-        return new AppEngineImpl(this);
+        AppEngineImpl appEngine = new AppEngineImpl(this);
+        initClusterChangeStamps();
+        return appEngine;
     }
 
     protected void init() {
@@ -226,6 +228,7 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
         initServices();
         initDataManagers();
         initEntityManagers();
+        initDefinitionEntityCache();
         initDeployers();
         initAppDefinitionCache();
         initAppResourceConverter();
@@ -14,7 +14,6 @@ package org.flowable.app.engine.impl.el;
 
 import java.util.Map;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
 import org.flowable.variable.service.impl.el.VariableScopeExpressionManager;
 
@@ -31,8 +30,8 @@ public class AppExpressionManager extends VariableScopeExpressionManager {
     }
 
     @Override
-    protected ELResolver createVariableElResolver(VariableContainer variableContainer) {
-        return new AppVariableScopeELResolver(variableContainer);
+    protected ELResolver createVariableElResolver() {
+        return new AppVariableScopeELResolver();
     }
     
 }
@@ -12,7 +12,6 @@
  */
 package org.flowable.app.engine.impl.el;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.el.VariableContainerELResolver;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 
@@ -21,10 +20,6 @@ import org.flowable.common.engine.impl.javax.el.ELContext;
  */
 public class AppVariableScopeELResolver extends VariableContainerELResolver {
 
-    public AppVariableScopeELResolver(VariableContainer variableContainer) {
-        super(variableContainer);
-    }
-
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
         if (base == null) {
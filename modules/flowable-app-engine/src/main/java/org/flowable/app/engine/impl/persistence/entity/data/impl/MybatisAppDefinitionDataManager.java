@@ -24,6 +24,7 @@ import org.flowable.app.engine.impl.persistence.entity.data.AbstractAppDataManag
 import org.flowable.app.engine.impl.persistence.entity.data.AppDefinitionDataManager;
 import org.flowable.app.engine.impl.repository.AppDefinitionQueryImpl;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 
 /**
  * @author Tijs Rademakers
@@ -39,6 +40,11 @@ public class MybatisAppDefinitionDataManager extends AbstractAppDataManager<AppD
         return AppDefinitionEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return cmmnEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public AppDefinitionEntity create() {
         return new AppDefinitionEntityImpl();
@@ -46,7 +52,8 @@ public class MybatisAppDefinitionDataManager extends AbstractAppDataManager<AppD
 
     @Override
     public AppDefinitionEntity findLatestAppDefinitionByKey(String appDefinitionKey) {
-        return (AppDefinitionEntity) getDbSqlSession().selectOne("selectLatestAppDefinitionByKey", appDefinitionKey);
+        return findInDefinitionEntityCache("latestByKey:" + appDefinitionKey,
+                () -> (AppDefinitionEntity) getDbSqlSession().selectOne("selectLatestAppDefinitionByKey", appDefinitionKey));
     }
 
     @Override
@@ -54,12 +61,14 @@ public class MybatisAppDefinitionDataManager extends AbstractAppDataManager<AppD
         Map<String, Object> params = new HashMap<>(2);
         params.put("appDefinitionKey", appDefinitionKey);
         params.put("tenantId", tenantId);
-        return (AppDefinitionEntity) getDbSqlSession().selectOne("selectLatestAppDefinitionByKeyAndTenantId", params);
+        return findInDefinitionEntityCache("latestByKeyAndTenantId:" + appDefinitionKey + ":" + tenantId,
+                () -> (AppDefinitionEntity) getDbSqlSession().selectOne("selectLatestAppDefinitionByKeyAndTenantId", params));
     }
 
     @Override
     public void deleteAppDefinitionsByDeploymentId(String deploymentId) {
         getDbSqlSession().delete("deleteAppDefinitionsByDeploymentId", deploymentId, AppDefinitionEntityImpl.class);
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -115,6 +124,7 @@ public class MybatisAppDefinitionDataManager extends AbstractAppDataManager<AppD
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateAppDefinitionTenantIdForDeploymentId", params);
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -21,6 +21,7 @@ import org.flowable.app.engine.impl.persistence.entity.AppDeploymentEntityImpl;
 import org.flowable.app.engine.impl.persistence.entity.data.AbstractAppDataManager;
 import org.flowable.app.engine.impl.persistence.entity.data.AppDeploymentDataManager;
 import org.flowable.app.engine.impl.repository.AppDeploymentQueryImpl;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 
 /**
  * @author Tijs Rademakers
@@ -36,6 +37,11 @@ public class MybatisAppDeploymentDataManager extends AbstractAppDataManager<AppD
         return AppDeploymentEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return cmmnEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public AppDeploymentEntity create() {
         return new AppDeploymentEntityImpl();
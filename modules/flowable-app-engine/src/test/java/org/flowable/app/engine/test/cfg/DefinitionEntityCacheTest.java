@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.app.engine.test.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.app.api.AppRepositoryService;
+import org.flowable.app.api.repository.AppDeployment;
+import org.flowable.app.engine.AppEngine;
+import org.flowable.app.engine.impl.cfg.StandaloneInMemAppEngineConfiguration;
+import org.flowable.app.engine.impl.persistence.entity.AppDefinitionEntity;
+import org.flowable.app.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DefinitionEntityCacheTest {
+
+    protected StandaloneInMemAppEngineConfiguration appEngineConfiguration;
+    protected AppEngine appEngine;
+    protected AppRepositoryService appRepositoryService;
+
+    @Before
+    public void buildAppEngine() {
+        appEngineConfiguration = new StandaloneInMemAppEngineConfiguration();
+        appEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-app-" + this.getClass().getName());
+        appEngineConfiguration.setEnableDefinitionEntityCache(true);
+        appEngineConfiguration.setDefinitionEntityCacheCheckInterval(0L);
+        appEngine = appEngineConfiguration.buildAppEngine();
+        appRepositoryService = appEngine.getAppRepositoryService();
+    }
+
+    @After
+    public void closeAppEngine() {
+        for (AppDeployment deployment : appRepositoryService.createDeploymentQuery().list()) {
+            appRepositoryService.deleteDeployment(deployment.getId(), true);
+        }
+        appEngine.close();
+    }
+
+    @Test
+    public void testAppDefinitionIsCachedAndInvalidated() {
+        DefinitionEntityCache definitionEntityCache = appEngineConfiguration.getDefinitionEntityCache();
+
+        AppDeployment deployment = appRepositoryService.createDeployment().addClasspathResource("org/flowable/app/engine/test/test.app").deploy();
+        AppDefinitionEntity appDefinition = findLatestAppDefinition("testApp");
+        assertThat(appDefinition.getVersion()).isEqualTo(1);
+        assertThat(definitionEntityCache.size()).isPositive();
+
+        // Each command gets its own copy of the cached app definition
+        assertThat(findLatestAppDefinition("testApp")).isNotSameAs(appDefinition);
+
+        appRepositoryService.setAppDefinitionCategory(appDefinition.getId(), "newCategory");
+        assertThat(findLatestAppDefinition("testApp").getCategory()).isEqualTo("newCategory");
+
+        AppDeployment secondDeployment = appRepositoryService.createDeployment().addClasspathResource("org/flowable/app/engine/test/test.app").deploy();
+        assertThat(findLatestAppDefinition("testApp").getVersion()).isEqualTo(2);
+
+        appRepositoryService.deleteDeployment(secondDeployment.getId(), true);
+        assertThat(findLatestAppDefinition("testApp").getVersion()).isEqualTo(1);
+
+        appRepositoryService.deleteDeployment(deployment.getId(), true);
+        assertThat(findLatestAppDefinition("testApp")).isNull();
+    }
+
+    protected AppDefinitionEntity findLatestAppDefinition(String appDefinitionKey) {
+        return appEngineConfiguration.getCommandExecutor().execute(commandContext -> CommandContextUtil.getAppDefinitionEntityManager(commandContext)
+                .findLatestAppDefinitionByKey(appDefinitionKey));
+    }
+
+}
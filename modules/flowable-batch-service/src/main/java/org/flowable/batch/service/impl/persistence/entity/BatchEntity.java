@@ -12,6 +12,8 @@
  */
 package org.flowable.batch.service.impl.persistence.entity;
 
+import java.util.Date;
+
 import org.flowable.batch.api.Batch;
 import org.flowable.common.engine.impl.db.HasRevision;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -28,6 +30,8 @@ public interface BatchEntity extends Batch, Entity, HasRevision {
     
     void setStatus(String status);
 
+    void setCompleteTime(Date completeTime);
+
     void setBatchDocumentJson(String batchDocumentJson);
 
     void setTenantId(String tenantId);
@@ -110,6 +110,7 @@ public interface BpmnXMLConstants {
 
     public static final String ATTRIBUTE_ACTIVITY_ASYNCHRONOUS = "async";
     public static final String ATTRIBUTE_ACTIVITY_EXCLUSIVE = "exclusive";
+    public static final String ATTRIBUTE_ACTIVITY_ASYNC_PRIORITY = "asyncPriority";
     public static final String ATTRIBUTE_ACTIVITY_ISFORCOMPENSATION = "isForCompensation";
     public static final String ATTRIBUTE_ACTIVITY_TRIGGERABLE = "triggerable";
 
@@ -74,6 +74,7 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
     protected static final List<ExtensionAttribute> defaultActivityAttributes = Arrays.asList(
             new ExtensionAttribute(ATTRIBUTE_ACTIVITY_ASYNCHRONOUS),
             new ExtensionAttribute(ATTRIBUTE_ACTIVITY_EXCLUSIVE),
+            new ExtensionAttribute(ATTRIBUTE_ACTIVITY_ASYNC_PRIORITY),
             new ExtensionAttribute(ATTRIBUTE_DEFAULT),
             new ExtensionAttribute(ATTRIBUTE_ACTIVITY_ISFORCOMPENSATION));
 
@@ -84,6 +85,7 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
         boolean async = parseAsync(xtr);
         boolean triggerable = parseTriggerable(xtr);
         boolean notExclusive = parseNotExclusive(xtr);
+        String asyncPriority = BpmnXMLUtil.getAttributeValue(ATTRIBUTE_ACTIVITY_ASYNC_PRIORITY, xtr);
         String defaultFlow = xtr.getAttributeValue(null, ATTRIBUTE_DEFAULT);
         boolean isForCompensation = parseForCompensation(xtr);
 
@@ -111,6 +113,7 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
                 FlowNode flowNode = (FlowNode) currentFlowElement;
                 flowNode.setAsynchronous(async);
                 flowNode.setNotExclusive(notExclusive);
+                flowNode.setAsyncPriority(asyncPriority);
 
                 if (currentFlowElement instanceof Activity) {
 
@@ -169,6 +172,9 @@ public abstract class BaseBpmnXMLConverter implements BpmnXMLConstants {
                 if (flowNode.isNotExclusive()) {
                     writeQualifiedAttribute(ATTRIBUTE_ACTIVITY_EXCLUSIVE, ATTRIBUTE_VALUE_FALSE, xtw);
                 }
+                if (StringUtils.isNotEmpty(flowNode.getAsyncPriority())) {
+                    writeQualifiedAttribute(ATTRIBUTE_ACTIVITY_ASYNC_PRIORITY, flowNode.getAsyncPriority(), xtw);
+                }
             }
 
             if (baseElement instanceof Activity) {
@@ -598,6 +598,9 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
                     if (subProcess.isNotExclusive()) {
                         BpmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_ACTIVITY_EXCLUSIVE, ATTRIBUTE_VALUE_FALSE, xtw);
                     }
+                    if (StringUtils.isNotEmpty(subProcess.getAsyncPriority())) {
+                        BpmnXMLUtil.writeQualifiedAttribute(ATTRIBUTE_ACTIVITY_ASYNC_PRIORITY, subProcess.getAsyncPriority(), xtw);
+                    }
                 }
             }
 
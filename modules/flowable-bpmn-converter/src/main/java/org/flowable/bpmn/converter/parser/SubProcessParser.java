@@ -81,6 +81,7 @@ public class SubProcessParser implements BpmnXMLConstants {
 
         subProcess.setAsynchronous(async);
         subProcess.setNotExclusive(notExclusive);
+        subProcess.setAsyncPriority(BpmnXMLUtil.getAttributeValue(ATTRIBUTE_ACTIVITY_ASYNC_PRIORITY, xtr));
         subProcess.setForCompensation(forCompensation);
         if (StringUtils.isNotEmpty(xtr.getAttributeValue(null, ATTRIBUTE_DEFAULT))) {
             subProcess.setDefaultFlow(xtr.getAttributeValue(null, ATTRIBUTE_DEFAULT));
@@ -25,6 +25,7 @@ public abstract class FlowNode extends FlowElement {
 
     protected boolean asynchronous;
     protected boolean notExclusive;
+    protected String asyncPriority;
 
     protected List<SequenceFlow> incomingFlows = new ArrayList<>();
     protected List<SequenceFlow> outgoingFlows = new ArrayList<>();
@@ -60,6 +61,17 @@ public abstract class FlowNode extends FlowElement {
         this.notExclusive = notExclusive;
     }
 
+    /**
+     * The priority of the async job of this flow node, a number or an expression resolving to a number. Higher priority jobs are executed first.
+     */
+    public String getAsyncPriority() {
+        return asyncPriority;
+    }
+
+    public void setAsyncPriority(String asyncPriority) {
+        this.asyncPriority = asyncPriority;
+    }
+
     public Object getBehavior() {
         return behavior;
     }
@@ -88,5 +100,6 @@ public abstract class FlowNode extends FlowElement {
         super.setValues(otherNode);
         setAsynchronous(otherNode.isAsynchronous());
         setNotExclusive(otherNode.isNotExclusive());
+        setAsyncPriority(otherNode.getAsyncPriority());
     }
 }
@@ -219,5 +219,11 @@ public class TaskXmlConverter extends PlanItemDefinitionXmlConverter {
         if (StringUtils.isNotEmpty(isExclusiveString)) {
             task.setExclusive(Boolean.valueOf(isExclusiveString));
         }
+
+        String asyncPriorityString = xtr.getAttributeValue(CmmnXmlConstants.FLOWABLE_EXTENSIONS_NAMESPACE,
+            CmmnXmlConstants.ATTRIBUTE_ASYNC_PRIORITY);
+        if (StringUtils.isNotEmpty(asyncPriorityString)) {
+            task.setAsyncPriority(asyncPriorityString);
+        }
     }
 }
@@ -46,6 +46,9 @@ public class TaskExport extends AbstractPlanItemDefinitionExport<Task> {
         if (task.isAsync()) {
             xtw.writeAttribute(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_IS_ASYNCHRONOUS, String.valueOf(task.isAsync()));
             xtw.writeAttribute(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_IS_EXCLUSIVE, String.valueOf(task.isExclusive()));
+            if (StringUtils.isNotEmpty(task.getAsyncPriority())) {
+                xtw.writeAttribute(FLOWABLE_EXTENSIONS_PREFIX, FLOWABLE_EXTENSIONS_NAMESPACE, ATTRIBUTE_ASYNC_PRIORITY, task.getAsyncPriority());
+            }
         }
         
         if (task instanceof SendEventServiceTask) {
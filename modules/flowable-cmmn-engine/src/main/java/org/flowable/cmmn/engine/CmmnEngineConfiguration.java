@@ -259,6 +259,8 @@ import org.flowable.job.service.InternalJobParentStateResolver;
 import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPartition;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPriorityQueue;
 import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
@@ -423,6 +425,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected CaseDiagramGenerator caseDiagramGenerator;
 
+    /**
+     * The number of case diagrams that are cached by the default case diagram generator, so that the same case model
+     * isn't rendered again for every request. 0 (the default) disables the cache.
+     */
+    protected int caseDiagramCacheLimit;
+
     protected boolean isCreateDiagramOnDeploy = true;
 
     protected String activityFontName = "Arial";
@@ -435,6 +443,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     // Entitylink support
     protected EntityLinkServiceConfiguration entityLinkServiceConfiguration;
     protected boolean enableEntityLinks;
+    protected boolean enableHierarchicalEntityLinks;
     
     // EventSubscription support
     protected EventSubscriptionServiceConfiguration eventSubscriptionServiceConfiguration;
@@ -669,6 +678,65 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorTimerLockTimeInMillis = 5 * 60 * 1000;
 
+    /**
+     * The amount of time (in milliseconds) before their due date that timer jobs are acquired by the async executor. Such timer jobs are locked until
+     * {@link #asyncExecutorTimerLockTimeInMillis} after their due date and are moved to the executable jobs as soon as they are due, instead of at the next acquisition.
+     * <p>
+     * Default value = 0, meaning timer jobs are only acquired when they are due;
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorTimerJobPrefetchWindowInMillis;
+
+    /**
+     * When enabled, the async executor determines the number of jobs acquired at once from the rate at which it executes jobs and the remaining capacity of its queue,
+     * and backs off exponentially when the acquisition conflicts with other executors. {@link #asyncExecutorMaxAsyncJobsDuePerAcquisition} is then the upper bound of the acquire size.
+     * <p>
+     * Default value = false;
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAdaptiveAsyncJobAcquisition;
+
+    /**
+     * Named partitions of the async executor, for the async jobs of some tenants and/or job handler types. Each partition has its own capacity,
+     * and the jobs are acquired per partition proportionally to the partition weights, so the jobs of one tenant or job type can't starve the others.
+     * See {@link AsyncJobPartition}.
+     * <p>
+     * Default value = empty, all async jobs are acquired together;
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected List<AsyncJobPartition> asyncExecutorJobPartitions;
+
+    /**
+     * Whether the queue of the async executor thread pool hands out the jobs with the highest priority first,
+     * instead of in the order in which they were acquired. See {@link AsyncJobPriorityQueue}.
+     * <p>
+     * Default value = false;
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorJobPriorityQueueEnabled;
+
+    /**
+     * Whether async jobs are acquired by priority (highest first) and then by create time (oldest first).
+     * Ordering the acquisition query has a cost, so this should only be enabled when jobs get a priority,
+     * and the ACT_IDX_JOB_PRIORITY index should be in place.
+     * <p>
+     * Default value = false, jobs are acquired in no particular order;
+     */
+    protected boolean asyncExecutorJobPriorityAcquisitionEnabled;
+
+    /**
+     * The time (in milliseconds) after which a waiting async job gets precedence over jobs with a higher priority, so low priority jobs can't be starved.
+     * Async jobs that were created longer than this time ago are acquired first (when acquisition by priority is enabled), and the priority of a job
+     * in the priority queue goes up by one for every aging time it has been waiting in the queue.
+     * <p>
+     * Default value = 0, jobs are always acquired and executed by priority;
+     */
+    protected int asyncExecutorJobPriorityAgingTime;
+
     /**
      * The amount of time (in milliseconds) an async job is locked when acquired by the async executor.
      * During this period of time, no other async executor will try to acquire and lock this job.
@@ -809,6 +877,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     public CmmnEngine buildCmmnEngine() {
         init();
         CmmnEngineImpl cmmnEngine = new CmmnEngineImpl(this);
+        initClusterChangeStamps();
 
         if (handleCmmnEngineExecutorsAfterEngineCreate) {
             cmmnEngine.startExecutors();
@@ -853,6 +922,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initServices();
         initDataManagers();
         initEntityManagers();
+        initDefinitionEntityCache();
         initClassDelegateFactory();
         initActivityBehaviorFactory();
         initListenerFactory();
@@ -890,7 +960,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     public void initCaseDiagramGenerator() {
         if (caseDiagramGenerator == null) {
-            caseDiagramGenerator = new DefaultCaseDiagramGenerator();
+            DefaultCaseDiagramGenerator defaultCaseDiagramGenerator = new DefaultCaseDiagramGenerator();
+            defaultCaseDiagramGenerator.setDiagramCacheLimit(caseDiagramCacheLimit);
+            caseDiagramGenerator = defaultCaseDiagramGenerator;
         }
     }
 
@@ -1082,6 +1154,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initService(cmmnManagementService);
         initService(cmmnRepositoryService);
         initService(cmmnHistoryService);
+        if (allowStaleHistoryReads) {
+            initStaleReadService(cmmnHistoryService);
+        }
     }
 
     @Override
@@ -1561,6 +1636,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.entityLinkServiceConfiguration.setClock(this.clock);
             this.entityLinkServiceConfiguration.setObjectMapper(this.objectMapper);
             this.entityLinkServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+            this.entityLinkServiceConfiguration.setEnableHierarchicalEntityLinks(this.enableHierarchicalEntityLinks);
     
             this.entityLinkServiceConfiguration.init();
     
@@ -1725,6 +1801,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setAsyncExecutorJobPriorityAcquisitionEnabled(this.asyncExecutorJobPriorityAcquisitionEnabled);
+            this.jobServiceConfiguration.setAsyncExecutorJobPriorityAgingTime(this.asyncExecutorJobPriorityAgingTime);
     
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1817,6 +1895,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
+            defaultAsyncExecutor.setTimerJobPrefetchWindowInMillis(asyncExecutorTimerJobPrefetchWindowInMillis);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisition(asyncExecutorAdaptiveAsyncJobAcquisition);
+            defaultAsyncExecutor.setAsyncJobPartitions(asyncExecutorJobPartitions);
+            defaultAsyncExecutor.setJobPriorityQueueEnabled(asyncExecutorJobPriorityQueueEnabled);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
             if (asyncExecutorLockOwner != null) {
                 defaultAsyncExecutor.setLockOwner(asyncExecutorLockOwner);
@@ -2797,6 +2879,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getCaseDiagramCacheLimit() {
+        return caseDiagramCacheLimit;
+    }
+
+    public CmmnEngineConfiguration setCaseDiagramCacheLimit(int caseDiagramCacheLimit) {
+        this.caseDiagramCacheLimit = caseDiagramCacheLimit;
+        return this;
+    }
+
     public boolean isCreateDiagramOnDeploy() {
         return isCreateDiagramOnDeploy;
     }
@@ -3131,6 +3222,60 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public int getAsyncExecutorTimerJobPrefetchWindowInMillis() {
+        return asyncExecutorTimerJobPrefetchWindowInMillis;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobPrefetchWindowInMillis(int asyncExecutorTimerJobPrefetchWindowInMillis) {
+        this.asyncExecutorTimerJobPrefetchWindowInMillis = asyncExecutorTimerJobPrefetchWindowInMillis;
+        return this;
+    }
+
+    public boolean isAsyncExecutorAdaptiveAsyncJobAcquisition() {
+        return asyncExecutorAdaptiveAsyncJobAcquisition;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorAdaptiveAsyncJobAcquisition(boolean asyncExecutorAdaptiveAsyncJobAcquisition) {
+        this.asyncExecutorAdaptiveAsyncJobAcquisition = asyncExecutorAdaptiveAsyncJobAcquisition;
+        return this;
+    }
+
+    public List<AsyncJobPartition> getAsyncExecutorJobPartitions() {
+        return asyncExecutorJobPartitions;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorJobPartitions(List<AsyncJobPartition> asyncExecutorJobPartitions) {
+        this.asyncExecutorJobPartitions = asyncExecutorJobPartitions;
+        return this;
+    }
+
+    public boolean isAsyncExecutorJobPriorityQueueEnabled() {
+        return asyncExecutorJobPriorityQueueEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorJobPriorityQueueEnabled(boolean asyncExecutorJobPriorityQueueEnabled) {
+        this.asyncExecutorJobPriorityQueueEnabled = asyncExecutorJobPriorityQueueEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorJobPriorityAcquisitionEnabled() {
+        return asyncExecutorJobPriorityAcquisitionEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorJobPriorityAcquisitionEnabled(boolean asyncExecutorJobPriorityAcquisitionEnabled) {
+        this.asyncExecutorJobPriorityAcquisitionEnabled = asyncExecutorJobPriorityAcquisitionEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorJobPriorityAgingTime() {
+        return asyncExecutorJobPriorityAgingTime;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorJobPriorityAgingTime(int asyncExecutorJobPriorityAgingTime) {
+        this.asyncExecutorJobPriorityAgingTime = asyncExecutorJobPriorityAgingTime;
+        return this;
+    }
+
     public int getAsyncExecutorAsyncJobLockTimeInMillis() {
         return asyncExecutorAsyncJobLockTimeInMillis;
     }
@@ -3465,6 +3610,19 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableHierarchicalEntityLinks() {
+        return enableHierarchicalEntityLinks;
+    }
+
+    /**
+     * When enabled, a single entity link with the root scope and the hierarchy path is stored for a new child scope,
+     * instead of a link for every ancestor. See {@link EntityLinkServiceConfiguration#setEnableHierarchicalEntityLinks(boolean)}.
+     */
+    public CmmnEngineConfiguration setEnableHierarchicalEntityLinks(boolean enableHierarchicalEntityLinks) {
+        this.enableHierarchicalEntityLinks = enableHierarchicalEntityLinks;
+        return this;
+    }
+
     public EventSubscriptionServiceConfiguration getEventSubscriptionServiceConfiguration() {
         return eventSubscriptionServiceConfiguration;
     }
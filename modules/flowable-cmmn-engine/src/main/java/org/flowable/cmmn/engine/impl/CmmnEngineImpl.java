@@ -112,6 +112,7 @@ public class CmmnEngineImpl implements CmmnEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        cmmnEngineConfiguration.getHttpClientConfig().closeHttpClient();
         cmmnEngineConfiguration.close();
 
         if (cmmnEngineConfiguration.getEngineLifecycleListeners() != null) {
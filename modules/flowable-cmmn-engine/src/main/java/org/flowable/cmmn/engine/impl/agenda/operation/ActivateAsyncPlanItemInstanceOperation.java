@@ -26,6 +26,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.logging.CmmnLoggingSessionConstants;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.JobPriorityUtil;
 
 /**
  * @author Dennis Federico
@@ -69,6 +70,7 @@ public class ActivateAsyncPlanItemInstanceOperation extends AbstractChangePlanIt
         job.setElementName(task.getName());
         job.setJobHandlerConfiguration(entryCriterionId);
         job.setTenantId(planItemInstanceEntity.getTenantId());
+        JobPriorityUtil.setPriority(job, task.getAsyncPriority(), cmmnEngineConfiguration.getExpressionManager(), planItemInstanceEntity);
         jobService.createAsyncJob(job, task.isExclusive());
         jobService.scheduleAsyncJob(job);
         
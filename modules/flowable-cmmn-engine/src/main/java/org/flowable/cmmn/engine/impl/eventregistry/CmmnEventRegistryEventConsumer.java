@@ -14,17 +14,25 @@ package org.flowable.cmmn.engine.impl.eventregistry;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.runtime.CaseInstanceBuilder;
 import org.flowable.cmmn.converter.CmmnXmlConstants;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.cmmn.model.ExtensionElement;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.impl.constant.EventConstants;
 import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
@@ -72,8 +80,61 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
     }
 
+    @Override
+    protected void eventInstancesReceived(List<EventInstance> eventInstances) {
+
+        // Batch mode: the event subscriptions of all event instances are fetched with one query per event type,
+        // and all of them are handled in one transaction. If the handling of one of the events fails,
+        // the whole batch is rolled back, so that the channel adapter can redeliver it.
+
+        Map<EventInstance, Collection<CorrelationKey>> correlationKeysByEventInstance = new LinkedHashMap<>();
+        for (EventInstance eventInstance : eventInstances) {
+            correlationKeysByEventInstance.put(eventInstance, generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+        }
+
+        CmmnRuntimeService cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
+        commandExecutor.execute(commandContext -> {
+            Map<EventInstance, List<EventSubscription>> eventSubscriptionsByEventInstance = findEventSubscriptions(ScopeTypes.CMMN, correlationKeysByEventInstance);
+
+            // The unique reference ids of the case instances started by this batch, per case definition.
+            // Those case instances are not flushed yet, so the case instance query can't find them.
+            Map<String, Set<String>> startedReferenceIds = new HashMap<>();
+            for (Map.Entry<EventInstance, List<EventSubscription>> entry : eventSubscriptionsByEventInstance.entrySet()) {
+                EventInstance eventInstance = entry.getKey();
+                Collection<CorrelationKey> correlationKeys = correlationKeysByEventInstance.get(eventInstance);
+                for (EventSubscription eventSubscription : getCurrentEventSubscriptions(commandContext, ScopeTypes.CMMN, eventInstance, correlationKeys, entry.getValue())) {
+                    handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys, startedReferenceIds);
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    protected boolean isEventSubscriptionDeleted(CommandContext commandContext, EventSubscription eventSubscription) {
+        if (super.isEventSubscriptionDeleted(commandContext, eventSubscription)) {
+            return true;
+        }
+
+        // The event subscriptions of a case instance are bulk deleted when the case instance is deleted
+        if (eventSubscription.getScopeId() != null) {
+            CaseInstanceEntity caseInstance = CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(eventSubscription.getScopeId());
+            return caseInstance == null || caseInstance.isDeleted();
+        }
+        return false;
+    }
+
     protected void handleEventSubscription(CmmnRuntimeService cmmnRuntimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        handleEventSubscription(cmmnRuntimeService, eventSubscription, eventInstance, correlationKeys, null);
+    }
+
+    /**
+     * @param startedReferenceIds the unique reference ids of the case instances that were started earlier in the same transaction, per case definition id,
+     *          or {@code null} when the event subscription is handled in its own transaction
+     */
+    protected void handleEventSubscription(CmmnRuntimeService cmmnRuntimeService, EventSubscription eventSubscription,
+            EventInstance eventInstance, Collection<CorrelationKey> correlationKeys, Map<String, Set<String>> startedReferenceIds) {
 
         if (eventSubscription.getSubScopeId() != null) {
 
@@ -104,6 +165,12 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
                     CorrelationKey correlationKeyWithAllParameters = getCorrelationKeyWithAllParameters(correlationKeys);
 
+                    if (startedReferenceIds != null && startedReferenceIds.getOrDefault(eventSubscription.getScopeDefinitionId(), Collections.emptySet())
+                            .contains(correlationKeyWithAllParameters.getValue())) {
+                        LOGGER.debug("Event received to start a new case instance, but a unique instance was already started by the same batch.");
+                        return;
+                    }
+
                     long caseInstanceCount = cmmnRuntimeService.createCaseInstanceQuery()
                         .caseDefinitionId(eventSubscription.getScopeDefinitionId())
                         .caseInstanceReferenceId(correlationKeyWithAllParameters.getValue())
@@ -119,6 +186,11 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
                     caseInstanceBuilder.referenceId(correlationKeyWithAllParameters.getValue());
                     caseInstanceBuilder.referenceType(ReferenceTypes.EVENT_CASE);
 
+                    if (startedReferenceIds != null) {
+                        startedReferenceIds.computeIfAbsent(eventSubscription.getScopeDefinitionId(), key -> new HashSet<>())
+                            .add(correlationKeyWithAllParameters.getValue());
+                    }
+
                 }
             }
 
@@ -146,6 +146,12 @@ public class CmmnHistoricVariableInstanceQueryImpl implements HistoricVariableIn
         return this;
     }
 
+    @Override
+    public HistoricVariableInstanceQuery allowStaleRead() {
+        wrappedHistoricVariableInstanceQuery.allowStaleRead();
+        return this;
+    }
+
     @Override
     public long count() {
         return wrappedHistoricVariableInstanceQuery.count();
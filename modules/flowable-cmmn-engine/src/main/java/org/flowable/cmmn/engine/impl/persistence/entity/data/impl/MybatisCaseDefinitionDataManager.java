@@ -24,6 +24,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataMan
 import org.flowable.cmmn.engine.impl.persistence.entity.data.CaseDefinitionDataManager;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionQueryImpl;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 
 /**
  * @author Joram Barrez
@@ -39,6 +40,11 @@ public class MybatisCaseDefinitionDataManager extends AbstractCmmnDataManager<Ca
         return CaseDefinitionEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return cmmnEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public CaseDefinitionEntity create() {
         return new CaseDefinitionEntityImpl();
@@ -46,7 +52,8 @@ public class MybatisCaseDefinitionDataManager extends AbstractCmmnDataManager<Ca
 
     @Override
     public CaseDefinitionEntity findLatestCaseDefinitionByKey(String caseDefinitionKey) {
-        return (CaseDefinitionEntity) getDbSqlSession().selectOne("selectLatestCaseDefinitionByKey", caseDefinitionKey);
+        return findInDefinitionEntityCache("latestByKey:" + caseDefinitionKey,
+                () -> (CaseDefinitionEntity) getDbSqlSession().selectOne("selectLatestCaseDefinitionByKey", caseDefinitionKey));
     }
 
     @Override
@@ -54,12 +61,14 @@ public class MybatisCaseDefinitionDataManager extends AbstractCmmnDataManager<Ca
         Map<String, Object> params = new HashMap<>(2);
         params.put("caseDefinitionKey", caseDefinitionKey);
         params.put("tenantId", tenantId);
-        return (CaseDefinitionEntity) getDbSqlSession().selectOne("selectLatestCaseDefinitionByKeyAndTenantId", params);
+        return findInDefinitionEntityCache("latestByKeyAndTenantId:" + caseDefinitionKey + ":" + tenantId,
+                () -> (CaseDefinitionEntity) getDbSqlSession().selectOne("selectLatestCaseDefinitionByKeyAndTenantId", params));
     }
 
     @Override
     public void deleteCaseDefinitionsByDeploymentId(String deploymentId) {
         getDbSqlSession().delete("deleteCaseDefinitionsByDeploymentId", deploymentId, CaseDefinitionEntityImpl.class);
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -132,6 +141,7 @@ public class MybatisCaseDefinitionDataManager extends AbstractCmmnDataManager<Ca
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateCaseDefinitionTenantIdForDeploymentId", params);
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -21,6 +21,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityImpl
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.CmmnDeploymentDataManager;
 import org.flowable.cmmn.engine.impl.repository.CmmnDeploymentQueryImpl;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 
 /**
  * @author Joram Barrez
@@ -36,6 +37,11 @@ public class MybatisCmmnDeploymentDataManager extends AbstractCmmnDataManager<Cm
         return CmmnDeploymentEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return cmmnEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public CmmnDeploymentEntity create() {
         return new CmmnDeploymentEntityImpl();
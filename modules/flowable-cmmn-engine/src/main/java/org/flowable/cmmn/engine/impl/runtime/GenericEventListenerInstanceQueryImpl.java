@@ -119,6 +119,12 @@ public class GenericEventListenerInstanceQueryImpl implements GenericEventListen
         return this;
     }
 
+    @Override
+    public GenericEventListenerInstanceQuery allowStaleRead() {
+        innerQuery.allowStaleRead();
+        return this;
+    }
+
     @Override
     public long count() {
         return innerQuery.count();
@@ -119,6 +119,12 @@ public class SignalEventListenerInstanceQueryImpl implements SignalEventListener
         return this;
     }
 
+    @Override
+    public SignalEventListenerInstanceQuery allowStaleRead() {
+        innerQuery.allowStaleRead();
+        return this;
+    }
+
     @Override
     public long count() {
         return innerQuery.count();
@@ -127,6 +127,12 @@ public class UserEventListenerInstanceQueryImpl implements UserEventListenerInst
         return this;
     }
 
+    @Override
+    public UserEventListenerInstanceQuery allowStaleRead() {
+        innerQuery.allowStaleRead();
+        return this;
+    }
+
     @Override
     public long count() {
         return innerQuery.count();
@@ -21,6 +21,7 @@ import org.flowable.entitylink.api.EntityLink;
 import org.flowable.entitylink.api.EntityLinkService;
 import org.flowable.entitylink.api.EntityLinkType;
 import org.flowable.entitylink.api.HierarchyType;
+import org.flowable.entitylink.service.EntityLinkServiceConfiguration;
 import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntity;
 
 /**
@@ -29,6 +30,11 @@ import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntity;
 public class EntityLinkUtil {
 
     public static void copyExistingEntityLinks(String scopeId, String referenceScopeId, String referenceScopeType) {
+        if (CommandContextUtil.getEntityLinkServiceConfiguration().isEnableHierarchicalEntityLinks()) {
+            // The links to the ancestors are derived from the hierarchy path of the link created in createNewEntityLink
+            return;
+        }
+
         EntityLinkService entityLinkService = CommandContextUtil.getEntityLinkService();
         List<EntityLink> entityLinks = entityLinkService.findEntityLinksByReferenceScopeIdAndType(scopeId, ScopeTypes.CMMN, EntityLinkType.CHILD);
         List<String> parentIds = new ArrayList<>();
@@ -54,7 +60,17 @@ public class EntityLinkUtil {
     }
 
     public static void createNewEntityLink(String scopeId, String referenceScopeId, String referenceScopeType) {
-        EntityLinkService entityLinkService = CommandContextUtil.getEntityLinkService();
+        EntityLinkServiceConfiguration entityLinkServiceConfiguration = CommandContextUtil.getEntityLinkServiceConfiguration();
+        EntityLinkService entityLinkService = entityLinkServiceConfiguration.getEntityLinkService();
+
+        if (entityLinkServiceConfiguration.isEnableHierarchicalEntityLinks()) {
+            EntityLinkEntity newEntityLink = entityLinkServiceConfiguration.getEntityLinkEntityManager()
+                    .createHierarchicalEntityLink(scopeId, ScopeTypes.CMMN, referenceScopeId, referenceScopeType);
+            entityLinkService.insertEntityLink(newEntityLink);
+
+            CommandContextUtil.getCmmnHistoryManager().recordEntityLinkCreated(newEntityLink);
+            return;
+        }
 
         // Check if existing links already have root, if not, current is root
         Optional<EntityLink> entityLinkWithRoot = entityLinkService
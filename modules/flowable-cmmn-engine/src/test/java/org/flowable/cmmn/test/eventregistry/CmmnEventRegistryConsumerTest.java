@@ -15,6 +15,7 @@ package org.flowable.cmmn.test.eventregistry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -322,6 +323,32 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
         }
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testGenericEventListenerNoCorrelation.cmmn")
+    public void testGenericEventListenerBatch() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase").start();
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).list()).hasSize(1);
+
+        // Every event of the batch triggers the repeated event listener that was created by the previous event,
+        // instead of the event listener that already occurred
+        inboundEventChannelAdapter.triggerTestEventBatch("test", "test", "test");
+        assertThat(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).list()).hasSize(4);
+        assertThat(cmmnRuntimeService.createEventSubscriptionQuery().scopeId(caseInstance.getId()).count()).isEqualTo(1);
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/eventregistry/CmmnEventRegistryConsumerTest.testCaseStartOnlyOneInstance.cmmn")
+    public void testCaseStartOnlyOneInstanceBatch() {
+        inboundEventChannelAdapter.triggerTestEventBatch("testCustomer", "testCustomer", "anotherCustomer", "testCustomer", "anotherCustomer");
+        assertThat(cmmnRuntimeService.createCaseInstanceQuery().list())
+                .extracting(CaseInstance::getReferenceId)
+                .doesNotHaveDuplicates()
+                .hasSize(2);
+
+        inboundEventChannelAdapter.triggerTestEventBatch("testCustomer", "anotherCustomer");
+        assertThat(cmmnRuntimeService.createCaseInstanceQuery().list()).hasSize(2);
+    }
+
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
 
         public InboundChannelModel inboundChannelModel;
@@ -350,6 +377,18 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
         }
 
         public void triggerTestEvent(String customerId, String orderId) {
+            eventRegistry.eventReceived(inboundChannelModel, createTestEvent(customerId, orderId));
+        }
+
+        public void triggerTestEventBatch(String... customerIds) {
+            List<String> events = new ArrayList<>();
+            for (String customerId : customerIds) {
+                events.add(createTestEvent(customerId, null));
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+
+        protected String createTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
 
             ObjectNode json = objectMapper.createObjectNode();
@@ -364,7 +403,7 @@ public class CmmnEventRegistryConsumerTest extends FlowableEventRegistryCmmnTest
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
             try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
+                return objectMapper.writeValueAsString(json);
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
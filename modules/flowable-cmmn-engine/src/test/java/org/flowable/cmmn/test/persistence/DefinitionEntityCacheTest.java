@@ -0,0 +1,99 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.api.repository.CmmnDeployment;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.cmmn.test.impl.CustomCmmnConfigurationFlowableTestCase;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
+import org.flowable.identitylink.api.IdentityLink;
+import org.junit.After;
+import org.junit.Test;
+
+public class DefinitionEntityCacheTest extends CustomCmmnConfigurationFlowableTestCase {
+
+    @Override
+    protected String getEngineName() {
+        return this.getClass().getName();
+    }
+
+    @Override
+    protected void configureConfiguration(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        cmmnEngineConfiguration.setEnableDefinitionEntityCache(true);
+        cmmnEngineConfiguration.setDefinitionEntityCacheCheckInterval(0L);
+    }
+
+    @After
+    public void deleteDeployments() {
+        for (CmmnDeployment deployment : cmmnRepositoryService.createDeploymentQuery().list()) {
+            cmmnRepositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testDefinitionIsCachedAndInvalidated() {
+        DefinitionEntityCache definitionEntityCache = cmmnEngineConfiguration.getDefinitionEntityCache();
+        assertThat(definitionEntityCache).isNotNull();
+
+        cmmnRepositoryService.createDeployment().addClasspathResource("org/flowable/cmmn/test/runtime/oneHumanTaskCase.cmmn").deploy();
+        CaseDefinition caseDefinition = findLatestCaseDefinition("oneHumanTaskCase");
+        assertThat(caseDefinition.getVersion()).isEqualTo(1);
+        assertThat(definitionEntityCache.size()).isPositive();
+
+        // Each command gets its own copy of the cached definition
+        assertThat(findLatestCaseDefinition("oneHumanTaskCase")).isNotSameAs(caseDefinition);
+
+        cmmnRepositoryService.setCaseDefinitionCategory(caseDefinition.getId(), "newCategory");
+        assertThat(findLatestCaseDefinition("oneHumanTaskCase").getCategory()).isEqualTo("newCategory");
+
+        cmmnRepositoryService.createDeployment().addClasspathResource("org/flowable/cmmn/test/runtime/oneHumanTaskCase.cmmn").deploy();
+        assertThat(findLatestCaseDefinition("oneHumanTaskCase").getVersion()).isEqualTo(2);
+
+        cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneHumanTaskCase").start();
+        assertThat(cmmnTaskService.createTaskQuery().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void testIdentityLinksOfCachedDefinitionAreLoaded() {
+        cmmnRepositoryService.createDeployment().addClasspathResource("org/flowable/cmmn/test/runtime/oneHumanTaskCase.cmmn").deploy();
+        String caseDefinitionId = findLatestCaseDefinition("oneHumanTaskCase").getId();
+        cmmnRepositoryService.addCandidateStarterUser(caseDefinitionId, "kermit");
+
+        // Cache the definition while the command already loaded its identity links
+        cmmnEngineConfiguration.getDefinitionEntityCache().clear();
+        cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            CaseDefinitionEntity caseDefinition = (CaseDefinitionEntity) cmmnRepositoryService.createCaseDefinitionQuery()
+                    .caseDefinitionId(caseDefinitionId).singleResult();
+            assertThat(caseDefinition.getIdentityLinks()).hasSize(1);
+            return CommandContextUtil.getCaseDefinitionEntityManager(commandContext).findLatestCaseDefinitionByKey("oneHumanTaskCase");
+        });
+
+        int identityLinkCount = cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> CommandContextUtil
+                .getCaseDefinitionEntityManager(commandContext).findLatestCaseDefinitionByKey("oneHumanTaskCase").getIdentityLinks().size());
+        assertThat(identityLinkCount).isEqualTo(1);
+        assertThat(cmmnRepositoryService.getIdentityLinksForCaseDefinition(caseDefinitionId))
+                .extracting(IdentityLink::getUserId)
+                .containsExactly("kermit");
+    }
+
+    protected CaseDefinition findLatestCaseDefinition(String caseDefinitionKey) {
+        return cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> CommandContextUtil.getCaseDefinitionEntityManager(commandContext)
+                .findLatestCaseDefinitionByKey(caseDefinitionKey));
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.cmmn.test.runtime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.Collections;
 import java.util.List;
@@ -36,6 +37,8 @@ import org.flowable.entitylink.api.EntityLink;
 import org.flowable.entitylink.api.EntityLinkType;
 import org.flowable.entitylink.api.HierarchyType;
 import org.flowable.entitylink.api.history.HistoricEntityLink;
+import org.flowable.entitylink.service.EntityLinkServiceConfiguration;
+import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntity;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.history.HistoricTaskInstance;
 import org.junit.After;
@@ -195,6 +198,65 @@ public class CaseTaskTest extends FlowableCmmnTestCase {
 
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/CaseTaskTest.testBasicSubHumanTask.cmmn")
+    public void testBasicSubHumanTaskWithHierarchicalEntityLinks() {
+        String oneHumanTaskDeploymentId = cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/runtime/oneHumanTaskCase.cmmn").deploy().getId();
+
+        EntityLinkServiceConfiguration entityLinkServiceConfiguration = cmmnEngineConfiguration.getEntityLinkServiceConfiguration();
+        entityLinkServiceConfiguration.setEnableHierarchicalEntityLinks(true);
+        try {
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase").start();
+            Task taskBeforeSubTask = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+            cmmnTaskService.complete(taskBeforeSubTask.getId());
+
+            Task taskInSubTask = cmmnTaskService.createTaskQuery().singleResult();
+            String subCaseInstanceId = taskInSubTask.getScopeId();
+
+            // Only the link to the direct parent is stored for a new scope
+            List<EntityLink> storedLinks = cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> entityLinkServiceConfiguration
+                    .getEntityLinkDataManager().findEntityLinksByReferenceScopeIdAndType(taskInSubTask.getId(), ScopeTypes.TASK, EntityLinkType.CHILD));
+            assertThat(storedLinks).hasSize(1);
+            EntityLinkEntity storedLink = (EntityLinkEntity) storedLinks.get(0);
+            assertThat(storedLink.getScopeId()).isEqualTo(subCaseInstanceId);
+            assertThat(storedLink.getRootScopeId()).isEqualTo(caseInstance.getId());
+            assertThat(storedLink.getRootScopeType()).isEqualTo(ScopeTypes.CMMN);
+            assertThat(storedLink.getHierarchyPath()).isEqualTo("/" + caseInstance.getId() + "/" + subCaseInstanceId + "/");
+
+            assertThat(cmmnRuntimeService.getEntityLinkChildrenForCaseInstance(caseInstance.getId()))
+                    .extracting(EntityLink::getScopeId, EntityLink::getReferenceScopeId, EntityLink::getReferenceScopeType, EntityLink::getHierarchyType)
+                    .containsExactlyInAnyOrder(
+                            tuple(caseInstance.getId(), taskBeforeSubTask.getId(), ScopeTypes.TASK, HierarchyType.ROOT),
+                            tuple(caseInstance.getId(), subCaseInstanceId, ScopeTypes.CMMN, HierarchyType.ROOT),
+                            tuple(caseInstance.getId(), taskInSubTask.getId(), ScopeTypes.TASK, HierarchyType.ROOT));
+
+            assertThat(cmmnRuntimeService.getEntityLinkChildrenForCaseInstance(subCaseInstanceId))
+                    .extracting(EntityLink::getScopeId, EntityLink::getReferenceScopeId, EntityLink::getHierarchyType)
+                    .containsExactly(tuple(subCaseInstanceId, taskInSubTask.getId(), HierarchyType.PARENT));
+
+            assertThat(cmmnRuntimeService.getEntityLinkParentsForCaseInstance(subCaseInstanceId))
+                    .extracting(EntityLink::getScopeId, EntityLink::getReferenceScopeId, EntityLink::getHierarchyType)
+                    .containsExactly(tuple(caseInstance.getId(), subCaseInstanceId, HierarchyType.ROOT));
+
+            List<EntityLink> taskParentLinks = cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> entityLinkServiceConfiguration
+                    .getEntityLinkService().findEntityLinksByReferenceScopeIdAndType(taskInSubTask.getId(), ScopeTypes.TASK, EntityLinkType.CHILD));
+            assertThat(taskParentLinks)
+                    .extracting(EntityLink::getScopeId, EntityLink::getScopeType, EntityLink::getReferenceScopeId, EntityLink::getHierarchyType)
+                    .containsExactly(
+                            tuple(caseInstance.getId(), ScopeTypes.CMMN, taskInSubTask.getId(), HierarchyType.ROOT),
+                            tuple(subCaseInstanceId, ScopeTypes.CMMN, taskInSubTask.getId(), HierarchyType.PARENT));
+
+            cmmnTaskService.complete(taskInSubTask.getId());
+            cmmnTaskService.complete(cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult().getId());
+            assertCaseInstanceEnded(caseInstance);
+
+        } finally {
+            entityLinkServiceConfiguration.setEnableHierarchicalEntityLinks(false);
+            cmmnRepositoryService.deleteDeployment(oneHumanTaskDeploymentId, true);
+        }
+    }
+
     protected void assertBlockingCaseTaskFlow(CaseInstance caseInstance) {
         assertThat(caseInstance).isNotNull();
         assertThat(cmmnRuntimeService.createCaseInstanceQuery().count()).isEqualTo(1);
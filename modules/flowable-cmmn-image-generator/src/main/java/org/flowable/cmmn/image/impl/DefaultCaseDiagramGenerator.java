@@ -14,6 +14,9 @@
 package org.flowable.cmmn.image.impl;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.EventListener;
@@ -21,7 +24,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.imageio.ImageIO;
+
 import org.flowable.cmmn.image.CaseDiagramGenerator;
+import org.flowable.cmmn.image.exception.FlowableImageException;
 import org.flowable.cmmn.model.Association;
 import org.flowable.cmmn.model.BaseElement;
 import org.flowable.cmmn.model.Case;
@@ -43,6 +49,7 @@ import org.flowable.cmmn.model.Stage;
 import org.flowable.cmmn.model.Task;
 import org.flowable.cmmn.model.TimerEventListener;
 import org.flowable.cmmn.model.UserEventListener;
+import org.flowable.image.impl.DiagramLayerCache;
 
 /**
  * Class to generate an image based the diagram interchange information in a CMMN 1.1 case.
@@ -52,6 +59,7 @@ import org.flowable.cmmn.model.UserEventListener;
 public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
 
     protected Map<Class<? extends CmmnElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<>();
+    protected DiagramLayerCache<byte[]> diagramCache;
 
     public DefaultCaseDiagramGenerator() {
         this(1.0);
@@ -198,7 +206,25 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
     public InputStream generateDiagram(CmmnModel cmmnModel, String imageType,
             String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
 
-        return generateCaseDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor).generateImage(imageType);
+        if (diagramCache == null) {
+            return generateCaseDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor).generateImage(imageType);
+        }
+
+        DiagramLayerCache.Key key = new DiagramLayerCache.Key(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+        byte[] diagram = diagramCache.get(key);
+        if (diagram == null) {
+            DefaultCaseDiagramCanvas caseDiagramCanvas = generateCaseDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName,
+                    customClassLoader, scaleFactor);
+            try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                ImageIO.write(caseDiagramCanvas.caseDiagram, imageType, out);
+                diagram = out.toByteArray();
+                caseDiagramCanvas.close();
+            } catch (IOException e) {
+                throw new FlowableImageException("Error while generating case image", e);
+            }
+            diagramCache.put(key, diagram);
+        }
+        return new ByteArrayInputStream(diagram);
     }
 
     @Override
@@ -530,6 +556,27 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
                 imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
     }
 
+    public int getDiagramCacheLimit() {
+        return diagramCache != null ? diagramCache.getLimit() : 0;
+    }
+
+    /**
+     * Sets the maximum number of generated diagrams that are cached, so that the same case model isn't rendered again on each request.
+     * A limit of 0 (the default) disables the cache.
+     */
+    public void setDiagramCacheLimit(int diagramCacheLimit) {
+        this.diagramCache = diagramCacheLimit > 0 ? new DiagramLayerCache<byte[]>(diagramCacheLimit) : null;
+    }
+
+    /**
+     * Removes all cached diagrams, eg after a model that was used for generating a diagram has been changed.
+     */
+    public void clearDiagramCache() {
+        if (diagramCache != null) {
+            diagramCache.clear();
+        }
+    }
+
     public Map<Class<? extends CmmnElement>, ActivityDrawInstruction> getActivityDrawInstructions() {
         return activityDrawInstructions;
     }
@@ -22,6 +22,7 @@ public class Task extends PlanItemDefinition {
     
     protected boolean async;
     protected boolean exclusive;
+    protected String asyncPriority;
 
     public boolean isBlocking() {
         return blocking;
@@ -55,11 +56,20 @@ public class Task extends PlanItemDefinition {
         this.exclusive = exclusive;
     }
 
+    public String getAsyncPriority() {
+        return asyncPriority;
+    }
+
+    public void setAsyncPriority(String asyncPriority) {
+        this.asyncPriority = asyncPriority;
+    }
+
     public void setValues(Task otherElement) {
         super.setValues(otherElement);
         setBlocking(otherElement.isBlocking());
         setBlockingExpression(otherElement.getBlockingExpression());
         setAsync(otherElement.isAsync());
         setExclusive(otherElement.isExclusive());
+        setAsyncPriority(otherElement.getAsyncPriority());
     }
 }
@@ -99,6 +99,22 @@ public class HistoricVariableInstanceBaseResource {
         return paginateList(allRequestParams, query, "variableName", allowedSortProperties, restResponseFactory::createHistoricVariableInstanceResponseList);
     }
     
+    /**
+     * Returns the historic variable instance, without initializing its value.
+     */
+    protected HistoricVariableInstance getHistoricVariableInstanceFromRequest(String varInstanceId) {
+        HistoricVariableInstance varObject = historyService.createHistoricVariableInstanceQuery().id(varInstanceId).excludeVariableInitialization().singleResult();
+
+        if (varObject == null) {
+            throw new FlowableObjectNotFoundException("Historic variable instance '" + varInstanceId + "' couldn't be found.", VariableInstanceEntity.class);
+        }
+
+        if (restApiInterceptor != null) {
+            restApiInterceptor.accessHistoryVariableInfoById(varObject);
+        }
+        return varObject;
+    }
+
     public RestVariable getVariableFromRequest(boolean includeBinary, String varInstanceId, HttpServletRequest request) {
         HistoricVariableInstance varObject = historyService.createHistoricVariableInstanceQuery().id(varInstanceId).singleResult();
 
@@ -25,6 +25,8 @@ import org.flowable.cmmn.rest.service.api.CmmnRestResponseFactory;
 import org.flowable.cmmn.rest.service.api.engine.variable.RestVariable;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.rest.variable.VariableDataUtil;
+import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -61,6 +63,13 @@ public class HistoricVariableInstanceDataResource extends HistoricVariableInstan
     public byte[] getVariableData(@ApiParam(name = "varInstanceId") @PathVariable("varInstanceId") String varInstanceId, HttpServletRequest request, HttpServletResponse response) {
         try {
             byte[] result = null;
+
+            HistoricVariableInstance variableInstance = getHistoricVariableInstanceFromRequest(varInstanceId);
+            if (VariableDataUtil.writeVariableData(variableInstance, response)) {
+                // The data is streamed to the response already
+                return null;
+            }
+
             RestVariable variable = getVariableFromRequest(true, varInstanceId, request);
             if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
                 result = (byte[]) variable.getValue();
@@ -39,6 +39,8 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.rest.exception.FlowableContentNotSupportedException;
+import org.flowable.common.rest.variable.VariableDataUtil;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -109,6 +111,12 @@ public class BaseVariableResource {
         try {
             byte[] result = null;
 
+            VariableInstance variableInstance = runtimeService.getVariableInstance(caseInstance.getId(), variableName);
+            if (variableInstance != null && VariableDataUtil.writeVariableData(variableInstance, response)) {
+                // The data is streamed to the response already
+                return null;
+            }
+
             RestVariable variable = getVariableFromRequest(caseInstance, variableName, true);
             if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
                 result = (byte[]) variable.getValue();
@@ -272,7 +280,7 @@ public class BaseVariableResource {
 
             if (variableType.equals(CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE)) {
                 // Use raw bytes as variable value
-                byte[] variableBytes = IOUtils.toByteArray(file.getInputStream());
+                byte[] variableBytes = IOUtils.toByteArray(file.getInputStream(), file.getSize());
                 setVariable(caseInstance, variableName, variableBytes, scope, isNew);
 
             } else if (isSerializableVariableAllowed) {
@@ -14,6 +14,7 @@
 package org.flowable.cmmn.rest.service.api.runtime.caze;
 
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 
 import javax.servlet.http.HttpServletResponse;
 
@@ -29,9 +30,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -56,16 +59,23 @@ public class CaseInstanceDiagramResource extends BaseCaseInstanceResource {
     @ApiOperation(value = "Get diagram for a case instance", tags = { "Case Instances" })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the case instance was found and the diagram was returned."),
+            @ApiResponse(code = 304, message = "Indicates the diagram didn't change since it was returned with the ETag given in the If-None-Match header."),
             @ApiResponse(code = 400, message = "Indicates the requested case instance was not found but the process does not contain any graphical information (CMMN DI) and no diagram can be created."),
             @ApiResponse(code = 404, message = "Indicates the requested case instance was not found.")
     })
     @GetMapping(value = "/cmmn-runtime/case-instances/{caseInstanceId}/diagram")
-    public ResponseEntity<byte[]> getCaseInstanceDiagram(@ApiParam(name = "caseInstanceId") @PathVariable String caseInstanceId, HttpServletResponse response) {
+    public ResponseEntity<byte[]> getCaseInstanceDiagram(@ApiParam(name = "caseInstanceId") @PathVariable String caseInstanceId, HttpServletResponse response,
+            WebRequest webRequest) {
         CaseInstance caseInstance = getCaseInstanceFromRequest(caseInstanceId);
 
         CaseDefinition caseDef = repositoryService.getCaseDefinition(caseInstance.getCaseDefinitionId());
 
         if (caseDef != null && caseDef.hasGraphicalNotation()) {
+            // The diagram of a case instance is the diagram of its case definition, which never changes
+            if (webRequest.checkNotModified(DigestUtils.md5DigestAsHex(caseDef.getId().getBytes(StandardCharsets.UTF_8)))) {
+                return null;
+            }
+
             CmmnModel cmmnModel = repositoryService.getCmmnModel(caseDef.getId());
             CaseDiagramGenerator diagramGenerator = cmmnEngineConfiguration.getCaseDiagramGenerator();
             InputStream resource = diagramGenerator.generateDiagram(cmmnModel, "png", cmmnEngineConfiguration.getActivityFontName(), cmmnEngineConfiguration.getLabelFontName(),
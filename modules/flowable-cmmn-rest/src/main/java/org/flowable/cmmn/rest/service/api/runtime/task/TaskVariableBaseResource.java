@@ -30,6 +30,7 @@ import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.rest.exception.FlowableContentNotSupportedException;
 import org.flowable.task.api.Task;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -95,6 +96,25 @@ public class TaskVariableBaseResource extends TaskBaseResource {
         }
     }
 
+    /**
+     * Returns the variable instance, without its value, using the same scope rules as {@link #getVariableFromRequest(String, String, String, boolean)}.
+     * Returns null when the variable is not found.
+     */
+    protected VariableInstance getVariableInstanceFromRequest(String taskId, String variableName, String scope) {
+        Task task = getTaskFromRequest(taskId);
+        RestVariableScope variableScope = RestVariable.getScopeFromString(scope);
+
+        VariableInstance variableInstance = null;
+        if (variableScope != RestVariableScope.GLOBAL) {
+            variableInstance = taskService.getVariableInstanceLocal(taskId, variableName);
+        }
+        if (variableInstance == null && variableScope != RestVariableScope.LOCAL
+                && ScopeTypes.CMMN.equals(task.getScopeType()) && task.getScopeId() != null) {
+            variableInstance = runtimeService.getVariableInstance(task.getScopeId(), variableName);
+        }
+        return variableInstance;
+    }
+
     protected boolean hasVariableOnScope(Task task, String variableName, RestVariableScope scope) {
         boolean variableFound = false;
 
@@ -167,7 +187,7 @@ public class TaskVariableBaseResource extends TaskBaseResource {
 
             if (variableType.equals(CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE)) {
                 // Use raw bytes as variable value
-                byte[] variableBytes = IOUtils.toByteArray(file.getInputStream());
+                byte[] variableBytes = IOUtils.toByteArray(file.getInputStream(), file.getSize());
                 setVariable(task, variableName, variableBytes, scope, isNew);
 
             } else if (isSerializableVariableAllowed) {
@@ -22,8 +22,10 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.cmmn.rest.service.api.CmmnRestResponseFactory;
 import org.flowable.cmmn.rest.service.api.engine.variable.RestVariable;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.rest.variable.VariableDataUtil;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -62,6 +64,12 @@ public class TaskVariableDataResource extends TaskVariableBaseResource {
         try {
             byte[] result = null;
 
+            VariableInstance variableInstance = getVariableInstanceFromRequest(taskId, variableName, scope);
+            if (variableInstance != null && VariableDataUtil.writeVariableData(variableInstance, response)) {
+                // The data is streamed to the response already
+                return null;
+            }
+
             RestVariable variable = getVariableFromRequest(taskId, variableName, scope, true);
             if (CmmnRestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
                 result = (byte[]) variable.getValue();
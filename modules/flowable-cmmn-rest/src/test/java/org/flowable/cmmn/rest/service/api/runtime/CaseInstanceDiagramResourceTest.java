@@ -13,6 +13,8 @@
 
 package org.flowable.cmmn.rest.service.api.runtime;
 
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -37,6 +39,21 @@ public class CaseInstanceDiagramResourceTest extends BaseSpringRestTestCase {
         closeResponse(response);
     }
 
+    @CmmnDeployment(resources = { "org/flowable/cmmn/rest/service/api/repository/repeatingStage.cmmn" })
+    public void testGetCaseDiagramNotModified() throws Exception {
+        CaseInstance caseInstance = runtimeService.createCaseInstanceBuilder().caseDefinitionKey("testRepeatingStage").start();
+        String url = SERVER_URL_PREFIX + CmmnRestUrls.createRelativeResourceUrl(CmmnRestUrls.URL_CASE_INSTANCE_DIAGRAM, caseInstance.getId());
+
+        CloseableHttpResponse response = executeRequest(new HttpGet(url), HttpStatus.SC_OK);
+        Header eTag = response.getFirstHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        closeResponse(response);
+
+        HttpGet getRequest = new HttpGet(url);
+        getRequest.setHeader(HttpHeaders.IF_NONE_MATCH, eTag.getValue());
+        closeResponse(executeRequest(getRequest, HttpStatus.SC_NOT_MODIFIED));
+    }
+
     @CmmnDeployment(resources = { "org/flowable/cmmn/rest/service/api/repository/oneHumanTaskCase.cmmn" })
     public void testGetCaseDiagramWithoutDiagram() throws Exception {
         CaseInstance caseInstance = runtimeService.createCaseInstanceBuilder().caseDefinitionKey("oneHumanTaskCase").start();
@@ -15,6 +15,9 @@ package org.flowable.common.rest.api;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
 /**
  * @author Tijs Rademakers
  */
@@ -26,6 +29,7 @@ public class DataResponse<T> {
     String sort;
     String order;
     int size;
+    Boolean hasMore;
 
     public List<T> getData() {
         return data;
@@ -75,4 +79,16 @@ public class DataResponse<T> {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * @return whether there are more results after this page, only set when the total mode is {@link PaginateListUtil#TOTAL_MODE_HAS_MORE}
+     */
+    @JsonInclude(Include.NON_NULL)
+    public Boolean getHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(Boolean hasMore) {
+        this.hasMore = hasMore;
+    }
 }
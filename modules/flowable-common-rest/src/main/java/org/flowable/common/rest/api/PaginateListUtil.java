@@ -26,6 +26,24 @@ import org.flowable.common.engine.api.query.QueryProperty;
  */
 public interface PaginateListUtil {
 
+    /**
+     * The total of the response is the number of results of the query. Needs a count query, unless all results fit on the first page. This is the default.
+     */
+    String TOTAL_MODE_EXACT = "exact";
+
+    /**
+     * The total is not calculated and is -1, unless all results fit on the first page.
+     */
+    String TOTAL_MODE_NONE = "none";
+
+    /**
+     * One more result than the page size is fetched, to set whether there are more results after this page.
+     * The total is -1 when there are more results (or the page is empty), otherwise it is the number of results.
+     */
+    String TOTAL_MODE_HAS_MORE = "hasMore";
+
+    long UNKNOWN_TOTAL = -1;
+
     /**
      * Uses the pagination parameters from the request and makes sure to order the result and set all pagination attributes for the response to render.
      *
@@ -77,6 +95,10 @@ public interface PaginateListUtil {
             paginateRequest.setSort(requestParams.get("sort"));
         }
 
+        if (paginateRequest.getTotalMode() == null) {
+            paginateRequest.setTotalMode(requestParams.get("totalMode"));
+        }
+
         return paginateList(paginateRequest, query, defaultSort, properties, listProcessor);
     }
 
@@ -112,6 +134,13 @@ public interface PaginateListUtil {
         if (order == null) {
             order = "asc";
         }
+        String totalMode = paginateRequest.getTotalMode();
+        if (totalMode == null) {
+            totalMode = TOTAL_MODE_EXACT;
+        } else if (!TOTAL_MODE_EXACT.equals(totalMode) && !TOTAL_MODE_NONE.equals(totalMode) && !TOTAL_MODE_HAS_MORE.equals(totalMode)) {
+            throw new FlowableIllegalArgumentException("Value for param 'totalMode' is not valid : '" + totalMode + "', must be '"
+                    + TOTAL_MODE_EXACT + "', '" + TOTAL_MODE_NONE + "' or '" + TOTAL_MODE_HAS_MORE + "'");
+        }
 
         // Sort order
         if (sort != null && properties != null && !properties.isEmpty()) {
@@ -136,11 +165,33 @@ public interface PaginateListUtil {
         response.setOrder(order);
 
         // Get result and set pagination parameters
-        List<RES> list = listProcessor.processList(query.listPage(start, size));
+        List<REQ> queryResult;
+        if (TOTAL_MODE_HAS_MORE.equals(totalMode) && size < Integer.MAX_VALUE) {
+            // Fetch one more to know whether there is a next page, instead of counting all results
+            queryResult = query.listPage(start, size + 1);
+            boolean hasMore = queryResult.size() > size;
+            if (hasMore) {
+                queryResult = queryResult.subList(0, size);
+            }
+            response.setHasMore(hasMore);
+
+        } else {
+            queryResult = query.listPage(start, size);
+            if (TOTAL_MODE_HAS_MORE.equals(totalMode)) {
+                // The page size is unlimited, so all remaining results are fetched
+                response.setHasMore(false);
+            }
+        }
+
+        List<RES> list = listProcessor.processList(queryResult);
         if (start == 0 && list.size() < size) {
             response.setTotal(list.size());
-        } else {
+        } else if (TOTAL_MODE_EXACT.equals(totalMode)) {
             response.setTotal(query.count());
+        } else if (TOTAL_MODE_HAS_MORE.equals(totalMode) && Boolean.FALSE.equals(response.getHasMore()) && !list.isEmpty()) {
+            response.setTotal(start + list.size());
+        } else {
+            response.setTotal(UNKNOWN_TOTAL);
         }
 
         response.setSize(list.size());
@@ -29,6 +29,8 @@ public class PaginateRequest {
 
     protected String order;
 
+    protected String totalMode;
+
     public Integer getStart() {
         return start;
     }
@@ -60,4 +62,12 @@ public class PaginateRequest {
     public void setOrder(String order) {
         this.order = order;
     }
+
+    public String getTotalMode() {
+        return totalMode;
+    }
+
+    public void setTotalMode(String totalMode) {
+        this.totalMode = totalMode;
+    }
 }
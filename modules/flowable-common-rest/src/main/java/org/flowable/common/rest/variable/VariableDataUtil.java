@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.variable;
+
+import java.io.File;
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.io.output.DeferredFileOutputStream;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayRef;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.types.ByteArrayType;
+import org.flowable.variable.service.impl.types.SerializableType;
+
+/**
+ * Writes the data of binary and serializable variables to the response, streaming the stored bytes from the database
+ * instead of loading (and deserializing) the variable value in memory.
+ * <p>
+ * The bytes are first copied to a buffer, or to a temporary file when they are larger than {@link #MEMORY_THRESHOLD}.
+ * This way the database connection is only used as long as it takes to read the bytes, and not while they are sent to the client.
+ */
+public class VariableDataUtil {
+
+    public static final int MEMORY_THRESHOLD = 1024 * 1024;
+
+    /**
+     * @return true if the data of the variable was written to the response, false if the data can't be streamed and nothing was written
+     */
+    public static boolean writeVariableData(VariableInstance variableInstance, HttpServletResponse response) {
+        if (!(variableInstance instanceof VariableInstanceEntity)) {
+            return false;
+        }
+        return writeVariableData(variableInstance.getTypeName(), ((VariableInstanceEntity) variableInstance).getByteArrayRef(), response);
+    }
+
+    /**
+     * @return true if the data of the variable was written to the response, false if the data can't be streamed and nothing was written
+     */
+    public static boolean writeVariableData(HistoricVariableInstance historicVariableInstance, HttpServletResponse response) {
+        if (!(historicVariableInstance instanceof HistoricVariableInstanceEntity)) {
+            return false;
+        }
+        return writeVariableData(historicVariableInstance.getVariableTypeName(),
+                ((HistoricVariableInstanceEntity) historicVariableInstance).getByteArrayRef(), response);
+    }
+
+    protected static boolean writeVariableData(String typeName, VariableByteArrayRef byteArrayRef, HttpServletResponse response) {
+        if (byteArrayRef == null || byteArrayRef.getId() == null) {
+            return false;
+        }
+
+        String contentType;
+        if (ByteArrayType.TYPE_NAME.equals(typeName)) {
+            contentType = "application/octet-stream";
+
+        } else if (SerializableType.TYPE_NAME.equals(typeName)) {
+            // The stored bytes are the serialized form of the value
+            contentType = "application/x-java-serialized-object";
+
+        } else {
+            return false;
+        }
+
+        DeferredFileOutputStream bufferStream = new DeferredFileOutputStream(MEMORY_THRESHOLD, "flowable-variable-", ".tmp", null);
+        try {
+            try {
+                byteArrayRef.writeBytes(bufferStream);
+            } finally {
+                bufferStream.close();
+            }
+
+            response.setContentType(contentType);
+            response.setContentLengthLong(bufferStream.getByteCount());
+            bufferStream.writeTo(response.getOutputStream());
+
+        } catch (IOException ioe) {
+            throw new FlowableException("Unexpected exception writing variable data", ioe);
+
+        } finally {
+            File file = bufferStream.getFile();
+            if (file != null && file.exists() && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+        return true;
+    }
+}
@@ -13,6 +13,7 @@
 package org.flowable.content.api;
 
 import java.io.InputStream;
+import java.util.Collection;
 
 /**
  * @author Tijs Rademakers
@@ -27,10 +28,21 @@ public interface ContentService {
 
     InputStream getContentItemData(String contentItemId);
 
+    /**
+     * @return a stream with at most the given number of bytes of the content of the content item, starting at the given offset.
+     *         The caller should close the stream.
+     */
+    InputStream getContentItemData(String contentItemId, long offset, long length);
+
     void deleteContentItem(String contentItemId);
 
     void deleteContentItemsByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Deletes the content items of the given process instances with bulk statements.
+     */
+    void deleteContentItemsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteContentItemsByTaskId(String taskId);
 
     void deleteContentItemsByScopeIdAndScopeType(String scopeId, String scopeType);
@@ -68,4 +68,12 @@ public interface ContentStorage {
     void deleteContentObject(String id);
 
     String getContentStoreName();
+
+    /**
+     * @return whether the same content object can be referenced by more than one content item, e.g. when content is stored by its hash.
+     *         The engine then keeps a reference count per content object, and only deletes a content object once no content item references it anymore.
+     */
+    default boolean isContentObjectShared() {
+        return false;
+    }
 }
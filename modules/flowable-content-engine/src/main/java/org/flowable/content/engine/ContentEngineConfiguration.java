@@ -227,6 +227,7 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
             dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
             dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
             dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
+        dbSqlSessionFactory.setReadOnlyDataSource(readOnlyDataSource);
             addSessionFactory(dbSqlSessionFactory);
         }
         initDbSqlSessionFactoryEntitySettings();
@@ -13,6 +13,7 @@
 package org.flowable.content.engine.impl;
 
 import java.io.InputStream;
+import java.util.Collection;
 
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.content.api.ContentItem;
@@ -21,6 +22,7 @@ import org.flowable.content.api.ContentService;
 import org.flowable.content.engine.ContentEngineConfiguration;
 import org.flowable.content.engine.impl.cmd.CreateContentItemCmd;
 import org.flowable.content.engine.impl.cmd.DeleteContentItemCmd;
+import org.flowable.content.engine.impl.cmd.DeleteContentItemsByProcessInstanceIdsCmd;
 import org.flowable.content.engine.impl.cmd.DeleteContentItemsByScopeCmd;
 import org.flowable.content.engine.impl.cmd.DeleteContentItemsCmd;
 import org.flowable.content.engine.impl.cmd.GetContentItemStreamCmd;
@@ -51,6 +53,11 @@ public class ContentServiceImpl extends CommonEngineServiceImpl<ContentEngineCon
         return commandExecutor.execute(new GetContentItemStreamCmd(contentItemId));
     }
 
+    @Override
+    public InputStream getContentItemData(String contentItemId, long offset, long length) {
+        return commandExecutor.execute(new GetContentItemStreamCmd(contentItemId, offset, length));
+    }
+
     @Override
     public void deleteContentItem(String contentItemId) {
         commandExecutor.execute(new DeleteContentItemCmd(contentItemId));
@@ -61,6 +68,11 @@ public class ContentServiceImpl extends CommonEngineServiceImpl<ContentEngineCon
         commandExecutor.execute(new DeleteContentItemsCmd(processInstanceId, null, null));
     }
 
+    @Override
+    public void deleteContentItemsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        commandExecutor.execute(new DeleteContentItemsByProcessInstanceIdsCmd(processInstanceIds));
+    }
+
     @Override
     public void deleteContentItemsByTaskId(String taskId) {
         commandExecutor.execute(new DeleteContentItemsCmd(null, taskId, null));
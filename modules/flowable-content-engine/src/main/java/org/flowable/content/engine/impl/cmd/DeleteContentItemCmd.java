@@ -49,7 +49,13 @@ public class DeleteContentItemCmd implements Command<Void>, Serializable {
         if (contentItem.getContentStoreId() != null) {
             ContentStorage contentStorage = CommandContextUtil.getContentEngineConfiguration().getContentStorage();
             if (contentItem.isContentAvailable()) {
-                contentStorage.deleteContentObject(contentItem.getContentStoreId());
+                if (contentStorage.isContentObjectShared()) {
+                    // Other content items can still reference the content object, it is deleted after the commit when that's not the case
+                    CommandContextUtil.getContentItemEntityManager().removeContentObjectReference(
+                            contentItem.getContentStoreName(), contentItem.getContentStoreId());
+                } else {
+                    contentStorage.deleteContentObject(contentItem.getContentStoreId());
+                }
             }
         }
 
@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentStorage;
+import org.flowable.content.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes a shared content object when no content item references it anymore.
+ *
+ * The reference count is deleted first, which locks it until this transaction ends. An upload of the same content that adds a reference
+ * in the meantime waits for the lock, so the content object is never deleted while a committed content item references it.
+ */
+public class DeleteUnreferencedContentObjectCmd implements Command<Boolean>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeleteUnreferencedContentObjectCmd.class);
+
+    protected String contentStoreName;
+    protected String contentStoreId;
+
+    public DeleteUnreferencedContentObjectCmd(String contentStoreName, String contentStoreId) {
+        this.contentStoreName = contentStoreName;
+        this.contentStoreId = contentStoreId;
+    }
+
+    @Override
+    public Boolean execute(CommandContext commandContext) {
+        if (!CommandContextUtil.getContentItemEntityManager(commandContext).deleteUnreferencedContentObject(contentStoreName, contentStoreId)) {
+            return false;
+        }
+
+        ContentStorage contentStorage = CommandContextUtil.getContentEngineConfiguration(commandContext).getContentStorage();
+        try {
+            contentStorage.deleteContentObject(contentStoreId);
+        } catch (ContentNotFoundException e) {
+            LOGGER.debug("Unreferenced content object {} was already deleted", contentStoreId);
+        }
+        return true;
+    }
+
+}
@@ -12,9 +12,12 @@
  */
 package org.flowable.content.engine.impl.cmd;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -22,6 +25,8 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.content.api.ContentItem;
 import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+import org.flowable.content.engine.impl.fs.FileSystemContentObject;
 import org.flowable.content.engine.impl.util.CommandContextUtil;
 
 /**
@@ -32,16 +37,27 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
     private static final long serialVersionUID = 1L;
 
     protected String contentItemId;
+    protected long offset;
+    protected long length = -1;
 
     public GetContentItemStreamCmd(String contentItemId) {
         this.contentItemId = contentItemId;
     }
 
+    public GetContentItemStreamCmd(String contentItemId, long offset, long length) {
+        this.contentItemId = contentItemId;
+        this.offset = offset;
+        this.length = length;
+    }
+
     @Override
     public InputStream execute(CommandContext commandContext) {
         if (contentItemId == null) {
             throw new FlowableIllegalArgumentException("contentItemId is null");
         }
+        if (offset < 0) {
+            throw new FlowableIllegalArgumentException("offset is negative");
+        }
 
         ContentItem contentItem = CommandContextUtil.getContentItemEntityManager().findById(contentItemId);
         if (contentItem == null) {
@@ -50,7 +66,24 @@ public class GetContentItemStreamCmd implements Command<InputStream>, Serializab
 
         ContentStorage contentStorage = CommandContextUtil.getContentEngineConfiguration().getContentStorage();
         ContentObject contentObject = contentStorage.getContentObject(contentItem.getContentStoreId());
-        return contentObject.getContent();
+        if (offset == 0 && length < 0) {
+            return contentObject.getContent();
+        }
+
+        long rangeLength = length < 0 ? Long.MAX_VALUE : length;
+        if (contentObject instanceof FileSystemContentObject) {
+            // Start reading at the offset, instead of reading the bytes before it
+            return ((FileSystemContentObject) contentObject).getContent(offset, rangeLength);
+        }
+
+        InputStream contentStream = contentObject.getContent();
+        try {
+            IOUtils.skipFully(contentStream, offset);
+        } catch (IOException e) {
+            IOUtils.closeQuietly(contentStream);
+            throw new ContentStorageException("Could not skip to offset " + offset + " of content item " + contentItemId, e);
+        }
+        return new BoundedInputStream(contentStream, rangeLength);
     }
 
 }
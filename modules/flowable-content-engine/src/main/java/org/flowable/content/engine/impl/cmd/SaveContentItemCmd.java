@@ -23,8 +23,10 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.content.api.ContentItem;
 import org.flowable.content.api.ContentMetaDataKeys;
+import org.flowable.content.api.ContentNotFoundException;
 import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
 import org.flowable.content.engine.ContentEngineConfiguration;
 import org.flowable.content.engine.impl.persistence.entity.ContentItemEntity;
 import org.flowable.content.engine.impl.util.CommandContextUtil;
@@ -82,6 +84,15 @@ public class SaveContentItemCmd implements Command<Void>, Serializable {
 
             ContentStorage contentStorage = contentEngineConfiguration.getContentStorage();
             ContentObject createContentObject = contentStorage.createContentObject(inputStream, metaData);
+            if (contentStorage.isContentObjectShared()) {
+                addContentObjectReference(contentStorage, createContentObject.getId());
+                if (contentItem.getId() != null && contentItemEntity.isContentAvailable() && contentItemEntity.getContentStoreId() != null) {
+                    // The previous content is replaced, so this content item doesn't reference it anymore
+                    CommandContextUtil.getContentItemEntityManager().removeContentObjectReference(
+                            contentItemEntity.getContentStoreName(), contentItemEntity.getContentStoreId());
+                }
+            }
+
             contentItemEntity.setContentStoreId(createContentObject.getId());
             contentItemEntity.setContentStoreName(contentStorage.getContentStoreName());
             contentItemEntity.setContentAvailable(true);
@@ -110,4 +121,15 @@ public class SaveContentItemCmd implements Command<Void>, Serializable {
         return null;
     }
 
+    protected void addContentObjectReference(ContentStorage contentStorage, String contentObjectId) {
+        CommandContextUtil.getContentItemEntityManager().addContentObjectReference(contentStorage.getContentStoreName(), contentObjectId);
+
+        // The content object might have been shared and then deleted by a concurrent deletion of its last reference before the reference was added
+        try {
+            contentStorage.getContentObject(contentObjectId);
+        } catch (ContentNotFoundException e) {
+            throw new ContentStorageException("Content object " + contentObjectId + " was deleted concurrently, the content needs to be stored again", e);
+        }
+    }
+
 }
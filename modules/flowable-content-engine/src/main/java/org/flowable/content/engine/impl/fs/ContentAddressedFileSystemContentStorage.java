@@ -0,0 +1,271 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ContentStorage} that stores content by its SHA-256 hash, so the same content is only stored once.
+ *
+ * The id of a content object is the hex encoded hash of the content. The file is stored in a folder per hash prefix
+ * (e.g. <code>ab/cd/abcd...</code> with the default two levels of two characters), to keep the number of files per folder bounded.
+ *
+ * New content is written to a temporary file through a {@link FileChannel}, forced to disk and then atomically moved to its final location.
+ * When a file with the same hash already exists, the temporary file is discarded and the existing file is shared.
+ * The engine keeps a reference count per content object (see {@link #isContentObjectShared()}). A content object is only deleted
+ * after the transaction that removed its last reference is committed, while the reference count is locked.
+ * An upload that finds the file but then sees it deleted concurrently fails, instead of referencing missing content.
+ *
+ * The metadata is not used: content objects are immutable, updating content creates a new content object.
+ */
+public class ContentAddressedFileSystemContentStorage implements ContentStorage {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentAddressedFileSystemContentStorage.class);
+
+    public static final String STORE_NAME = "content-addressed-file";
+
+    protected static final String HASH_ALGORITHM = "SHA-256";
+    protected static final String TEMP_FOLDER = "tmp";
+    protected static final Pattern CONTENT_ID_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    protected File contentFolderRoot;
+    protected File tempFolder;
+    protected int shardLevels = 2;
+    protected int shardLength = 2;
+    protected int transferSize = 64 * 1024;
+    protected boolean forceWrites = true;
+
+    public ContentAddressedFileSystemContentStorage(File contentFolderRoot) {
+        this.contentFolderRoot = contentFolderRoot;
+        this.tempFolder = new File(contentFolderRoot, TEMP_FOLDER);
+        if (!tempFolder.exists() && !tempFolder.mkdirs()) {
+            LOGGER.warn("Could not create temporary content folder {}", tempFolder.getAbsolutePath());
+        }
+    }
+
+    @Override
+    public ContentObject createContentObject(InputStream contentStream, Map<String, Object> metaData) {
+        MessageDigest digest = createMessageDigest();
+        Path tempFile = createTempFile();
+
+        // The channel isn't closed, closing the passed stream is up to the caller
+        ReadableByteChannel source = Channels.newChannel(new DigestInputStream(contentStream, digest));
+
+        long length;
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            length = writeContent(source, channel);
+            if (forceWrites) {
+                // Only the data needs to be on disk before the move, the file metadata is written by the move itself
+                channel.force(false);
+            }
+
+        } catch (IOException e) {
+            deleteTempFile(tempFile);
+            throw new ContentStorageException("Could not write content to " + tempFile, e);
+        }
+
+        String contentId = toHex(digest.digest());
+        Path contentFile = getContentFile(contentId).toPath();
+        try {
+            if (Files.exists(contentFile)) {
+                LOGGER.debug("Content {} is already stored, sharing the existing file", contentId);
+                deleteTempFile(tempFile);
+
+            } else {
+                Files.createDirectories(contentFile.getParent());
+                Files.move(tempFile, contentFile, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+        } catch (IOException e) {
+            deleteTempFile(tempFile);
+            throw new ContentStorageException("Could not store content in " + contentFile, e);
+        }
+
+        return new FileSystemContentObject(contentFile.toFile(), contentId, length);
+    }
+
+    protected long writeContent(ReadableByteChannel source, FileChannel target) throws IOException {
+        long position = 0;
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, transferSize)) > 0) {
+            position += transferred;
+        }
+        return position;
+    }
+
+    @Override
+    public ContentObject updateContentObject(String id, InputStream contentStream, Map<String, Object> metaData) {
+        // The existing content object might be shared, so updated content always gets a new content object
+        return createContentObject(contentStream, metaData);
+    }
+
+    @Override
+    public ContentObject getContentObject(String id) {
+        File contentFile = getContentFile(id);
+        if (!contentFile.exists()) {
+            throw new ContentNotFoundException("Content with id: " + id + " was not found (path: " + contentFile + ")");
+        }
+        return new FileSystemContentObject(contentFile, id);
+    }
+
+    @Override
+    public Map<String, Object> getMetaData() {
+        // Not supported, the same content object can be used with different metadata
+        return null;
+    }
+
+    @Override
+    public void deleteContentObject(String id) {
+        File contentFile = getContentFile(id);
+        if (!contentFile.exists()) {
+            throw new ContentNotFoundException("Content with id: " + id + " was not found (path: " + contentFile + ")");
+        }
+
+        try {
+            Files.delete(contentFile.toPath());
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while deleting content " + id, e);
+        }
+    }
+
+    @Override
+    public String getContentStoreName() {
+        return STORE_NAME;
+    }
+
+    @Override
+    public boolean isContentObjectShared() {
+        return true;
+    }
+
+    protected File getContentFile(String id) {
+        if (id == null || !CONTENT_ID_PATTERN.matcher(id).matches()) {
+            throw new ContentNotFoundException("Invalid content id: " + id);
+        }
+
+        File folder = contentFolderRoot;
+        for (int level = 0; level < shardLevels; level++) {
+            folder = new File(folder, id.substring(level * shardLength, (level + 1) * shardLength));
+        }
+        return new File(folder, id);
+    }
+
+    protected Path createTempFile() {
+        try {
+            return Files.createTempFile(tempFolder.toPath(), "content", ".tmp");
+        } catch (IOException e) {
+            throw new ContentStorageException("Could not create temporary content file in " + tempFolder.getAbsolutePath(), e);
+        }
+    }
+
+    protected void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete temporary content file {}", tempFile, e);
+        }
+    }
+
+    protected MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ContentStorageException("Hash algorithm " + HASH_ALGORITHM + " is not available", e);
+        }
+    }
+
+    protected String toHex(byte[] hash) {
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    public File getContentFolderRoot() {
+        return contentFolderRoot;
+    }
+
+    public int getShardLevels() {
+        return shardLevels;
+    }
+
+    /**
+     * Sets the number of folder levels, each named after the next part of the hash. The default is 2.
+     */
+    public void setShardLevels(int shardLevels) {
+        if (shardLevels < 0 || shardLevels * shardLength > 64) {
+            throw new FlowableIllegalArgumentException("Invalid number of shard levels: " + shardLevels);
+        }
+        this.shardLevels = shardLevels;
+    }
+
+    public int getShardLength() {
+        return shardLength;
+    }
+
+    /**
+     * Sets the number of hash characters in a folder name. The default of 2 gives at most 256 sub folders per folder.
+     */
+    public void setShardLength(int shardLength) {
+        if (shardLength < 1 || shardLevels * shardLength > 64) {
+            throw new FlowableIllegalArgumentException("Invalid shard length: " + shardLength);
+        }
+        this.shardLength = shardLength;
+    }
+
+    public int getTransferSize() {
+        return transferSize;
+    }
+
+    /**
+     * Sets the maximum number of bytes written to the file channel in one transfer. The default is 64 KB.
+     */
+    public void setTransferSize(int transferSize) {
+        this.transferSize = transferSize;
+    }
+
+    public boolean isForceWrites() {
+        return forceWrites;
+    }
+
+    /**
+     * Sets whether new content is forced to disk before it is moved to its final location. Enabled by default.
+     */
+    public void setForceWrites(boolean forceWrites) {
+        this.forceWrites = forceWrites;
+    }
+
+}
@@ -15,8 +15,13 @@ package org.flowable.content.engine.impl.fs;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 
+import org.apache.commons.io.input.BoundedInputStream;
 import org.flowable.content.api.ContentObject;
 import org.flowable.content.api.ContentStorageException;
 
@@ -68,4 +73,17 @@ public class FileSystemContentObject implements ContentObject {
         return inputStream;
     }
 
+    /**
+     * @return a new stream with at most the given number of bytes of the file, starting at the given offset. The caller should close the stream.
+     */
+    public InputStream getContent(long offset, long length) {
+        try {
+            FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            channel.position(offset);
+            return new BoundedInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            throw new ContentStorageException("Error while opening file channel", e);
+        }
+    }
+
 }
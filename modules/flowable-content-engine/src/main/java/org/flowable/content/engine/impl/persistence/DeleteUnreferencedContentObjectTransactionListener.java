@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.impl.persistence;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.content.engine.ContentEngineConfiguration;
+import org.flowable.content.engine.impl.cmd.DeleteUnreferencedContentObjectCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes a shared content object after the transaction that removed a reference to it is committed, when it isn't referenced anymore.
+ * Running it after the commit means a rolled back deletion of a content item never loses its content.
+ */
+public class DeleteUnreferencedContentObjectTransactionListener implements TransactionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeleteUnreferencedContentObjectTransactionListener.class);
+
+    protected ContentEngineConfiguration contentEngineConfiguration;
+    protected String contentStoreName;
+    protected String contentStoreId;
+
+    public DeleteUnreferencedContentObjectTransactionListener(ContentEngineConfiguration contentEngineConfiguration, String contentStoreName, String contentStoreId) {
+        this.contentEngineConfiguration = contentEngineConfiguration;
+        this.contentStoreName = contentStoreName;
+        this.contentStoreId = contentStoreId;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        CommandExecutor commandExecutor = contentEngineConfiguration.getCommandExecutor();
+        try {
+            commandExecutor.execute(commandExecutor.getDefaultConfig().transactionRequiresNew(),
+                    new DeleteUnreferencedContentObjectCmd(contentStoreName, contentStoreId));
+
+        } catch (RuntimeException e) {
+            // The deletion of the content item is already committed, the content object is deleted when the next reference to it is removed
+            LOGGER.warn("Could not delete unreferenced content object {}", contentStoreId, e);
+        }
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.content.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -27,9 +28,31 @@ public interface ContentItemEntityManager extends EntityManager<ContentItemEntit
 
     long findContentItemCountByQueryCriteria(ContentItemQueryImpl contentItemQuery);
 
+    /**
+     * Adds a reference to a content object of a content storage that shares content objects between content items
+     * (see {@link org.flowable.content.api.ContentStorage#isContentObjectShared()}).
+     */
+    void addContentObjectReference(String contentStoreName, String contentStoreId);
+
+    /**
+     * Removes a reference to a content object of a content storage that shares content objects between content items.
+     * Once the transaction is committed, the content object is deleted when no content item references it anymore.
+     */
+    void removeContentObjectReference(String contentStoreName, String contentStoreId);
+
+    /**
+     * Deletes the reference count of the content object when it isn't referenced anymore. The reference count stays locked until the transaction ends,
+     * so the content object can be deleted in the same transaction without a concurrent upload of the same content attaching to it.
+     *
+     * @return true when the content object isn't referenced anymore
+     */
+    boolean deleteUnreferencedContentObject(String contentStoreName, String contentStoreId);
+
     void deleteContentItemsByTaskId(String taskId);
 
     void deleteContentItemsByProcessInstanceId(String processInstanceId);
 
+    void deleteContentItemsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteContentItemsByScopeIdAndScopeType(String scopeId, String scopeType);
 }
@@ -13,13 +13,25 @@
 
 package org.flowable.content.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
 import org.flowable.content.api.ContentItem;
+import org.flowable.content.api.ContentStorageException;
 import org.flowable.content.engine.ContentEngineConfiguration;
 import org.flowable.content.engine.impl.ContentItemQueryImpl;
+import org.flowable.content.engine.impl.persistence.DeleteUnreferencedContentObjectTransactionListener;
 import org.flowable.content.engine.impl.persistence.entity.data.ContentItemDataManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tijs Rademakers
@@ -29,6 +41,10 @@ public class ContentItemEntityManagerImpl
     extends AbstractEngineEntityManager<ContentEngineConfiguration, ContentItemEntity, ContentItemDataManager>
     implements ContentItemEntityManager {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentItemEntityManagerImpl.class);
+
+    protected static final String REMOVED_CONTENT_OBJECT_REFERENCES = "removedContentObjectReferences";
+
     public ContentItemEntityManagerImpl(ContentEngineConfiguration contentEngineConfiguration, ContentItemDataManager contentItemDataManager) {
         super(contentEngineConfiguration, contentItemDataManager);
     }
@@ -38,6 +54,58 @@ public class ContentItemEntityManagerImpl
         return dataManager.findContentItemCountByQueryCriteria(contentItemQuery);
     }
 
+    @Override
+    public void addContentObjectReference(String contentStoreName, String contentStoreId) {
+        // The update locks the reference count until the transaction ends, a concurrent deletion of the content object waits for it
+        if (dataManager.updateContentObjectReferenceCount(contentStoreName, contentStoreId, 1) > 0) {
+            return;
+        }
+
+        // The reference count is created in a separate transaction, so concurrent uploads of the same content don't fail on its primary key
+        try {
+            engineConfiguration.getCommandExecutor().execute(engineConfiguration.getCommandExecutor().getDefaultConfig().transactionRequiresNew(),
+                    commandContext -> {
+                        dataManager.insertContentObjectReference(contentStoreName, contentStoreId);
+                        return null;
+                    });
+
+        } catch (RuntimeException e) {
+            LOGGER.debug("Reference count of content object {} was created concurrently", contentStoreId, e);
+        }
+
+        if (dataManager.updateContentObjectReferenceCount(contentStoreName, contentStoreId, 1) == 0) {
+            throw new ContentStorageException("Could not add a reference to content object " + contentStoreId);
+        }
+    }
+
+    @Override
+    public void removeContentObjectReference(String contentStoreName, String contentStoreId) {
+        removeContentObjectReferences(contentStoreName, contentStoreId, 1);
+    }
+
+    protected void removeContentObjectReferences(String contentStoreName, String contentStoreId, int count) {
+        dataManager.updateContentObjectReferenceCount(contentStoreName, contentStoreId, -count);
+
+        // One listener per content object, also when more content items with the same content are deleted in the transaction
+        CommandContext commandContext = Context.getCommandContext();
+        @SuppressWarnings("unchecked")
+        Set<String> removedReferences = (Set<String>) commandContext.getAttribute(REMOVED_CONTENT_OBJECT_REFERENCES);
+        if (removedReferences == null) {
+            removedReferences = new HashSet<>();
+            commandContext.addAttribute(REMOVED_CONTENT_OBJECT_REFERENCES, removedReferences);
+        }
+
+        if (removedReferences.add(contentStoreName + '|' + contentStoreId)) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED,
+                    new DeleteUnreferencedContentObjectTransactionListener(engineConfiguration, contentStoreName, contentStoreId));
+        }
+    }
+
+    @Override
+    public boolean deleteUnreferencedContentObject(String contentStoreName, String contentStoreId) {
+        return dataManager.deleteUnreferencedContentObjectReference(contentStoreName, contentStoreId) > 0;
+    }
+
     @Override
     public List<ContentItem> findContentItemsByQueryCriteria(ContentItemQueryImpl contentItemQuery) {
         return dataManager.findContentItemsByQueryCriteria(contentItemQuery);
@@ -45,17 +113,61 @@ public class ContentItemEntityManagerImpl
 
     @Override
     public void deleteContentItemsByTaskId(String taskId) {
+        if (isContentObjectShared()) {
+            removeContentObjectReferences(dataManager.findContentItemsByQueryCriteria(createContentItemQuery().taskId(taskId)));
+        }
         dataManager.deleteContentItemsByTaskId(taskId);
     }
 
     @Override
     public void deleteContentItemsByProcessInstanceId(String processInstanceId) {
+        if (isContentObjectShared()) {
+            removeContentObjectReferences(dataManager.findContentItemsByQueryCriteria(createContentItemQuery().processInstanceId(processInstanceId)));
+        }
         dataManager.deleteContentItemsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void deleteContentItemsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        if (isContentObjectShared()) {
+            removeContentObjectReferences(dataManager.findContentItemsByProcessInstanceIds(processInstanceIds));
+        }
+        dataManager.deleteContentItemsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public void deleteContentItemsByScopeIdAndScopeType(String scopeId, String scopeType) {
+        if (isContentObjectShared()) {
+            removeContentObjectReferences(dataManager.findContentItemsByQueryCriteria(createContentItemQuery().scopeId(scopeId).scopeType(scopeType)));
+        }
         dataManager.deleteContentItemsByScopeIdAndScopeType(scopeId, scopeType);
     }
 
+    protected boolean isContentObjectShared() {
+        return engineConfiguration.getContentStorage().isContentObjectShared();
+    }
+
+    protected ContentItemQueryImpl createContentItemQuery() {
+        return new ContentItemQueryImpl(Context.getCommandContext());
+    }
+
+    /**
+     * Removes the references of the given content items from their shared content objects, before the content items are deleted
+     * in bulk. Content items with the same content remove their references with a single update.
+     */
+    protected void removeContentObjectReferences(List<? extends ContentItem> contentItems) {
+        Map<String, Integer> referenceCounts = new LinkedHashMap<>();
+        for (ContentItem contentItem : contentItems) {
+            if (contentItem.isContentAvailable() && contentItem.getContentStoreId() != null) {
+                referenceCounts.merge(contentItem.getContentStoreName() + '|' + contentItem.getContentStoreId(), 1, Integer::sum);
+            }
+        }
+
+        for (Map.Entry<String, Integer> referenceCount : referenceCounts.entrySet()) {
+            String reference = referenceCount.getKey();
+            int separatorIndex = reference.indexOf('|');
+            removeContentObjectReferences(reference.substring(0, separatorIndex), reference.substring(separatorIndex + 1), referenceCount.getValue());
+        }
+    }
+
 }
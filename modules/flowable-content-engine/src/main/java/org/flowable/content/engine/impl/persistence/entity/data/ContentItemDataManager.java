@@ -12,6 +12,7 @@
  */
 package org.flowable.content.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -32,5 +33,15 @@ public interface ContentItemDataManager extends DataManager<ContentItemEntity> {
 
     void deleteContentItemsByProcessInstanceId(String processInstanceId);
 
+    List<ContentItemEntity> findContentItemsByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteContentItemsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     void deleteContentItemsByScopeIdAndScopeType(String scopeId, String scopeType);
+
+    int updateContentObjectReferenceCount(String contentStoreName, String contentStoreId, int delta);
+
+    void insertContentObjectReference(String contentStoreName, String contentStoreId);
+
+    int deleteUnreferencedContentObjectReference(String contentStoreName, String contentStoreId);
 }
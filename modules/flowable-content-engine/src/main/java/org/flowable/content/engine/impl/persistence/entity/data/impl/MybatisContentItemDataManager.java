@@ -12,10 +12,14 @@
  */
 package org.flowable.content.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.content.api.ContentItem;
 import org.flowable.content.engine.ContentEngineConfiguration;
 import org.flowable.content.engine.impl.ContentItemQueryImpl;
@@ -64,6 +68,23 @@ public class MybatisContentItemDataManager extends AbstractContentDataManager<Co
         getDbSqlSession().delete("deleteContentItemsByProcessInstanceId", processInstanceId, getManagedEntityClass());
     }
 
+    @Override
+    public List<ContentItemEntity> findContentItemsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        List<ContentItemEntity> contentItems = new ArrayList<>();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            contentItems.addAll(getList("selectContentItemsByProcessInstanceIds", processInstanceIdsChunk));
+        }
+        return contentItems;
+    }
+
+    @Override
+    public void deleteContentItemsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteContentItemsByProcessInstanceIds", processInstanceIdsChunk, getManagedEntityClass());
+        }
+    }
+
     @Override
     public void deleteContentItemsByScopeIdAndScopeType(String scopeId, String scopeType) {
         Map<String, String> params = new HashMap<>(2);
@@ -71,4 +92,30 @@ public class MybatisContentItemDataManager extends AbstractContentDataManager<Co
         params.put("scopeType", scopeType);
         getDbSqlSession().delete("deleteContentItemsByScopeIdAndScopeType", params, getManagedEntityClass());
     }
+
+    @Override
+    public int updateContentObjectReferenceCount(String contentStoreName, String contentStoreId, int delta) {
+        Map<String, Object> params = createContentObjectReferenceParameters(contentStoreName, contentStoreId);
+        params.put("delta", delta);
+        return getDbSqlSession().update("updateContentObjectReferenceCount", params);
+    }
+
+    @Override
+    public void insertContentObjectReference(String contentStoreName, String contentStoreId) {
+        getDbSqlSession().getSqlSession().insert("insertContentObjectReference", createContentObjectReferenceParameters(contentStoreName, contentStoreId));
+    }
+
+    @Override
+    public int deleteUnreferencedContentObjectReference(String contentStoreName, String contentStoreId) {
+        // Executed directly (not flushed at the end of the command), so the row is locked before the content object is deleted
+        return getDbSqlSession().getSqlSession().delete("deleteUnreferencedContentObjectReference",
+                createContentObjectReferenceParameters(contentStoreName, contentStoreId));
+    }
+
+    protected Map<String, Object> createContentObjectReferenceParameters(String contentStoreName, String contentStoreId) {
+        Map<String, Object> params = new HashMap<>(3);
+        params.put("contentStoreName", contentStoreName);
+        params.put("contentStoreId", contentStoreId);
+        return params;
+    }
 }
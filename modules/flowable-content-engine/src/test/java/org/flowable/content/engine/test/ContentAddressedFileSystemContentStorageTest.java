@@ -0,0 +1,288 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.content.engine.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.content.api.ContentItem;
+import org.flowable.content.api.ContentNotFoundException;
+import org.flowable.content.api.ContentObject;
+import org.flowable.content.api.ContentStorage;
+import org.flowable.content.api.ContentStorageException;
+import org.flowable.content.engine.impl.cmd.DeleteContentItemCmd;
+import org.flowable.content.engine.impl.cmd.SaveContentItemCmd;
+import org.flowable.content.engine.impl.fs.ContentAddressedFileSystemContentStorage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ContentAddressedFileSystemContentStorageTest extends AbstractFlowableContentTest {
+
+    // SHA-256 of "hello"
+    protected static final String HELLO_HASH = "2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824";
+
+    protected ContentStorage originalContentStorage;
+    protected File contentFolderRoot;
+    protected ContentAddressedFileSystemContentStorage contentStorage;
+
+    @Before
+    public void setUp() {
+        contentFolderRoot = new File(contentEngineConfiguration.getContentRootFolder(), "content-addressed");
+        contentStorage = new ContentAddressedFileSystemContentStorage(contentFolderRoot);
+        originalContentStorage = contentEngineConfiguration.getContentStorage();
+        contentEngineConfiguration.setContentStorage(contentStorage);
+    }
+
+    @After
+    public void tearDown() {
+        contentEngineConfiguration.setContentStorage(originalContentStorage);
+        FileUtils.deleteQuietly(contentFolderRoot);
+    }
+
+    @Test
+    public void sameContentIsStoredOnce() throws Exception {
+        ContentItem firstContentItem = createContentItem("hello");
+        ContentItem secondContentItem = createContentItem("hello");
+        ContentItem otherContentItem = createContentItem("other");
+
+        assertThat(firstContentItem.getContentStoreName()).isEqualTo(ContentAddressedFileSystemContentStorage.STORE_NAME);
+        assertThat(firstContentItem.getContentStoreId()).isEqualTo(HELLO_HASH);
+        assertThat(secondContentItem.getContentStoreId()).isEqualTo(HELLO_HASH);
+        assertThat(otherContentItem.getContentStoreId()).isNotEqualTo(HELLO_HASH);
+
+        File contentFile = getContentFile(HELLO_HASH);
+        assertThat(contentFile).hasContent("hello");
+        assertThat(new File(contentFolderRoot, "tmp").list()).isEmpty();
+
+        // The content is still referenced by the second content item
+        contentService.deleteContentItem(firstContentItem.getId());
+        assertThat(contentFile).exists();
+        try (InputStream contentStream = contentService.getContentItemData(secondContentItem.getId())) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("hello");
+        }
+
+        contentService.deleteContentItem(secondContentItem.getId());
+        assertThat(contentFile).doesNotExist();
+
+        contentService.deleteContentItem(otherContentItem.getId());
+    }
+
+    @Test
+    public void sharedContentDeletedInOneCommand() {
+        ContentItem firstContentItem = createContentItem("hello");
+        ContentItem secondContentItem = createContentItem("hello");
+        File contentFile = getContentFile(HELLO_HASH);
+
+        contentEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            new DeleteContentItemCmd(firstContentItem.getId()).execute(commandContext);
+            new DeleteContentItemCmd(secondContentItem.getId()).execute(commandContext);
+            return null;
+        });
+
+        assertThat(contentFile).doesNotExist();
+    }
+
+    @Test
+    public void sharedContentDeletedWithTaskContentItems() {
+        ContentItem firstContentItem = createContentItem("hello", "task1");
+        ContentItem secondContentItem = createContentItem("hello", "task1");
+        ContentItem otherTaskContentItem = createContentItem("hello", "task2");
+        File contentFile = getContentFile(HELLO_HASH);
+
+        contentService.deleteContentItemsByTaskId("task1");
+        assertThat(contentService.createContentItemQuery().id(firstContentItem.getId()).count()).isZero();
+        assertThat(contentService.createContentItemQuery().id(secondContentItem.getId()).count()).isZero();
+        assertThat(contentFile).exists();
+
+        contentService.deleteContentItemsByTaskId("task2");
+        assertThat(contentService.createContentItemQuery().id(otherTaskContentItem.getId()).count()).isZero();
+        assertThat(contentFile).doesNotExist();
+    }
+
+    @Test
+    public void rolledBackDeletionKeepsContent() throws Exception {
+        ContentItem contentItem = createContentItem("hello");
+        File contentFile = getContentFile(HELLO_HASH);
+
+        assertThatThrownBy(() -> contentEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            new DeleteContentItemCmd(contentItem.getId()).execute(commandContext);
+            throw new FlowableException("rollback");
+        })).hasMessage("rollback");
+
+        assertThat(contentFile).hasContent("hello");
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId())) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("hello");
+        }
+
+        contentService.deleteContentItem(contentItem.getId());
+        assertThat(contentFile).doesNotExist();
+    }
+
+    @Test
+    public void contentStoredInDeletingTransactionIsKept() {
+        ContentItem contentItem = createContentItem("hello");
+        File contentFile = getContentFile(HELLO_HASH);
+
+        ContentItem newContentItem = contentService.newContentItem();
+        newContentItem.setName("newItem");
+        contentEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+            new DeleteContentItemCmd(contentItem.getId()).execute(commandContext);
+            new SaveContentItemCmd(newContentItem, new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8))).execute(commandContext);
+            return null;
+        });
+
+        assertThat(contentFile).hasContent("hello");
+
+        contentService.deleteContentItem(newContentItem.getId());
+        assertThat(contentFile).doesNotExist();
+    }
+
+    @Test
+    public void concurrentUploadKeepsContent() throws Exception {
+        ContentItem contentItem = createContentItem("hello");
+        File contentFile = getContentFile(HELLO_HASH);
+
+        ContentItem newContentItem = contentService.newContentItem();
+        newContentItem.setName("newItem");
+        CountDownLatch uploaded = new CountDownLatch(1);
+        CountDownLatch commitUpload = new CountDownLatch(1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            // The upload shares the existing file and holds the lock on its reference count until it commits
+            Future<?> upload = executorService.submit(() -> contentEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                new SaveContentItemCmd(newContentItem, new ByteArrayInputStream("hello".getBytes(StandardCharsets.UTF_8))).execute(commandContext);
+                uploaded.countDown();
+                try {
+                    commitUpload.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            }));
+
+            assertThat(uploaded.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // The deletion waits for the upload, and then sees the reference of the new content item
+            Future<?> deletion = executorService.submit(() -> contentService.deleteContentItem(contentItem.getId()));
+            Thread.sleep(100);
+            commitUpload.countDown();
+            upload.get(10, TimeUnit.SECONDS);
+            deletion.get(10, TimeUnit.SECONDS);
+
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(contentFile).hasContent("hello");
+
+        contentService.deleteContentItem(newContentItem.getId());
+        assertThat(contentFile).doesNotExist();
+    }
+
+    @Test
+    public void uploadFailsWhenSharedContentIsDeletedConcurrently() {
+        ContentItem contentItem = createContentItem("hello");
+        File contentFile = getContentFile(HELLO_HASH);
+
+        // Deletes the last reference after the upload found the existing file, but before it added its reference
+        contentEngineConfiguration.setContentStorage(new ContentAddressedFileSystemContentStorage(contentFolderRoot) {
+
+            @Override
+            public ContentObject createContentObject(InputStream contentStream, Map<String, Object> metaData) {
+                ContentObject contentObject = super.createContentObject(contentStream, metaData);
+                Thread deletion = new Thread(() -> contentService.deleteContentItem(contentItem.getId()));
+                deletion.start();
+                try {
+                    deletion.join(10000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return contentObject;
+            }
+        });
+
+        assertThatThrownBy(() -> createContentItem("hello"))
+                .isInstanceOf(ContentStorageException.class)
+                .hasMessageContaining("was deleted concurrently");
+
+        assertThat(contentFile).doesNotExist();
+        assertThat(contentService.createContentItemQuery().contentStoreId(HELLO_HASH).count()).isZero();
+    }
+
+    @Test
+    public void replacedContentIsDeleted() {
+        ContentItem contentItem = createContentItem("hello");
+        File contentFile = getContentFile(HELLO_HASH);
+
+        contentService.saveContentItem(contentItem, new ByteArrayInputStream("other".getBytes(StandardCharsets.UTF_8)));
+        assertThat(contentFile).doesNotExist();
+
+        contentService.deleteContentItem(contentItem.getId());
+    }
+
+    @Test
+    public void getContentItemDataRange() throws Exception {
+        ContentItem contentItem = createContentItem("hello world");
+
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 6, 3)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("wor");
+        }
+        try (InputStream contentStream = contentService.getContentItemData(contentItem.getId(), 6, 100)) {
+            assertThat(IOUtils.toString(contentStream, StandardCharsets.UTF_8)).isEqualTo("world");
+        }
+
+        contentService.deleteContentItem(contentItem.getId());
+    }
+
+    @Test
+    public void invalidContentId() {
+        assertThatThrownBy(() -> contentStorage.getContentObject("../" + HELLO_HASH))
+                .isInstanceOf(ContentNotFoundException.class);
+        assertThatThrownBy(() -> contentStorage.getContentObject(HELLO_HASH))
+                .isInstanceOf(ContentNotFoundException.class);
+    }
+
+    protected File getContentFile(String hash) {
+        return new File(contentFolderRoot, hash.substring(0, 2) + File.separator + hash.substring(2, 4) + File.separator + hash);
+    }
+
+    protected ContentItem createContentItem(String content) {
+        return createContentItem(content, null);
+    }
+
+    protected ContentItem createContentItem(String content, String taskId) {
+        ContentItem contentItem = contentService.newContentItem();
+        contentItem.setName("testItem");
+        contentItem.setTaskId(taskId);
+        contentItem.setMimeType("text/plain");
+        contentService.saveContentItem(contentItem, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        return contentItem;
+    }
+
+}
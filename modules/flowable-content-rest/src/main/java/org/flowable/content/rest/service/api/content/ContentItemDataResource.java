@@ -14,6 +14,7 @@
 package org.flowable.content.rest.service.api.content;
 
 import java.io.InputStream;
+import java.util.List;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -26,9 +27,9 @@ import org.flowable.content.api.ContentItem;
 import org.flowable.content.rest.ContentRestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -56,46 +57,89 @@ public class ContentItemDataResource extends ContentItemBaseResource {
     protected ContentRestResponseFactory contentRestResponseFactory;
 
     @ApiOperation(value = "Get the data of a content item", tags = {"Content item" },
-            notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type.")
+            notes = "The response body contains the binary content. By default, the content-type of the response is set to application/octet-stream unless the content item type contains a valid mime type. "
+                    + "A single byte range can be requested with the Range header.")
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the content item was found and the requested content is returned."),
-            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item does not have a binary stream available. Status message provides additional information.")
+            @ApiResponse(code = 206, message = "Indicates the content item was found and the requested range of the content is returned."),
+            @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item does not have a binary stream available. Status message provides additional information."),
+            @ApiResponse(code = 416, message = "Indicates the requested range is not within the content.")
     })
     @GetMapping(value = "/content-service/content-items/{contentItemId}/data")
-    public ResponseEntity<byte[]> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletResponse response) {
+    public void getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId,
+            HttpServletRequest request, HttpServletResponse response) {
 
         ContentItem contentItem = getContentItemFromRequest(contentItemId);
         if (!contentItem.isContentAvailable()) {
             throw new FlowableException("No data available for content item " + contentItemId);
         }
 
-        InputStream dataStream = contentService.getContentItemData(contentItemId);
-        if (dataStream == null) {
-            throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
-        }
-
-        HttpHeaders responseHeaders = new HttpHeaders();
         MediaType mediaType = null;
         if (contentItem.getMimeType() != null) {
             try {
                 mediaType = MediaType.valueOf(contentItem.getMimeType());
-                responseHeaders.set("Content-Type", contentItem.getMimeType());
             } catch (Exception e) {
                 // ignore if unknown media type
             }
         }
+        response.setContentType(mediaType != null ? contentItem.getMimeType() : "application/octet-stream");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        HttpRange range = getRange(request, contentItem);
+        InputStream dataStream;
+        if (range != null) {
+            long contentSize = contentItem.getContentSize();
+            long rangeStart = range.getRangeStart(contentSize);
+            if (rangeStart >= contentSize) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + contentSize);
+                return;
+            }
+
+            long rangeEnd = range.getRangeEnd(contentSize);
+            dataStream = contentService.getContentItemData(contentItemId, rangeStart, rangeEnd - rangeStart + 1);
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + rangeStart + "-" + rangeEnd + "/" + contentSize);
+            response.setContentLengthLong(rangeEnd - rangeStart + 1);
 
-        if (mediaType == null) {
-            responseHeaders.set("Content-Type", "application/octet-stream");
+        } else {
+            dataStream = contentService.getContentItemData(contentItemId);
+            if (contentItem.getContentSize() != null) {
+                response.setContentLengthLong(contentItem.getContentSize());
+            }
         }
 
-        try {
-            return new ResponseEntity<>(IOUtils.toByteArray(dataStream), responseHeaders, HttpStatus.OK);
+        if (dataStream == null) {
+            throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
+        }
+
+        // Streamed, so large content doesn't need to fit in memory
+        try (InputStream contentStream = dataStream) {
+            IOUtils.copyLarge(contentStream, response.getOutputStream());
         } catch (Exception e) {
             throw new FlowableException("Error getting content item data " + contentItemId, e);
         }
     }
 
+    /**
+     * @return the requested byte range, or null when the full content should be returned: no or multiple ranges are requested,
+     *         or the size of the content is unknown
+     */
+    protected HttpRange getRange(HttpServletRequest request, ContentItem contentItem) {
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || contentItem.getContentSize() == null) {
+            return null;
+        }
+
+        List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(rangeHeader);
+        } catch (IllegalArgumentException e) {
+            throw new FlowableIllegalArgumentException("Invalid range header: " + rangeHeader, e);
+        }
+        return ranges.size() == 1 ? ranges.get(0) : null;
+    }
+
     @ApiOperation(value = "Save the content item data", tags = { "Content item" }, notes = "Save the content item data with an attached file. "
             + "The request should be of type multipart/form-data. There should be a single file-part included with the binary value of the content item.")
     @ApiImplicitParams({
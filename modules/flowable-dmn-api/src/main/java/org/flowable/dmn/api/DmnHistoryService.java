@@ -12,6 +12,8 @@
  */
 package org.flowable.dmn.api;
 
+import java.util.Collection;
+
 /**
  * Service providing access to the history of decision executions.
  *
@@ -23,4 +25,9 @@ public interface DmnHistoryService {
 
     NativeHistoricDecisionExecutionQuery createNativeHistoricDecisionExecutionQuery();
 
+    /**
+     * Deletes the historic decision executions of the given (process or case) instances with one statement.
+     */
+    void deleteHistoricDecisionExecutionsByInstanceIds(Collection<String> instanceIds);
+
 }
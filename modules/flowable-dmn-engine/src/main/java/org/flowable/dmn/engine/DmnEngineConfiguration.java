@@ -214,7 +214,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     public DmnEngine buildDmnEngine() {
         init();
-        return new DmnEngineImpl(this);
+        DmnEngineImpl dmnEngine = new DmnEngineImpl(this);
+        initClusterChangeStamps();
+        return dmnEngine;
     }
 
     // init
@@ -251,6 +253,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         initServices();
         initDataManagers();
         initEntityManagers();
+        initDefinitionEntityCache();
         initDeployers();
         initClock();
         initHitPolicyBehaviors();
@@ -338,6 +341,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
             dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
             dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
             dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
+        dbSqlSessionFactory.setReadOnlyDataSource(readOnlyDataSource);
             addSessionFactory(dbSqlSessionFactory);
         }
         initDbSqlSessionFactoryEntitySettings();
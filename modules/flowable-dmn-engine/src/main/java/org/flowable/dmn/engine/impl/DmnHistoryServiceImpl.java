@@ -12,11 +12,14 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.Collection;
+
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.dmn.api.DmnHistoricDecisionExecutionQuery;
 import org.flowable.dmn.api.DmnHistoryService;
 import org.flowable.dmn.api.NativeHistoricDecisionExecutionQuery;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cmd.DeleteHistoricDecisionExecutionsByInstanceIdsCmd;
 
 /**
  * @author Tijs Rademakers
@@ -32,4 +35,9 @@ public class DmnHistoryServiceImpl extends CommonEngineServiceImpl<DmnEngineConf
     public NativeHistoricDecisionExecutionQuery createNativeHistoricDecisionExecutionQuery() {
         return new NativeHistoryDecisionExecutionQueryImpl(commandExecutor);
     }
+
+    @Override
+    public void deleteHistoricDecisionExecutionsByInstanceIds(Collection<String> instanceIds) {
+        commandExecutor.execute(new DeleteHistoricDecisionExecutionsByInstanceIdsCmd(instanceIds));
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +27,8 @@ public interface HistoricDecisionExecutionEntityManager extends EntityManager<Hi
     
     void deleteHistoricDecisionExecutionsByDeploymentId(String deploymentId);
 
+    void deleteHistoricDecisionExecutionsByInstanceIds(Collection<String> instanceIds);
+
     List<DmnHistoricDecisionExecution> findHistoricDecisionExecutionsByQueryCriteria(HistoricDecisionExecutionQueryImpl decisionExecutionQuery);
 
     long findHistoricDecisionExecutionCountByQueryCriteria(HistoricDecisionExecutionQueryImpl decisionExecutionQuery);
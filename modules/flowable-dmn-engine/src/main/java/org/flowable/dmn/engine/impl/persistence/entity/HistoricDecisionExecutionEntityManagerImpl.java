@@ -13,6 +13,7 @@
 
 package org.flowable.dmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +42,11 @@ public class HistoricDecisionExecutionEntityManagerImpl
         dataManager.deleteHistoricDecisionExecutionsByDeploymentId(deploymentId);
     }
 
+    @Override
+    public void deleteHistoricDecisionExecutionsByInstanceIds(Collection<String> instanceIds) {
+        dataManager.deleteHistoricDecisionExecutionsByInstanceIds(instanceIds);
+    }
+
     @Override
     public List<DmnHistoricDecisionExecution> findHistoricDecisionExecutionsByQueryCriteria(HistoricDecisionExecutionQueryImpl decisionExecutionQuery) {
         return dataManager.findHistoricDecisionExecutionsByQueryCriteria(decisionExecutionQuery);
@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +28,8 @@ public interface HistoricDecisionExecutionDataManager extends DataManager<Histor
     
     void deleteHistoricDecisionExecutionsByDeploymentId(String deploymentId);
 
+    void deleteHistoricDecisionExecutionsByInstanceIds(Collection<String> instanceIds);
+
     List<DmnHistoricDecisionExecution> findHistoricDecisionExecutionsByQueryCriteria(HistoricDecisionExecutionQueryImpl decisionExecutionQuery);
 
     long findHistoricDecisionExecutionCountByQueryCriteria(HistoricDecisionExecutionQueryImpl decisionExecutionQuery);
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.DecisionTableQueryImpl;
@@ -39,6 +40,11 @@ public class MybatisDecisionTableDataManager extends AbstractDmnDataManager<Deci
         return DecisionTableEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return dmnEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public DecisionTableEntity create() {
         return new DecisionTableEntityImpl();
@@ -46,7 +52,8 @@ public class MybatisDecisionTableDataManager extends AbstractDmnDataManager<Deci
 
     @Override
     public DecisionTableEntity findLatestDecisionTableByKey(String decisionTableKey) {
-        return (DecisionTableEntity) getDbSqlSession().selectOne("selectLatestDecisionTableByKey", decisionTableKey);
+        return findInDefinitionEntityCache("latestByKey:" + decisionTableKey,
+                () -> (DecisionTableEntity) getDbSqlSession().selectOne("selectLatestDecisionTableByKey", decisionTableKey));
     }
 
     @Override
@@ -54,7 +61,8 @@ public class MybatisDecisionTableDataManager extends AbstractDmnDataManager<Deci
         Map<String, Object> params = new HashMap<>(2);
         params.put("decisionTableKey", decisionTableKey);
         params.put("tenantId", tenantId);
-        return (DecisionTableEntity) getDbSqlSession().selectOne("selectLatestDecisionTableByKeyAndTenantId", params);
+        return findInDefinitionEntityCache("latestByKeyAndTenantId:" + decisionTableKey + ":" + tenantId,
+                () -> (DecisionTableEntity) getDbSqlSession().selectOne("selectLatestDecisionTableByKeyAndTenantId", params));
     }
 
     @Override
@@ -77,6 +85,7 @@ public class MybatisDecisionTableDataManager extends AbstractDmnDataManager<Deci
     @Override
     public void deleteDecisionTablesByDeploymentId(String deploymentId) {
         getDbSqlSession().delete("deleteDecisionTablesByDeploymentId", deploymentId, getManagedEntityClass());
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -154,6 +163,7 @@ public class MybatisDecisionTableDataManager extends AbstractDmnDataManager<Deci
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateDecisionTableTenantIdForDeploymentId", params);
+        markDefinitionEntityCacheChanged();
     }
 
 }
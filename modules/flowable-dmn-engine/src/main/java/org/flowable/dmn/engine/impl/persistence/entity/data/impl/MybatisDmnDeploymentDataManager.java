@@ -15,6 +15,7 @@ package org.flowable.dmn.engine.impl.persistence.entity.data.impl;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.dmn.api.DmnDeployment;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.DmnDeploymentQueryImpl;
@@ -38,6 +39,11 @@ public class MybatisDmnDeploymentDataManager extends AbstractDmnDataManager<DmnD
         return DmnDeploymentEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return dmnEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public DmnDeploymentEntity create() {
         return new DmnDeploymentEntityImpl();
@@ -12,6 +12,8 @@
  */
 package org.flowable.dmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +49,11 @@ public class MybatisHistoricDecisionExecutionDataManager extends AbstractDmnData
         getDbSqlSession().delete("deleteHistoricDecisionExecutionsByDeploymentId", deploymentId, getManagedEntityClass());
     }
 
+    @Override
+    public void deleteHistoricDecisionExecutionsByInstanceIds(Collection<String> instanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricDecisionExecutionsByInstanceIds", new ArrayList<>(instanceIds), getManagedEntityClass());
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<DmnHistoricDecisionExecution> findHistoricDecisionExecutionsByQueryCriteria(HistoricDecisionExecutionQueryImpl decisionExecutionQuery) {
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.cfg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.api.DmnRepositoryService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DefinitionEntityCacheTest {
+
+    protected StandaloneInMemDmnEngineConfiguration dmnEngineConfiguration;
+    protected DmnEngine dmnEngine;
+    protected DmnRepositoryService repositoryService;
+
+    @Before
+    public void buildDmnEngine() {
+        dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-dmn-" + this.getClass().getName());
+        dmnEngineConfiguration.setEnableDefinitionEntityCache(true);
+        dmnEngineConfiguration.setDefinitionEntityCacheCheckInterval(0L);
+        dmnEngine = dmnEngineConfiguration.buildDmnEngine();
+        repositoryService = dmnEngine.getDmnRepositoryService();
+    }
+
+    @After
+    public void closeDmnEngine() {
+        for (DmnDeployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId());
+        }
+        dmnEngine.close();
+    }
+
+    @Test
+    public void testDecisionTableIsCachedAndInvalidated() {
+        DefinitionEntityCache definitionEntityCache = dmnEngineConfiguration.getDefinitionEntityCache();
+
+        DmnDeployment deployment = repositoryService.createDeployment().addClasspathResource("org/flowable/dmn/engine/test/deployment/dates_1.dmn").deploy();
+        DecisionTableEntity decisionTable = findLatestDecisionTable("decision");
+        assertEquals(1, decisionTable.getVersion());
+        assertTrue(definitionEntityCache.size() > 0);
+
+        // Each command gets its own copy of the cached decision table
+        assertNotSame(decisionTable, findLatestDecisionTable("decision"));
+
+        repositoryService.setDecisionTableCategory(decisionTable.getId(), "newCategory");
+        assertEquals("newCategory", findLatestDecisionTable("decision").getCategory());
+
+        DmnDeployment secondDeployment = repositoryService.createDeployment().addClasspathResource("org/flowable/dmn/engine/test/deployment/dates_1.dmn")
+                .deploy();
+        assertEquals(2, findLatestDecisionTable("decision").getVersion());
+
+        repositoryService.deleteDeployment(secondDeployment.getId());
+        assertEquals(1, findLatestDecisionTable("decision").getVersion());
+
+        repositoryService.deleteDeployment(deployment.getId());
+        assertNull(findLatestDecisionTable("decision"));
+    }
+
+    protected DecisionTableEntity findLatestDecisionTable(String decisionTableKey) {
+        return dmnEngineConfiguration.getCommandExecutor().execute(commandContext -> CommandContextUtil.getDecisionTableEntityManager(commandContext)
+                .findLatestDecisionTableByKey(decisionTableKey));
+    }
+
+}
@@ -40,6 +40,13 @@ public interface Query<T extends Query<?, ?>, U extends Object> {
 
     T orderBy(QueryProperty property, NullHandlingOnOrder nullHandlingOnOrder);
 
+    /**
+     * Allows the query to be executed against the read-only data source (e.g. a read replica) when one is configured,
+     * so the results might not contain the most recent changes. Has no effect when the query is executed within a command,
+     * as the data of the command needs to be read from the same data source as it is written to.
+     */
+    T allowStaleRead();
+
     /**
      * Executes the query and returns the number of results
      */
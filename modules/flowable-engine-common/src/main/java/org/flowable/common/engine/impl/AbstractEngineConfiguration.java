@@ -54,6 +54,7 @@ import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.common.engine.impl.cfg.CommandExecutorImpl;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
+import org.flowable.common.engine.impl.cfg.StaleReadCommandExecutor;
 import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
 import org.flowable.common.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
 import org.flowable.common.engine.impl.db.CommonDbSchemaManager;
@@ -82,6 +83,8 @@ import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.StrongUuidGenerator;
+import org.flowable.common.engine.impl.persistence.cache.ClusterChangeStamp;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
@@ -141,6 +144,18 @@ public abstract class AbstractEngineConfiguration {
     protected int jdbcPingConnectionNotUsedFor;
     protected int jdbcDefaultTransactionIsolationLevel;
     protected DataSource dataSource;
+
+    /**
+     * Optional data source (e.g. of a read replica) for the queries that allow stale reads, see {@link org.flowable.common.engine.api.query.Query#allowStaleRead()}.
+     * Writes, and the queries executed within a command or within a Spring or JTA transaction, always use the {@link #dataSource}.
+     */
+    protected DataSource readOnlyDataSource;
+
+    /**
+     * Allows all queries of the history services to read from the {@link #readOnlyDataSource}.
+     */
+    protected boolean allowStaleHistoryReads;
+
     protected SchemaManager commonSchemaManager;
     protected SchemaManager schemaManager;
     protected Command<Void> schemaManagementCmd;
@@ -318,6 +333,16 @@ public abstract class AbstractEngineConfiguration {
 
     protected PropertyEntityManager propertyEntityManager;
 
+    /**
+     * Enables the second-level cache of the definition and deployment entities ({@link DefinitionEntityCache}), shared by all commands of the engine.
+     * A change to these entities on any node clears the caches of all nodes, the other nodes check for changes at most
+     * once every {@link #definitionEntityCacheCheckInterval} milliseconds.
+     */
+    protected boolean enableDefinitionEntityCache;
+    protected int definitionEntityCacheLimit = 1000;
+    protected long definitionEntityCacheCheckInterval = 5000L;
+    protected DefinitionEntityCache definitionEntityCache;
+
     protected List<EngineDeployer> customPreDeployers;
     protected List<EngineDeployer> customPostDeployers;
     protected List<EngineDeployer> deployers;
@@ -672,6 +697,49 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    public void initDefinitionEntityCache() {
+        if (definitionEntityCache == null && enableDefinitionEntityCache) {
+            definitionEntityCache = new DefinitionEntityCache(
+                    new ClusterChangeStamp(getEngineCfgKey() + ".definition.stamp", definitionEntityCacheCheckInterval), definitionEntityCacheLimit);
+        }
+    }
+
+    /**
+     * Creates the properties of the cluster change stamps used by the engine when they do not exist yet,
+     * so that marking a change only needs to update the property. Called when the engine is built, after the schema operations.
+     */
+    public void initClusterChangeStamps() {
+        if (!usingRelationalDatabase) {
+            return;
+        }
+
+        for (ClusterChangeStamp changeStamp : getClusterChangeStamps()) {
+            try {
+                commandExecutor.execute(commandContext -> {
+                    changeStamp.createIfMissing(commandContext);
+                    return null;
+                });
+
+            } catch (RuntimeException e) {
+                // Another node that is started at the same time can have created the property first
+                if (!commandExecutor.execute(changeStamp::exists)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the cluster change stamps of the caches used by the engine
+     */
+    protected List<ClusterChangeStamp> getClusterChangeStamps() {
+        List<ClusterChangeStamp> changeStamps = new ArrayList<>();
+        if (definitionEntityCache != null) {
+            changeStamps.add(definitionEntityCache.getChangeStamp());
+        }
+        return changeStamps;
+    }
+
     // services
     // /////////////////////////////////////////////////////////////////
 
@@ -681,6 +749,12 @@ public abstract class AbstractEngineConfiguration {
         }
     }
 
+    protected void initStaleReadService(Object service) {
+        if (service instanceof CommonEngineServiceImpl) {
+            ((CommonEngineServiceImpl) service).setCommandExecutor(new StaleReadCommandExecutor(commandExecutor));
+        }
+    }
+
     // myBatis SqlSessionFactory
     // ////////////////////////////////////////////////
 
@@ -725,6 +799,7 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setReadOnlyDataSource(readOnlyDataSource);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -1068,6 +1143,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    public AbstractEngineConfiguration setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
+        return this;
+    }
+
+    public boolean isAllowStaleHistoryReads() {
+        return allowStaleHistoryReads;
+    }
+
+    public AbstractEngineConfiguration setAllowStaleHistoryReads(boolean allowStaleHistoryReads) {
+        this.allowStaleHistoryReads = allowStaleHistoryReads;
+        return this;
+    }
+
     public SchemaManager getSchemaManager() {
         return schemaManager;
     }
@@ -1826,6 +1919,48 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableDefinitionEntityCache() {
+        return enableDefinitionEntityCache;
+    }
+
+    public AbstractEngineConfiguration setEnableDefinitionEntityCache(boolean enableDefinitionEntityCache) {
+        this.enableDefinitionEntityCache = enableDefinitionEntityCache;
+        return this;
+    }
+
+    public int getDefinitionEntityCacheLimit() {
+        return definitionEntityCacheLimit;
+    }
+
+    /**
+     * Sets the maximum number of cached lookups, the least recently used ones are evicted first. 0 or less means no limit.
+     */
+    public AbstractEngineConfiguration setDefinitionEntityCacheLimit(int definitionEntityCacheLimit) {
+        this.definitionEntityCacheLimit = definitionEntityCacheLimit;
+        return this;
+    }
+
+    public long getDefinitionEntityCacheCheckInterval() {
+        return definitionEntityCacheCheckInterval;
+    }
+
+    public AbstractEngineConfiguration setDefinitionEntityCacheCheckInterval(long definitionEntityCacheCheckInterval) {
+        this.definitionEntityCacheCheckInterval = definitionEntityCacheCheckInterval;
+        return this;
+    }
+
+    public DefinitionEntityCache getDefinitionEntityCache() {
+        return definitionEntityCache;
+    }
+
+    /**
+     * Sets a custom second-level cache, e.g. one with another {@link org.flowable.common.engine.impl.persistence.deploy.DeploymentCache} implementation.
+     */
+    public AbstractEngineConfiguration setDefinitionEntityCache(DefinitionEntityCache definitionEntityCache) {
+        this.definitionEntityCache = definitionEntityCache;
+        return this;
+    }
+
     public List<EngineDeployer> getDeployers() {
         return deployers;
     }
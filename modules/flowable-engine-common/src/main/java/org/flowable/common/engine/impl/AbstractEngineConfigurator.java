@@ -253,6 +253,8 @@ public abstract class AbstractEngineConfigurator implements EngineConfigurator {
     protected void initDataSource(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
         if (engineConfiguration.getDataSource() != null) {
             targetEngineConfiguration.setDataSource(engineConfiguration.getDataSource());
+            targetEngineConfiguration.setReadOnlyDataSource(engineConfiguration.getReadOnlyDataSource());
+            targetEngineConfiguration.setAllowStaleHistoryReads(engineConfiguration.isAllowStaleHistoryReads());
         } else {
             throw new FlowableException("A datasource is required for initializing the IDM engine ");
         }
@@ -0,0 +1,56 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cfg;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.query.AbstractNativeQuery;
+import org.flowable.common.engine.impl.query.AbstractQuery;
+
+/**
+ * Command executor that allows all queries to read from the read-only data source (see {@link CommandConfig#staleReadAllowed()}),
+ * used for services of which the queries don't need the most recent data, such as the history services.
+ * All other commands, which might write data, are passed to the wrapped command executor as they are.
+ */
+public class StaleReadCommandExecutor implements CommandExecutor {
+
+    protected CommandExecutor commandExecutor;
+
+    public StaleReadCommandExecutor(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public CommandConfig getDefaultConfig() {
+        return commandExecutor.getDefaultConfig();
+    }
+
+    @Override
+    public <T> T execute(Command<T> command) {
+        return execute(getDefaultConfig(), command);
+    }
+
+    @Override
+    public <T> T execute(CommandConfig config, Command<T> command) {
+        if (command instanceof AbstractQuery || command instanceof AbstractNativeQuery) {
+            return commandExecutor.execute(config.staleReadAllowed(), command);
+        }
+        return commandExecutor.execute(config, command);
+    }
+
+    public CommandExecutor getCommandExecutor() {
+        return commandExecutor;
+    }
+
+}
@@ -17,11 +17,13 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -32,6 +34,13 @@ import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
  */
 public abstract class AbstractDataManager<EntityImpl extends Entity> implements DataManager<EntityImpl> {
 
+    /**
+     * The maximum number of ids bound to one {@code IN} list by the statements that take a collection of ids.
+     * Bigger collections are split over several statements: Oracle accepts at most 1000 expressions in such a list,
+     * SQL Server at most 2100 parameters in one statement.
+     */
+    public static final int MAX_IDS_PER_STATEMENT = 1000;
+
     public abstract Class<? extends EntityImpl> getManagedEntityClass();
 
     public List<Class<? extends EntityImpl>> getManagedEntitySubClasses() {
@@ -47,6 +56,11 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
     }
 
     protected DbSqlSession getDbSqlSession() {
+        DefinitionEntityCache definitionEntityCache = getDefinitionEntityCache();
+        if (definitionEntityCache != null) {
+            // Any entity loaded by this data manager could be changed by the command
+            definitionEntityCache.trackChanges(getCommandContext(), getManagedEntityClass());
+        }
         return getSession(DbSqlSession.class);
     }
     
@@ -54,6 +68,35 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         return getSession(EntityCache.class);
     }
 
+    /**
+     * Returns the second-level cache for the entities of this data manager, shared by all commands.
+     * Only data managers of definition and deployment entities return one (when it is enabled), by default null is returned.
+     */
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return null;
+    }
+
+    /**
+     * Looks up the entity for the given key in the second-level cache, if there is one, before loading it with the given loader.
+     */
+    protected EntityImpl findInDefinitionEntityCache(String key, Supplier<EntityImpl> loader) {
+        DefinitionEntityCache definitionEntityCache = getDefinitionEntityCache();
+        if (definitionEntityCache == null) {
+            return loader.get();
+        }
+        return definitionEntityCache.find(getCommandContext(), getManagedEntityClass(), key, loader);
+    }
+
+    /**
+     * Must be called for bulk updates and deletes of entities that are cached in the second-level cache.
+     */
+    protected void markDefinitionEntityCacheChanged() {
+        DefinitionEntityCache definitionEntityCache = getDefinitionEntityCache();
+        if (definitionEntityCache != null) {
+            definitionEntityCache.markChanged(getCommandContext());
+        }
+    }
+
     @Override
     public EntityImpl findById(String entityId) {
         if (entityId == null) {
@@ -67,6 +110,9 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         }
 
         // Database
+        if (getDefinitionEntityCache() != null) {
+            return findInDefinitionEntityCache("id:" + entityId, () -> getDbSqlSession().selectById(getManagedEntityClass(), entityId, false));
+        }
         return getDbSqlSession().selectById(getManagedEntityClass(), entityId, false);
     }
 
@@ -73,6 +73,12 @@ public class DbSqlSession implements Session {
         this.connectionMetadataDefaultSchema = schema;
     }
 
+    public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, SqlSession sqlSession) {
+        this.dbSqlSessionFactory = dbSqlSessionFactory;
+        this.entityCache = entityCache;
+        this.sqlSession = sqlSession;
+    }
+
     // insert ///////////////////////////////////////////////////////////////////
 
     public void insert(Entity entity) {
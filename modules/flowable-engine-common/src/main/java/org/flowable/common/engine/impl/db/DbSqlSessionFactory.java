@@ -13,6 +13,7 @@
 
 package org.flowable.common.engine.impl.db;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,7 +23,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.jdbc.JdbcTransaction;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -66,6 +72,8 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<String, Class<?>> logicalNameToClassMapping = new ConcurrentHashMap<>();
     
     protected boolean usePrefixId;
+
+    protected DataSource readOnlyDataSource;
     
     public DbSqlSessionFactory(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
@@ -78,7 +86,7 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     @Override
     public Session openSession(CommandContext commandContext) {
-        DbSqlSession dbSqlSession = createDbSqlSession();
+        DbSqlSession dbSqlSession = readOnlyDataSource != null && commandContext.isStaleReadAllowed() ? createReadOnlyDbSqlSession() : createDbSqlSession();
         if (getDatabaseSchema() != null && getDatabaseSchema().length() > 0) {
             try {
                 dbSqlSession.getSqlSession().getConnection().setSchema(getDatabaseSchema());
@@ -103,6 +111,21 @@ public class DbSqlSessionFactory implements SessionFactory {
         return new DbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class));
     }
 
+    protected DbSqlSession createReadOnlyDbSqlSession() {
+        // The read-only connection never takes part in the transaction of the engine (e.g. a Spring managed transaction), it's only used for reading
+        Connection connection;
+        try {
+            connection = readOnlyDataSource.getConnection();
+            connection.setReadOnly(true);
+        } catch (SQLException e) {
+            throw new FlowableException("Could not get a connection from the read-only data source", e);
+        }
+
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        DefaultSqlSession sqlSession = new DefaultSqlSession(configuration, configuration.newExecutor(new JdbcTransaction(connection)), false);
+        return new DbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class), sqlSession);
+    }
+
     // insert, update and delete statements
     // /////////////////////////////////////
 
@@ -346,4 +369,12 @@ public class DbSqlSessionFactory implements SessionFactory {
     public void setUsePrefixId(boolean usePrefixId) {
         this.usePrefixId = usePrefixId;
     }
+
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    public void setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
+    }
 }
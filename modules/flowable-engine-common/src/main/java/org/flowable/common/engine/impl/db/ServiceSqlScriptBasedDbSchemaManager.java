@@ -25,6 +25,11 @@ public abstract class ServiceSqlScriptBasedDbSchemaManager extends AbstractSqlSc
     protected String schemaComponent;
     protected String schemaComponentHistory;
     protected String schemaVersionProperty;
+
+    /**
+     * Creates the history tables as monthly range partitions, only supported by the services that have partitioned history scripts (task and variable).
+     */
+    protected boolean historyPartitioned;
     
     public ServiceSqlScriptBasedDbSchemaManager(String table, String schemaComponent, String schemaComponentHistory, String schemaVersionProperty) {
         this.table = table;
@@ -48,7 +53,7 @@ public abstract class ServiceSqlScriptBasedDbSchemaManager extends AbstractSqlSc
     protected void internalDbSchemaCreate() {
         executeMandatorySchemaResource("create", schemaComponent);
         if (isHistoryUsed()) {
-            executeMandatorySchemaResource("create", schemaComponentHistory);
+            executeMandatorySchemaResource("create", historyPartitioned ? schemaComponentHistory + ".partitioned" : schemaComponentHistory);
         }
     }
 
@@ -119,4 +124,12 @@ public abstract class ServiceSqlScriptBasedDbSchemaManager extends AbstractSqlSc
         return "6.1.2.0"; // last version before most services were separated. Start upgrading from this point.
     }
 
+    public boolean isHistoryPartitioned() {
+        return historyPartitioned;
+    }
+
+    public void setHistoryPartitioned(boolean historyPartitioned) {
+        this.historyPartitioned = historyPartitioned;
+    }
+
 }
@@ -29,6 +29,7 @@ import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeStore;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Cache;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.Builder.Feature;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstCompiler;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.javax.el.ELException;
 import org.flowable.common.engine.impl.javax.el.ExpressionFactory;
@@ -136,6 +137,9 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	private final TreeStore store;
 	private final TypeConverter converter;
 
+	private AstCompiler compiler = new AstCompiler();
+	private int compileThreshold = -1;
+
 	/**
 	 * Create a new expression factory using the default builder and cache implementations. The
 	 * builder and cache are configured from <code>el.properties</code> (see above). The maximum
@@ -442,7 +446,7 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 	@Override
 	public final TreeValueExpression createValueExpression(ELContext context, String expression, Class<?> expectedType) {
 		return new TreeValueExpression(store, context.getFunctionMapper(), context.getVariableMapper(), converter,
-				expression, expectedType);
+				expression, expectedType, compiler, compileThreshold);
 	}
 
 	@Override
@@ -451,4 +455,24 @@ public class ExpressionFactoryImpl extends ExpressionFactory {
 		return new TreeMethodExpression(store, context.getFunctionMapper(), context.getVariableMapper(), converter,
 				expression, expectedReturnType, expectedParamTypes);
 	}
+
+	/**
+	 * Set the number of evaluations after which the tree of a value expression is compiled by the {@link AstCompiler}.
+	 * A negative value (the default) disables compilation. Only applies to expressions created after calling this method.
+	 */
+	public void setCompileThreshold(int compileThreshold) {
+		this.compileThreshold = compileThreshold;
+	}
+
+	public int getCompileThreshold() {
+		return compileThreshold;
+	}
+
+	public void setCompiler(AstCompiler compiler) {
+		this.compiler = compiler;
+	}
+
+	public AstCompiler getCompiler() {
+		return compiler;
+	}
 }
@@ -27,6 +27,7 @@ import org.flowable.common.engine.impl.de.odysseus.el.tree.NodePrinter;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.Tree;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeBuilder;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.TreeStore;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast.AstCompiler;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.javax.el.ELException;
 import org.flowable.common.engine.impl.javax.el.FunctionMapper;
@@ -52,10 +53,14 @@ public final class TreeValueExpression extends ValueExpression {
 	private final Class<?> type;
 	private final boolean deferred;
 
-	private transient ExpressionNode node;
+	private transient volatile ExpressionNode node;
 
 	private String structure;
 
+	private final int compileThreshold;
+	private transient AstCompiler compiler;
+	private transient int evaluationCount;
+
 	/**
 	 * Create a new value expression.
 	 * @param store used to get the parse tree from.
@@ -65,6 +70,22 @@ public final class TreeValueExpression extends ValueExpression {
 	 * @param type the expected type (may be <code>null</code>)
 	 */
 	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type) {
+		this(store, functions, variables, converter, expr, type, null, -1);
+	}
+
+	/**
+	 * Create a new value expression that is compiled with the given compiler once it has been evaluated
+	 * <code>compileThreshold</code> times.
+	 * @param store used to get the parse tree from.
+	 * @param functions the function mapper used to bind functions
+	 * @param variables the variable mapper used to bind variables
+	 * @param expr the expression string
+	 * @param type the expected type (may be <code>null</code>)
+	 * @param compiler the compiler used for the parse tree (may be <code>null</code>)
+	 * @param compileThreshold the number of evaluations before compiling, a negative value disables compilation
+	 */
+	public TreeValueExpression(TreeStore store, FunctionMapper functions, VariableMapper variables, TypeConverter converter, String expr, Class<?> type,
+			AstCompiler compiler, int compileThreshold) {
 		super();
 
 		Tree tree = store.get(expr);
@@ -75,6 +96,8 @@ public final class TreeValueExpression extends ValueExpression {
 		this.type = type;
 		this.node = tree.getRoot();
 		this.deferred = tree.isDeferred();
+		this.compiler = compileThreshold >= 0 ? compiler : null;
+		this.compileThreshold = compileThreshold;
 		
 		if (type == null) {
 			throw new NullPointerException(LocalMessages.get("error.value.notype"));
@@ -119,9 +142,23 @@ public final class TreeValueExpression extends ValueExpression {
    */
 	@Override
 	public Object getValue(ELContext context) throws ELException {
+		if (compiler != null) {
+			countEvaluation();
+		}
 		return node.getValue(bindings, context, type);
 	}
 
+	private void countEvaluation() {
+		// The count is not synchronized: concurrent evaluations can only delay the compilation or compile the tree twice
+		if (evaluationCount++ >= compileThreshold) {
+			AstCompiler currentCompiler = compiler;
+			if (currentCompiler != null) {
+				node = currentCompiler.compile(node);
+				compiler = null;
+			}
+		}
+	}
+
 	/**
    * Evaluates the expression as an lvalue and determines if {@link #setValue(ELContext, Object)}
    * will always fail.
@@ -0,0 +1,62 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast;
+
+import org.flowable.common.engine.impl.de.odysseus.el.misc.LocalMessages;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.javax.el.BeanELResolver.ResolvedMethod;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
+
+/**
+ * {@link AstDot} created by the {@link AstCompiler}. Reading the property invokes the getter of the last
+ * receiver type directly instead of resolving it through the resolver chain.
+ */
+public class AstCompiledDot extends AstDot {
+
+	private static final Object[] NO_PARAMS = new Object[0];
+
+	private final MethodHandleLinker linker = new MethodHandleLinker();
+
+	public AstCompiledDot(AstNode base, String property, boolean lvalue, boolean ignoreReturnType) {
+		super(base, property, lvalue, ignoreReturnType);
+	}
+
+	@Override
+	public Object eval(Bindings bindings, ELContext context) {
+		Object base = prefix.eval(bindings, context);
+		if (base == null) {
+			return null;
+		}
+		MethodHandleBinding binding = linker.getBinding(base);
+		if (binding != null) {
+			Object result = binding.invoke(context, base, NO_PARAMS);
+			context.setPropertyResolved(true);
+			return result;
+		}
+
+		context.setPropertyResolved(false);
+		ResolvedMethod resolvedMethod = linker.startResolving(context);
+		Object result;
+		try {
+			result = context.getELResolver().getValue(context, base, property);
+		} finally {
+			linker.stopResolving(context, resolvedMethod);
+		}
+		if (!context.isPropertyResolved()) {
+			throw new PropertyNotFoundException(LocalMessages.get("error.property.property.notfound", property, base));
+		}
+		linker.link(base.getClass(), resolvedMethod);
+		return result;
+	}
+}
@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast;
+
+import org.flowable.common.engine.impl.de.odysseus.el.misc.LocalMessages;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.javax.el.BeanELResolver.ResolvedMethod;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.MethodNotFoundException;
+import org.flowable.common.engine.impl.javax.el.PropertyNotFoundException;
+
+/**
+ * {@link AstMethod} on an {@link AstDot} created by the {@link AstCompiler}. The method of the last receiver type is
+ * invoked directly instead of looking it up through the resolver chain.
+ */
+public class AstCompiledMethod extends AstMethod {
+
+	private final AstDot dot;
+	private final AstParameters parameters;
+	private final MethodHandleLinker linker = new MethodHandleLinker();
+
+	public AstCompiledMethod(AstDot dot, AstParameters parameters) {
+		super(dot, parameters);
+		this.dot = dot;
+		this.parameters = parameters;
+	}
+
+	@Override
+	protected Object eval(Bindings bindings, ELContext context, boolean answerNullIfBaseIsNull) {
+		Object base = dot.getPrefix().eval(bindings, context);
+		if (base == null) {
+			if (answerNullIfBaseIsNull) {
+				return null;
+			}
+			throw new PropertyNotFoundException(LocalMessages.get("error.property.base.null", dot.getPrefix()));
+		}
+		Object[] paramValues = parameters.eval(bindings, context);
+		MethodHandleBinding binding = linker.getBinding(base);
+		if (binding != null) {
+			Object result = binding.invoke(context, base, paramValues);
+			context.setPropertyResolved(true);
+			return result;
+		}
+
+		context.setPropertyResolved(false);
+		ResolvedMethod resolvedMethod = linker.startResolving(context);
+		Object result;
+		try {
+			result = context.getELResolver().invoke(context, base, dot.property, null, paramValues);
+		} finally {
+			linker.stopResolving(context, resolvedMethod);
+		}
+		if (!context.isPropertyResolved()) {
+			throw new MethodNotFoundException(LocalMessages.get("error.property.method.notfound", dot.property, base.getClass()));
+		}
+		linker.link(base.getClass(), resolvedMethod);
+		return result;
+	}
+}
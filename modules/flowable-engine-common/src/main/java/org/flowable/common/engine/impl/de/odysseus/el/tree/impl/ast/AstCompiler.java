@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.common.engine.impl.de.odysseus.el.tree.ExpressionNode;
+
+/**
+ * Compiles a parsed expression tree into a tree in which property reads and method calls on beans are
+ * bound to the methods that were resolved for them, see {@link AstCompiledDot} and {@link AstCompiledMethod}.
+ * Operator nodes are copied with compiled children, all other nodes (identifiers, literals, functions and nodes of
+ * custom tree builders) are shared with the original tree.
+ * <p>
+ * The original tree is not modified, as it is shared through the tree cache of the expression factory.
+ */
+public class AstCompiler {
+
+	public ExpressionNode compile(ExpressionNode root) {
+		return root instanceof AstNode ? compile((AstNode) root) : root;
+	}
+
+	protected AstNode compile(AstNode node) {
+		Class<?> nodeClass = node.getClass();
+		if (nodeClass == AstEval.class) {
+			AstEval eval = (AstEval) node;
+			return new AstEval(compile(eval.getChild(0)), eval.isDeferred());
+
+		} else if (nodeClass == AstComposite.class) {
+			return new AstComposite(compileChildren(node));
+
+		} else if (nodeClass == AstDot.class) {
+			AstDot dot = (AstDot) node;
+			return new AstCompiledDot(compile(dot.prefix), dot.property, dot.lvalue, dot.ignoreReturnType);
+
+		} else if (nodeClass == AstBracket.class) {
+			AstBracket bracket = (AstBracket) node;
+			return new AstBracket(compile(bracket.prefix), compile(bracket.property), bracket.lvalue, bracket.strict, bracket.ignoreReturnType);
+
+		} else if (nodeClass == AstMethod.class) {
+			AstNode property = (AstNode) node.getChild(0);
+			AstParameters parameters = new AstParameters(compileChildren((AstNode) node.getChild(1)));
+			if (property.getClass() == AstDot.class) {
+				AstDot dot = (AstDot) property;
+				return new AstCompiledMethod(new AstDot(compile(dot.prefix), dot.property, dot.lvalue, dot.ignoreReturnType), parameters);
+			}
+			return new AstMethod((AstProperty) compile(property), parameters);
+
+		} else if (nodeClass == AstBinary.class) {
+			AstBinary binary = (AstBinary) node;
+			return new AstBinary(compile(binary.getChild(0)), compile(binary.getChild(1)), binary.getOperator());
+
+		} else if (nodeClass == AstUnary.class) {
+			AstUnary unary = (AstUnary) node;
+			return new AstUnary(compile(unary.getChild(0)), unary.getOperator());
+
+		} else if (nodeClass == AstChoice.class) {
+			AstChoice choice = (AstChoice) node;
+			return new AstChoice(compile(choice.getChild(0)), compile(choice.getChild(1)), compile(choice.getChild(2)));
+
+		} else if (nodeClass == AstNested.class) {
+			AstNested nested = (AstNested) node;
+			return new AstNested(compile(nested.getChild(0)));
+		}
+		return node;
+	}
+
+	protected List<AstNode> compileChildren(AstNode node) {
+		List<AstNode> children = new ArrayList<>(node.getCardinality());
+		for (int i = 0; i < node.getCardinality(); i++) {
+			children.add(compile((AstNode) node.getChild(i)));
+		}
+		return children;
+	}
+}
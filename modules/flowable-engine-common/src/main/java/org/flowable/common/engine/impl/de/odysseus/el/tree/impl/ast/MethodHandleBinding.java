@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.flowable.common.engine.impl.javax.el.BeanELResolver.ResolvedMethod;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.flowable.common.engine.impl.javax.el.ELException;
+import org.flowable.common.engine.impl.javax.el.ExpressionFactory;
+
+/**
+ * A method resolved by the {@link org.flowable.common.engine.impl.javax.el.BeanELResolver} for one receiver type,
+ * linked to a {@link MethodHandle} so that it can be invoked without going through the resolver chain again.
+ */
+final class MethodHandleBinding {
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private final Class<?> receiverType;
+	private final Class<?>[] parameterTypes;
+	private final ExpressionFactory expressionFactory;
+	private final MethodHandle invoker;
+
+	private MethodHandleBinding(Class<?> receiverType, Class<?>[] parameterTypes, ExpressionFactory expressionFactory, MethodHandle invoker) {
+		this.receiverType = receiverType;
+		this.parameterTypes = parameterTypes;
+		this.expressionFactory = expressionFactory;
+		this.invoker = invoker;
+	}
+
+	/**
+	 * @return the binding, or null if the resolved method cannot be linked (nothing resolved, varargs, not accessible)
+	 */
+	static MethodHandleBinding link(Class<?> receiverType, ResolvedMethod resolvedMethod) {
+		Method method = resolvedMethod.getMethod();
+		if (method == null || method.isVarArgs()) {
+			return null;
+		}
+		MethodHandle handle;
+		try {
+			handle = MethodHandles.lookup().unreflect(method);
+		} catch (IllegalAccessException e) {
+			return null;
+		}
+		if (Modifier.isStatic(method.getModifiers())) {
+			handle = MethodHandles.dropArguments(handle, 0, Object.class);
+		}
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		handle = handle.asSpreader(Object[].class, parameterTypes.length).asType(INVOKER_TYPE);
+		return new MethodHandleBinding(receiverType, parameterTypes, resolvedMethod.getExpressionFactory(), handle);
+	}
+
+	boolean matches(Object base) {
+		return base.getClass() == receiverType;
+	}
+
+	/**
+	 * Invoke the method, coercing the parameters the same way the bean resolver does.
+	 */
+	Object invoke(ELContext context, Object base, Object[] params) {
+		if (params.length != parameterTypes.length) {
+			throw new ELException("Bad argument count");
+		}
+		if (params.length > 0) {
+			ExpressionFactory factory = getExpressionFactory(context);
+			for (int i = 0; i < params.length; i++) {
+				if (params[i] != null || parameterTypes[i].isPrimitive()) {
+					params[i] = factory.coerceToType(params[i], parameterTypes[i]);
+				}
+			}
+		}
+		try {
+			return (Object) invoker.invokeExact(base, params);
+		} catch (Throwable t) {
+			throw new ELException(t);
+		}
+	}
+
+	private ExpressionFactory getExpressionFactory(ELContext context) {
+		Object factory = context.getContext(ExpressionFactory.class);
+		if (factory instanceof ExpressionFactory) {
+			return (ExpressionFactory) factory;
+		}
+		return expressionFactory;
+	}
+}
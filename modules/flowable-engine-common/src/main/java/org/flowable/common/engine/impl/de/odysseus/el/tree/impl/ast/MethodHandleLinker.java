@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast;
+
+import org.flowable.common.engine.impl.javax.el.BeanELResolver.ResolvedMethod;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+
+/**
+ * Keeps the {@link MethodHandleBinding} of a compiled node. The binding is learned from the method the bean resolver
+ * used for the last receiver type, and is replaced when the node sees another receiver type. Nodes that keep seeing
+ * new receiver types, or that are resolved by other resolvers, stop linking after {@link #MAX_LINK_ATTEMPTS}.
+ */
+final class MethodHandleLinker {
+
+	static final int MAX_LINK_ATTEMPTS = 8;
+
+	private volatile MethodHandleBinding binding;
+	private volatile int linkAttempts;
+
+	/**
+	 * @return the binding for the type of the given base, or null if the resolver chain needs to be used
+	 */
+	MethodHandleBinding getBinding(Object base) {
+		MethodHandleBinding current = binding;
+		return current != null && current.matches(base) ? current : null;
+	}
+
+	/**
+	 * Registers a new {@link ResolvedMethod} in the context before calling the resolver chain.
+	 *
+	 * @return the registered method, or null when this node no longer links
+	 */
+	ResolvedMethod startResolving(ELContext context) {
+		if (linkAttempts >= MAX_LINK_ATTEMPTS) {
+			return null;
+		}
+		ResolvedMethod resolvedMethod = new ResolvedMethod();
+		context.putContext(ResolvedMethod.class, resolvedMethod);
+		return resolvedMethod;
+	}
+
+	void stopResolving(ELContext context, ResolvedMethod resolvedMethod) {
+		if (resolvedMethod != null) {
+			context.putContext(ResolvedMethod.class, null);
+		}
+	}
+
+	void link(Class<?> receiverType, ResolvedMethod resolvedMethod) {
+		if (resolvedMethod != null) {
+			linkAttempts++;
+			MethodHandleBinding newBinding = MethodHandleBinding.link(receiverType, resolvedMethod);
+			if (newBinding != null) {
+				binding = newBinding;
+			}
+		}
+	}
+}
@@ -20,6 +20,7 @@ import org.flowable.common.engine.api.delegate.Expression;
 import org.flowable.common.engine.api.delegate.FlowableExpressionEnhancer;
 import org.flowable.common.engine.api.delegate.FlowableFunctionDelegate;
 import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
 import org.flowable.common.engine.impl.javax.el.BeanELResolver;
 import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
@@ -49,9 +50,13 @@ public class DefaultExpressionManager implements ExpressionManager {
 
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
+
+    // The resolvers are shared by all evaluations, the evaluation specific state is kept in the FlowableElContext
+    protected volatile ELResolver elResolver;
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
+    protected int expressionCompileThreshold = -1;
     
     public DefaultExpressionManager() {
         this(null);
@@ -105,17 +110,36 @@ public class DefaultExpressionManager implements ExpressionManager {
 
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
+        configureExpressionCompileThreshold();
+    }
+
+    protected void configureExpressionCompileThreshold() {
+        if (expressionFactory instanceof ExpressionFactoryImpl) {
+            ((ExpressionFactoryImpl) expressionFactory).setCompileThreshold(expressionCompileThreshold);
+        }
     }
     
     @Override
     public ELContext getElContext(VariableContainer variableContainer) {
-        ELResolver elResolver = createElResolver(variableContainer);
-        return new FlowableElContext(elResolver, functionDelegates);
+        return new FlowableElContext(getElResolver(), functionDelegates, variableContainer);
     }
-    
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
+
+    protected ELResolver getElResolver() {
+        ELResolver resolver = elResolver;
+        if (resolver == null) {
+            resolver = createElResolver();
+            elResolver = resolver;
+        }
+        return resolver;
+    }
+
+    /**
+     * Creates the resolver chain that is shared by all expression evaluations. The resolvers cannot keep any evaluation specific state,
+     * the {@link VariableContainer} of an evaluation is available through the {@link FlowableElContext}.
+     */
+    protected ELResolver createElResolver() {
         List<ELResolver> elResolvers = new ArrayList<>();
-        elResolvers.add(createVariableElResolver(variableContainer));
+        elResolvers.add(createVariableElResolver());
         if (beans != null) {
             elResolvers.add(new ReadOnlyMapELResolver(beans));
         }
@@ -142,8 +166,8 @@ public class DefaultExpressionManager implements ExpressionManager {
         // to be extended if needed
     }
 
-    protected ELResolver createVariableElResolver(VariableContainer variableContainer) {
-        return new VariableContainerELResolver(variableContainer);
+    protected ELResolver createVariableElResolver() {
+        return new VariableContainerELResolver();
     }
     
     protected ELResolver createBeanElResolver() {
@@ -158,6 +182,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public void setBeans(Map<Object, Object> beans) {
         this.beans = beans;
+        this.elResolver = null;
     }
 
     @Override
@@ -195,5 +220,19 @@ public class DefaultExpressionManager implements ExpressionManager {
     public void setExpressionTextLengthCacheLimit(int expressionTextLengthCacheLimit) {
         this.expressionTextLengthCacheLimit = expressionTextLengthCacheLimit;
     }
+
+    public int getExpressionCompileThreshold() {
+        return expressionCompileThreshold;
+    }
+
+    /**
+     * Sets the number of evaluations after which an expression is compiled, so that the bean properties and methods it uses
+     * are invoked directly instead of being resolved on every evaluation. A negative value disables compilation.
+     * This is only useful together with the expression cache, as the evaluations are counted per expression instance.
+     */
+    public void setExpressionCompileThreshold(int expressionCompileThreshold) {
+        this.expressionCompileThreshold = expressionCompileThreshold;
+        configureExpressionCompileThreshold();
+    }
     
 }
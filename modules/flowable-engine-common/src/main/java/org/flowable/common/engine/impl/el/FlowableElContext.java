@@ -15,12 +15,16 @@ package org.flowable.common.engine.impl.el;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.FlowableFunctionDelegate;
+import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
 import org.flowable.common.engine.impl.javax.el.FunctionMapper;
 import org.flowable.common.engine.impl.javax.el.VariableMapper;
 
 /**
+ * The context of one expression evaluation. The {@link ELResolver} is shared by all evaluations,
+ * the {@link VariableContainer} the expression is evaluated against is kept in the context.
+ *
  * @author Tom Baeyens
  * @author Joram Barrez
  */
@@ -28,10 +32,18 @@ public class FlowableElContext extends ELContext {
 
     protected ELResolver elResolver;
     protected List<FlowableFunctionDelegate> functionDelegates;
+    protected FunctionMapper functionMapper;
+    protected VariableContainer variableContainer;
+    protected EvaluationState evaluationState;
 
     public FlowableElContext(ELResolver elResolver, List<FlowableFunctionDelegate> functionDelegates) {
+        this(elResolver, functionDelegates, null);
+    }
+
+    public FlowableElContext(ELResolver elResolver, List<FlowableFunctionDelegate> functionDelegates, VariableContainer variableContainer) {
         this.elResolver = elResolver;
         this.functionDelegates = functionDelegates;
+        this.variableContainer = variableContainer;
     }
 
     @Override
@@ -41,11 +53,42 @@ public class FlowableElContext extends ELContext {
 
     @Override
     public FunctionMapper getFunctionMapper() {
-        return new FlowableFunctionMapper(functionDelegates);
+        if (functionMapper == null) {
+            functionMapper = new FlowableFunctionMapper(functionDelegates);
+        }
+        return functionMapper;
     }
 
     @Override
     public VariableMapper getVariableMapper() {
         return null;
     }
+
+    public VariableContainer getVariableContainer() {
+        return variableContainer;
+    }
+
+    // The variable container and the evaluation state are set for every evaluation,
+    // they are kept in fields to avoid creating the context map of the ELContext
+
+    @Override
+    public Object getContext(Class<?> key) {
+        if (key == VariableContainer.class) {
+            return variableContainer;
+        } else if (key == EvaluationState.class) {
+            return evaluationState;
+        }
+        return super.getContext(key);
+    }
+
+    @Override
+    public void putContext(Class<?> key, Object contextObject) {
+        if (key == VariableContainer.class) {
+            variableContainer = (VariableContainer) contextObject;
+        } else if (key == EvaluationState.class) {
+            evaluationState = (EvaluationState) contextObject;
+        } else {
+            super.putContext(key, contextObject);
+        }
+    }
 }
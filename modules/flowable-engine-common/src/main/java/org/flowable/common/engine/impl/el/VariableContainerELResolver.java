@@ -19,8 +19,13 @@ import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.identity.Authentication;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
 
 /**
+ * Resolves the variables of the {@link VariableContainer} an expression is evaluated against.
+ * The resolver is shared by all evaluations, the variable container is taken from the {@link ELContext}.
+ *
  * @author Joram Barrez
  */
 public class VariableContainerELResolver extends ELResolver {
@@ -28,12 +33,14 @@ public class VariableContainerELResolver extends ELResolver {
     public static final String VARIABLE_CONTAINER_KEY = "variableContainer";
     public static final String LOGGED_IN_USER_KEY = "authenticatedUserId";
 
-    protected VariableContainer variableContainer;
-
-    public VariableContainerELResolver(VariableContainer variableContainer) {
-        this.variableContainer = variableContainer;
+    protected VariableContainer getVariableContainer(ELContext context) {
+        if (context instanceof FlowableElContext) {
+            return ((FlowableElContext) context).getVariableContainer();
+        }
+        Object variableContainer = context.getContext(VariableContainer.class);
+        return variableContainer instanceof VariableContainer ? (VariableContainer) variableContainer : null;
     }
-    
+
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
         if (base == null) {
@@ -41,11 +48,31 @@ public class VariableContainerELResolver extends ELResolver {
             if (LOGGED_IN_USER_KEY.equals(property)) {
                 context.setPropertyResolved(true);
                 return Authentication.getAuthenticatedUserId();
+            }
 
-            } else if (variableContainer.hasVariable(variable)) {
-                context.setPropertyResolved(true); // if not set, the next elResolver in the CompositeElResolver will be called
-                return variableContainer.getVariable(variable);
-            } else if (VARIABLE_CONTAINER_KEY.equals(property)) {
+            VariableContainer variableContainer = getVariableContainer(context);
+            if (variableContainer == null) {
+                return null;
+            }
+
+            if (variableContainer instanceof VariableScope) {
+                // A single lookup: the variable instance tells a variable with a null value apart from a missing variable
+                VariableInstance variableInstance = ((VariableScope) variableContainer).getVariableInstance(variable);
+                if (variableInstance != null) {
+                    context.setPropertyResolved(true); // if not set, the next elResolver in the CompositeElResolver will be called
+                    return variableInstance.getValue();
+                }
+
+            } else {
+                // Only variables with a null value need a second lookup to know whether the variable exists
+                Object value = variableContainer.getVariable(variable);
+                if (value != null || variableContainer.hasVariable(variable)) {
+                    context.setPropertyResolved(true); // if not set, the next elResolver in the CompositeElResolver will be called
+                    return value;
+                }
+            }
+
+            if (VARIABLE_CONTAINER_KEY.equals(property)) {
                 context.setPropertyResolved(true); // if not set, the next elResolver in the CompositeElResolver will be called
                 return variableContainer;
             }
@@ -57,7 +84,8 @@ public class VariableContainerELResolver extends ELResolver {
     public boolean isReadOnly(ELContext context, Object base, Object property) {
         if (base == null) {
             String variable = (String) property;
-            return !variableContainer.hasVariable(variable);
+            VariableContainer variableContainer = getVariableContainer(context);
+            return variableContainer == null || !variableContainer.hasVariable(variable);
         }
         return true;
     }
@@ -66,7 +94,8 @@ public class VariableContainerELResolver extends ELResolver {
     public void setValue(ELContext context, Object base, Object property, Object value) {
         if (base == null) {
             String variable = (String) property;
-            if (variableContainer.hasVariable(variable)) {
+            VariableContainer variableContainer = getVariableContainer(context);
+            if (variableContainer != null && variableContainer.hasVariable(variable)) {
                 context.setPropertyResolved(true);
                 variableContainer.setVariable(variable, value);
             }
@@ -25,6 +25,7 @@ public class CommandConfig {
 
     private boolean contextReusePossible;
     private TransactionPropagation propagation;
+    private boolean staleReadAllowed;
 
     public CommandConfig() {
         this.contextReusePossible = true;
@@ -44,6 +45,7 @@ public class CommandConfig {
     protected CommandConfig(CommandConfig commandConfig) {
         this.contextReusePossible = commandConfig.contextReusePossible;
         this.propagation = commandConfig.propagation;
+        this.staleReadAllowed = commandConfig.staleReadAllowed;
     }
 
     public boolean isContextReusePossible() {
@@ -54,6 +56,10 @@ public class CommandConfig {
         return propagation;
     }
 
+    public boolean isStaleReadAllowed() {
+        return staleReadAllowed;
+    }
+
     public CommandConfig setContextReusePossible(boolean contextReusePossible) {
         CommandConfig config = new CommandConfig(this);
         config.contextReusePossible = contextReusePossible;
@@ -79,4 +85,18 @@ public class CommandConfig {
         config.propagation = TransactionPropagation.NOT_SUPPORTED;
         return config;
     }
+
+    /**
+     * Allows the command to read from the read-only data source (e.g. a read replica) when one is configured and the command
+     * is not executed within an existing command context or transaction. Only to be used for commands that don't write any data.
+     */
+    public CommandConfig staleReadAllowed() {
+        return setStaleReadAllowed(true);
+    }
+
+    public CommandConfig setStaleReadAllowed(boolean staleReadAllowed) {
+        CommandConfig config = new CommandConfig(this);
+        config.staleReadAllowed = staleReadAllowed;
+        return config;
+    }
 }
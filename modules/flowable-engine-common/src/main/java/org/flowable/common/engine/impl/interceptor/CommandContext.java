@@ -42,6 +42,7 @@ public class CommandContext {
     protected List<CommandContextCloseListener> closeListeners;
     protected Map<String, Object> attributes; // General-purpose storing of anything during the lifetime of a command context
     protected boolean reused;
+    protected boolean staleReadAllowed;
     protected LinkedList<Object> resultStack = new LinkedList<>(); // needs to be a stack, as JavaDelegates can do api calls again
 
     public CommandContext(Command<?> command) {
@@ -142,8 +143,9 @@ public class CommandContext {
     protected void executeCloseListenersClosing() {
         if (closeListeners != null) {
             try {
-                for (CommandContextCloseListener listener : closeListeners) {
-                    listener.closing(this);
+                // Listeners can be added by the listeners themselves (e.g. when they look up data), so no iterator is used
+                for (int i = 0; i < closeListeners.size(); i++) {
+                    closeListeners.get(i).closing(this);
                 }
             } catch (Throwable exception) {
                 exception(exception);
@@ -154,8 +156,9 @@ public class CommandContext {
     protected void executeCloseListenersAfterSessionFlushed() {
         if (closeListeners != null) {
             try {
-                for (CommandContextCloseListener listener : closeListeners) {
-                    listener.afterSessionsFlush(this);
+                // Listeners can be added by the listeners themselves (e.g. when they look up data), so no iterator is used
+                for (int i = 0; i < closeListeners.size(); i++) {
+                    closeListeners.get(i).afterSessionsFlush(this);
                 }
             } catch (Throwable exception) {
                 exception(exception);
@@ -166,8 +169,9 @@ public class CommandContext {
     protected void executeCloseListenersClosed() {
         if (closeListeners != null) {
             try {
-                for (CommandContextCloseListener listener : closeListeners) {
-                    listener.closed(this);
+                // Listeners can be added by the listeners themselves (e.g. when they look up data), so no iterator is used
+                for (int i = 0; i < closeListeners.size(); i++) {
+                    closeListeners.get(i).closed(this);
                 }
             } catch (Throwable exception) {
                 exception(exception);
@@ -178,8 +182,9 @@ public class CommandContext {
     protected void executeCloseListenersCloseFailure() {
         if (closeListeners != null) {
             try {
-                for (CommandContextCloseListener listener : closeListeners) {
-                    listener.closeFailure(this);
+                // Listeners can be added by the listeners themselves (e.g. when they look up data), so no iterator is used
+                for (int i = 0; i < closeListeners.size(); i++) {
+                    closeListeners.get(i).closeFailure(this);
                 }
             } catch (Throwable exception) {
                 exception(exception);
@@ -303,6 +308,14 @@ public class CommandContext {
     public void setReused(boolean reused) {
         this.reused = reused;
     }
+
+    public boolean isStaleReadAllowed() {
+        return staleReadAllowed;
+    }
+
+    public void setStaleReadAllowed(boolean staleReadAllowed) {
+        this.staleReadAllowed = staleReadAllowed;
+    }
     
     public Object getResult() {
         return resultStack.pollLast();
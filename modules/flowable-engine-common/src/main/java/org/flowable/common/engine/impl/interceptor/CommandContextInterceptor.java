@@ -55,6 +55,8 @@ public class CommandContextInterceptor extends AbstractCommandInterceptor {
         if (!config.isContextReusePossible() || commandContext == null || commandContext.getException() != null) {
             commandContext = commandContextFactory.createCommandContext(command);
             commandContext.setEngineConfigurations(engineConfigurations);
+            // A reused context keeps reading from the primary data source, it might have written data that isn't replicated yet
+            commandContext.setStaleReadAllowed(config.isStaleReadAllowed());
             
         } else {
             LOGGER.debug("Valid context found. Reusing it for the current command '{}'", command.getClass().getCanonicalName());
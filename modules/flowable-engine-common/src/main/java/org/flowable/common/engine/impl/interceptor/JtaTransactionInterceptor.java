@@ -46,6 +46,12 @@ public class JtaTransactionInterceptor extends AbstractCommandInterceptor {
     public <T> T execute(CommandConfig config, Command<T> command) {
         LOGGER.debug("Running command with propagation {}", config.getTransactionPropagation());
 
+        if (config.isStaleReadAllowed() && isExisting()) {
+            // A query within an existing transaction needs to see the data written by that transaction,
+            // which isn't available on the read-only data source
+            config = config.setStaleReadAllowed(false);
+        }
+
         if (config.getTransactionPropagation() == TransactionPropagation.NOT_SUPPORTED) {
             return next.execute(config, command);
         }
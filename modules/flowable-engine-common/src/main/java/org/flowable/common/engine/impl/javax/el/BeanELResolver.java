@@ -145,6 +145,32 @@ public class BeanELResolver extends ELResolver {
 		return result;
 	}
 
+	/**
+	 * When an instance of this class is put into the {@link ELContext} under its own class, the resolver records the method
+	 * it used to read a property or to invoke a method. This allows the caller to invoke the same method directly
+	 * for base objects of the same type.
+	 */
+	public static final class ResolvedMethod {
+		private Method method;
+		private ExpressionFactory expressionFactory;
+
+		public Method getMethod() {
+			return method;
+		}
+
+		/**
+		 * @return the factory used to coerce the parameters of an invoked method, or null when a property was read
+		 */
+		public ExpressionFactory getExpressionFactory() {
+			return expressionFactory;
+		}
+
+		void record(Method method, ExpressionFactory expressionFactory) {
+			this.method = method;
+			this.expressionFactory = expressionFactory;
+		}
+	}
+
 	private final boolean readOnly;
 	private final ConcurrentHashMap<Class<?>, BeanProperties> cache;
 	
@@ -334,6 +360,7 @@ public class BeanELResolver extends ELResolver {
 						throw new ELException(e);
 					}
 					context.setPropertyResolved(true);
+					recordResolvedMethod(context, method, null);
 				}
 			}
 		}
@@ -512,18 +539,27 @@ public class BeanELResolver extends ELResolver {
 			if (target == null) {
 				throw new MethodNotFoundException("Cannot find method " + name + " with " + params.length + " parameters in " + base.getClass());
 			}
+			ExpressionFactory factory = getExpressionFactory(context);
 			try {
-				result = target.invoke(base, coerceParams(getExpressionFactory(context), target, params));
+				result = target.invoke(base, coerceParams(factory, target, params));
 			} catch (InvocationTargetException e) {
 				throw new ELException(e.getCause());
 			} catch (IllegalAccessException e) {
 				throw new ELException(e);
 			}
 			context.setPropertyResolved(true);
+			recordResolvedMethod(context, target, factory);
 		}
 		return result;
 	}
 
+	private void recordResolvedMethod(ELContext context, Method method, ExpressionFactory factory) {
+		Object resolvedMethod = context.getContext(ResolvedMethod.class);
+		if (resolvedMethod instanceof ResolvedMethod) {
+			((ResolvedMethod) resolvedMethod).record(method, factory);
+		}
+	}
+
     private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
 		if (types != null) {
 			try {
@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+import org.flowable.common.engine.impl.cfg.IdGenerator;
+
+/**
+ * {@link IdGenerator} implementation that generates time ordered UUIDs, using the version 7 layout.
+ *
+ * The UUIDs start with the current time in milliseconds, so ids generated later sort after ids generated earlier, both as string and in the database.
+ * New rows are therefore inserted at the end of the primary key indexes, instead of being scattered over the whole index
+ * as with random or {@link StrongUuidGenerator time based (version 1)} UUIDs.
+ *
+ * Each thread generates its ids without any locking or database access: the time is followed by a counter for the ids generated by the thread
+ * in the same millisecond and by random bits that are picked once per thread, which keeps the ids unique across threads and across the engines of a cluster.
+ * This generator can be used by all engines, see {@link org.flowable.common.engine.impl.AbstractEngineConfiguration#setIdGenerator(IdGenerator)}.
+ */
+public class TimeOrderedUuidGenerator implements IdGenerator {
+
+    protected static final SecureRandom RANDOM = new SecureRandom();
+
+    protected final ThreadLocal<TimeOrderedUuidState> threadState = ThreadLocal.withInitial(() -> new TimeOrderedUuidState(RANDOM.nextLong()));
+
+    @Override
+    public String getNextId() {
+        return threadState.get().nextUuid(System.currentTimeMillis()).toString();
+    }
+
+    protected static class TimeOrderedUuidState {
+
+        protected static final int MAX_SEQUENCE = 0xFFF;
+
+        protected final long leastSignificantBits;
+        protected long timestamp = -1;
+        protected int sequence;
+
+        public TimeOrderedUuidState(long randomBits) {
+            // IETF variant (10xx) followed by 62 random bits
+            this.leastSignificantBits = (randomBits & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        }
+
+        public UUID nextUuid(long currentTimeMillis) {
+            if (currentTimeMillis > timestamp) {
+                timestamp = currentTimeMillis;
+                sequence = 0;
+
+            } else if (++sequence > MAX_SEQUENCE) {
+                // More ids than fit into one millisecond (or the clock went back): continue in the next millisecond,
+                // the real time will catch up with it
+                timestamp++;
+                sequence = 0;
+            }
+
+            // 48 bits timestamp, version 7, 12 bits sequence
+            long mostSignificantBits = (timestamp << 16) | 0x7000L | sequence;
+            return new UUID(mostSignificantBits, leastSignificantBits);
+        }
+    }
+
+}
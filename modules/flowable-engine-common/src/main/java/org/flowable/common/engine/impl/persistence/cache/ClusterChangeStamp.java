@@ -0,0 +1,169 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
+
+/**
+ * A change stamp that is shared between all the nodes of a cluster, stored as a row in the ACT_GE_PROPERTY table.
+ *
+ * Node-local caches of data that only changes rarely (e.g. on deployment) use it to find out whether the data
+ * was changed, possibly by another node. The node changing the data calls {@link #markChanged(CommandContext)},
+ * and every node calls {@link #checkForChange(CommandContext)} before using its cache.
+ * The property is read at most once per check interval, which bounds the staleness of the caches on the other nodes.
+ * The node making the change sees it immediately after its transaction commits.
+ *
+ * The property is created when the engine is built (see {@link #createIfMissing(CommandContext)}), so marking a change
+ * is a single unconditional increment: it is not subject to the optimistic locking of the property entity, and unrelated
+ * changes made concurrently do not fail with an optimistic locking exception, they only wait for each other.
+ *
+ * The transactions that marked the stamp are tracked until they complete, so the caches are not used (or populated)
+ * with the uncommitted changes of such a transaction, also not by other commands sharing the transaction.
+ */
+public class ClusterChangeStamp {
+
+    protected static final String MARKED_CHANGED_ATTRIBUTE_PREFIX = "clusterChangeStamp.";
+
+    protected final String propertyName;
+    protected long checkIntervalInMillis;
+
+    protected volatile String knownValue;
+    protected volatile long nextCheckTime;
+
+    // Weakly referenced, so a transaction that never reports its completion isn't kept forever
+    protected final Set<TransactionContext> changingTransactions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public ClusterChangeStamp(String propertyName, long checkIntervalInMillis) {
+        this.propertyName = propertyName;
+        this.checkIntervalInMillis = checkIntervalInMillis;
+    }
+
+    /**
+     * @return true if the stamp changed since the previous check, in which case all data cached based on the stamp needs to be discarded
+     */
+    public boolean checkForChange(CommandContext commandContext) {
+        long now = System.currentTimeMillis();
+        if (now < nextCheckTime) {
+            return false;
+        }
+
+        PropertyEntity property = getPropertyEntityManager(commandContext).findById(propertyName);
+        String currentValue = property != null ? property.getValue() : null;
+
+        boolean changed = !Objects.equals(knownValue, currentValue);
+        knownValue = currentValue;
+        nextCheckTime = now + checkIntervalInMillis;
+        return changed;
+    }
+
+    /**
+     * Creates the property of the stamp if it does not exist yet.
+     */
+    public void createIfMissing(CommandContext commandContext) {
+        PropertyEntityManager propertyEntityManager = getPropertyEntityManager(commandContext);
+        if (propertyEntityManager.findById(propertyName) == null) {
+            insertProperty(propertyEntityManager);
+        }
+    }
+
+    /**
+     * @return true if the property of the stamp exists
+     */
+    public boolean exists(CommandContext commandContext) {
+        return getPropertyEntityManager(commandContext).findById(propertyName) != null;
+    }
+
+    /**
+     * Increments the stamp as part of the current transaction. Calling this multiple times in the same transaction only changes the stamp once.
+     */
+    public void markChanged(CommandContext commandContext) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            if (!changingTransactions.add(transactionContext)) {
+                return;
+            }
+
+        } else {
+            // Without a transaction context, e.g. for commands that don't support transactions, the command is the unit of change
+            String attributeName = MARKED_CHANGED_ATTRIBUTE_PREFIX + propertyName;
+            if (commandContext.getAttribute(attributeName) != null) {
+                return;
+            }
+            commandContext.addAttribute(attributeName, Boolean.TRUE);
+        }
+
+        int updatedRows = commandContext.getSession(DbSqlSession.class).update("incrementPropertyValue", propertyName);
+        if (updatedRows == 0) {
+            // Only when the engine was built without creating the property, e.g. because the stamp was set afterwards
+            insertProperty(getPropertyEntityManager(commandContext));
+        }
+
+        // Force a check on this node as soon as the change is visible for other transactions
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> {
+                changingTransactions.remove(transactionContext);
+                nextCheckTime = 0L;
+            });
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, context -> changingTransactions.remove(transactionContext));
+        } else {
+            nextCheckTime = 0L;
+        }
+    }
+
+    /**
+     * @return true if the stamp was changed in the current transaction of the given command, i.e. the data cached based on the stamp
+     *         must not be used (or cached) until the transaction completes
+     */
+    public boolean isChangedIn(CommandContext commandContext) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            return changingTransactions.contains(transactionContext);
+        }
+        return commandContext.getAttribute(MARKED_CHANGED_ATTRIBUTE_PREFIX + propertyName) != null;
+    }
+
+    protected void insertProperty(PropertyEntityManager propertyEntityManager) {
+        PropertyEntity property = propertyEntityManager.create();
+        property.setName(propertyName);
+        property.setValue("1");
+        propertyEntityManager.insert(property);
+    }
+
+    protected PropertyEntityManager getPropertyEntityManager(CommandContext commandContext) {
+        return commandContext.getCurrentEngineConfiguration().getPropertyEntityManager();
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    public long getCheckIntervalInMillis() {
+        return checkIntervalInMillis;
+    }
+
+    public void setCheckIntervalInMillis(long checkIntervalInMillis) {
+        this.checkIntervalInMillis = checkIntervalInMillis;
+    }
+
+}
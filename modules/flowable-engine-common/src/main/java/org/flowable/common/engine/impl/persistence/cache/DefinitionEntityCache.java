@@ -0,0 +1,255 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
+
+/**
+ * Second-level cache for definition and deployment entities, shared by all commands of an engine.
+ *
+ * After deployment, these entities hardly ever change (e.g. suspension state and category). The data managers of these entities
+ * (see {@link org.flowable.common.engine.impl.db.AbstractDataManager#getDefinitionEntityCache()}) first look up an entity
+ * by its id or key in this cache, and only go to the database when it isn't cached. Every command gets its own copy of a cached entity.
+ * The copy is added to the {@link EntityCache} of the command, so changes to it are flushed as usual.
+ *
+ * The cache is validated with a {@link ClusterChangeStamp}. When a command inserts, changes or deletes an entity of a cached type,
+ * it marks the stamp as changed. The caches of all nodes are then cleared when they next check the stamp,
+ * which happens at most once per check interval. Until a transaction that changed the stamp completes, its commands
+ * neither use nor populate the cache, as the entities they read might contain uncommitted changes.
+ *
+ * Runtime entities should not be cached here: they change all the time.
+ */
+public class DefinitionEntityCache {
+
+    protected static final String TRACKED_ENTITY_CLASSES_ATTRIBUTE_PREFIX = "definitionEntityCache.";
+
+    protected final ClusterChangeStamp changeStamp;
+    protected final DeploymentCache<Entity> cache;
+
+    // Incremented when the cache is cleared, so an entity read from the database before the cache was cleared isn't cached afterwards
+    protected long generation;
+
+    public DefinitionEntityCache(ClusterChangeStamp changeStamp, int limit) {
+        this(changeStamp, limit > 0 ? new DefaultDeploymentCache<>(limit) : new DefaultDeploymentCache<>());
+    }
+
+    public DefinitionEntityCache(ClusterChangeStamp changeStamp, DeploymentCache<Entity> cache) {
+        this.changeStamp = changeStamp;
+        this.cache = cache;
+    }
+
+    /**
+     * Returns the entity cached for the given key, or loads it with the given loader and caches it.
+     *
+     * @param entityClass the entity class, together with the key it identifies the cached entity
+     * @param key the key of the lookup, e.g. the id of the entity, or the key of the latest version of a definition
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T find(CommandContext commandContext, Class<? extends T> entityClass, String key, Supplier<T> loader) {
+        trackChanges(commandContext, entityClass);
+
+        if (changeStamp.checkForChange(commandContext)) {
+            clear();
+        }
+
+        if (changeStamp.isChangedIn(commandContext)) {
+            return loader.get();
+        }
+
+        String cacheKey = entityClass.getName() + '|' + key;
+        Entity cachedEntity = cache.get(cacheKey);
+        if (cachedEntity != null) {
+            // The command might already have its own (possibly changed) instance of the entity
+            EntityCache entityCache = commandContext.getSession(EntityCache.class);
+            T entity = (T) entityCache.findInCache(cachedEntity.getClass(), cachedEntity.getId());
+            if (entity == null) {
+                entity = (T) copy(cachedEntity);
+                entityCache.put(entity, true);
+            }
+            return entity;
+        }
+
+        long currentGeneration = getGeneration();
+        T entity = loader.get();
+        // The stamp might have been marked while loading
+        if (entity != null && isUnchanged(entity) && !changeStamp.isChangedIn(commandContext)) {
+            Entity snapshot = copy(entity);
+            synchronized (this) {
+                if (generation == currentGeneration) {
+                    cache.add(cacheKey, snapshot);
+                }
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Makes sure changes to the entities of the given type in the current command mark the change stamp as changed.
+     * Changes to loaded entities are only known when the command is closed, so this needs to be called whenever entities of the type are loaded.
+     */
+    @SuppressWarnings("unchecked")
+    public void trackChanges(CommandContext commandContext, Class<?> entityClass) {
+        String attributeName = TRACKED_ENTITY_CLASSES_ATTRIBUTE_PREFIX + changeStamp.getPropertyName();
+        Set<Class<?>> trackedEntityClasses = (Set<Class<?>>) commandContext.getAttribute(attributeName);
+        if (trackedEntityClasses == null) {
+            trackedEntityClasses = new HashSet<>();
+            commandContext.addAttribute(attributeName, trackedEntityClasses);
+            commandContext.addCloseListener(new ChangeTrackingCloseListener(trackedEntityClasses));
+        }
+        trackedEntityClasses.add(entityClass);
+    }
+
+    /**
+     * Marks the change stamp as changed in the current transaction, e.g. for bulk updates and deletes that don't go through the {@link EntityCache}.
+     */
+    public void markChanged(CommandContext commandContext) {
+        if (changeStamp.isChangedIn(commandContext)) {
+            return;
+        }
+        changeStamp.markChanged(commandContext);
+
+        // Entities cached by other commands in the same (rolled back) transaction might contain the changes
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, context -> clear());
+        }
+    }
+
+    public void clear() {
+        synchronized (this) {
+            generation++;
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    protected synchronized long getGeneration() {
+        return generation;
+    }
+
+    protected boolean isUnchanged(Entity entity) {
+        return !entity.isInserted() && !entity.isUpdated() && !entity.isDeleted()
+                && Objects.equals(entity.getPersistentState(), entity.getOriginalPersistentState());
+    }
+
+    protected boolean hasChanges(CommandContext commandContext, Set<Class<?>> entityClasses) {
+        EntityCache entityCache = commandContext.getSession(EntityCache.class);
+        for (Class<?> entityClass : entityClasses) {
+            Collection<CachedEntity> cachedEntities = entityCache.findInCacheAsCachedObjects(entityClass);
+            if (cachedEntities != null) {
+                for (CachedEntity cachedEntity : cachedEntities) {
+                    Entity entity = cachedEntity.getEntity();
+                    if (entity.isInserted() || entity.isDeleted() || cachedEntity.hasChanged()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates a shallow copy of the entity. Collections and maps (e.g. the resources of a deployment) are not copied,
+     * the copy loads them again when they are needed.
+     */
+    protected Entity copy(Entity entity) {
+        try {
+            Entity copy = entity.getClass().getDeclaredConstructor().newInstance();
+            for (Class<?> type = entity.getClass(); type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || !isCopied(field)) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    field.set(copy, field.get(entity));
+                }
+            }
+            return copy;
+
+        } catch (ReflectiveOperationException e) {
+            throw new FlowableException("Could not copy cached entity " + entity, e);
+        }
+    }
+
+    /**
+     * Collections and maps aren't copied, and neither are the flags that mark them as loaded (e.g. isIdentityLinksInitialized
+     * of a definition). Otherwise the copy would return an empty collection instead of loading it.
+     */
+    protected boolean isCopied(Field field) {
+        Class<?> fieldType = field.getType();
+        if (Collection.class.isAssignableFrom(fieldType) || Map.class.isAssignableFrom(fieldType)) {
+            return false;
+        }
+        return fieldType != boolean.class || !field.getName().endsWith("Initialized");
+    }
+
+    public ClusterChangeStamp getChangeStamp() {
+        return changeStamp;
+    }
+
+    public DeploymentCache<Entity> getCache() {
+        return cache;
+    }
+
+    protected class ChangeTrackingCloseListener implements CommandContextCloseListener {
+
+        protected final Set<Class<?>> trackedEntityClasses;
+
+        public ChangeTrackingCloseListener(Set<Class<?>> trackedEntityClasses) {
+            this.trackedEntityClasses = trackedEntityClasses;
+        }
+
+        @Override
+        public void closing(CommandContext commandContext) {
+            // Called before the sessions are flushed, so the change of the stamp is part of the same transaction
+            if (commandContext.getException() == null && !changeStamp.isChangedIn(commandContext) && hasChanges(commandContext, trackedEntityClasses)) {
+                markChanged(commandContext);
+            }
+        }
+
+        @Override
+        public void afterSessionsFlush(CommandContext commandContext) {
+        }
+
+        @Override
+        public void closed(CommandContext commandContext) {
+        }
+
+        @Override
+        public void closeFailure(CommandContext commandContext) {
+        }
+
+    }
+
+}
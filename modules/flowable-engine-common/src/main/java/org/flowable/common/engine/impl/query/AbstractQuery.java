@@ -37,6 +37,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
 
     protected transient CommandExecutor commandExecutor;
     protected transient CommandContext commandContext;
+    protected boolean staleReadAllowed;
 
     protected AbstractQuery() {
         parameter = this;
@@ -70,6 +71,13 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         return (T) this;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public T allowStaleRead() {
+        this.staleReadAllowed = true;
+        return (T) this;
+    }
+
     @Override
     public T asc() {
         return direction(Direction.ASCENDING);
@@ -102,7 +110,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public U singleResult() {
         this.resultType = ResultType.SINGLE_RESULT;
         if (commandExecutor != null) {
-            return (U) commandExecutor.execute(this);
+            return (U) executeCommand();
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
@@ -114,7 +122,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public List<U> list() {
         this.resultType = ResultType.LIST;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) executeCommand();
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
@@ -128,7 +136,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         this.maxResults = maxResults;
         this.resultType = ResultType.LIST_PAGE;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) executeCommand();
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
@@ -139,13 +147,20 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public long count() {
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
-            return (Long) commandExecutor.execute(this);
+            return (Long) executeCommand();
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
         return executeCount(Context.getCommandContext());
     }
 
+    protected Object executeCommand() {
+        if (staleReadAllowed) {
+            return commandExecutor.execute(commandExecutor.getDefaultConfig().staleReadAllowed(), this);
+        }
+        return commandExecutor.execute(this);
+    }
+
     @Override
     public Object execute(CommandContext commandContext) {
         checkQueryOk();
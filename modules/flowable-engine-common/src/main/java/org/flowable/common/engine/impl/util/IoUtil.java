@@ -47,6 +47,28 @@ public class IoUtil {
         return outputStream.toByteArray();
     }
 
+    /**
+     * Copies the given input stream to the given output stream, without holding more than a small buffer in memory.
+     * Neither of the streams is closed.
+     *
+     * @return the number of bytes copied
+     */
+    public static long copyInputStream(InputStream inputStream, OutputStream outputStream, String inputStreamName) {
+        byte[] buffer = new byte[16 * 1024];
+        long bytesCopied = 0;
+        try {
+            int bytesRead = inputStream.read(buffer);
+            while (bytesRead != -1) {
+                outputStream.write(buffer, 0, bytesRead);
+                bytesCopied += bytesRead;
+                bytesRead = inputStream.read(buffer);
+            }
+        } catch (Exception e) {
+            throw new FlowableException("couldn't copy input stream " + inputStreamName, e);
+        }
+        return bytesCopied;
+    }
+
     public static String readFileAsString(String filePath) {
         byte[] buffer = new byte[(int) getFile(filePath).length()];
         BufferedInputStream inputStream = null;
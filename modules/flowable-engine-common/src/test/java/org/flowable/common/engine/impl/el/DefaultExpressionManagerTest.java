@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.javax.el.ELContext;
+import org.junit.jupiter.api.Test;
+
+class DefaultExpressionManagerTest {
+
+    @Test
+    void elResolverIsSharedBetweenEvaluations() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+
+        ELContext firstContext = expressionManager.getElContext(new VariableContainerWrapper(new HashMap<>()));
+        ELContext secondContext = expressionManager.getElContext(new VariableContainerWrapper(new HashMap<>()));
+
+        assertThat(firstContext).isNotSameAs(secondContext);
+        assertThat(firstContext.getELResolver()).isSameAs(secondContext.getELResolver());
+    }
+
+    @Test
+    void variablesAreResolvedFromTheEvaluatedVariableContainer() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        Expression expression = expressionManager.createExpression("${name == null ? 'none' : name}");
+
+        Map<String, Object> firstVariables = new HashMap<>();
+        firstVariables.put("name", "John");
+        Map<String, Object> secondVariables = new HashMap<>();
+        secondVariables.put("name", null);
+
+        assertThat(expression.getValue(new VariableContainerWrapper(firstVariables))).isEqualTo("John");
+        assertThat(expression.getValue(new VariableContainerWrapper(secondVariables))).isEqualTo("none");
+    }
+
+    @Test
+    void variableContainerCanBeUsedInExpression() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        Expression expression = expressionManager.createExpression("${variableContainer.tenantId}");
+
+        VariableContainerWrapper variableContainer = new VariableContainerWrapper(new HashMap<>());
+        variableContainer.setTenantId("flowable");
+
+        assertThat(expression.getValue(variableContainer)).isEqualTo("flowable");
+    }
+}
@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.junit.jupiter.api.Test;
+
+class ExpressionCompilationTest {
+
+    @Test
+    void compiledExpressionResolvesBeanProperties() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        expressionManager.setExpressionCompileThreshold(1);
+        Expression expression = expressionManager.createExpression("${customer.name} ${customer.age > 18}");
+
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < 5; i++) {
+            variables.put("customer", new Customer("John", 20 + i));
+            assertThat(expression.getValue(new VariableContainerWrapper(variables))).isEqualTo("John true");
+        }
+
+        variables.put("customer", new Customer("Jane", 10));
+        assertThat(expression.getValue(new VariableContainerWrapper(variables))).isEqualTo("Jane false");
+    }
+
+    @Test
+    void compiledExpressionInvokesMethodsWithCoercedParameters() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        expressionManager.setExpressionCompileThreshold(0);
+        Expression expression = expressionManager.createExpression("${customer.greet('Hello', count)}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customer", new Customer("John", 20));
+        variables.put("count", "2");
+        for (int i = 0; i < 3; i++) {
+            assertThat(expression.getValue(new VariableContainerWrapper(variables))).isEqualTo("Hello John, Hello John");
+        }
+    }
+
+    @Test
+    void compiledExpressionHandlesOtherReceiverTypes() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        expressionManager.setExpressionCompileThreshold(0);
+        Expression expression = expressionManager.createExpression("${value.name}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("value", new Customer("John", 20));
+        assertThat(expression.getValue(new VariableContainerWrapper(variables))).isEqualTo("John");
+        assertThat(expression.getValue(new VariableContainerWrapper(variables))).isEqualTo("John");
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", "Kermit");
+        variables.put("value", map);
+        assertThat(expression.getValue(new VariableContainerWrapper(variables))).isEqualTo("Kermit");
+
+        variables.put("value", new Product("Flowable"));
+        assertThat(expression.getValue(new VariableContainerWrapper(variables))).isEqualTo("Flowable");
+
+        variables.put("value", new Customer("Jane", 20));
+        assertThat(expression.getValue(new VariableContainerWrapper(variables))).isEqualTo("Jane");
+    }
+
+    @Test
+    void compiledExpressionPropagatesExceptions() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        expressionManager.setExpressionCompileThreshold(0);
+        Expression expression = expressionManager.createExpression("${customer.fail()}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("customer", new Customer("John", 20));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> expression.getValue(new VariableContainerWrapper(variables)))
+                    .isInstanceOf(FlowableException.class)
+                    .hasRootCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    public static class Customer {
+
+        protected final String name;
+        protected final int age;
+
+        public Customer(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public String greet(String greeting, int times) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < times; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(greeting).append(' ').append(name);
+            }
+            return builder.toString();
+        }
+
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+    }
+
+    public static class Product {
+
+        protected final String name;
+
+        public Product(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.impl.persistence.TimeOrderedUuidGenerator.TimeOrderedUuidState;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void idsAreVersion7Uuids() {
+        UUID uuid = UUID.fromString(new TimeOrderedUuidGenerator().getNextId());
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isLessThanOrEqualTo(System.currentTimeMillis());
+    }
+
+    @Test
+    void idsOfOneThreadAreOrdered() {
+        TimeOrderedUuidGenerator idGenerator = new TimeOrderedUuidGenerator();
+
+        String previousId = idGenerator.getNextId();
+        for (int i = 0; i < 100000; i++) {
+            String id = idGenerator.getNextId();
+            assertThat(id).isGreaterThan(previousId);
+            previousId = id;
+        }
+    }
+
+    @Test
+    void idsContinueInNextMillisecondWhenSequenceIsExhausted() {
+        TimeOrderedUuidState state = new TimeOrderedUuidState(42L);
+
+        String previousId = state.nextUuid(1000L).toString();
+        for (int i = 0; i < 3 * TimeOrderedUuidState.MAX_SEQUENCE; i++) {
+            String id = state.nextUuid(1000L).toString();
+            assertThat(id).isGreaterThan(previousId);
+            previousId = id;
+        }
+        assertThat(UUID.fromString(previousId).getMostSignificantBits() >>> 16).isEqualTo(1002L);
+
+        // The clock going back doesn't produce smaller ids
+        assertThat(state.nextUuid(500L).toString()).isGreaterThan(previousId);
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws Exception {
+        TimeOrderedUuidGenerator idGenerator = new TimeOrderedUuidGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executorService.submit(() -> {
+                    for (int j = 0; j < 25000; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(100000);
+    }
+}
@@ -13,6 +13,7 @@
 package org.flowable.engine;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
@@ -28,11 +29,16 @@ public class DefaultHistoryCleaningManager implements HistoryCleaningManager {
 
     @Override
     public HistoricProcessInstanceQueryImpl createHistoricProcessInstanceCleaningQuery() {
+        HistoricProcessInstanceQueryImpl historicProcessInstanceQuery = new HistoricProcessInstanceQueryImpl(processEngineConfiguration.getCommandExecutor());
+        historicProcessInstanceQuery.finishedBefore(getHistoricProcessInstanceCleaningEndedBefore());
+        return historicProcessInstanceQuery;
+    }
+
+    @Override
+    public Date getHistoricProcessInstanceCleaningEndedBefore() {
         int days = processEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays();
         Calendar cal = new GregorianCalendar();
         cal.add(Calendar.DAY_OF_YEAR, -days);
-        HistoricProcessInstanceQueryImpl historicProcessInstanceQuery = new HistoricProcessInstanceQueryImpl(processEngineConfiguration.getCommandExecutor());
-        historicProcessInstanceQuery.finishedBefore(cal.getTime());
-        return historicProcessInstanceQuery;
+        return cal.getTime();
     }
 }
@@ -12,10 +12,20 @@
  */
 package org.flowable.engine;
 
+import java.util.Date;
+
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
 
 public interface HistoryCleaningManager {
 
     HistoricProcessInstanceQuery createHistoricProcessInstanceCleaningQuery();
 
+    /**
+     * @return the time before which all ended process instances are cleaned, or null when the cleaning query selects the process instances differently.
+     *         The history table partitions of a month are only dropped when all its process instances ended before this time.
+     */
+    default Date getHistoricProcessInstanceCleaningEndedBefore() {
+        return null;
+    }
+
 }
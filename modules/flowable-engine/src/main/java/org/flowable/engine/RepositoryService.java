@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.util.Date;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
@@ -71,6 +72,28 @@ public interface RepositoryService {
      */
     void deleteDeployment(String deploymentId, boolean cascade);
 
+    /**
+     * Deletes the given deployment and cascades the deletion to its process instances and history asynchronously,
+     * in chunks that are each deleted in their own transaction.
+     *
+     * The process definitions of the deployment are suspended immediately, so no new process instances can be started.
+     * The runtime process instances are deleted first, then the historic process instances together with their form instances,
+     * content items and decision history, and finally the deployment itself. The chunk size and the delay between chunks are
+     * configured with the deploymentDeletionChunkSize and deploymentDeletionChunkDelay engine properties.
+     *
+     * The progress can be followed through the returned batch: its status is deletingRuntimeData, deletingHistoricData and
+     * finally completed, and every deleted chunk is recorded as a batch part (see {@link ManagementService#findBatchPartsByBatchId(String)}).
+     *
+     * @param deploymentId
+     *            id of the deployment, cannot be null.
+     * @return the batch of the deletion
+     * @throws FlowableObjectNotFoundException
+     *             when the deployment doesn't exist.
+     * @throws FlowableException
+     *             when the deployment is already being deleted.
+     */
+    Batch deleteDeploymentAsync(String deploymentId);
+
     /**
      * Sets the category of the deployment. Deployments can be queried by category: see {@link DeploymentQuery#deploymentCategory(String)}.
      * 
@@ -331,6 +331,29 @@ public interface RuntimeService {
      */
     void deleteProcessInstance(String processInstanceId, String deleteReason);
 
+    /**
+     * Delete existing runtime process instances, together with their sub process instances, using a fixed number of statements
+     * for all the process instances instead of deleting their data execution by execution.
+     * Events are dispatched when the event dispatcher is enabled.
+     *
+     * @param processInstanceIds
+     *     ids of the root process instances to delete, cannot be null.
+     * @param deleteReason
+     *     reason for deleting, can be null.
+     * @throws FlowableObjectNotFoundException
+     *     when no process instance is found for one of the given ids.
+     * @throws FlowableIllegalArgumentException
+     *     when one of the given process instances is a sub process instance.
+     */
+    void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason);
+
+    /**
+     * Delete existing runtime process instances, together with their sub process instances, see {@link #bulkDeleteProcessInstances(Collection, String)}.
+     * When dispatchEvents is true, a cancelled event is dispatched for each process instance and a deleted event for each task after all data is deleted.
+     * No entity deleted events are dispatched for the other runtime data of the process instances.
+     */
+    void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason, boolean dispatchEvents);
+
     /**
      * Finds the activity ids for all executions that are waiting in activities. This is a list because a single activity can be active multiple times.
      *
@@ -14,11 +14,20 @@ package org.flowable.engine.cfg;
 
 import java.time.Duration;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 /**
+ * The connection pool, https and retry settings and the maximum response body size are used to create the http client that is shared by the
+ * http tasks of the engine. That client is created when the first http task is executed, so these settings need to be set when the engine
+ * is configured: changing them later has no effect until the engine is restarted.
+ *
  * @author Harsha Teja Kanna
  */
 public class HttpClientConfig {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientConfig.class);
+
     // request settings
     protected int connectTimeout = 5000;
     protected int socketTimeout = 5000;
@@ -29,6 +38,18 @@ public class HttpClientConfig {
 
     protected boolean useSystemProperties = false;
 
+    // connection pool settings
+    protected int maxTotalConnections = 100;
+    protected int maxConnectionsPerRoute = 20;
+    protected long keepAliveTime = 30000;
+    protected long idleConnectionTimeout = 60000;
+    // response settings
+    protected long maxResponseBodySize = -1;
+
+    // The client shared by all http tasks, created when it's first needed.
+    // Not typed as the http client classes are only available when the flowable-http module is used.
+    protected volatile Object httpClient;
+
     public int getConnectTimeout() {
         return connectTimeout;
     }
@@ -59,6 +80,7 @@ public class HttpClientConfig {
 
     public void setRequestRetryLimit(int requestRetryLimit) {
         this.requestRetryLimit = requestRetryLimit;
+        httpClientSettingChanged("requestRetryLimit");
     }
 
     public boolean isDisableCertVerify() {
@@ -67,16 +89,113 @@ public class HttpClientConfig {
 
     public void setDisableCertVerify(boolean disableCertVerify) {
         this.disableCertVerify = disableCertVerify;
+        httpClientSettingChanged("disableCertVerify");
     }
 
     public void setUseSystemProperties(boolean useSystemProperties) {
         this.useSystemProperties = useSystemProperties;
+        httpClientSettingChanged("useSystemProperties");
     }
 
     public boolean isUseSystemProperties() {
         return useSystemProperties;
     }
 
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    /**
+     * The maximum number of pooled connections of the shared http client. By default 100.
+     */
+    public void setMaxTotalConnections(int maxTotalConnections) {
+        this.maxTotalConnections = maxTotalConnections;
+        httpClientSettingChanged("maxTotalConnections");
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * The maximum number of pooled connections to the same host of the shared http client, which limits the number of concurrent requests
+     * to a host. By default 20, which is more than the default number of async executor threads, so http tasks executed by the async executor
+     * don't wait for a connection. It needs to be raised when more threads (e.g. a larger async executor pool) call the same host.
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        httpClientSettingChanged("maxConnectionsPerRoute");
+    }
+
+    public long getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    /**
+     * The time in milliseconds a connection is kept alive for reuse when the server doesn't send a keep alive timeout. By default 30 seconds.
+     */
+    public void setKeepAliveTime(long keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+        httpClientSettingChanged("keepAliveTime");
+    }
+
+    public long getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * The time in milliseconds after which idle pooled connections are closed in the background. By default one minute, 0 or less disables the eviction.
+     */
+    public void setIdleConnectionTimeout(long idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+        httpClientSettingChanged("idleConnectionTimeout");
+    }
+
+    public long getMaxResponseBodySize() {
+        return maxResponseBodySize;
+    }
+
+    /**
+     * The maximum size in bytes of a response body read by an http task, larger responses fail the task. By default -1, which means no limit.
+     */
+    public void setMaxResponseBodySize(long maxResponseBodySize) {
+        this.maxResponseBodySize = maxResponseBodySize;
+        httpClientSettingChanged("maxResponseBodySize");
+    }
+
+    /**
+     * The pooled http client that is shared by the http tasks, or null when no http task has been executed yet.
+     * When the flowable-http module is used, this is an org.flowable.http.PooledHttpClient, which exposes the pool statistics.
+     */
+    public Object getHttpClient() {
+        return httpClient;
+    }
+
+    public void setHttpClient(Object httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Closes the shared http client and its pooled connections. Called when the engine is closed.
+     */
+    public void closeHttpClient() {
+        Object client = httpClient;
+        httpClient = null;
+        if (client instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) client).close();
+            } catch (Exception e) {
+                LOGGER.warn("Could not close the http client", e);
+            }
+        }
+    }
+
+    protected void httpClientSettingChanged(String setting) {
+        if (httpClient != null) {
+            LOGGER.warn("The http client setting {} was changed after the shared http client was created, it is only used after the engine is restarted", setting);
+        }
+    }
+
     public void merge(HttpClientConfig other) {
         if (this.connectTimeout != other.getConnectTimeout()) {
             setConnectTimeout(other.getConnectTimeout());
@@ -101,6 +220,26 @@ public class HttpClientConfig {
         if (this.useSystemProperties != other.isUseSystemProperties()) {
             setUseSystemProperties(other.isUseSystemProperties());
         }
+
+        if (this.maxTotalConnections != other.getMaxTotalConnections()) {
+            setMaxTotalConnections(other.getMaxTotalConnections());
+        }
+
+        if (this.maxConnectionsPerRoute != other.getMaxConnectionsPerRoute()) {
+            setMaxConnectionsPerRoute(other.getMaxConnectionsPerRoute());
+        }
+
+        if (this.keepAliveTime != other.getKeepAliveTime()) {
+            setKeepAliveTime(other.getKeepAliveTime());
+        }
+
+        if (this.idleConnectionTimeout != other.getIdleConnectionTimeout()) {
+            setIdleConnectionTimeout(other.getIdleConnectionTimeout());
+        }
+
+        if (this.maxResponseBodySize != other.getMaxResponseBodySize()) {
+            setMaxResponseBodySize(other.getMaxResponseBodySize());
+        }
     }
 
     public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
@@ -115,4 +254,12 @@ public class HttpClientConfig {
         setSocketTimeout(Math.toIntExact(socketTimeout.toMillis()));
     }
 
+    public void setKeepAliveTime(Duration keepAliveTime) {
+        setKeepAliveTime(keepAliveTime.toMillis());
+    }
+
+    public void setIdleConnectionTimeout(Duration idleConnectionTimeout) {
+        setIdleConnectionTimeout(idleConnectionTimeout.toMillis());
+    }
+
 }
@@ -17,6 +17,7 @@ import java.io.InputStream;
 import java.util.Date;
 import java.util.List;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -31,6 +32,7 @@ import org.flowable.engine.impl.cmd.AddEditorSourceForModelCmd;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessDefinitionCmd;
 import org.flowable.engine.impl.cmd.ChangeDeploymentTenantIdCmd;
 import org.flowable.engine.impl.cmd.CreateModelCmd;
+import org.flowable.engine.impl.cmd.DeleteDeploymentAsyncCmd;
 import org.flowable.engine.impl.cmd.DeleteDeploymentCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessDefinitionCmd;
 import org.flowable.engine.impl.cmd.DeleteModelCmd;
@@ -113,6 +115,11 @@ public class RepositoryServiceImpl extends CommonEngineServiceImpl<ProcessEngine
         commandExecutor.execute(new DeleteDeploymentCmd(deploymentId, cascade));
     }
 
+    @Override
+    public Batch deleteDeploymentAsync(String deploymentId) {
+        return commandExecutor.execute(new DeleteDeploymentAsyncCmd(deploymentId));
+    }
+
     @Override
     public void setDeploymentCategory(String deploymentId, String category) {
         commandExecutor.execute(new SetDeploymentCategoryCmd(deploymentId, category));
@@ -34,6 +34,7 @@ import org.flowable.engine.impl.cmd.AddEventConsumerCommand;
 import org.flowable.engine.impl.cmd.AddEventListenerCommand;
 import org.flowable.engine.impl.cmd.AddIdentityLinkForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.AddMultiInstanceExecutionCmd;
+import org.flowable.engine.impl.cmd.BulkDeleteProcessInstancesCmd;
 import org.flowable.engine.impl.cmd.ChangeActivityStateCmd;
 import org.flowable.engine.impl.cmd.CompleteAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.DeleteIdentityLinkForProcessInstanceCmd;
@@ -181,6 +182,16 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         commandExecutor.execute(new DeleteProcessInstanceCmd(processInstanceId, deleteReason));
     }
 
+    @Override
+    public void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason) {
+        commandExecutor.execute(new BulkDeleteProcessInstancesCmd(processInstanceIds, deleteReason, true));
+    }
+
+    @Override
+    public void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason, boolean dispatchEvents) {
+        commandExecutor.execute(new BulkDeleteProcessInstancesCmd(processInstanceIds, deleteReason, dispatchEvents));
+    }
+
     @Override
     public ExecutionQuery createExecutionQuery() {
         return new ExecutionQueryImpl(commandExecutor);
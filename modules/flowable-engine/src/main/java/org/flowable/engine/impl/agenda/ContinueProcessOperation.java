@@ -44,6 +44,7 @@ import org.flowable.engine.logging.LogMDC;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.JobPriorityUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -179,6 +180,8 @@ public class ContinueProcessOperation extends AbstractOperation {
         job.setElementId(flowNode.getId());
         job.setElementName(flowNode.getName());
         job.setJobHandlerType(AsyncContinuationJobHandler.TYPE);
+        JobPriorityUtil.setPriority(job, flowNode.getAsyncPriority(),
+                CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager(), execution);
 
         // Inherit tenant id (if applicable)
         if (execution.getTenantId() != null) {
@@ -45,6 +45,7 @@ import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.JobPriorityUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -172,6 +173,10 @@ public class EndExecutionOperation extends AbstractOperation {
         job.setElementName(superExecutionEntity.getCurrentFlowElement().getName());
         job.setTenantId(childProcessInstanceExecutionEntity.getTenantId());
         job.setJobHandlerType(AsyncCompleteCallActivityJobHandler.TYPE);
+        if (superExecutionEntity.getCurrentFlowElement() instanceof FlowNode) {
+            JobPriorityUtil.setPriority(job, ((FlowNode) superExecutionEntity.getCurrentFlowElement()).getAsyncPriority(),
+                    CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager(), superExecutionEntity);
+        }
         
         superExecutionEntity.getJobs().add(job);
         
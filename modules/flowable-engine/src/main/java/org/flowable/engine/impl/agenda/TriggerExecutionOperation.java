@@ -25,6 +25,7 @@ import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobService;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.util.JobPriorityUtil;
 
 /**
  * Operation that triggers a wait state and continues the process, leaving that activity.
@@ -73,6 +74,8 @@ public class TriggerExecutionOperation extends AbstractOperation {
                     job.setElementId(currentFlowElement.getId());
                     job.setElementName(currentFlowElement.getName());
                     job.setJobHandlerType(AsyncTriggerJobHandler.TYPE);
+                    JobPriorityUtil.setPriority(job, ((FlowNode) currentFlowElement).getAsyncPriority(),
+                            CommandContextUtil.getProcessEngineConfiguration(commandContext).getExpressionManager(), execution);
                     
                     // Inherit tenant id (if applicable)
                     if(execution.getTenantId() != null) {
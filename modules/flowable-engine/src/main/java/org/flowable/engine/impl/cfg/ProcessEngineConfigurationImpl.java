@@ -85,6 +85,7 @@ import org.flowable.common.engine.impl.interceptor.SessionFactory;
 import org.flowable.common.engine.impl.logging.LoggingSession;
 import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
+import org.flowable.common.engine.impl.persistence.cache.ClusterChangeStamp;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
@@ -198,6 +199,7 @@ import org.flowable.engine.impl.cmd.ValidateV5EntitiesCmd;
 import org.flowable.engine.impl.cmmn.CaseInstanceService;
 import org.flowable.engine.impl.db.DbIdGenerator;
 import org.flowable.engine.impl.db.EntityDependencyOrder;
+import org.flowable.engine.impl.db.HistoryTablePartitionManager;
 import org.flowable.engine.impl.db.ProcessDbSchemaManager;
 import org.flowable.engine.impl.delegate.invocation.DefaultDelegateInterceptor;
 import org.flowable.engine.impl.dynamic.DefaultDynamicStateManager;
@@ -264,6 +266,7 @@ import org.flowable.engine.impl.jobexecutor.AsyncSendEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.AsyncTriggerJobHandler;
 import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
+import org.flowable.engine.impl.jobexecutor.DeploymentDeletionJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationJobHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessInstanceMigrationStatusJobHandler;
@@ -369,6 +372,8 @@ import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobProcessor;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPartition;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPriorityQueue;
 import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
@@ -528,6 +533,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected BatchServiceConfiguration batchServiceConfiguration;
 
     protected boolean enableEntityLinks;
+    protected boolean enableHierarchicalEntityLinks;
 
     // DEPLOYERS //////////////////////////////////////////////////////////////////
 
@@ -548,12 +554,43 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache;
 
+    /**
+     * Validates the process definition info cache with a change stamp that is changed whenever process definition info is saved,
+     * instead of reading the process definition info from the database on every lookup.
+     * The change stamp is checked at most once every {@link #processDefinitionInfoCacheCheckInterval} milliseconds.
+     */
+    protected boolean enableProcessDefinitionInfoCacheChangeStamp;
+    protected long processDefinitionInfoCacheCheckInterval = 5000L;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
+    /**
+     * Whether getting a variable by name from an execution of which the variables haven't been fetched yet fetches all its variables (the default),
+     * or only the requested one. Fetching only the requested variable avoids loading many (or large) variables when only a few of them are needed,
+     * but needs a query per requested variable and execution.
+     */
+    protected boolean fetchAllVariablesOnGet = true;
+
+    /**
+     * The number of process diagrams for which the rendered diagram without highlights is cached by the default process diagram generator,
+     * so that generating a diagram with highlighted activities only needs to draw the highlights. 0 (the default) disables the cache.
+     */
+    protected int processDiagramCacheLimit;
+
     protected int appResourceCacheLimit = -1;
     protected DeploymentCache<Object> appResourceCache;
 
+    /**
+     * Enables a node-local index of the definition-level event subscriptions (signal and message start events),
+     * so that correlating signals and messages only queries the database for the subscriptions of process instances.
+     * Changes to the index are propagated to the other nodes through a change stamp, which is checked at most once every
+     * {@link #definitionEventSubscriptionCacheCheckInterval} milliseconds.
+     */
+    protected boolean enableDefinitionEventSubscriptionCache;
+    protected long definitionEventSubscriptionCacheCheckInterval = 5000L;
+    protected int definitionEventSubscriptionCacheLimit = 1000;
+
     protected AppResourceConverter appResourceConverter;
 
     // JOB EXECUTOR /////////////////////////////////////////////////////////////
@@ -690,6 +727,65 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorTimerLockTimeInMillis = 5 * 60 * 1000;
 
+    /**
+     * The amount of time (in milliseconds) before their due date that timer jobs are acquired by the async executor. Such timer jobs are locked until
+     * {@link #asyncExecutorTimerLockTimeInMillis} after their due date and are moved to the executable jobs as soon as they are due, instead of at the next acquisition.
+     * <p>
+     * Default value = 0, meaning timer jobs are only acquired when they are due;
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorTimerJobPrefetchWindowInMillis;
+
+    /**
+     * When enabled, the async executor determines the number of jobs acquired at once from the rate at which it executes jobs and the remaining capacity of its queue,
+     * and backs off exponentially when the acquisition conflicts with other executors. {@link #asyncExecutorMaxAsyncJobsDuePerAcquisition} is then the upper bound of the acquire size.
+     * <p>
+     * Default value = false;
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAdaptiveAsyncJobAcquisition;
+
+    /**
+     * Named partitions of the async executor, for the async jobs of some tenants and/or job handler types. Each partition has its own capacity,
+     * and the jobs are acquired per partition proportionally to the partition weights, so the jobs of one tenant or job type can't starve the others.
+     * See {@link AsyncJobPartition}.
+     * <p>
+     * Default value = empty, all async jobs are acquired together;
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected List<AsyncJobPartition> asyncExecutorJobPartitions;
+
+    /**
+     * Whether the queue of the async executor thread pool hands out the jobs with the highest priority first,
+     * instead of in the order in which they were acquired. See {@link AsyncJobPriorityQueue}.
+     * <p>
+     * Default value = false;
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorJobPriorityQueueEnabled;
+
+    /**
+     * Whether async jobs are acquired by priority (highest first) and then by create time (oldest first).
+     * Ordering the acquisition query has a cost, so this should only be enabled when jobs get a priority,
+     * and the ACT_IDX_JOB_PRIORITY index should be in place.
+     * <p>
+     * Default value = false, jobs are acquired in no particular order;
+     */
+    protected boolean asyncExecutorJobPriorityAcquisitionEnabled;
+
+    /**
+     * The time (in milliseconds) after which a waiting async job gets precedence over jobs with a higher priority, so low priority jobs can't be starved.
+     * Async jobs that were created longer than this time ago are acquired first (when acquisition by priority is enabled), and the priority of a job
+     * in the priority queue goes up by one for every aging time it has been waiting in the queue.
+     * <p>
+     * Default value = 0, jobs are always acquired and executed by priority;
+     */
+    protected int asyncExecutorJobPriorityAgingTime;
+
     /**
      * The amount of time (in milliseconds) an async job is locked when acquired by the async executor. During this period of time, no other async executor will try to acquire and lock this job.
      * <p>
@@ -768,6 +864,28 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     
     protected String batchStatusTimeCycleConfig = "30 * * * * ?";
 
+    /**
+     * The maximum number of process instances deleted in one transaction by an asynchronous deployment deletion,
+     * and the time in milliseconds to wait between two of those transactions (0 means the next chunk is executed right away).
+     */
+    protected int deploymentDeletionChunkSize = 100;
+    protected long deploymentDeletionChunkDelay;
+
+    /**
+     * Stores the process history in monthly range partitions on the start time of the process instance, so the history cleanup can drop whole partitions
+     * instead of deleting rows. Only supported on PostgreSQL (11 or newer) and Oracle (12c or newer) without async history,
+     * and only for history tables that are created with partitioning enabled.
+     * Requires history cleaning to be enabled (see {@link #setEnableHistoryCleaning(boolean)}): the history cleanup job also creates the partitions
+     * of the next months.
+     */
+    protected boolean enableHistoryTablePartitioning;
+
+    /**
+     * The number of months ahead for which the history partitions are created on PostgreSQL.
+     */
+    protected int historyTablePartitionsAhead = 3;
+    protected HistoryTablePartitionManager historyTablePartitionManager;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -852,6 +970,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean isExpressionCacheEnabled = true;
     protected int expressionCacheSize = 4096;
     protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
+    protected int expressionCompileThreshold = -1; // negative value to never compile expressions
 
     protected BusinessCalendarManager businessCalendarManager;
 
@@ -968,6 +1087,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public ProcessEngine buildProcessEngine() {
         init();
         ProcessEngineImpl processEngine = new ProcessEngineImpl(this);
+        initClusterChangeStamps();
 
         if (handleProcessEngineExecutorsAfterEngineCreate) {
             processEngine.startExecutors();
@@ -1050,6 +1170,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initSessionFactories();
         initDataManagers();
         initEntityManagers();
+        initDefinitionEntityCache();
         initCandidateManager();
         initHistoryManager();
         initDynamicStateManager();
@@ -1079,6 +1200,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         afterInitEventRegistryEventBusConsumer();
         
         initHistoryCleaningManager();
+        initHistoryTablePartitionManager();
         initLocalizationManagers();
     }
 
@@ -1130,6 +1252,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initService(repositoryService);
         initService(runtimeService);
         initService(historyService);
+        if (allowStaleHistoryReads) {
+            initStaleReadService(historyService);
+        }
         initService(identityService);
         initService(taskService);
         initService(formService);
@@ -1164,13 +1289,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     protected void initVariableSchemaManager() {
         if (this.variableSchemaManager == null) {
-            this.variableSchemaManager = new VariableDbSchemaManager();
+            VariableDbSchemaManager variableDbSchemaManager = new VariableDbSchemaManager();
+            variableDbSchemaManager.setHistoryPartitioned(enableHistoryTablePartitioning);
+            this.variableSchemaManager = variableDbSchemaManager;
         }
     }
 
     protected void initTaskSchemaManager() {
         if (this.taskSchemaManager == null) {
-            this.taskSchemaManager = new TaskDbSchemaManager();
+            TaskDbSchemaManager taskDbSchemaManager = new TaskDbSchemaManager();
+            taskDbSchemaManager.setHistoryPartitioned(enableHistoryTablePartitioning);
+            this.taskSchemaManager = taskDbSchemaManager;
         }
     }
 
@@ -1513,6 +1642,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.entityLinkServiceConfiguration.setClock(this.clock);
             this.entityLinkServiceConfiguration.setObjectMapper(this.objectMapper);
             this.entityLinkServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+            this.entityLinkServiceConfiguration.setEnableHierarchicalEntityLinks(this.enableHierarchicalEntityLinks);
 
             this.entityLinkServiceConfiguration.init();
 
@@ -1529,6 +1659,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.eventSubscriptionServiceConfiguration.setClock(this.clock);
         this.eventSubscriptionServiceConfiguration.setObjectMapper(this.objectMapper);
         this.eventSubscriptionServiceConfiguration.setEventDispatcher(this.eventDispatcher);
+        this.eventSubscriptionServiceConfiguration.setEnableDefinitionEventSubscriptionCache(this.enableDefinitionEventSubscriptionCache);
+        this.eventSubscriptionServiceConfiguration.setDefinitionEventSubscriptionCacheCheckInterval(this.definitionEventSubscriptionCacheCheckInterval);
+        this.eventSubscriptionServiceConfiguration.setDefinitionEventSubscriptionCacheLimit(this.definitionEventSubscriptionCacheLimit);
         
         this.eventSubscriptionServiceConfiguration.init();
         
@@ -1628,6 +1761,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             this.jobServiceConfiguration.setAsyncRunnableExecutionExceptionHandlers(exceptionHandlers);
             this.jobServiceConfiguration.setAsyncExecutorNumberOfRetries(this.asyncExecutorNumberOfRetries);
             this.jobServiceConfiguration.setAsyncExecutorResetExpiredJobsMaxTimeout(this.asyncExecutorResetExpiredJobsMaxTimeout);
+            this.jobServiceConfiguration.setAsyncExecutorJobPriorityAcquisitionEnabled(this.asyncExecutorJobPriorityAcquisitionEnabled);
+            this.jobServiceConfiguration.setAsyncExecutorJobPriorityAgingTime(this.asyncExecutorJobPriorityAgingTime);
 
             if (this.jobManager != null) {
                 this.jobServiceConfiguration.setJobManager(this.jobManager);
@@ -1743,6 +1878,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initHistoryTablePartitionManager() {
+        if (enableHistoryTablePartitioning) {
+            if (!DATABASE_TYPE_POSTGRES.equals(databaseType) && !DATABASE_TYPE_ORACLE.equals(databaseType)) {
+                throw new FlowableException("History table partitioning is only supported on PostgreSQL and Oracle, not on " + databaseType);
+            }
+            if (isAsyncHistoryEnabled) {
+                throw new FlowableException("History table partitioning is not supported with async history");
+            }
+            if (!enableHistoryCleaning) {
+                throw new FlowableException("History table partitioning requires history cleaning to be enabled, the history cleanup job creates the partitions");
+            }
+
+            if (historyTablePartitionManager == null) {
+                historyTablePartitionManager = new HistoryTablePartitionManager(this);
+            }
+        }
+    }
+
     public void removeHistoryJobHandler(String historyJobHandlerType) {
         this.historyJobHandlers.remove(historyJobHandlerType);
         if (this.jobServiceConfiguration != null) {
@@ -1771,6 +1924,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
         }
+
+        if (enableProcessDefinitionInfoCacheChangeStamp && processDefinitionInfoCache instanceof ProcessDefinitionInfoCache) {
+            ((ProcessDefinitionInfoCache) processDefinitionInfoCache).setChangeStamp(
+                    new ClusterChangeStamp(ProcessDefinitionInfoCache.CHANGE_STAMP_PROPERTY_NAME, processDefinitionInfoCacheCheckInterval));
+        }
+    }
+
+    @Override
+    protected List<ClusterChangeStamp> getClusterChangeStamps() {
+        List<ClusterChangeStamp> changeStamps = super.getClusterChangeStamps();
+        if (processDefinitionInfoCache instanceof ProcessDefinitionInfoCache && ((ProcessDefinitionInfoCache) processDefinitionInfoCache).getChangeStamp() != null) {
+            changeStamps.add(((ProcessDefinitionInfoCache) processDefinitionInfoCache).getChangeStamp());
+        }
+        if (eventSubscriptionServiceConfiguration != null && eventSubscriptionServiceConfiguration.getDefinitionEventSubscriptionCache() != null) {
+            changeStamps.add(eventSubscriptionServiceConfiguration.getDefinitionEventSubscriptionCache().getChangeStamp());
+        }
+        return changeStamps;
     }
 
     public void initAppResourceCache() {
@@ -2016,7 +2186,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDiagramGenerator() {
         if (processDiagramGenerator == null) {
-            processDiagramGenerator = new DefaultProcessDiagramGenerator();
+            DefaultProcessDiagramGenerator defaultProcessDiagramGenerator = new DefaultProcessDiagramGenerator();
+            defaultProcessDiagramGenerator.setBaseLayerCacheLimit(processDiagramCacheLimit);
+            processDiagramGenerator = defaultProcessDiagramGenerator;
         }
     }
 
@@ -2059,6 +2231,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessInstanceMigrationStatusJobHandler processInstanceMigrationStatusJobHandler = new ProcessInstanceMigrationStatusJobHandler();
         jobHandlers.put(processInstanceMigrationStatusJobHandler.getType(), processInstanceMigrationStatusJobHandler);
 
+        DeploymentDeletionJobHandler deploymentDeletionJobHandler = new DeploymentDeletionJobHandler();
+        jobHandlers.put(deploymentDeletionJobHandler.getType(), deploymentDeletionJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -2172,6 +2347,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
+            defaultAsyncExecutor.setTimerJobPrefetchWindowInMillis(asyncExecutorTimerJobPrefetchWindowInMillis);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisition(asyncExecutorAdaptiveAsyncJobAcquisition);
+            defaultAsyncExecutor.setAsyncJobPartitions(asyncExecutorJobPartitions);
+            defaultAsyncExecutor.setJobPriorityQueueEnabled(asyncExecutorJobPriorityQueueEnabled);
             defaultAsyncExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
             if (asyncExecutorLockOwner != null) {
                 defaultAsyncExecutor.setLockOwner(asyncExecutorLockOwner);
@@ -2416,6 +2595,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
+            processExpressionManager.setExpressionCompileThreshold(expressionCompileThreshold);
 
             expressionManager = processExpressionManager;
         }
@@ -2618,6 +2798,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             commandExecutor.execute(new ValidateTaskRelatedEntityCountCfgCmd());
         }
 
+        if (historyTablePartitionManager != null) {
+            historyTablePartitionManager.checkPartitionedTables();
+            historyTablePartitionManager.createPartitions();
+        }
+
         // if Flowable 5 support is needed configure the Flowable 5 job processors via the compatibility handler
         if (flowable5CompatibilityEnabled) {
             flowable5CompatibilityHandler.setJobProcessor(this.flowable5JobProcessors);
@@ -3174,6 +3359,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getExpressionCompileThreshold() {
+        return expressionCompileThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setExpressionCompileThreshold(int expressionCompileThreshold) {
+        this.expressionCompileThreshold = expressionCompileThreshold;
+        return this;
+    }
+
     public BusinessCalendarManager getBusinessCalendarManager() {
         return businessCalendarManager;
     }
@@ -3606,6 +3800,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return processDefinitionInfoCache;
     }
 
+    public boolean isEnableProcessDefinitionInfoCacheChangeStamp() {
+        return enableProcessDefinitionInfoCacheChangeStamp;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDefinitionInfoCacheChangeStamp(boolean enableProcessDefinitionInfoCacheChangeStamp) {
+        this.enableProcessDefinitionInfoCacheChangeStamp = enableProcessDefinitionInfoCacheChangeStamp;
+        return this;
+    }
+
+    public long getProcessDefinitionInfoCacheCheckInterval() {
+        return processDefinitionInfoCacheCheckInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheCheckInterval(long processDefinitionInfoCacheCheckInterval) {
+        this.processDefinitionInfoCacheCheckInterval = processDefinitionInfoCacheCheckInterval;
+        return this;
+    }
+
+    public boolean isFetchAllVariablesOnGet() {
+        return fetchAllVariablesOnGet;
+    }
+
+    public ProcessEngineConfigurationImpl setFetchAllVariablesOnGet(boolean fetchAllVariablesOnGet) {
+        this.fetchAllVariablesOnGet = fetchAllVariablesOnGet;
+        return this;
+    }
+
+    public int getProcessDiagramCacheLimit() {
+        return processDiagramCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDiagramCacheLimit(int processDiagramCacheLimit) {
+        this.processDiagramCacheLimit = processDiagramCacheLimit;
+        return this;
+    }
+
     public int getKnowledgeBaseCacheLimit() {
         return knowledgeBaseCacheLimit;
     }
@@ -3642,6 +3872,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableDefinitionEventSubscriptionCache() {
+        return enableDefinitionEventSubscriptionCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableDefinitionEventSubscriptionCache(boolean enableDefinitionEventSubscriptionCache) {
+        this.enableDefinitionEventSubscriptionCache = enableDefinitionEventSubscriptionCache;
+        return this;
+    }
+
+    public long getDefinitionEventSubscriptionCacheCheckInterval() {
+        return definitionEventSubscriptionCacheCheckInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setDefinitionEventSubscriptionCacheCheckInterval(long definitionEventSubscriptionCacheCheckInterval) {
+        this.definitionEventSubscriptionCacheCheckInterval = definitionEventSubscriptionCacheCheckInterval;
+        return this;
+    }
+
+    public int getDefinitionEventSubscriptionCacheLimit() {
+        return definitionEventSubscriptionCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setDefinitionEventSubscriptionCacheLimit(int definitionEventSubscriptionCacheLimit) {
+        this.definitionEventSubscriptionCacheLimit = definitionEventSubscriptionCacheLimit;
+        return this;
+    }
+
     public AppResourceConverter getAppResourceConverter() {
         return appResourceConverter;
     }
@@ -4365,6 +4622,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableHierarchicalEntityLinks() {
+        return enableHierarchicalEntityLinks;
+    }
+
+    /**
+     * When enabled, a single entity link with the root scope and the hierarchy path is stored for a new child scope,
+     * instead of a link for every ancestor. See {@link EntityLinkServiceConfiguration#setEnableHierarchicalEntityLinks(boolean)}.
+     */
+    public ProcessEngineConfigurationImpl setEnableHierarchicalEntityLinks(boolean enableHierarchicalEntityLinks) {
+        this.enableHierarchicalEntityLinks = enableHierarchicalEntityLinks;
+        return this;
+    }
+
     public boolean isHandleProcessEngineExecutorsAfterEngineCreate() {
         return handleProcessEngineExecutorsAfterEngineCreate;
     }
@@ -4642,6 +4912,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getAsyncExecutorTimerJobPrefetchWindowInMillis() {
+        return asyncExecutorTimerJobPrefetchWindowInMillis;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobPrefetchWindowInMillis(int asyncExecutorTimerJobPrefetchWindowInMillis) {
+        this.asyncExecutorTimerJobPrefetchWindowInMillis = asyncExecutorTimerJobPrefetchWindowInMillis;
+        return this;
+    }
+
+    public boolean isAsyncExecutorAdaptiveAsyncJobAcquisition() {
+        return asyncExecutorAdaptiveAsyncJobAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveAsyncJobAcquisition(boolean asyncExecutorAdaptiveAsyncJobAcquisition) {
+        this.asyncExecutorAdaptiveAsyncJobAcquisition = asyncExecutorAdaptiveAsyncJobAcquisition;
+        return this;
+    }
+
+    public List<AsyncJobPartition> getAsyncExecutorJobPartitions() {
+        return asyncExecutorJobPartitions;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobPartitions(List<AsyncJobPartition> asyncExecutorJobPartitions) {
+        this.asyncExecutorJobPartitions = asyncExecutorJobPartitions;
+        return this;
+    }
+
+    public boolean isAsyncExecutorJobPriorityQueueEnabled() {
+        return asyncExecutorJobPriorityQueueEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobPriorityQueueEnabled(boolean asyncExecutorJobPriorityQueueEnabled) {
+        this.asyncExecutorJobPriorityQueueEnabled = asyncExecutorJobPriorityQueueEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorJobPriorityAcquisitionEnabled() {
+        return asyncExecutorJobPriorityAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobPriorityAcquisitionEnabled(boolean asyncExecutorJobPriorityAcquisitionEnabled) {
+        this.asyncExecutorJobPriorityAcquisitionEnabled = asyncExecutorJobPriorityAcquisitionEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorJobPriorityAgingTime() {
+        return asyncExecutorJobPriorityAgingTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobPriorityAgingTime(int asyncExecutorJobPriorityAgingTime) {
+        this.asyncExecutorJobPriorityAgingTime = asyncExecutorJobPriorityAgingTime;
+        return this;
+    }
+
     public int getAsyncExecutorAsyncJobLockTimeInMillis() {
         return asyncExecutorAsyncJobLockTimeInMillis;
     }
@@ -4923,4 +5247,49 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.batchStatusTimeCycleConfig = batchStatusTimeCycleConfig;
     }
 
+    public int getDeploymentDeletionChunkSize() {
+        return deploymentDeletionChunkSize;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentDeletionChunkSize(int deploymentDeletionChunkSize) {
+        this.deploymentDeletionChunkSize = deploymentDeletionChunkSize;
+        return this;
+    }
+
+    public long getDeploymentDeletionChunkDelay() {
+        return deploymentDeletionChunkDelay;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentDeletionChunkDelay(long deploymentDeletionChunkDelay) {
+        this.deploymentDeletionChunkDelay = deploymentDeletionChunkDelay;
+        return this;
+    }
+
+    public boolean isEnableHistoryTablePartitioning() {
+        return enableHistoryTablePartitioning;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHistoryTablePartitioning(boolean enableHistoryTablePartitioning) {
+        this.enableHistoryTablePartitioning = enableHistoryTablePartitioning;
+        return this;
+    }
+
+    public int getHistoryTablePartitionsAhead() {
+        return historyTablePartitionsAhead;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryTablePartitionsAhead(int historyTablePartitionsAhead) {
+        this.historyTablePartitionsAhead = historyTablePartitionsAhead;
+        return this;
+    }
+
+    public HistoryTablePartitionManager getHistoryTablePartitionManager() {
+        return historyTablePartitionManager;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryTablePartitionManager(HistoryTablePartitionManager historyTablePartitionManager) {
+        this.historyTablePartitionManager = historyTablePartitionManager;
+        return this;
+    }
+
 }
@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class BulkDeleteProcessInstancesCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    protected Collection<String> processInstanceIds;
+    protected String deleteReason;
+    protected boolean dispatchEvents;
+
+    public BulkDeleteProcessInstancesCmd(Collection<String> processInstanceIds, String deleteReason, boolean dispatchEvents) {
+        this.processInstanceIds = processInstanceIds;
+        this.deleteReason = deleteReason;
+        this.dispatchEvents = dispatchEvents;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("processInstanceIds is null");
+        }
+
+        Set<String> ids = new LinkedHashSet<>();
+        for (String processInstanceId : processInstanceIds) {
+            if (processInstanceId == null) {
+                throw new FlowableIllegalArgumentException("processInstanceIds contains a null value");
+            }
+            ids.add(processInstanceId);
+        }
+
+        if (ids.isEmpty()) {
+            return null;
+        }
+
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+        Map<String, ProcessInstance> processInstanceMap = new HashMap<>();
+        for (List<String> idsChunk : CollectionUtil.partition(ids, AbstractDataManager.MAX_IDS_PER_STATEMENT)) {
+            ProcessInstanceQueryImpl processInstanceQuery = new ProcessInstanceQueryImpl();
+            processInstanceQuery.processInstanceIds(new HashSet<>(idsChunk));
+            for (ProcessInstance processInstance : executionEntityManager.findProcessInstanceByQueryCriteria(processInstanceQuery)) {
+                processInstanceMap.put(processInstance.getId(), processInstance);
+            }
+        }
+
+        List<String> processInstanceIdsToDelete = new ArrayList<>(ids.size());
+        for (String processInstanceId : ids) {
+            ProcessInstance processInstance = processInstanceMap.get(processInstanceId);
+            if (processInstance == null) {
+                throw new FlowableObjectNotFoundException("No process instance found for id '" + processInstanceId + "'", ProcessInstance.class);
+            }
+
+            if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, processInstance.getProcessDefinitionId())) {
+                Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+                compatibilityHandler.deleteProcessInstance(processInstanceId, deleteReason);
+
+            } else if (processInstance.getSuperExecutionId() != null || !processInstanceId.equals(processInstance.getRootProcessInstanceId())) {
+                // The process instances are deleted together with their sub process instances,
+                // a sub process instance on its own needs to complete the call activity of its parent
+                throw new FlowableIllegalArgumentException("Process instance " + processInstanceId
+                        + " is not a root process instance, use deleteProcessInstance to delete a sub process instance");
+
+            } else {
+                processInstanceIdsToDelete.add(processInstanceId);
+            }
+        }
+
+        executionEntityManager.bulkDeleteProcessInstances(processInstanceIdsToDelete, deleteReason, dispatchEvents);
+
+        return null;
+    }
+
+}
@@ -0,0 +1,120 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchService;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.DeploymentDeletionJobHandler;
+import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.cmd.DeleteDeadLetterJobCmd;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class DeleteDeploymentAsyncCmd implements Command<Batch>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    protected String deploymentId;
+
+    public DeleteDeploymentAsyncCmd(String deploymentId) {
+        this.deploymentId = deploymentId;
+    }
+
+    @Override
+    public Batch execute(CommandContext commandContext) {
+        if (deploymentId == null) {
+            throw new FlowableIllegalArgumentException("deploymentId is null");
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        DeploymentEntity deployment = processEngineConfiguration.getDeploymentEntityManager().findById(deploymentId);
+        if (deployment == null) {
+            throw new FlowableObjectNotFoundException("Could not find a deployment with id '" + deploymentId + "'.", DeploymentEntity.class);
+        }
+
+        if (Flowable5Util.isFlowable5Deployment(deployment, processEngineConfiguration)) {
+            throw new FlowableException("Asynchronous deletion is not supported for v5 deployment " + deploymentId);
+        }
+
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        for (Batch batch : batchService.findBatchesBySearchKey(deploymentId)) {
+            if (Batch.DEPLOYMENT_DELETION_TYPE.equals(batch.getBatchType()) && batch.getCompleteTime() == null) {
+                return resumeBatch(batch, commandContext);
+            }
+        }
+
+        // Suspending the process definitions makes sure no new process instances are started while the deletion is in progress
+        List<ProcessDefinition> processDefinitions = new ProcessDefinitionQueryImpl().deploymentId(deploymentId).list();
+        for (ProcessDefinition processDefinition : processDefinitions) {
+            if (!processDefinition.isSuspended()) {
+                new SuspendProcessDefinitionCmd((ProcessDefinitionEntity) processDefinition, false, null, processDefinition.getTenantId()).execute(commandContext);
+            }
+        }
+
+        ObjectNode batchDocument = processEngineConfiguration.getObjectMapper().createObjectNode();
+        batchDocument.put(DeploymentDeletionJobHandler.DEPLOYMENT_ID_LABEL, deploymentId);
+        batchDocument.put(DeploymentDeletionJobHandler.CHUNK_SIZE_LABEL, processEngineConfiguration.getDeploymentDeletionChunkSize());
+
+        Batch batch = batchService.createBatchBuilder().batchType(Batch.DEPLOYMENT_DELETION_TYPE)
+            .searchKey(deploymentId)
+            .status(DeploymentDeletionJobHandler.STATUS_DELETING_RUNTIME_DATA)
+            .tenantId(deployment.getTenantId())
+            .batchDocumentJson(batchDocument.toString())
+            .create();
+
+        DeploymentDeletionJobHandler.scheduleNextChunk(batch, 0, commandContext);
+
+        return batch;
+    }
+
+    /**
+     * Continues an unfinished deletion of the deployment whose chunk job failed and was moved to the dead letter jobs.
+     * A deletion that still has a job waiting to be executed or retried is rejected.
+     */
+    protected Batch resumeBatch(Batch batch, CommandContext commandContext) {
+        JobService jobService = CommandContextUtil.getJobService(commandContext);
+        List<Job> pendingJobs = new ArrayList<>(jobService.createJobQuery().handlerType(DeploymentDeletionJobHandler.TYPE).list());
+        pendingJobs.addAll(jobService.createTimerJobQuery().handlerType(DeploymentDeletionJobHandler.TYPE).list());
+        for (Job job : pendingJobs) {
+            if (DeploymentDeletionJobHandler.isChunkJob(job, batch, commandContext)) {
+                throw new FlowableException("Deployment " + deploymentId + " is already being deleted by batch " + batch.getId());
+            }
+        }
+
+        for (Job deadLetterJob : jobService.createDeadLetterJobQuery().handlerType(DeploymentDeletionJobHandler.TYPE).list()) {
+            if (DeploymentDeletionJobHandler.isChunkJob(deadLetterJob, batch, commandContext)) {
+                new DeleteDeadLetterJobCmd(deadLetterJob.getId()).execute(commandContext);
+            }
+        }
+
+        DeploymentDeletionJobHandler.scheduleNextChunk(batch, 0, commandContext);
+        return batch;
+    }
+
+}
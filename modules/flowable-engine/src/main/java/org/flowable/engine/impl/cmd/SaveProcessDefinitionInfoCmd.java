@@ -18,6 +18,9 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -65,6 +68,12 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode, e);
         }
 
+        DeploymentCache<ProcessDefinitionInfoCacheObject> processDefinitionInfoCache = CommandContextUtil.getProcessEngineConfiguration(commandContext)
+                .getProcessDefinitionInfoCache();
+        if (processDefinitionInfoCache instanceof ProcessDefinitionInfoCache) {
+            ((ProcessDefinitionInfoCache) processDefinitionInfoCache).processDefinitionInfoChanged(commandContext);
+        }
+
         return null;
     }
 
@@ -0,0 +1,304 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.engine.HistoryCleaningManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Manages the monthly partitions of the history tables when history table partitioning is enabled
+ * (see {@link ProcessEngineConfigurationImpl#setEnableHistoryTablePartitioning(boolean)}).
+ *
+ * The historic process instances are partitioned on their start time, the activity, detail, task and variable history on the start time
+ * of their process instance (the PARTITION_TIME_ column). On PostgreSQL the partitions for the current and the next months are created up front,
+ * Oracle creates them automatically with interval partitioning.
+ *
+ * The history cleanup job creates the partitions ahead, which is why partitioning requires history cleaning to be enabled.
+ * It drops the partitions of a month once all process instances started in that month ended before the cleanup period. Dropping a partition is much cheaper than deleting its rows, the rows that are left (e.g. of instances that don't have a partition time)
+ * are still deleted by the regular history cleanup.
+ *
+ * The task and variable history tables are owned by the task and variable services, which create them as partitioned tables when partitioning is enabled.
+ * Tables that were created before (e.g. by a CMMN engine) are never converted: the engine fails to start when one of the tables isn't partitioned.
+ *
+ * Locking: the partitions are created and dropped with DDL on a separate auto commit connection, because DDL implicitly commits on Oracle.
+ * On PostgreSQL, creating and dropping a partition takes an ACCESS EXCLUSIVE lock on the partitioned table, on Oracle dropping a partition
+ * takes an exclusive lock on the partition. The DDL waits for the transactions using the table and blocks new ones while it waits,
+ * so it is run with a lock timeout (see {@link #setLockTimeout(long)}): when the lock is not acquired in time, the partitions are left
+ * for the next cleanup run and the regular cleanup still deletes the expired rows.
+ */
+public class HistoryTablePartitionManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HistoryTablePartitionManager.class);
+
+    protected static final String PROCESS_INSTANCE_TABLE = "ACT_HI_PROCINST";
+
+    // The process instance table is last, so a month is only considered dropped when all its partitions are gone
+    protected static final List<String> PARTITIONED_TABLES = Arrays.asList("ACT_HI_ACTINST", "ACT_HI_DETAIL", "ACT_HI_TASKINST", "ACT_HI_VARINST", PROCESS_INSTANCE_TABLE);
+
+    protected static final DateTimeFormatter PARTITION_SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    protected static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected long lockTimeout = 5000L;
+
+    public HistoryTablePartitionManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        this.processEngineConfiguration = processEngineConfiguration;
+    }
+
+    /**
+     * Checks that all history tables are partitioned.
+     *
+     * @throws FlowableException when one of the tables is not partitioned, e.g. because it was created before partitioning was enabled
+     */
+    public void checkPartitionedTables() {
+        try (Connection connection = getConnection()) {
+            for (String table : PARTITIONED_TABLES) {
+                if (!isPartitioned(connection, table)) {
+                    throw new FlowableException("History table " + getTableName(table) + " is not partitioned. History table partitioning can only be enabled"
+                            + " when the history tables are created, existing tables (e.g. created by the CMMN engine) are not converted");
+                }
+            }
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not check the history table partitions", e);
+        }
+    }
+
+    protected boolean isPartitioned(Connection connection, String table) throws SQLException {
+        String sql;
+        String tableName = getTableName(table);
+        if (isPostgres()) {
+            sql = "select count(*) from pg_partitioned_table pt join pg_class c on c.oid = pt.partrelid where c.relname = ? and pg_table_is_visible(c.oid)";
+            tableName = tableName.substring(tableName.lastIndexOf('.') + 1).toLowerCase();
+        } else {
+            sql = "select count(*) from USER_PART_TABLES where TABLE_NAME = ?";
+            tableName = tableName.substring(tableName.lastIndexOf('.') + 1).toUpperCase();
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, tableName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getLong(1) > 0;
+            }
+        }
+    }
+
+    /**
+     * Creates the partitions for the current month and the configured number of months ahead, when they don't exist yet.
+     */
+    public void createPartitions() {
+        if (!isPostgres()) {
+            // Interval partitioning creates the partitions when they are needed
+            return;
+        }
+
+        LocalDate month = getCurrentMonth();
+        try (Connection connection = getConnection()) {
+            for (int i = 0; i <= processEngineConfiguration.getHistoryTablePartitionsAhead(); i++) {
+                for (String table : PARTITIONED_TABLES) {
+                    String sql = "create table if not exists " + getPartitionName(table, month) + " partition of " + getTableName(table)
+                            + " for values from ('" + toTimestampLiteral(month) + "') to ('" + toTimestampLiteral(month.plusMonths(1)) + "')";
+                    try {
+                        executeDdl(connection, sql);
+                    } catch (SQLException e) {
+                        // e.g. when the default partition already contains rows of that month, or the lock timed out
+                        LOGGER.warn("Could not create history partition {}: {}", getPartitionName(table, month), e.getMessage());
+                    }
+                }
+                month = month.plusMonths(1);
+            }
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not create history table partitions", e);
+        }
+    }
+
+    /**
+     * Drops the partitions of the months for which all process instances ended before the history cleanup period
+     * (see {@link HistoryCleaningManager#getHistoricProcessInstanceCleaningEndedBefore()}).
+     * When a partition can't be dropped (e.g. because the lock timed out), the remaining months are left for the next run.
+     *
+     * @return the number of months for which the partitions were dropped
+     */
+    public int dropExpiredPartitions() {
+        // The same period as the regular cleanup, so a partition never contains instances that the cleanup would keep
+        Date cleaningEndedBefore = processEngineConfiguration.getHistoryCleaningManager().getHistoricProcessInstanceCleaningEndedBefore();
+        if (cleaningEndedBefore == null) {
+            LOGGER.debug("The history cleaning manager has no cleanup period, no history partitions are dropped");
+            return 0;
+        }
+
+        LocalDate currentMonth = getCurrentMonth();
+        LocalDateTime endedBefore = LocalDateTime.ofInstant(cleaningEndedBefore.toInstant(), ZoneId.systemDefault());
+
+        int droppedMonths = 0;
+        try (Connection connection = getConnection()) {
+            LocalDate month = getFirstMonth(connection);
+            while (month != null && month.isBefore(currentMonth) && !month.plusMonths(1).atStartOfDay().isAfter(endedBefore)) {
+                if (isExpired(connection, month, endedBefore)) {
+                    try {
+                        for (String table : PARTITIONED_TABLES) {
+                            dropPartition(connection, table, month);
+                        }
+                    } catch (SQLException e) {
+                        // The partitions that were dropped stay dropped, the others are dropped by the next run
+                        LOGGER.warn("Could not drop the history partitions of {}, they are dropped by the next history cleanup: {}", month, e.getMessage());
+                        break;
+                    }
+                    droppedMonths++;
+                }
+                month = month.plusMonths(1);
+            }
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not drop expired history table partitions", e);
+        }
+
+        if (droppedMonths > 0) {
+            LOGGER.info("Dropped the history partitions of {} month(s) that ended before {}", droppedMonths, endedBefore);
+        }
+        return droppedMonths;
+    }
+
+    protected LocalDate getFirstMonth(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("select min(START_TIME_) from " + getTableName(PROCESS_INSTANCE_TABLE))) {
+
+            if (resultSet.next()) {
+                Timestamp startTime = resultSet.getTimestamp(1);
+                if (startTime != null) {
+                    return startTime.toLocalDateTime().toLocalDate().withDayOfMonth(1);
+                }
+            }
+            return null;
+        }
+    }
+
+    protected boolean isExpired(Connection connection, LocalDate month, LocalDateTime endedBefore) throws SQLException {
+        // Only the partition key is used for the start time, so the database only needs to look at the partition of the month
+        String sql = "select count(*) from " + getTableName(PROCESS_INSTANCE_TABLE)
+                + " where START_TIME_ >= ? and START_TIME_ < ? and (END_TIME_ is null or END_TIME_ >= ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setTimestamp(1, Timestamp.valueOf(month.atStartOfDay()));
+            statement.setTimestamp(2, Timestamp.valueOf(month.plusMonths(1).atStartOfDay()));
+            statement.setTimestamp(3, Timestamp.valueOf(endedBefore));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getLong(1) == 0;
+            }
+        }
+    }
+
+    protected void dropPartition(Connection connection, String table, LocalDate month) throws SQLException {
+        String sql;
+        if (isPostgres()) {
+            sql = "drop table if exists " + getPartitionName(table, month);
+        } else {
+            sql = "alter table " + getTableName(table) + " drop partition for (TIMESTAMP '" + toTimestampLiteral(month) + "') update global indexes";
+        }
+
+        try {
+            executeDdl(connection, sql);
+        } catch (SQLException e) {
+            // ORA-02149: there is no partition for the month
+            if (isPostgres() || e.getErrorCode() != 2149) {
+                throw e;
+            }
+        }
+    }
+
+    protected void executeDdl(Connection connection, String sql) throws SQLException {
+        // The lock timeout is only set for the DDL statement, so it isn't left on the pooled connection
+        try (Statement statement = connection.createStatement()) {
+            if (isPostgres()) {
+                connection.setAutoCommit(false);
+                try {
+                    statement.execute("set local lock_timeout = " + lockTimeout);
+                    statement.execute(sql);
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+
+            } else {
+                // The DDL lock timeout is in seconds
+                statement.execute("alter session set ddl_lock_timeout = " + Math.max(1, lockTimeout / 1000));
+                try {
+                    statement.execute(sql);
+                } finally {
+                    statement.execute("alter session set ddl_lock_timeout = 0");
+                }
+            }
+        }
+    }
+
+    protected Connection getConnection() throws SQLException {
+        // The partitions are managed outside of the transaction of the engine, DDL can't be rolled back on Oracle anyway
+        Connection connection = processEngineConfiguration.getDataSource().getConnection();
+        connection.setAutoCommit(true);
+        return connection;
+    }
+
+    protected LocalDate getCurrentMonth() {
+        return LocalDateTime.ofInstant(processEngineConfiguration.getClock().getCurrentTime().toInstant(), ZoneId.systemDefault())
+                .toLocalDate().withDayOfMonth(1);
+    }
+
+    protected String getTableName(String table) {
+        return processEngineConfiguration.getDatabaseTablePrefix() + table;
+    }
+
+    protected String getPartitionName(String table, LocalDate month) {
+        return getTableName(table) + "_P" + month.format(PARTITION_SUFFIX_FORMAT);
+    }
+
+    protected String toTimestampLiteral(LocalDate month) {
+        return month.atStartOfDay().format(TIMESTAMP_FORMAT);
+    }
+
+    protected boolean isPostgres() {
+        return AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES.equals(processEngineConfiguration.getDatabaseType());
+    }
+
+    public long getLockTimeout() {
+        return lockTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds the creation and dropping of a partition waits for its lock, 5 seconds by default.
+     */
+    public void setLockTimeout(long lockTimeout) {
+        this.lockTimeout = lockTimeout;
+    }
+
+}
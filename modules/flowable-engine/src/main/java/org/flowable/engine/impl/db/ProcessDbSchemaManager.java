@@ -126,7 +126,11 @@ public class ProcessDbSchemaManager extends AbstractSqlScriptBasedDbSchemaManage
     }
 
     protected void dbSchemaCreateHistory() {
-        executeMandatorySchemaResource("create", "history");
+        if (getProcessEngineConfiguration().isEnableHistoryTablePartitioning()) {
+            executeMandatorySchemaResource("create", "history.partitioned");
+        } else {
+            executeMandatorySchemaResource("create", "history");
+        }
     }
 
     protected void dbSchemaCreateEngine() {
@@ -309,6 +313,10 @@ public class ProcessDbSchemaManager extends AbstractSqlScriptBasedDbSchemaManage
     }
 
     public boolean isHistoryTablePresent() {
+        if (getProcessEngineConfiguration().isEnableHistoryTablePartitioning()) {
+            // Depending on the driver, a partitioned table is not reported as a table by the database metadata
+            return isTablePresent("ACT_HI_COMMENT");
+        }
         return isTablePresent("ACT_HI_PROCINST");
     }
 
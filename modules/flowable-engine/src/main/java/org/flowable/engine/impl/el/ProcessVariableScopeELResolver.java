@@ -23,10 +23,6 @@ import org.flowable.task.service.impl.persistence.entity.TaskEntity;
  * @author Joram Barrez
  */
 public class ProcessVariableScopeELResolver extends VariableContainerELResolver  {
-    
-    public ProcessVariableScopeELResolver(VariableContainer variableContainer) {
-        super(variableContainer);
-    }
 
     public static final String EXECUTION_KEY = "execution";
     public static final String TASK_KEY = "task";
@@ -34,6 +30,7 @@ public class ProcessVariableScopeELResolver extends VariableContainerELResolver
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
         if (base == null) {
+            VariableContainer variableContainer = getVariableContainer(context);
             if ((EXECUTION_KEY.equals(property) && variableContainer instanceof ExecutionEntity) || (TASK_KEY.equals(property) && variableContainer instanceof TaskEntity)) {
                 context.setPropertyResolved(true);
                 return variableContainer;
@@ -15,9 +15,12 @@ package org.flowable.engine.impl.eventregistry;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.flowable.bpmn.constants.BpmnXMLConstants;
 import org.flowable.bpmn.model.BpmnModel;
@@ -25,9 +28,12 @@ import org.flowable.bpmn.model.ExtensionElement;
 import org.flowable.bpmn.model.StartEvent;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.impl.constant.EventConstants;
@@ -72,8 +78,61 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         }
     }
 
+    @Override
+    protected void eventInstancesReceived(List<EventInstance> eventInstances) {
+
+        // Batch mode: the event subscriptions of all event instances are fetched with one query per event type,
+        // and all of them are handled in one transaction. If the handling of one of the events fails,
+        // the whole batch is rolled back, so that the channel adapter can redeliver it.
+
+        Map<EventInstance, Collection<CorrelationKey>> correlationKeysByEventInstance = new LinkedHashMap<>();
+        for (EventInstance eventInstance : eventInstances) {
+            correlationKeysByEventInstance.put(eventInstance, generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()));
+        }
+
+        RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
+        commandExecutor.execute(commandContext -> {
+            Map<EventInstance, List<EventSubscription>> eventSubscriptionsByEventInstance = findEventSubscriptions(ScopeTypes.BPMN, correlationKeysByEventInstance);
+
+            // The unique reference ids of the process instances started by this batch, per process definition.
+            // Those process instances are not flushed yet, so the process instance query can't find them.
+            Map<String, Set<String>> startedReferenceIds = new HashMap<>();
+            for (Map.Entry<EventInstance, List<EventSubscription>> entry : eventSubscriptionsByEventInstance.entrySet()) {
+                EventInstance eventInstance = entry.getKey();
+                Collection<CorrelationKey> correlationKeys = correlationKeysByEventInstance.get(eventInstance);
+                for (EventSubscription eventSubscription : getCurrentEventSubscriptions(commandContext, ScopeTypes.BPMN, eventInstance, correlationKeys, entry.getValue())) {
+                    handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys, startedReferenceIds);
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    protected boolean isEventSubscriptionDeleted(CommandContext commandContext, EventSubscription eventSubscription) {
+        if (super.isEventSubscriptionDeleted(commandContext, eventSubscription)) {
+            return true;
+        }
+
+        // The event subscriptions of an execution are bulk deleted when the execution is deleted
+        if (eventSubscription.getExecutionId() != null) {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(eventSubscription.getExecutionId());
+            return execution == null || execution.isDeleted();
+        }
+        return false;
+    }
+
     protected void handleEventSubscription(RuntimeService runtimeService, EventSubscription eventSubscription,
             EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+        handleEventSubscription(runtimeService, eventSubscription, eventInstance, correlationKeys, null);
+    }
+
+    /**
+     * @param startedReferenceIds the unique reference ids of the process instances that were started earlier in the same transaction, per process definition id,
+     *          or {@code null} when the event subscription is handled in its own transaction
+     */
+    protected void handleEventSubscription(RuntimeService runtimeService, EventSubscription eventSubscription,
+            EventInstance eventInstance, Collection<CorrelationKey> correlationKeys, Map<String, Set<String>> startedReferenceIds) {
 
         if (eventSubscription.getExecutionId() != null) {
 
@@ -103,6 +162,12 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
                     CorrelationKey correlationKeyWithAllParameters = getCorrelationKeyWithAllParameters(correlationKeys);
 
+                    if (startedReferenceIds != null && startedReferenceIds.getOrDefault(eventSubscription.getProcessDefinitionId(), Collections.emptySet())
+                            .contains(correlationKeyWithAllParameters.getValue())) {
+                        LOGGER.debug("Event received to start a new process instance, but a unique instance was already started by the same batch.");
+                        return;
+                    }
+
                     long processInstanceCount = runtimeService.createProcessInstanceQuery()
                         .processDefinitionId(eventSubscription.getProcessDefinitionId())
                         .processInstanceReferenceId(correlationKeyWithAllParameters.getValue())
@@ -118,6 +183,11 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
                     processInstanceBuilder.referenceId(correlationKeyWithAllParameters.getValue());
                     processInstanceBuilder.referenceType(ReferenceTypes.EVENT_PROCESS);
 
+                    if (startedReferenceIds != null) {
+                        startedReferenceIds.computeIfAbsent(eventSubscription.getProcessDefinitionId(), key -> new HashSet<>())
+                            .add(correlationKeyWithAllParameters.getValue());
+                    }
+
                 }
             }
 
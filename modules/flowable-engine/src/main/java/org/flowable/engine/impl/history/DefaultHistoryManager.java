@@ -31,6 +31,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailVariableInstanceUpdateEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricFormPropertyEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
@@ -48,6 +49,7 @@ import org.flowable.task.service.HistoricTaskService;
 import org.flowable.task.service.impl.HistoricTaskInstanceQueryImpl;
 import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -245,6 +247,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
             }
             HistoricTaskInstanceEntity historicTaskInstance = CommandContextUtil.getHistoricTaskService().recordTaskCreated(task);
             historicTaskInstance.setLastUpdateTime(processEngineConfiguration.getClock().getCurrentTime());
+            historicTaskInstance.setPartitionTime(getPartitionTime(task.getProcessInstanceId()));
 
             if (execution != null) {
                 historicTaskInstance.setExecutionId(execution.getId());
@@ -315,7 +318,8 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
         }
         
         if (isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processDefinitionId)) {
-            CommandContextUtil.getHistoricVariableService().createAndInsert(variable, createTime);
+            HistoricVariableInstanceEntity historicVariableInstance = CommandContextUtil.getHistoricVariableService().createAndInsert(variable, createTime);
+            historicVariableInstance.setPartitionTime(getPartitionTime(variable.getProcessInstanceId()));
         }
     }
 
@@ -327,6 +331,7 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
         if (isHistoryLevelAtLeast(HistoryLevel.FULL, processDefinitionId)) {
 
             HistoricDetailVariableInstanceUpdateEntity historicVariableUpdate = getHistoricDetailEntityManager().copyAndInsertHistoricDetailVariableInstanceUpdateEntity(variable, createTime);
+            historicVariableUpdate.setPartitionTime(getPartitionTime(variable.getProcessInstanceId()));
 
             if (StringUtils.isNotEmpty(activityInstanceId)) {
                 historicVariableUpdate.setActivityInstanceId(activityInstanceId);
@@ -372,7 +377,9 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
         if (isHistoryLevelAtLeast(HistoryLevel.AUDIT, processInstance.getProcessDefinitionId())) {
             for (String propertyId : properties.keySet()) {
                 String propertyValue = properties.get(propertyId);
-                getHistoricDetailEntityManager().insertHistoricFormPropertyEntity(processInstance, propertyId, propertyValue, taskId, createTime);
+                HistoricFormPropertyEntity historicFormProperty = getHistoricDetailEntityManager().insertHistoricFormPropertyEntity(processInstance, propertyId,
+                        propertyValue, taskId, createTime);
+                historicFormProperty.setPartitionTime(getPartitionTime(processInstance.getProcessInstanceId()));
             }
         }
     }
@@ -537,10 +544,27 @@ public class DefaultHistoryManager extends AbstractHistoryManager {
         historicActivityInstanceEntity.setDeleteReason(activityInstance.getDeleteReason());
         historicActivityInstanceEntity.setDurationInMillis(activityInstance.getDurationInMillis());
         historicActivityInstanceEntity.setTenantId(activityInstance.getTenantId());
-
+        historicActivityInstanceEntity.setPartitionTime(getPartitionTime(activityInstance.getProcessInstanceId()));
 
         getHistoricActivityInstanceEntityManager().insert(historicActivityInstanceEntity);
         return historicActivityInstanceEntity;
     }
 
+    /**
+     * Returns the start time of the process instance, which is the partition key of its history when history table partitioning is enabled.
+     */
+    protected Date getPartitionTime(String processInstanceId) {
+        if (!processEngineConfiguration.isEnableHistoryTablePartitioning() || processInstanceId == null) {
+            return null;
+        }
+
+        ExecutionEntity processInstance = getExecutionEntityManager().findById(processInstanceId);
+        if (processInstance != null) {
+            return processInstance.getStartTime();
+        }
+
+        HistoricProcessInstanceEntity historicProcessInstance = getHistoricProcessInstanceEntityManager().findById(processInstanceId);
+        return historicProcessInstance != null ? historicProcessInstance.getStartTime() : null;
+    }
+
 }
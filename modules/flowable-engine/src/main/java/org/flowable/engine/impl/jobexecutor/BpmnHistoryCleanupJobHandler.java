@@ -14,6 +14,7 @@ package org.flowable.engine.impl.jobexecutor;
 
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.db.HistoryTablePartitionManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
@@ -32,6 +33,13 @@ public class BpmnHistoryCleanupJobHandler implements JobHandler {
     public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
 
+        HistoryTablePartitionManager historyTablePartitionManager = processEngineConfiguration.getHistoryTablePartitionManager();
+        if (historyTablePartitionManager != null) {
+            // Dropping the partitions of expired months first leaves less rows for the regular cleanup, which also removes the related data
+            historyTablePartitionManager.createPartitions();
+            historyTablePartitionManager.dropExpiredPartitions();
+        }
+
         processEngineConfiguration.getHistoryCleaningManager().createHistoricProcessInstanceCleaningQuery().deleteWithRelatedData();
     }
     
@@ -0,0 +1,351 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.batch.api.Batch;
+import org.flowable.batch.api.BatchPart;
+import org.flowable.batch.api.BatchService;
+import org.flowable.batch.service.impl.persistence.entity.BatchEntity;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.content.api.ContentService;
+import org.flowable.dmn.api.DmnEngineConfigurationApi;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.impl.util.TaskHelper;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.form.api.FormService;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Deletes a deployment that was submitted for asynchronous deletion (see {@link org.flowable.engine.RepositoryService#deleteDeploymentAsync(String)})
+ * one chunk at a time, each chunk in its own transaction.
+ *
+ * First the runtime process instances are deleted, then the historic process instances. The form instances, content items
+ * and decision history of the process instances and their sub process instances are deleted with them.
+ * A chunk holds at most the chunk size of process instances including their sub process instances, except when a single root
+ * process instance has more. Each chunk is recorded as a completed batch part with the number of deleted instances. When nothing is left,
+ * the deployment itself is deleted and the batch is completed. Otherwise the job for the next chunk is scheduled,
+ * after the configured chunk delay when there is one.
+ *
+ * When a chunk job fails and is moved to the dead letter jobs, the batch stays incomplete until the deletion is submitted again,
+ * which continues the batch (see {@link org.flowable.engine.impl.cmd.DeleteDeploymentAsyncCmd}).
+ */
+public class DeploymentDeletionJobHandler implements JobHandler {
+
+    public static final String TYPE = "deployment-deletion";
+
+    public static final String STATUS_DELETING_RUNTIME_DATA = "deletingRuntimeData";
+    public static final String STATUS_DELETING_HISTORIC_DATA = "deletingHistoricData";
+    public static final String STATUS_COMPLETED = "completed";
+
+    public static final String PHASE_RUNTIME = "runtime";
+    public static final String PHASE_HISTORY = "history";
+    public static final String PHASE_DEPLOYMENT = "deployment";
+
+    public static final String DEPLOYMENT_ID_LABEL = "deploymentId";
+    public static final String CHUNK_SIZE_LABEL = "chunkSize";
+    public static final String PHASE_LABEL = "phase";
+    public static final String DELETED_COUNT_LABEL = "deletedCount";
+
+    protected static final String CFG_LABEL_BATCH_ID = "batchId";
+    protected static final String DELETE_REASON = "deleted deployment";
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+
+        String batchId = readConfiguration(processEngineConfiguration.getObjectMapper(), configuration).path(CFG_LABEL_BATCH_ID).asText(null);
+        Batch batch = batchId != null ? batchService.getBatch(batchId) : null;
+        if (batch == null || batch.getCompleteTime() != null) {
+            return;
+        }
+
+        JsonNode batchDocument = readConfiguration(processEngineConfiguration.getObjectMapper(), batch.getBatchDocumentJson());
+        String deploymentId = batchDocument.path(DEPLOYMENT_ID_LABEL).asText();
+        int chunkSize = batchDocument.path(CHUNK_SIZE_LABEL).asInt(processEngineConfiguration.getDeploymentDeletionChunkSize());
+
+        List<String> rootProcessInstanceIds = findRootProcessInstanceIds(deploymentId, chunkSize, commandContext);
+        if (!rootProcessInstanceIds.isEmpty()) {
+            List<String> allProcessInstanceIds = new ArrayList<>();
+            List<String> processInstanceIds = limitChunk(findProcessInstanceIdsByRoot(rootProcessInstanceIds, commandContext), chunkSize, allProcessInstanceIds);
+
+            CommandContextUtil.getExecutionEntityManager(commandContext).bulkDeleteProcessInstances(processInstanceIds, DELETE_REASON, true);
+            deleteRelatedData(allProcessInstanceIds, commandContext);
+
+            completeChunk(batch, PHASE_RUNTIME, allProcessInstanceIds.size(), commandContext);
+            scheduleNextChunk(batch, processEngineConfiguration.getDeploymentDeletionChunkDelay(), commandContext);
+            return;
+        }
+
+        if (STATUS_DELETING_RUNTIME_DATA.equals(batch.getStatus())) {
+            ((BatchEntity) batch).setStatus(STATUS_DELETING_HISTORIC_DATA);
+            batchService.updateBatch(batch);
+        }
+
+        List<HistoricProcessInstance> historicProcessInstances = findRootHistoricProcessInstances(deploymentId, chunkSize, commandContext);
+        if (!historicProcessInstances.isEmpty()) {
+            List<String> historicProcessInstanceIds = new ArrayList<>();
+            limitChunk(findHistoricProcessInstanceIdsByRoot(historicProcessInstances, commandContext), chunkSize, historicProcessInstanceIds);
+
+            deleteHistoricProcessInstances(historicProcessInstanceIds, commandContext);
+            deleteRelatedData(historicProcessInstanceIds, commandContext);
+
+            completeChunk(batch, PHASE_HISTORY, historicProcessInstanceIds.size(), commandContext);
+            scheduleNextChunk(batch, processEngineConfiguration.getDeploymentDeletionChunkDelay(), commandContext);
+            return;
+        }
+
+        // Only the process instances started by process instances of other deployments are left, those are deleted together with the deployment
+        processEngineConfiguration.getDeploymentManager().removeDeployment(deploymentId, true);
+        completeChunk(batch, PHASE_DEPLOYMENT, 1, commandContext);
+
+        BatchEntity batchEntity = (BatchEntity) batch;
+        batchEntity.setStatus(STATUS_COMPLETED);
+        batchEntity.setCompleteTime(processEngineConfiguration.getClock().getCurrentTime());
+        batchService.updateBatch(batchEntity);
+    }
+
+    protected List<String> findRootProcessInstanceIds(String deploymentId, int chunkSize, CommandContext commandContext) {
+        ProcessInstanceQueryImpl processInstanceQuery = new ProcessInstanceQueryImpl();
+        processInstanceQuery.deploymentId(deploymentId).excludeSubprocesses(true);
+        processInstanceQuery.setFirstResult(0);
+        processInstanceQuery.setMaxResults(chunkSize);
+
+        List<ProcessInstance> processInstances = CommandContextUtil.getExecutionEntityManager(commandContext).findProcessInstanceByQueryCriteria(processInstanceQuery);
+        List<String> processInstanceIds = new ArrayList<>(processInstances.size());
+        for (ProcessInstance processInstance : processInstances) {
+            processInstanceIds.add(processInstance.getId());
+        }
+        return processInstanceIds;
+    }
+
+    /**
+     * Returns the ids of the process instances of each given root process instance, including the root process instance, with one query.
+     */
+    protected Map<String, List<String>> findProcessInstanceIdsByRoot(List<String> rootProcessInstanceIds, CommandContext commandContext) {
+        Map<String, List<String>> processInstanceIdsByRoot = new LinkedHashMap<>();
+        for (String rootProcessInstanceId : rootProcessInstanceIds) {
+            List<String> processInstanceIds = new ArrayList<>();
+            processInstanceIds.add(rootProcessInstanceId);
+            processInstanceIdsByRoot.put(rootProcessInstanceId, processInstanceIds);
+        }
+
+        for (ExecutionEntity processInstance : CommandContextUtil.getExecutionEntityManager(commandContext).findProcessInstancesByRootProcessInstanceIds(rootProcessInstanceIds)) {
+            if (!processInstance.getId().equals(processInstance.getRootProcessInstanceId())) {
+                processInstanceIdsByRoot.get(processInstance.getRootProcessInstanceId()).add(processInstance.getId());
+            }
+        }
+        return processInstanceIdsByRoot;
+    }
+
+    /**
+     * Returns the ids of the historic process instances of each given root historic process instance, including the root process instance.
+     * The historic process instances don't store their root, so the sub process instances are queried one level at a time for all roots together.
+     */
+    protected Map<String, List<String>> findHistoricProcessInstanceIdsByRoot(List<HistoricProcessInstance> rootHistoricProcessInstances,
+            CommandContext commandContext) {
+
+        Map<String, List<String>> processInstanceIdsByRoot = new LinkedHashMap<>();
+        Map<String, String> rootIdsByProcessInstanceId = new HashMap<>();
+        for (HistoricProcessInstance rootHistoricProcessInstance : rootHistoricProcessInstances) {
+            List<String> processInstanceIds = new ArrayList<>();
+            processInstanceIds.add(rootHistoricProcessInstance.getId());
+            processInstanceIdsByRoot.put(rootHistoricProcessInstance.getId(), processInstanceIds);
+            rootIdsByProcessInstanceId.put(rootHistoricProcessInstance.getId(), rootHistoricProcessInstance.getId());
+        }
+
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext);
+        Collection<String> superProcessInstanceIds = new ArrayList<>(processInstanceIdsByRoot.keySet());
+        while (!superProcessInstanceIds.isEmpty()) {
+            List<String> subProcessInstanceIds = new ArrayList<>();
+            for (HistoricProcessInstance subProcessInstance : historicProcessInstanceEntityManager.findHistoricProcessInstancesBySuperProcessInstanceIds(superProcessInstanceIds)) {
+                String rootProcessInstanceId = rootIdsByProcessInstanceId.get(subProcessInstance.getSuperProcessInstanceId());
+                rootIdsByProcessInstanceId.put(subProcessInstance.getId(), rootProcessInstanceId);
+                processInstanceIdsByRoot.get(rootProcessInstanceId).add(subProcessInstance.getId());
+                subProcessInstanceIds.add(subProcessInstance.getId());
+            }
+            superProcessInstanceIds = subProcessInstanceIds;
+        }
+        return processInstanceIdsByRoot;
+    }
+
+    /**
+     * Selects the root process instances of the chunk, so that the chunk holds at most the chunk size of process instances including the sub process instances.
+     * The first root process instance is always selected, so a root process instance with more sub process instances than the chunk size is still deleted.
+     *
+     * @param processInstanceIdsByRoot the ids of the process instances of each root process instance, including the root process instance
+     * @param allProcessInstanceIds receives the ids of the process instances of the selected root process instances
+     * @return the ids of the selected root process instances
+     */
+    protected List<String> limitChunk(Map<String, List<String>> processInstanceIdsByRoot, int chunkSize, List<String> allProcessInstanceIds) {
+        List<String> rootProcessInstanceIds = new ArrayList<>();
+        for (Map.Entry<String, List<String>> processInstanceIds : processInstanceIdsByRoot.entrySet()) {
+            if (!rootProcessInstanceIds.isEmpty() && allProcessInstanceIds.size() + processInstanceIds.getValue().size() > chunkSize) {
+                break;
+            }
+            rootProcessInstanceIds.add(processInstanceIds.getKey());
+            allProcessInstanceIds.addAll(processInstanceIds.getValue());
+        }
+        return rootProcessInstanceIds;
+    }
+
+    protected List<HistoricProcessInstance> findRootHistoricProcessInstances(String deploymentId, int chunkSize, CommandContext commandContext) {
+        HistoricProcessInstanceQueryImpl historicProcessInstanceQuery = new HistoricProcessInstanceQueryImpl();
+        historicProcessInstanceQuery.deploymentId(deploymentId).excludeSubprocesses(true);
+        historicProcessInstanceQuery.setFirstResult(0);
+        historicProcessInstanceQuery.setMaxResults(chunkSize);
+        return CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).findHistoricProcessInstancesByQueryCriteria(historicProcessInstanceQuery);
+    }
+
+    /**
+     * Deletes the given historic process instances with their history. The history is deleted directly rather than through the history manager:
+     * with async history the history manager would only queue the deletion, and the same instances would be selected for the next chunk.
+     * The historic process instances are deleted with bulk statements, their history per process instance.
+     */
+    protected void deleteHistoricProcessInstances(List<String> historicProcessInstanceIds, CommandContext commandContext) {
+        for (String processInstanceId : historicProcessInstanceIds) {
+            deleteHistory(processInstanceId, commandContext);
+        }
+        CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).deleteHistoricProcessInstancesByIds(historicProcessInstanceIds);
+    }
+
+    protected void deleteHistory(String processInstanceId, CommandContext commandContext) {
+        CommandContextUtil.getHistoricDetailEntityManager(commandContext).deleteHistoricDetailsByProcessInstanceId(processInstanceId);
+        CommandContextUtil.getHistoricVariableService().deleteHistoricVariableInstancesByProcessInstanceId(processInstanceId);
+        CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).deleteHistoricActivityInstancesByProcessInstanceId(processInstanceId);
+        TaskHelper.deleteHistoricTaskInstancesByProcessInstanceId(processInstanceId);
+        CommandContextUtil.getHistoricIdentityLinkService().deleteHistoricIdentityLinksByProcessInstanceId(processInstanceId);
+        if (CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableEntityLinks()) {
+            CommandContextUtil.getHistoricEntityLinkService().deleteHistoricEntityLinksByScopeIdAndScopeType(processInstanceId, ScopeTypes.BPMN);
+        }
+        CommandContextUtil.getCommentEntityManager(commandContext).deleteCommentsByProcessInstanceId(processInstanceId);
+    }
+
+    /**
+     * Deletes the data other engines keep for the given process instances, when those engines are configured.
+     */
+    protected void deleteRelatedData(List<String> processInstanceIds, CommandContext commandContext) {
+        FormService formService = CommandContextUtil.getFormService(commandContext);
+        if (formService != null) {
+            formService.deleteFormInstancesByProcessInstanceIds(processInstanceIds);
+        }
+
+        ContentService contentService = CommandContextUtil.getContentService(commandContext);
+        if (contentService != null) {
+            contentService.deleteContentItemsByProcessInstanceIds(processInstanceIds);
+        }
+
+        DmnEngineConfigurationApi dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration(commandContext);
+        if (dmnEngineConfiguration != null) {
+            dmnEngineConfiguration.getDmnHistoryService().deleteHistoricDecisionExecutionsByInstanceIds(processInstanceIds);
+        }
+    }
+
+    protected void completeChunk(Batch batch, String phase, int deletedCount, CommandContext commandContext) {
+        BatchService batchService = CommandContextUtil.getBatchService(commandContext);
+        BatchPart batchPart = batchService.createBatchPart(batch, phase, batch.getBatchSearchKey(), null, ScopeTypes.BPMN);
+
+        ObjectNode result = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().createObjectNode();
+        result.put(PHASE_LABEL, phase);
+        result.put(DELETED_COUNT_LABEL, deletedCount);
+        batchService.completeBatchPart(batchPart.getId(), phase, result.toString());
+    }
+
+    /**
+     * Schedules the job that deletes the next chunk of the given deployment deletion batch: an async job when the delay is 0,
+     * or a timer job that is due after the delay in milliseconds otherwise.
+     */
+    public static void scheduleNextChunk(Batch batch, long delay, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        ObjectNode handlerCfg = processEngineConfiguration.getObjectMapper().createObjectNode();
+        handlerCfg.put(CFG_LABEL_BATCH_ID, batch.getId());
+
+        if (delay > 0) {
+            TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+            TimerJobEntity timerJob = timerJobService.createTimerJob();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setRevision(1);
+            timerJob.setJobHandlerType(TYPE);
+            timerJob.setJobHandlerConfiguration(handlerCfg.toString());
+            timerJob.setTenantId(batch.getTenantId());
+            timerJob.setDuedate(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + delay));
+            timerJobService.scheduleTimerJob(timerJob);
+
+        } else {
+            JobService jobService = CommandContextUtil.getJobService(commandContext);
+            JobEntity job = jobService.createJob();
+            job.setJobHandlerType(TYPE);
+            job.setJobHandlerConfiguration(handlerCfg.toString());
+            job.setTenantId(batch.getTenantId());
+            jobService.createAsyncJob(job, false);
+            jobService.scheduleAsyncJob(job);
+        }
+    }
+
+    /**
+     * Returns whether the given job deletes a chunk of the given deployment deletion batch.
+     */
+    public static boolean isChunkJob(JobInfo job, Batch batch, CommandContext commandContext) {
+        if (!TYPE.equals(job.getJobHandlerType()) || job.getJobHandlerConfiguration() == null) {
+            return false;
+        }
+
+        try {
+            JsonNode handlerCfg = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().readTree(job.getJobHandlerConfiguration());
+            return batch.getId().equals(handlerCfg.path(CFG_LABEL_BATCH_ID).asText(null));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    protected JsonNode readConfiguration(ObjectMapper objectMapper, String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read deployment deletion configuration " + json, e);
+        }
+    }
+
+}
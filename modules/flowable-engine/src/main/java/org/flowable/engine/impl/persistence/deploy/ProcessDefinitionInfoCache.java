@@ -23,6 +23,7 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.persistence.cache.ClusterChangeStamp;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
@@ -35,15 +36,26 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Default cache: keep everything in memory, unless a limit is set.
+ *
+ * By default every lookup reads the process definition info from the database to compare its revision with the cached one.
+ * When a {@link ClusterChangeStamp} is set, the cached objects are used as long as the stamp did not change.
+ * The stamp is changed whenever process definition info is saved (see {@link #processDefinitionInfoChanged(CommandContext)}),
+ * and is checked at most once per check interval, which bounds how long other nodes can use outdated info.
  * 
  * @author Tijs Rademakers
  */
 public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefinitionInfoCacheObject> {
 
+    public static final String CHANGE_STAMP_PROPERTY_NAME = "procdef.info.stamp";
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ProcessDefinitionInfoCache.class);
 
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
+    protected ClusterChangeStamp changeStamp;
+
+    // Incremented when the cache is cleared, so an object read from the database before the cache was cleared isn't cached afterwards
+    protected long generation;
 
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
@@ -109,7 +121,10 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
 
     @Override
     public void clear() {
-        cache.clear();
+        synchronized (this) {
+            generation++;
+            cache.clear();
+        }
     }
 
     @Override
@@ -122,19 +137,55 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
         return cache.size();
     }
 
+    /**
+     * Must be called when process definition info is changed, so that the caches of all nodes
+     * discard their cached objects once the change stamp is checked. Does nothing when no change stamp is used.
+     */
+    public void processDefinitionInfoChanged(CommandContext commandContext) {
+        if (changeStamp != null) {
+            changeStamp.markChanged(commandContext);
+        }
+    }
+
     protected ProcessDefinitionInfoCacheObject retrieveProcessDefinitionInfoCacheObject(String processDefinitionId, CommandContext commandContext) {
-        ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
-        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+        if (changeStamp != null && !changeStamp.isChangedIn(commandContext)) {
+            if (changeStamp.checkForChange(commandContext)) {
+                clear();
+            }
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+            ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+            if (cacheObject == null) {
+                // A new object is cached, as the cached objects can be used by other threads without any further synchronization
+                long currentGeneration = getGeneration();
+                cacheObject = new ProcessDefinitionInfoCacheObject();
+                cacheObject.setRevision(0);
+                cacheObject.setInfoNode(CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().createObjectNode());
+                cacheObject = refreshProcessDefinitionInfoCacheObject(processDefinitionId, cacheObject, commandContext);
+                synchronized (this) {
+                    if (generation == currentGeneration) {
+                        add(processDefinitionId, cacheObject);
+                    }
+                }
+            }
+            return cacheObject;
+        }
+
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
-            cacheObject.setInfoNode(objectMapper.createObjectNode());
+            cacheObject.setInfoNode(CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().createObjectNode());
         }
 
+        return refreshProcessDefinitionInfoCacheObject(processDefinitionId, cacheObject, commandContext);
+    }
+
+    protected ProcessDefinitionInfoCacheObject refreshProcessDefinitionInfoCacheObject(String processDefinitionId,
+            ProcessDefinitionInfoCacheObject cacheObject, CommandContext commandContext) {
+
+        ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+
         ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
         if (infoEntity != null && infoEntity.getRevision() != cacheObject.getRevision()) {
             cacheObject.setRevision(infoEntity.getRevision());
@@ -155,4 +206,16 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
         return cacheObject;
     }
 
+    public ClusterChangeStamp getChangeStamp() {
+        return changeStamp;
+    }
+
+    public void setChangeStamp(ClusterChangeStamp changeStamp) {
+        this.changeStamp = changeStamp;
+    }
+
+    protected synchronized long getGeneration() {
+        return generation;
+    }
+
 }
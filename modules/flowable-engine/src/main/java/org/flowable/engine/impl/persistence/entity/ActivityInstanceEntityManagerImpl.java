@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity;
 
 import static org.flowable.engine.impl.util.CommandContextUtil.getEntityCache;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +65,11 @@ public class ActivityInstanceEntityManagerImpl
         dataManager.deleteActivityInstancesByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void deleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteActivityInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public long findActivityInstanceCountByQueryCriteria(ActivityInstanceQueryImpl historicActivityInstanceQuery) {
         return dataManager.findActivityInstanceCountByQueryCriteria(historicActivityInstanceQuery);
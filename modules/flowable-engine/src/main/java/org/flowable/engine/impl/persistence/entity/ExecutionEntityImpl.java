@@ -34,6 +34,7 @@ import org.flowable.engine.impl.util.BpmnLoggingSessionUtil;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.CountingEntityUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
+import org.flowable.engine.impl.util.VariablePrefetchUtil;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
@@ -606,7 +607,23 @@ public class ExecutionEntityImpl extends AbstractBpmnEngineVariableScopeEntity i
 
     @Override
     protected Collection<VariableInstanceEntity> loadVariableInstances() {
-        return CommandContextUtil.getVariableService().findVariableInstancesByExecutionId(id);
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        if (VariablePrefetchUtil.isVariablePrefetchEnabled(processDefinitionId)) {
+            Collection<VariableInstanceEntity> variableInstances = VariablePrefetchUtil.prefetchProcessInstanceVariables(this, commandContext);
+            if (variableInstances != null) {
+                return variableInstances;
+            }
+        }
+        return CommandContextUtil.getVariableService(commandContext).findVariableInstancesByExecutionId(id);
+    }
+
+    @Override
+    protected boolean isFetchAllVariablesOnGet() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null) {
+            return true;
+        }
+        return CommandContextUtil.getProcessEngineConfiguration(commandContext).isFetchAllVariablesOnGet();
     }
 
     @Override
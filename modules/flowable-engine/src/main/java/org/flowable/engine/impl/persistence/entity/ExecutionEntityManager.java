@@ -90,6 +90,17 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade);
 
+    /**
+     * Deletes the given root process instances, including their sub process instances, with a fixed number of statements
+     * for all process instances together, instead of deleting the related data execution by execution.
+     */
+    void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason, boolean fireEvents);
+
+    /**
+     * Returns the process instances of the given root process instances, including the root process instances themselves.
+     */
+    List<ExecutionEntity> findProcessInstancesByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds);
+
     void deleteProcessInstanceExecutionEntity(String processInstanceId, String currentFlowElementId,
             String deleteReason, boolean cascade, boolean cancel, boolean fireEvents);
 
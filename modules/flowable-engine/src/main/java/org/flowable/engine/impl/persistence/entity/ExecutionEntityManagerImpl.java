@@ -460,6 +460,91 @@ public class ExecutionEntityManagerImpl
         }
     }
 
+    @Override
+    public List<ExecutionEntity> findProcessInstancesByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds) {
+        return dataManager.findProcessInstancesByRootProcessInstanceIds(rootProcessInstanceIds);
+    }
+
+    @Override
+    public void bulkDeleteProcessInstances(Collection<String> processInstanceIds, String deleteReason, boolean fireEvents) {
+        if (processInstanceIds.isEmpty()) {
+            return;
+        }
+
+        // fill default reason if none provided
+        if (deleteReason == null) {
+            deleteReason = DeleteReason.PROCESS_INSTANCE_DELETED;
+        }
+
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        FlowableEventDispatcher eventDispatcher = getEventDispatcher();
+        fireEvents = fireEvents && eventDispatcher != null && eventDispatcher.isEnabled();
+
+        // The executions of the process instances and of all their sub process instances are fetched together,
+        // the data managers split the ids over several statements when there are too many for one IN list
+        List<ExecutionEntity> executions = dataManager.findExecutionsByRootProcessInstanceIds(processInstanceIds);
+        List<ExecutionEntity> processInstances = new ArrayList<>();
+        List<String> allProcessInstanceIds = new ArrayList<>();
+        for (ExecutionEntity execution : executions) {
+            if (execution.isProcessInstanceType()) {
+                processInstances.add(execution);
+                allProcessInstanceIds.add(execution.getId());
+            }
+        }
+
+        if (allProcessInstanceIds.isEmpty()) {
+            return;
+        }
+
+        // The executions are deleted with bulk statements, so they are not changed here
+        // (changing them would lead to an update of each execution before it is deleted)
+        for (ExecutionEntity execution : executions) {
+            if (execution.isActive()
+                    && execution.getCurrentFlowElement() != null
+                    && !execution.isMultiInstanceRoot()
+                    && !(execution.getCurrentFlowElement() instanceof BoundaryEvent)) {
+                getActivityInstanceEntityManager().recordActivityEnd(execution, deleteReason);
+            }
+            deleteSubCases(execution, commandContext);
+        }
+
+        // Task listeners and task history are handled per task, the tasks themselves are deleted in bulk
+        TaskHelper.deleteTasksForProcessInstances(allProcessInstanceIds,
+                CommandContextUtil.getTaskService(commandContext).findTasksByProcessInstanceIds(allProcessInstanceIds), deleteReason, fireEvents);
+
+        CommandContextUtil.getIdentityLinkService(commandContext).deleteIdentityLinksByProcessInstanceIds(allProcessInstanceIds);
+        if (engineConfiguration.isEnableEntityLinks()) {
+            CommandContextUtil.getEntityLinkService(commandContext).deleteEntityLinksByScopeIdsAndType(allProcessInstanceIds, ScopeTypes.BPMN);
+        }
+        CommandContextUtil.getVariableService(commandContext).deleteVariablesByProcessInstanceIds(allProcessInstanceIds);
+        CommandContextUtil.getJobService(commandContext).deleteJobsByProcessInstanceIds(allProcessInstanceIds);
+        CommandContextUtil.getEventSubscriptionService(commandContext).deleteEventSubscriptionsByProcessInstanceIds(allProcessInstanceIds);
+        getActivityInstanceEntityManager().deleteActivityInstancesByProcessInstanceIds(allProcessInstanceIds);
+
+        dataManager.clearExecutionReferencesByRootProcessInstanceIds(processInstanceIds);
+        dataManager.deleteExecutionsByRootProcessInstanceIds(processInstanceIds);
+
+        Date endTime = getClock().getCurrentTime();
+        ProcessInstanceHelper processInstanceHelper = CommandContextUtil.getProcessInstanceHelper(commandContext);
+        for (ExecutionEntity processInstance : processInstances) {
+            getHistoryManager().recordProcessInstanceEnd(processInstance, deleteReason, null, endTime);
+
+            if (processInstance.getCallbackId() != null) {
+                processInstanceHelper.callCaseInstanceStateChangeCallbacks(commandContext, processInstance,
+                        ProcessInstanceState.RUNNING, ProcessInstanceState.COMPLETED);
+            }
+
+            if (fireEvents) {
+                eventDispatcher.dispatchEvent(FlowableEventBuilder.createCancelledEvent(processInstance.getId(),
+                        processInstance.getId(), processInstance.getProcessDefinitionId(), deleteReason));
+            }
+        }
+
+        for (ExecutionEntity execution : executions) {
+            execution.setDeleted(true);
+        }
+    }
+
     protected void deleteProcessInstanceCascade(ExecutionEntity execution, String deleteReason, boolean deleteHistory) {
 
         // fill default reason if none provided
@@ -851,7 +936,8 @@ public class ExecutionEntityManagerImpl
             EntityLinkService entityLinkService = CommandContextUtil.getEntityLinkService(commandContext);
             boolean deleteEntityLinks = true;
             if (eventDispatcherEnabled) {
-                List<EntityLink> entityLinks = entityLinkService.findEntityLinksByScopeIdAndType(
+                // Only the stored links are deleted, the links derived from them with hierarchical entity links are not
+                List<EntityLink> entityLinks = entityLinkService.findEntityLinksToDeleteByScopeIdAndType(
                                 executionEntity.getId(), ScopeTypes.BPMN, EntityLinkType.CHILD);
                 for (EntityLink entityLink : entityLinks) {
                     fireEntityDeletedEvent((EntityLinkEntity) entityLink);
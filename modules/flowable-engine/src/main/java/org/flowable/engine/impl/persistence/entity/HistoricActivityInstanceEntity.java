@@ -14,6 +14,8 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Date;
+
 import org.flowable.common.engine.impl.db.HasRevision;
 import org.flowable.engine.history.HistoricActivityInstance;
 
@@ -39,4 +41,11 @@ public interface HistoricActivityInstanceEntity extends HistoricActivityInstance
 
     void setTenantId(String tenantId);
 
+    /**
+     * The start time of the process instance, used as partition key when history table partitioning is enabled.
+     */
+    Date getPartitionTime();
+
+    void setPartitionTime(Date partitionTime);
+
 }
@@ -36,6 +36,7 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
     protected String taskId;
     protected String calledProcessInstanceId;
     protected String tenantId = ProcessEngineConfiguration.NO_TENANT_ID;
+    protected Date partitionTime;
 
     public HistoricActivityInstanceEntityImpl() {
 
@@ -138,6 +139,16 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
         this.tenantId = tenantId;
     }
 
+    @Override
+    public Date getPartitionTime() {
+        return partitionTime;
+    }
+
+    @Override
+    public void setPartitionTime(Date partitionTime) {
+        this.partitionTime = partitionTime;
+    }
+
     @Override
     public Date getTime() {
         return getStartTime();
@@ -34,6 +34,13 @@ public interface HistoricDetailEntity extends HistoricDetail, Entity {
 
     void setTime(Date time);
 
+    /**
+     * The start time of the process instance, used as partition key when history table partitioning is enabled.
+     */
+    Date getPartitionTime();
+
+    void setPartitionTime(Date partitionTime);
+
     String getDetailType();
 
     void setDetailType(String detailType);
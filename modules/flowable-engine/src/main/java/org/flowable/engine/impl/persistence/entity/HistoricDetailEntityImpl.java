@@ -29,6 +29,7 @@ public abstract class HistoricDetailEntityImpl extends AbstractBpmnEngineNoRevis
     protected String taskId;
     protected String executionId;
     protected Date time;
+    protected Date partitionTime;
     protected String detailType;
 
     @Override
@@ -89,6 +90,16 @@ public abstract class HistoricDetailEntityImpl extends AbstractBpmnEngineNoRevis
         this.time = time;
     }
 
+    @Override
+    public Date getPartitionTime() {
+        return partitionTime;
+    }
+
+    @Override
+    public void setPartitionTime(Date partitionTime) {
+        this.partitionTime = partitionTime;
+    }
+
     @Override
     public String getDetailType() {
         return detailType;
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +39,8 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     List<HistoricProcessInstance> findHistoricProcessInstancesByNativeQuery(Map<String, Object> parameterMap);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String historicProcessInstanceId);
+
+    List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceIds(Collection<String> historicProcessInstanceIds);
     
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
     
@@ -45,4 +48,9 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     
     void deleteHistoricProcessInstances(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
 
+    /**
+     * Deletes the given historic process instances with bulk statements, without their related history and without dispatching events.
+     */
+    void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds);
+
 }
\ No newline at end of file
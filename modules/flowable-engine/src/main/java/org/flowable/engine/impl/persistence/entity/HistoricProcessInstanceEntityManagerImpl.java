@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -75,6 +76,11 @@ public class HistoricProcessInstanceEntityManagerImpl
     public List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String historicProcessInstanceId) {
         return dataManager.findHistoricProcessInstancesBySuperProcessInstanceId(historicProcessInstanceId);
     }
+
+    @Override
+    public List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        return dataManager.findHistoricProcessInstancesBySuperProcessInstanceIds(historicProcessInstanceIds);
+    }
     
     @Override
     public List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId) {
@@ -91,6 +97,11 @@ public class HistoricProcessInstanceEntityManagerImpl
         dataManager.deleteHistoricProcessInstances(historicProcessInstanceQuery);
     }
 
+    @Override
+    public void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds) {
+        dataManager.deleteHistoricProcessInstancesByIds(historicProcessInstanceIds);
+    }
+
     protected HistoryManager getHistoryManager() {
         return engineConfiguration.getHistoryManager();
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +32,8 @@ public interface ActivityInstanceDataManager extends DataManager<ActivityInstanc
 
     void deleteActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    void deleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
     long findActivityInstanceCountByQueryCriteria(ActivityInstanceQueryImpl activityInstanceQuery);
 
     List<ActivityInstance> findActivityInstancesByQueryCriteria(ActivityInstanceQueryImpl activityInstanceQuery);
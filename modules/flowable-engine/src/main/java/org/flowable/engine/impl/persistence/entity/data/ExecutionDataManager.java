@@ -71,4 +71,12 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     void clearProcessInstanceLockTime(String processInstanceId);
 
+    List<ExecutionEntity> findExecutionsByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds);
+
+    List<ExecutionEntity> findProcessInstancesByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds);
+
+    void clearExecutionReferencesByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds);
+
+    void deleteExecutionsByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds);
+
 }
@@ -12,12 +12,14 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.ActivityInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntity;
@@ -76,6 +78,17 @@ public class MybatisActivityInstanceDataManager extends AbstractProcessDataManag
         }
     }
 
+    @Override
+    public void deleteActivityInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (String processInstanceId : processInstanceIds) {
+            deleteCachedEntities(dbSqlSession, activitiesByProcessInstanceIdMatcher, processInstanceId);
+        }
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteActivityInstancesByProcessInstanceIds", processInstanceIdsChunk, ActivityInstanceEntityImpl.class);
+        }
+    }
+
     @Override
     public long findActivityInstanceCountByQueryCriteria(ActivityInstanceQueryImpl activityInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectActivityInstanceCountByQueryCriteria", activityInstanceQuery);
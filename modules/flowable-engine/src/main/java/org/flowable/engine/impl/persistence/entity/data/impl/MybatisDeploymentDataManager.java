@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity.data.impl;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.engine.impl.DeploymentQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
@@ -37,6 +38,11 @@ public class MybatisDeploymentDataManager extends AbstractProcessDataManager<Dep
         return DeploymentEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return processEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public DeploymentEntity create() {
         return new DeploymentEntityImpl();
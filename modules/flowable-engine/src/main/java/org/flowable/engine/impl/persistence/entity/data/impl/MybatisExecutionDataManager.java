@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -20,8 +21,10 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.ExecutionQueryImpl;
 import org.flowable.engine.impl.ProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.PerformanceSettings;
@@ -340,5 +343,44 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         params.put("id", processInstanceId);
         getDbSqlSession().update("clearProcessInstanceLockTime", params);
     }
+
+    @Override
+    public List<ExecutionEntity> findExecutionsByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds) {
+        List<ExecutionEntity> executions = new ArrayList<>();
+        for (List<String> rootProcessInstanceIdsChunk : CollectionUtil.partition(rootProcessInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            executions.addAll(getList("selectExecutionsByRootProcessInstanceIds", rootProcessInstanceIdsChunk));
+        }
+        return executions;
+    }
+
+    @Override
+    public List<ExecutionEntity> findProcessInstancesByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds) {
+        List<ExecutionEntity> processInstances = new ArrayList<>();
+        for (List<String> rootProcessInstanceIdsChunk : CollectionUtil.partition(rootProcessInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            processInstances.addAll(getList("selectProcessInstancesByRootProcessInstanceIds", rootProcessInstanceIdsChunk));
+        }
+        return processInstances;
+    }
+
+    @Override
+    public void clearExecutionReferencesByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds) {
+        // Executions reference each other through foreign keys, which are removed first so the executions can be deleted in any order
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> rootProcessInstanceIdsChunk : CollectionUtil.partition(rootProcessInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.update("clearExecutionReferencesByRootProcessInstanceIds", rootProcessInstanceIdsChunk);
+        }
+    }
+
+    @Override
+    public void deleteExecutionsByRootProcessInstanceIds(Collection<String> rootProcessInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<List<String>> rootProcessInstanceIdsChunks = CollectionUtil.partition(rootProcessInstanceIds, MAX_IDS_PER_STATEMENT);
+        for (List<String> rootProcessInstanceIdsChunk : rootProcessInstanceIdsChunks) {
+            dbSqlSession.delete("bulkDeleteChildExecutionsByRootProcessInstanceIds", rootProcessInstanceIdsChunk, ExecutionEntityImpl.class);
+        }
+        for (List<String> rootProcessInstanceIdsChunk : rootProcessInstanceIdsChunks) {
+            dbSqlSession.delete("bulkDeleteProcessInstancesByRootProcessInstanceIds", rootProcessInstanceIdsChunk, ExecutionEntityImpl.class);
+        }
+    }
     
 }
@@ -12,10 +12,14 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -61,6 +65,16 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return getDbSqlSession().selectList("selectHistoricProcessInstanceIdsBySuperProcessInstanceId", superProcessInstanceId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceIds(Collection<String> superProcessInstanceIds) {
+        List<HistoricProcessInstance> historicProcessInstances = new ArrayList<>();
+        for (List<String> superProcessInstanceIdsChunk : CollectionUtil.partition(superProcessInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            historicProcessInstances.addAll(getDbSqlSession().selectList("selectHistoricProcessInstancesBySuperProcessInstanceIds", superProcessInstanceIdsChunk));
+        }
+        return historicProcessInstances;
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByQueryCriteria(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectHistoricProcessInstanceCountByQueryCriteria", historicProcessInstanceQuery);
@@ -125,4 +139,12 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         getDbSqlSession().delete("bulkDeleteHistoricProcessInstances", historicProcessInstanceQuery, HistoricProcessInstanceEntityImpl.class);
     }
 
+    @Override
+    public void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> historicProcessInstanceIdsChunk : CollectionUtil.partition(historicProcessInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteHistoricProcessInstancesByIds", historicProcessInstanceIdsChunk, HistoricProcessInstanceEntityImpl.class);
+        }
+    }
+
 }
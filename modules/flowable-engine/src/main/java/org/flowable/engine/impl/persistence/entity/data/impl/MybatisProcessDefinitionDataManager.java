@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
@@ -39,6 +40,11 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         return ProcessDefinitionEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return processEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public ProcessDefinitionEntity create() {
         return new ProcessDefinitionEntityImpl();
@@ -46,7 +52,8 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
 
     @Override
     public ProcessDefinitionEntity findLatestProcessDefinitionByKey(String processDefinitionKey) {
-        return (ProcessDefinitionEntity) getDbSqlSession().selectOne("selectLatestProcessDefinitionByKey", processDefinitionKey);
+        return findInDefinitionEntityCache("latestByKey:" + processDefinitionKey,
+                () -> (ProcessDefinitionEntity) getDbSqlSession().selectOne("selectLatestProcessDefinitionByKey", processDefinitionKey));
     }
 
     @Override
@@ -54,7 +61,8 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         Map<String, Object> params = new HashMap<>(2);
         params.put("processDefinitionKey", processDefinitionKey);
         params.put("tenantId", tenantId);
-        return (ProcessDefinitionEntity) getDbSqlSession().selectOne("selectLatestProcessDefinitionByKeyAndTenantId", params);
+        return findInDefinitionEntityCache("latestByKeyAndTenantId:" + processDefinitionKey + ":" + tenantId,
+                () -> (ProcessDefinitionEntity) getDbSqlSession().selectOne("selectLatestProcessDefinitionByKeyAndTenantId", params));
     }
     
     @Override
@@ -73,6 +81,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
     @Override
     public void deleteProcessDefinitionsByDeploymentId(String deploymentId) {
         getDbSqlSession().delete("deleteProcessDefinitionsByDeploymentId", deploymentId, ProcessDefinitionEntityImpl.class);
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -167,6 +176,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateProcessDefinitionTenantIdForDeploymentId", params);
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -175,6 +185,7 @@ public class MybatisProcessDefinitionDataManager extends AbstractProcessDataMana
         params.put("processDefinitionId", processDefinitionId);
         params.put("version", version);
         getDbSqlSession().update("updateProcessDefinitionVersionForProcessDefinitionId", params);
+        markDefinitionEntityCacheChanged();
     }
 
 }
@@ -14,8 +14,11 @@ package org.flowable.engine.impl.util;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
@@ -258,7 +261,58 @@ public class TaskHelper {
         
         // Delete the task entities itself
         CommandContextUtil.getTaskService(commandContext).deleteTasksByExecutionId(executionEntity.getId());
-        
+
+    }
+
+    public static void deleteTasksForProcessInstances(Collection<String> processInstanceIds, Collection<TaskEntity> taskEntities, String deleteReason, boolean fireEvents) {
+
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        TaskService taskService = CommandContextUtil.getTaskService(commandContext);
+
+        if (!taskEntities.isEmpty()) {
+            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+            Date endTime = processEngineConfiguration.getClock().getCurrentTime();
+
+            // Only the task listeners and the task history are handled per task, the related data is deleted with bulk statements
+            Set<String> taskIds = new HashSet<>();
+            List<String> parentTaskIds = new ArrayList<>();
+            for (TaskEntity task : taskEntities) {
+                processEngineConfiguration.getListenerNotificationHelper().executeTaskListeners(task, TaskListener.EVENTNAME_DELETE);
+                task.setDeleted(true);
+
+                ExecutionEntity execution = null;
+                if (task.getExecutionId() != null) {
+                    execution = processEngineConfiguration.getExecutionEntityManager().findById(task.getExecutionId());
+                }
+                CommandContextUtil.getHistoryManager(commandContext).recordTaskEnd(task, execution, deleteReason, endTime);
+
+                taskIds.add(task.getId());
+                if (!CountingEntityUtil.isTaskRelatedEntityCountEnabled(task) || ((CountingTaskEntity) task).getSubTaskCount() > 0) {
+                    parentTaskIds.add(task.getId());
+                }
+            }
+
+            // Sub tasks that are not part of the process instances are deleted together with their parent, as for a single task
+            if (!parentTaskIds.isEmpty()) {
+                for (TaskEntity subTask : taskService.findTasksByParentTaskIds(parentTaskIds)) {
+                    if (!taskIds.contains(subTask.getId())) {
+                        internalDeleteTask(subTask, deleteReason, false, true, true, fireEvents);
+                    }
+                }
+            }
+
+            // The task variables are deleted together with the other variables of the process instances
+            CommandContextUtil.getIdentityLinkService(commandContext).deleteIdentityLinksByTaskIds(taskIds);
+
+            if (fireEvents) {
+                FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher(commandContext);
+                for (TaskEntity task : taskEntities) {
+                    fireTaskDeletedEvent(task, commandContext, eventDispatcher);
+                }
+            }
+        }
+
+        taskService.deleteTasksByProcessInstanceIds(processInstanceIds);
     }
 
     /**
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.bpmn.model.ExtensionElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Fetches the variables of all executions of a process instance with one query, instead of one query per execution.
+ *
+ * This is enabled per process definition, with a <code>flowable:prefetchVariables</code> extension element with value <code>true</code> on the process.
+ * When the variables of one execution are needed, the variables of the whole process instance are fetched and handed to all executions
+ * of the process instance that are already in the entity cache of the command. This happens at most once per process instance and command:
+ * executions that are fetched later on in the command load their own variables as usual.
+ */
+public class VariablePrefetchUtil {
+
+    public static final String PREFETCH_VARIABLES_EXTENSION_ELEMENT = "prefetchVariables";
+
+    protected static final String PREFETCHED_PROCESS_INSTANCES_ATTRIBUTE = "VariablePrefetchUtil.prefetchedProcessInstanceIds";
+
+    public static boolean isVariablePrefetchEnabled(String processDefinitionId) {
+        if (processDefinitionId == null) {
+            return false;
+        }
+
+        Process process = ProcessDefinitionUtil.getProcess(processDefinitionId);
+        if (process == null) {
+            return false;
+        }
+
+        List<ExtensionElement> prefetchElements = process.getExtensionElements().get(PREFETCH_VARIABLES_EXTENSION_ELEMENT);
+        return prefetchElements != null && !prefetchElements.isEmpty()
+                && Boolean.parseBoolean(StringUtils.trim(prefetchElements.get(0).getElementText()));
+    }
+
+    /**
+     * Fetches the variables of the process instance of the given execution, and hands them to the executions of the process instance
+     * in the entity cache of which the variables aren't fetched yet.
+     *
+     * @return the variables of the given execution, or null when the variables of the process instance were prefetched already in the current command
+     */
+    @SuppressWarnings("unchecked")
+    public static Collection<VariableInstanceEntity> prefetchProcessInstanceVariables(ExecutionEntityImpl execution, CommandContext commandContext) {
+        String processInstanceId = execution.getProcessInstanceId();
+        if (processInstanceId == null) {
+            return null;
+        }
+
+        Set<String> prefetchedProcessInstanceIds = (Set<String>) commandContext.getAttribute(PREFETCHED_PROCESS_INSTANCES_ATTRIBUTE);
+        if (prefetchedProcessInstanceIds == null) {
+            prefetchedProcessInstanceIds = new HashSet<>();
+            commandContext.addAttribute(PREFETCHED_PROCESS_INSTANCES_ATTRIBUTE, prefetchedProcessInstanceIds);
+        }
+        if (!prefetchedProcessInstanceIds.add(processInstanceId)) {
+            return null;
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variableInstance : CommandContextUtil.getVariableService(commandContext).findVariableInstancesByProcessInstanceId(processInstanceId)) {
+            variablesByExecutionId.computeIfAbsent(variableInstance.getExecutionId(), executionId -> new ArrayList<>()).add(variableInstance);
+        }
+
+        for (ExecutionEntityImpl cachedExecution : CommandContextUtil.getEntityCache(commandContext).findInCache(ExecutionEntityImpl.class)) {
+            if (cachedExecution != execution && processInstanceId.equals(cachedExecution.getProcessInstanceId())
+                    && !cachedExecution.isVariableInstancesInitialized()) {
+
+                Map<String, VariableInstanceEntity> variableInstances = new HashMap<>();
+                List<VariableInstanceEntity> executionVariables = variablesByExecutionId.get(cachedExecution.getId());
+                if (executionVariables != null) {
+                    for (VariableInstanceEntity variableInstance : executionVariables) {
+                        variableInstances.put(variableInstance.getName(), variableInstance);
+                    }
+                }
+                cachedExecution.internalSetVariableInstances(variableInstances);
+            }
+        }
+
+        List<VariableInstanceEntity> executionVariables = variablesByExecutionId.get(execution.getId());
+        return executionVariables != null ? executionVariables : new ArrayList<>();
+    }
+
+}
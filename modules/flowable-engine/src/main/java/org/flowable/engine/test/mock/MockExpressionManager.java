@@ -13,7 +13,6 @@
 
 package org.flowable.engine.test.mock;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
 import org.flowable.common.engine.impl.javax.el.BeanELResolver;
 import org.flowable.common.engine.impl.javax.el.CompositeELResolver;
@@ -27,9 +26,9 @@ import org.flowable.engine.impl.el.ProcessVariableScopeELResolver;
 public class MockExpressionManager extends ProcessExpressionManager {
 
     @Override
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
+    protected ELResolver createElResolver() {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(new ProcessVariableScopeELResolver(variableContainer));
+        compositeElResolver.add(new ProcessVariableScopeELResolver());
         compositeElResolver.add(new MockElResolver());
         compositeElResolver.add(new ArrayELResolver());
         compositeElResolver.add(new ListELResolver());
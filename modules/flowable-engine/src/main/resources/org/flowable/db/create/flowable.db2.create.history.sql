@@ -41,6 +41,7 @@ create table ACT_HI_ACTINST (
     DURATION_ bigint,
     DELETE_REASON_ varchar(4000),
     TENANT_ID_ varchar(255) default '',
+    PARTITION_TIME_ timestamp,
     primary key (ID_)
 );
 
@@ -60,6 +61,7 @@ create table ACT_HI_DETAIL (
     LONG_ bigint,
     TEXT_ varchar(4000),
     TEXT2_ varchar(4000),
+    PARTITION_TIME_ timestamp,
     primary key (ID_)
 );
 
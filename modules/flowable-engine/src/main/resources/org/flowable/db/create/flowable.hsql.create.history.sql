@@ -39,6 +39,7 @@ create table ACT_HI_ACTINST (
   DURATION_ bigint,
   DELETE_REASON_ varchar(4000),
   TENANT_ID_ varchar(255) default '',
+  PARTITION_TIME_ timestamp,
   primary key (ID_)
 );
 
@@ -58,6 +59,7 @@ create table ACT_HI_DETAIL (
   LONG_ bigint,
   TEXT_ varchar(4000),
   TEXT2_ varchar(4000),
+  PARTITION_TIME_ timestamp,
   primary key (ID_)
 );
 
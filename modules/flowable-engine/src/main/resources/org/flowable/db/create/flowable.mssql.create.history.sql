@@ -39,6 +39,7 @@ create table ACT_HI_ACTINST (
     DURATION_ numeric(19,0),
     DELETE_REASON_ nvarchar(4000),
     TENANT_ID_ nvarchar(255) default '',
+    PARTITION_TIME_ datetime,
     primary key (ID_)
 );
 
@@ -58,6 +59,7 @@ create table ACT_HI_DETAIL (
     LONG_ numeric(19,0),
     TEXT_ nvarchar(4000),
     TEXT2_ nvarchar(4000),
+    PARTITION_TIME_ datetime,
     primary key (ID_)
 );
 
@@ -39,6 +39,7 @@ create table ACT_HI_ACTINST (
     DURATION_ NUMBER(19,0),
     DELETE_REASON_ NVARCHAR2(2000),
     TENANT_ID_ NVARCHAR2(255) default '',
+    PARTITION_TIME_ TIMESTAMP(6),
     primary key (ID_)
 );
 
@@ -58,6 +59,7 @@ create table ACT_HI_DETAIL (
     LONG_ NUMBER(19,0),
     TEXT_ NVARCHAR2(2000),
     TEXT2_ NVARCHAR2(2000),
+    PARTITION_TIME_ TIMESTAMP(6),
     primary key (ID_)
 );
 
@@ -0,0 +1,2 @@
+alter table ACT_HI_ACTINST add PARTITION_TIME_ datetime;
+alter table ACT_HI_DETAIL add PARTITION_TIME_ datetime;
@@ -0,0 +1,2 @@
+alter table ACT_HI_ACTINST add column PARTITION_TIME_ datetime;
+alter table ACT_HI_DETAIL add column PARTITION_TIME_ datetime;
@@ -0,0 +1,2 @@
+alter table ACT_HI_ACTINST add PARTITION_TIME_ TIMESTAMP(6);
+alter table ACT_HI_DETAIL add PARTITION_TIME_ TIMESTAMP(6);
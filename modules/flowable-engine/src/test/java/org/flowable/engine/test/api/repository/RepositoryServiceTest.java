@@ -18,10 +18,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
 import java.util.zip.ZipInputStream;
 
+import org.flowable.batch.api.Batch;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.EndEvent;
 import org.flowable.bpmn.model.ParallelGateway;
@@ -30,10 +34,15 @@ import org.flowable.bpmn.model.UserTask;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.DeploymentDeletionJobHandler;
+import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.Model;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -144,6 +153,146 @@ public class RepositoryServiceTest extends PluggableFlowableTestCase {
         repositoryService.deleteDeployment(processDefinition.getDeploymentId(), true);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testDeleteDeploymentAsync() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceById(processDefinition.getId());
+        }
+
+        int originalChunkSize = processEngineConfiguration.getDeploymentDeletionChunkSize();
+        processEngineConfiguration.setDeploymentDeletionChunkSize(2);
+        try {
+            Batch batch = repositoryService.deleteDeploymentAsync(processDefinition.getDeploymentId());
+            assertEquals(Batch.DEPLOYMENT_DELETION_TYPE, batch.getBatchType());
+            assertEquals(DeploymentDeletionJobHandler.STATUS_DELETING_RUNTIME_DATA, batch.getStatus());
+
+            // The process definition can't be used while it is being deleted
+            assertTrue(repositoryService.isProcessDefinitionSuspended(processDefinition.getId()));
+            try {
+                runtimeService.startProcessInstanceById(processDefinition.getId());
+                fail("FlowableException expected");
+            } catch (FlowableException e) {
+                assertTextPresent("suspended", e.getMessage());
+            }
+
+            try {
+                repositoryService.deleteDeploymentAsync(processDefinition.getDeploymentId());
+                fail("FlowableException expected");
+            } catch (FlowableException e) {
+                assertTextPresent("is already being deleted", e.getMessage());
+            }
+
+            Job job;
+            while ((job = managementService.createJobQuery().handlerType(DeploymentDeletionJobHandler.TYPE).singleResult()) != null) {
+                managementService.executeJob(job.getId());
+            }
+
+            assertEquals(0, repositoryService.createDeploymentQuery().deploymentId(processDefinition.getDeploymentId()).count());
+            assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+            assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+
+            batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+            assertEquals(DeploymentDeletionJobHandler.STATUS_COMPLETED, batch.getStatus());
+            assertNotNull(batch.getCompleteTime());
+
+            assertEquals(2, managementService.findBatchPartsByBatchIdAndStatus(batch.getId(), DeploymentDeletionJobHandler.PHASE_RUNTIME).size());
+            assertEquals(1, managementService.findBatchPartsByBatchIdAndStatus(batch.getId(), DeploymentDeletionJobHandler.PHASE_DEPLOYMENT).size());
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                assertEquals(2, managementService.findBatchPartsByBatchIdAndStatus(batch.getId(), DeploymentDeletionJobHandler.PHASE_HISTORY).size());
+            }
+
+            managementService.deleteBatch(batch.getId());
+
+        } finally {
+            processEngineConfiguration.setDeploymentDeletionChunkSize(originalChunkSize);
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/callactivity/CallActivity.testCallSimpleSubProcess.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/callactivity/simpleSubProcess.bpmn20.xml" })
+    public void testDeleteDeploymentAsyncWithSubProcessInstances() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("callSimpleSubProcess").getId();
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        String subProcessInstanceId = runtimeService.createProcessInstanceQuery().superProcessInstanceId(processInstanceId).singleResult().getId();
+        String otherProcessInstanceId = runtimeService.startProcessInstanceByKey("callSimpleSubProcess").getId();
+        taskService.complete(taskService.createTaskQuery().processInstanceId(otherProcessInstanceId).singleResult().getId());
+        String otherSubProcessInstanceId = runtimeService.createProcessInstanceQuery().superProcessInstanceId(otherProcessInstanceId).singleResult().getId();
+
+        // The related data of other engines needs to be deleted for the sub process instances too
+        List<List<String>> relatedDataProcessInstanceIds = new ArrayList<>();
+        processEngineConfiguration.addJobHandler(new DeploymentDeletionJobHandler() {
+
+            @Override
+            protected void deleteRelatedData(List<String> processInstanceIds, CommandContext commandContext) {
+                relatedDataProcessInstanceIds.add(new ArrayList<>(processInstanceIds));
+                super.deleteRelatedData(processInstanceIds, commandContext);
+            }
+        });
+        // A chunk of 3 process instances only has room for one root process instance with its sub process instance
+        int originalChunkSize = processEngineConfiguration.getDeploymentDeletionChunkSize();
+        processEngineConfiguration.setDeploymentDeletionChunkSize(3);
+        try {
+            Batch batch = repositoryService.deleteDeploymentAsync(repositoryService.createDeploymentQuery().singleResult().getId());
+            executeDeploymentDeletionJobs();
+
+            assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+            assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+            assertEquals(0, repositoryService.createDeploymentQuery().count());
+
+            assertEquals(2, managementService.findBatchPartsByBatchIdAndStatus(batch.getId(), DeploymentDeletionJobHandler.PHASE_RUNTIME).size());
+            HashSet<List<String>> expectedChunks = new HashSet<>(Arrays.asList(
+                    Arrays.asList(processInstanceId, subProcessInstanceId), Arrays.asList(otherProcessInstanceId, otherSubProcessInstanceId)));
+            assertEquals(expectedChunks, new HashSet<>(relatedDataProcessInstanceIds.subList(0, 2)));
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+                assertEquals(4, relatedDataProcessInstanceIds.size());
+                assertEquals(expectedChunks, new HashSet<>(relatedDataProcessInstanceIds.subList(2, 4)));
+            }
+
+            managementService.deleteBatch(batch.getId());
+
+        } finally {
+            processEngineConfiguration.setDeploymentDeletionChunkSize(originalChunkSize);
+            processEngineConfiguration.addJobHandler(new DeploymentDeletionJobHandler());
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testDeleteDeploymentAsyncAfterFailedChunk() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+        runtimeService.startProcessInstanceById(processDefinition.getId());
+
+        Batch batch = repositoryService.deleteDeploymentAsync(processDefinition.getDeploymentId());
+
+        // A chunk job that ran out of retries leaves the batch incomplete
+        Job job = managementService.createJobQuery().handlerType(DeploymentDeletionJobHandler.TYPE).singleResult();
+        managementService.moveJobToDeadLetterJob(job.getId());
+        assertEquals(1, managementService.createDeadLetterJobQuery().handlerType(DeploymentDeletionJobHandler.TYPE).count());
+
+        // Submitting the deletion again continues the same batch
+        Batch resumedBatch = repositoryService.deleteDeploymentAsync(processDefinition.getDeploymentId());
+        assertEquals(batch.getId(), resumedBatch.getId());
+        assertEquals(0, managementService.createDeadLetterJobQuery().handlerType(DeploymentDeletionJobHandler.TYPE).count());
+
+        executeDeploymentDeletionJobs();
+
+        assertEquals(0, repositoryService.createDeploymentQuery().deploymentId(processDefinition.getDeploymentId()).count());
+        batch = managementService.createBatchQuery().batchId(batch.getId()).singleResult();
+        assertEquals(DeploymentDeletionJobHandler.STATUS_COMPLETED, batch.getStatus());
+
+        managementService.deleteBatch(batch.getId());
+    }
+
+    protected void executeDeploymentDeletionJobs() {
+        Job job;
+        while ((job = managementService.createJobQuery().handlerType(DeploymentDeletionJobHandler.TYPE).singleResult()) != null) {
+            managementService.executeJob(job.getId());
+        }
+    }
+
     @Test
     public void testFindDeploymentResourceNamesNullDeploymentId() {
         try {
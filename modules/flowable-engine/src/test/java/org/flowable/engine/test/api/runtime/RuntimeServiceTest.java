@@ -18,6 +18,7 @@ import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNull.notNullValue;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
@@ -448,6 +449,122 @@ public class RuntimeServiceTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/twoTasksParentProcess.bpmn20.xml",
+            "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml",
+            "org/flowable/engine/test/api/oneTaskSubProcessWithTimer.bpmn20.xml" })
+    public void testBulkDeleteProcessInstances() {
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("counter", i);
+            variables.put("serializable", new DummySerializable());
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksParentProcess", variables);
+            runtimeService.addUserIdentityLink(processInstance.getId(), "kermit", "participant");
+            processInstanceIds.add(processInstance.getId());
+
+            // Start the called process instance
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.addCandidateUser(task.getId(), "gonzo");
+            taskService.complete(task.getId());
+        }
+
+        for (int i = 0; i < 2; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("startSimpleSubProcess");
+            processInstanceIds.add(processInstance.getId());
+
+            // Create the timer job on the sub process
+            Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.complete(task.getId());
+        }
+
+        ProcessInstance otherProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        assertEquals(9, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(6, taskService.createTaskQuery().count());
+        assertEquals(2, managementService.createTimerJobQuery().count());
+
+        String deleteReason = "testing bulk deletion";
+        runtimeService.bulkDeleteProcessInstances(processInstanceIds, deleteReason);
+
+        assertEquals(1, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(otherProcessInstance.getId(), runtimeService.createProcessInstanceQuery().singleResult().getId());
+        assertEquals(2, runtimeService.createExecutionQuery().count());
+        assertEquals(1, taskService.createTaskQuery().count());
+        assertEquals(0, managementService.createTimerJobQuery().count());
+        assertEquals(0, runtimeService.createEventSubscriptionQuery().count());
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            for (String processInstanceId : processInstanceIds) {
+                HistoricProcessInstance historicInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId)
+                        .singleResult();
+                assertEquals(deleteReason, historicInstance.getDeleteReason());
+                assertNotNull(historicInstance.getEndTime());
+
+                for (HistoricTaskInstance historicTaskInstance : historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).list()) {
+                    assertNotNull(historicTaskInstance.getEndTime());
+                }
+            }
+
+            // The called process instances are ended as well
+            assertEquals(8, historyService.createHistoricProcessInstanceQuery().finished().count());
+        }
+
+        runtimeService.deleteProcessInstance(otherProcessInstance.getId(), null);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testBulkDeleteMoreProcessInstancesThanFitInOneStatement() {
+        // More ids than one IN list accepts on Oracle, so the statements are split
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 1010; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceIds.get(0)).singleResult();
+        taskService.addCandidateUser(task.getId(), "kermit");
+        Task subTask = taskService.newTask();
+        subTask.setParentTaskId(task.getId());
+        taskService.saveTask(subTask);
+
+        assertEquals(1011, taskService.createTaskQuery().count());
+
+        runtimeService.bulkDeleteProcessInstances(processInstanceIds, "testing bulk deletion");
+
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(0, runtimeService.createExecutionQuery().count());
+        assertEquals(0, taskService.createTaskQuery().count());
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            assertEquals(1010, historyService.createHistoricProcessInstanceQuery().finished().count());
+            assertEquals(1011, historyService.createHistoricTaskInstanceQuery().finished().count());
+        }
+
+        historyService.deleteHistoricTaskInstance(subTask.getId());
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/twoTasksParentProcess.bpmn20.xml",
+            "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testBulkDeleteSubProcessInstance() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksParentProcess");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        ProcessInstance subProcessInstance = runtimeService.createProcessInstanceQuery().superProcessInstanceId(processInstance.getId()).singleResult();
+        assertThatThrownBy(() -> runtimeService.bulkDeleteProcessInstances(Collections.singletonList(subProcessInstance.getId()), null))
+            .isExactlyInstanceOf(FlowableIllegalArgumentException.class);
+
+        assertThatThrownBy(() -> runtimeService.bulkDeleteProcessInstances(Arrays.asList(processInstance.getId(), "unexisting"), null))
+            .isExactlyInstanceOf(FlowableObjectNotFoundException.class);
+        assertEquals(2, runtimeService.createProcessInstanceQuery().count());
+
+        runtimeService.bulkDeleteProcessInstances(Collections.singletonList(processInstance.getId()), null);
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
     public void testDeleteProcessInstanceNullReason() {
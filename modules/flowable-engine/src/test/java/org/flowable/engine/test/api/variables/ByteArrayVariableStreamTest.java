@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayRef;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.junit.jupiter.api.Test;
+
+class ByteArrayVariableStreamTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void streamBytesInCommand() {
+        byte[] bytes = createBytes(200_000);
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("bytesVar", bytes)
+                .start();
+
+        byte[] streamedBytes = managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            VariableByteArrayRef byteArrayRef = ((VariableInstanceEntity) execution.getVariableInstance("bytesVar", false)).getByteArrayRef();
+
+            InputStream inputStream = byteArrayRef.getInputStream();
+            try {
+                return IoUtil.readInputStream(inputStream, "bytesVar");
+            } finally {
+                IoUtil.closeSilently(inputStream);
+            }
+        });
+
+        assertThat(streamedBytes).isEqualTo(bytes);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void writeBytesOutsideCommand() throws Exception {
+        byte[] bytes = createBytes(50_000);
+        ArrayList<String> serializableValue = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("bytesVar", bytes)
+                .variable("serializableVar", serializableValue)
+                .start();
+
+        VariableInstanceEntity bytesVariable = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "bytesVar");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertThat(bytesVariable.getByteArrayRef().writeBytes(outputStream)).isEqualTo(bytes.length);
+        assertThat(outputStream.toByteArray()).isEqualTo(bytes);
+
+        // The stored bytes of a serializable variable are the serialized value
+        VariableInstanceEntity serializableVariable = (VariableInstanceEntity) runtimeService.getVariableInstance(processInstance.getId(), "serializableVar");
+        outputStream = new ByteArrayOutputStream();
+        serializableVariable.getByteArrayRef().writeBytes(outputStream);
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertThat((List<?>) objectInputStream.readObject()).containsExactly("a", "b", "c");
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    void streamChangedBytesInSameCommand() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("bytesVar", createBytes(1000))
+                .start();
+
+        byte[] newBytes = createBytes(2000);
+        byte[] streamedBytes = managementService.executeCommand(commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            execution.setVariable("bytesVar", newBytes);
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            ((VariableInstanceEntity) execution.getVariableInstance("bytesVar")).getByteArrayRef().writeBytes(outputStream);
+            return outputStream.toByteArray();
+        });
+
+        assertThat(streamedBytes).isEqualTo(newBytes);
+    }
+
+    protected byte[] createBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,121 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.Execution;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.Test;
+
+class VariablePrefetchTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/VariablePrefetchTest.prefetchVariablesProcess.bpmn20.xml")
+    void variablesOfProcessInstanceArePrefetched() {
+        ProcessInstance processInstance = startProcessInstanceWithVariables("prefetchVariablesProcess");
+        String executionAId = findExecutionId(processInstance, "taskA");
+        String executionBId = findExecutionId(processInstance, "taskB");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            List<ExecutionEntity> executions = executionEntityManager.findChildExecutionsByProcessInstanceId(processInstance.getId());
+            assertThat(executions).hasSize(2);
+            ExecutionEntityImpl processInstanceExecution = (ExecutionEntityImpl) executionEntityManager.findById(processInstance.getId());
+            ExecutionEntityImpl executionA = (ExecutionEntityImpl) executionEntityManager.findById(executionAId);
+            ExecutionEntityImpl executionB = (ExecutionEntityImpl) executionEntityManager.findById(executionBId);
+
+            assertThat(executionA.getVariable("localVar")).isEqualTo("a");
+
+            assertThat(processInstanceExecution.isVariableInstancesInitialized()).isTrue();
+            assertThat(executionB.isVariableInstancesInitialized()).isTrue();
+            assertThat(executionB.getVariableLocal("localVar")).isEqualTo("b");
+            assertThat(executionB.getVariable("processVar")).isEqualTo("process");
+            assertThat(processInstanceExecution.getVariablesLocal()).containsOnlyKeys("processVar");
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/VariablePrefetchTest.noPrefetchVariablesProcess.bpmn20.xml")
+    void variablesAreFetchedPerExecutionByDefault() {
+        ProcessInstance processInstance = startProcessInstanceWithVariables("noPrefetchVariablesProcess");
+        String executionAId = findExecutionId(processInstance, "taskA");
+        String executionBId = findExecutionId(processInstance, "taskB");
+
+        managementService.executeCommand(commandContext -> {
+            ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+            ExecutionEntityImpl executionA = (ExecutionEntityImpl) executionEntityManager.findById(executionAId);
+            ExecutionEntityImpl executionB = (ExecutionEntityImpl) executionEntityManager.findById(executionBId);
+
+            assertThat(executionA.getVariable("localVar")).isEqualTo("a");
+            assertThat(executionB.isVariableInstancesInitialized()).isFalse();
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/variables/VariablePrefetchTest.noPrefetchVariablesProcess.bpmn20.xml")
+    void onlyRequestedVariableIsFetched() {
+        ProcessInstance processInstance = startProcessInstanceWithVariables("noPrefetchVariablesProcess");
+        String executionAId = findExecutionId(processInstance, "taskA");
+
+        processEngineConfiguration.setFetchAllVariablesOnGet(false);
+        try {
+            managementService.executeCommand(commandContext -> {
+                ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+                ExecutionEntityImpl executionA = (ExecutionEntityImpl) executionEntityManager.findById(executionAId);
+
+                assertThat(executionA.getVariable("processVar")).isEqualTo("process");
+                assertThat(executionA.getVariable("localVar")).isEqualTo("a");
+                assertThat(executionA.getVariableLocal("processVar")).isNull();
+                assertThat(executionA.getVariable("unknownVar")).isNull();
+
+                assertThat(executionA.isVariableInstancesInitialized()).isFalse();
+                assertThat(((ExecutionEntityImpl) executionA.getParent()).isVariableInstancesInitialized()).isFalse();
+
+                // Once all variables are fetched, no more queries are needed
+                assertThat(executionA.getVariablesLocal()).containsOnlyKeys("localVar");
+                assertThat(executionA.getVariable("processVar")).isEqualTo("process");
+                return null;
+            });
+
+        } finally {
+            processEngineConfiguration.setFetchAllVariablesOnGet(true);
+        }
+    }
+
+    protected ProcessInstance startProcessInstanceWithVariables(String processDefinitionKey) {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey(processDefinitionKey)
+                .variable("processVar", "process")
+                .start();
+
+        runtimeService.setVariableLocal(findExecutionId(processInstance, "taskA"), "localVar", "a");
+        runtimeService.setVariableLocal(findExecutionId(processInstance, "taskB"), "localVar", "b");
+        return processInstance;
+    }
+
+    protected String findExecutionId(ProcessInstance processInstance, String activityId) {
+        Execution execution = runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId(activityId).singleResult();
+        return execution.getId();
+    }
+}
@@ -33,6 +33,7 @@ import org.flowable.common.engine.impl.DefaultTenantProvider;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.history.DeleteReason;
@@ -48,6 +49,8 @@ import org.flowable.entitylink.api.EntityLink;
 import org.flowable.entitylink.api.EntityLinkType;
 import org.flowable.entitylink.api.HierarchyType;
 import org.flowable.entitylink.api.history.HistoricEntityLink;
+import org.flowable.entitylink.service.EntityLinkServiceConfiguration;
+import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntity;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.job.api.Job;
@@ -322,6 +325,120 @@ public class CallActivityAdvancedTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/callactivity/CallActivity.testCallSimpleSubProcess.bpmn20.xml",
+                    "org/flowable/engine/test/bpmn/callactivity/simpleSubProcess.bpmn20.xml" })
+    public void testCallSimpleSubProcessWithHierarchicalEntityLinks() {
+        EntityLinkServiceConfiguration entityLinkServiceConfiguration = (EntityLinkServiceConfiguration) processEngineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_ENTITY_LINK_SERVICE_CONFIG);
+        entityLinkServiceConfiguration.setEnableHierarchicalEntityLinks(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("callSimpleSubProcess");
+            Task taskBeforeSubProcess = taskService.createTaskQuery().singleResult();
+            taskService.complete(taskBeforeSubProcess.getId());
+            Task taskInSubProcess = taskService.createTaskQuery().singleResult();
+            String subProcessInstanceId = taskInSubProcess.getProcessInstanceId();
+
+            // Only the link to the direct parent is stored for a new scope
+            List<EntityLink> storedLinks = managementService.executeCommand(commandContext -> entityLinkServiceConfiguration.getEntityLinkDataManager()
+                    .findEntityLinksByReferenceScopeIdAndType(taskInSubProcess.getId(), ScopeTypes.TASK, EntityLinkType.CHILD));
+            assertEquals(1, storedLinks.size());
+            EntityLinkEntity storedLink = (EntityLinkEntity) storedLinks.get(0);
+            assertEquals(subProcessInstanceId, storedLink.getScopeId());
+            assertEquals(processInstance.getId(), storedLink.getRootScopeId());
+            assertEquals(ScopeTypes.BPMN, storedLink.getRootScopeType());
+            assertEquals("/" + processInstance.getId() + "/" + subProcessInstanceId + "/", storedLink.getHierarchyPath());
+
+            // The links to all descendants and ancestors are the same as with a link stored for every ancestor
+            Assertions.assertThat(runtimeService.getEntityLinkChildrenForProcessInstance(processInstance.getId()))
+                    .extracting(EntityLink::getScopeId, EntityLink::getReferenceScopeId, EntityLink::getReferenceScopeType, EntityLink::getHierarchyType)
+                    .containsExactlyInAnyOrder(
+                            Assertions.tuple(processInstance.getId(), taskBeforeSubProcess.getId(), ScopeTypes.TASK, HierarchyType.ROOT),
+                            Assertions.tuple(processInstance.getId(), subProcessInstanceId, ScopeTypes.BPMN, HierarchyType.ROOT),
+                            Assertions.tuple(processInstance.getId(), taskInSubProcess.getId(), ScopeTypes.TASK, HierarchyType.ROOT));
+
+            Assertions.assertThat(runtimeService.getEntityLinkChildrenForProcessInstance(subProcessInstanceId))
+                    .extracting(EntityLink::getScopeId, EntityLink::getReferenceScopeId, EntityLink::getHierarchyType)
+                    .containsExactly(Assertions.tuple(subProcessInstanceId, taskInSubProcess.getId(), HierarchyType.PARENT));
+
+            Assertions.assertThat(runtimeService.getEntityLinkParentsForTask(taskInSubProcess.getId()))
+                    .extracting(EntityLink::getScopeId, EntityLink::getScopeType, EntityLink::getReferenceScopeId, EntityLink::getHierarchyType)
+                    .containsExactly(
+                            Assertions.tuple(processInstance.getId(), ScopeTypes.BPMN, taskInSubProcess.getId(), HierarchyType.ROOT),
+                            Assertions.tuple(subProcessInstanceId, ScopeTypes.BPMN, taskInSubProcess.getId(), HierarchyType.PARENT));
+
+            taskService.complete(taskInSubProcess.getId());
+            // The links of the ended sub process are kept until the root process instance ends
+            Assertions.assertThat(runtimeService.getEntityLinkChildrenForProcessInstance(processInstance.getId()))
+                    .extracting(EntityLink::getReferenceScopeId)
+                    .contains(subProcessInstanceId, taskInSubProcess.getId(), taskService.createTaskQuery().singleResult().getId());
+
+            taskService.complete(taskService.createTaskQuery().singleResult().getId());
+            assertProcessEnded(processInstance.getId());
+
+        } finally {
+            entityLinkServiceConfiguration.setEnableHierarchicalEntityLinks(false);
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/callactivity/CallActivity.testCallSequentialSubProcess.bpmn20.xml",
+                    "org/flowable/engine/test/bpmn/callactivity/CallActivity.testCallSimpleSubProcess.bpmn20.xml",
+                    "org/flowable/engine/test/bpmn/callactivity/simpleSubProcess.bpmn20.xml" })
+    public void testHierarchicalEntityLinksBelowExistingEntityLinks() {
+        // The process instance and the first sub process instance are started before hierarchical links are enabled
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("callSequentialSubProcess");
+        Task taskBeforeSubProcess = taskService.createTaskQuery().singleResult();
+        String subProcessInstanceId = taskBeforeSubProcess.getProcessInstanceId();
+
+        EntityLinkServiceConfiguration entityLinkServiceConfiguration = (EntityLinkServiceConfiguration) processEngineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_ENTITY_LINK_SERVICE_CONFIG);
+        entityLinkServiceConfiguration.setEnableHierarchicalEntityLinks(true);
+        try {
+            taskService.complete(taskBeforeSubProcess.getId());
+            Task taskInSubProcess = taskService.createTaskQuery().singleResult();
+            String subSubProcessInstanceId = taskInSubProcess.getProcessInstanceId();
+
+            // The new sub process instance starts a hierarchy below the existing one
+            List<EntityLink> storedLinks = managementService.executeCommand(commandContext -> entityLinkServiceConfiguration.getEntityLinkDataManager()
+                    .findEntityLinksByReferenceScopeIdAndType(subSubProcessInstanceId, ScopeTypes.BPMN, EntityLinkType.CHILD));
+            Assertions.assertThat(storedLinks)
+                    .extracting(EntityLink::getScopeId, EntityLink::getHierarchyType)
+                    .containsExactly(Assertions.tuple(subProcessInstanceId, HierarchyType.PARENT));
+            assertEquals(subProcessInstanceId, ((EntityLinkEntity) storedLinks.get(0)).getRootScopeId());
+
+            // The existing links and the links of the new hierarchy are combined
+            Assertions.assertThat(runtimeService.getEntityLinkChildrenForProcessInstance(processInstance.getId()))
+                    .extracting(EntityLink::getScopeId, EntityLink::getReferenceScopeId, EntityLink::getHierarchyType)
+                    .containsExactlyInAnyOrder(
+                            Assertions.tuple(processInstance.getId(), subProcessInstanceId, HierarchyType.ROOT),
+                            Assertions.tuple(processInstance.getId(), taskBeforeSubProcess.getId(), HierarchyType.ROOT),
+                            Assertions.tuple(processInstance.getId(), subSubProcessInstanceId, HierarchyType.ROOT),
+                            Assertions.tuple(processInstance.getId(), taskInSubProcess.getId(), HierarchyType.ROOT));
+
+            Assertions.assertThat(runtimeService.getEntityLinkChildrenForProcessInstance(subProcessInstanceId))
+                    .extracting(EntityLink::getScopeId, EntityLink::getReferenceScopeId, EntityLink::getHierarchyType)
+                    .containsExactlyInAnyOrder(
+                            Assertions.tuple(subProcessInstanceId, taskBeforeSubProcess.getId(), HierarchyType.PARENT),
+                            Assertions.tuple(subProcessInstanceId, subSubProcessInstanceId, HierarchyType.PARENT),
+                            Assertions.tuple(subProcessInstanceId, taskInSubProcess.getId(), null));
+
+            Assertions.assertThat(runtimeService.getEntityLinkParentsForTask(taskInSubProcess.getId()))
+                    .extracting(EntityLink::getScopeId, EntityLink::getReferenceScopeId, EntityLink::getHierarchyType)
+                    .containsExactly(
+                            Assertions.tuple(processInstance.getId(), taskInSubProcess.getId(), HierarchyType.ROOT),
+                            Assertions.tuple(subProcessInstanceId, taskInSubProcess.getId(), null),
+                            Assertions.tuple(subSubProcessInstanceId, taskInSubProcess.getId(), HierarchyType.PARENT));
+
+            taskService.complete(taskInSubProcess.getId());
+            taskService.complete(taskService.createTaskQuery().singleResult().getId());
+            assertProcessEnded(processInstance.getId());
+
+        } finally {
+            entityLinkServiceConfiguration.setEnableHierarchicalEntityLinks(false);
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/bpmn/callactivity/CallActivity.testCallSimpleSubProcessWithExpressions.bpmn20.xml",
             "org/flowable/engine/test/bpmn/callactivity/simpleSubProcess.bpmn20.xml" })
@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.dynamic;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.ClusterChangeStamp;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class ProcessDefinitionInfoCacheChangeStampTest extends ResourceFlowableTestCase {
+
+    public ProcessDefinitionInfoCacheChangeStampTest() {
+        super("org/flowable/engine/test/bpmn/dynamic/processDefinitionInfoCacheChangeStamp.flowable.cfg.xml");
+    }
+
+    @AfterEach
+    protected void deleteDeployments() {
+        for (org.flowable.engine.repository.Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testSavedInfoIsPickedUpThroughChangeStamp() {
+        repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/bpmn/sequenceflow/ConditionalSequenceFlowTest.testDynamicExpression.bpmn20.xml")
+                .deploy();
+
+        ProcessDefinitionInfoCache processDefinitionInfoCache = (ProcessDefinitionInfoCache) processEngineConfiguration.getProcessDefinitionInfoCache();
+        ClusterChangeStamp changeStamp = processDefinitionInfoCache.getChangeStamp();
+        assertNotNull(changeStamp);
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("condSeqFlowUelExpr", CollectionUtil.singletonMap("input", "right"));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals("task not left", task.getName());
+
+        ObjectNode infoNode = dynamicBpmnService.changeSequenceFlowCondition("flow1", "${input == 'right'}");
+        dynamicBpmnService.changeSequenceFlowCondition("flow2", "${input != 'right'}", infoNode);
+        dynamicBpmnService.saveProcessDefinitionInfo(processInstance.getProcessDefinitionId(), infoNode);
+        assertNotNull(managementService.getProperties().get(ProcessDefinitionInfoCache.CHANGE_STAMP_PROPERTY_NAME));
+
+        processInstance = runtimeService.startProcessInstanceByKey("condSeqFlowUelExpr", CollectionUtil.singletonMap("input", "right"));
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals("task left", task.getName());
+        assertTrue(processDefinitionInfoCache.contains(processInstance.getProcessDefinitionId()));
+
+        // A change that does not mark the change stamp (like one made by a node without the change stamp) is not seen by the cache
+        String changeStampValue = managementService.getProperties().get(ProcessDefinitionInfoCache.CHANGE_STAMP_PROPERTY_NAME);
+        ObjectNode otherNodeInfoNode = dynamicBpmnService.changeSequenceFlowCondition("flow1", "${input == 'left'}");
+        dynamicBpmnService.changeSequenceFlowCondition("flow2", "${input != 'left'}", otherNodeInfoNode);
+        processDefinitionInfoCache.setChangeStamp(null);
+        try {
+            dynamicBpmnService.saveProcessDefinitionInfo(processInstance.getProcessDefinitionId(), otherNodeInfoNode);
+        } finally {
+            processDefinitionInfoCache.setChangeStamp(changeStamp);
+        }
+        assertEquals(changeStampValue, managementService.getProperties().get(ProcessDefinitionInfoCache.CHANGE_STAMP_PROPERTY_NAME));
+
+        processInstance = runtimeService.startProcessInstanceByKey("condSeqFlowUelExpr", CollectionUtil.singletonMap("input", "right"));
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals("task left", task.getName());
+    }
+
+    @Test
+    public void testLimitEvictsLeastRecentlyUsed() {
+        ProcessDefinitionInfoCache processDefinitionInfoCache = new ProcessDefinitionInfoCache(processEngineConfiguration.getCommandExecutor(), 2);
+        processDefinitionInfoCache.setChangeStamp(new ClusterChangeStamp(ProcessDefinitionInfoCache.CHANGE_STAMP_PROPERTY_NAME, 60000));
+
+        processDefinitionInfoCache.get("first");
+        processDefinitionInfoCache.get("second");
+        processDefinitionInfoCache.get("first");
+        processDefinitionInfoCache.get("third");
+
+        assertEquals(2, processDefinitionInfoCache.size());
+        assertTrue(processDefinitionInfoCache.contains("first"));
+        assertFalse(processDefinitionInfoCache.contains("second"));
+        assertTrue(processDefinitionInfoCache.contains("third"));
+    }
+
+    @Test
+    public void testObjectLoadedBeforeClearIsNotCached() {
+        ProcessDefinitionInfoCache processDefinitionInfoCache = new ProcessDefinitionInfoCache(processEngineConfiguration.getCommandExecutor()) {
+
+            @Override
+            protected ProcessDefinitionInfoCacheObject refreshProcessDefinitionInfoCacheObject(String processDefinitionId,
+                    ProcessDefinitionInfoCacheObject cacheObject, CommandContext commandContext) {
+
+                ProcessDefinitionInfoCacheObject refreshedCacheObject = super.refreshProcessDefinitionInfoCacheObject(processDefinitionId, cacheObject, commandContext);
+                if ("cleared".equals(processDefinitionId)) {
+                    // Another thread noticed a change of the stamp while the info was being read
+                    clear();
+                }
+                return refreshedCacheObject;
+            }
+        };
+        processDefinitionInfoCache.setChangeStamp(new ClusterChangeStamp(ProcessDefinitionInfoCache.CHANGE_STAMP_PROPERTY_NAME, 60000));
+
+        assertNotNull(processDefinitionInfoCache.get("cleared"));
+        assertFalse(processDefinitionInfoCache.contains("cleared"));
+
+        assertNotNull(processDefinitionInfoCache.get("other"));
+        assertTrue(processDefinitionInfoCache.contains("other"));
+    }
+
+}
@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.event.signal;
+
+import java.util.ArrayList;
+
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.eventsubscription.service.impl.cache.DefinitionEventSubscriptionCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DefinitionEventSubscriptionCacheTest extends ResourceFlowableTestCase {
+
+    public DefinitionEventSubscriptionCacheTest() {
+        super("org/flowable/engine/test/bpmn/event/signal/definitionEventSubscriptionCache.flowable.cfg.xml");
+    }
+
+    @AfterEach
+    protected void deleteDeployments() {
+        for (org.flowable.engine.repository.Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testSignalStartEventWithCache() {
+        repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/bpmn/event/signal/SignalEventTest.testSignalStartEvent.bpmn20.xml").deploy();
+
+        runtimeService.signalEventReceived("The Signal");
+        assertEquals(3, runtimeService.createProcessInstanceQuery().count());
+
+        // The cached start event subscriptions are combined with the subscriptions of process instances
+        runtimeService.startProcessInstanceByKey("processWithSignalCatch");
+        runtimeService.signalEventReceived("The Signal");
+        assertEquals(7, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(1, taskService.createTaskQuery().taskName("Task after signal").count());
+
+        // Deleting the deployment must invalidate the cached subscriptions
+        deleteDeployments();
+        runtimeService.signalEventReceived("The Signal");
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    }
+
+    @Test
+    public void testMessageStartEventWithCache() {
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/bpmn/event/message/MessageStartEventTest.testSingleMessageStartEvent.bpmn20.xml")
+                .deploy().getId();
+        String firstDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getId();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByMessage("newInvoiceMessage");
+        assertEquals(firstDefinitionId, processInstance.getProcessDefinitionId());
+
+        // A new version replaces the start event subscription, which must be picked up
+        deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/bpmn/event/message/MessageStartEventTest.testSingleMessageStartEvent.bpmn20.xml")
+                .deploy().getId();
+        String secondDefinitionId = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult().getId();
+
+        processInstance = runtimeService.startProcessInstanceByMessage("newInvoiceMessage");
+        assertEquals(secondDefinitionId, processInstance.getProcessDefinitionId());
+    }
+
+    @Test
+    public void testSubscriptionsLoadedBeforeClearAreNotCached() {
+        DefinitionEventSubscriptionCache cache = new DefinitionEventSubscriptionCache(60000, 0);
+
+        managementService.executeCommand(commandContext -> cache.getDefinitionEventSubscriptions(commandContext, "signal", "The Signal", null, () -> {
+            // Another thread noticed a change of the stamp while the subscriptions were being read
+            cache.clear();
+            return new ArrayList<>();
+        }));
+        assertEquals(0, cache.size());
+
+        managementService.executeCommand(commandContext -> cache.getDefinitionEventSubscriptions(commandContext, "signal", "The Signal", null, ArrayList::new));
+        assertEquals(1, cache.size());
+    }
+
+}
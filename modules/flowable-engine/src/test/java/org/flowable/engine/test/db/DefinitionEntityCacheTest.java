@@ -0,0 +1,203 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.persistence.cache.ClusterChangeStamp;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
+import org.flowable.common.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.idm.api.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class DefinitionEntityCacheTest extends ResourceFlowableTestCase {
+
+    public DefinitionEntityCacheTest() {
+        super("org/flowable/engine/test/db/definitionEntityCache.flowable.cfg.xml");
+    }
+
+    @AfterEach
+    protected void deleteDeployments() {
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    @Test
+    public void testDefinitionIsCachedAndInvalidated() {
+        DefinitionEntityCache definitionEntityCache = processEngineConfiguration.getDefinitionEntityCache();
+        assertNotNull(definitionEntityCache);
+
+        repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+        ProcessDefinition processDefinition = findLatestProcessDefinition("oneTaskProcess");
+        assertEquals(1, processDefinition.getVersion());
+        assertTrue(definitionEntityCache.size() > 0);
+
+        // Each command gets its own copy of the cached definition
+        assertNotSame(processDefinition, findLatestProcessDefinition("oneTaskProcess"));
+
+        repositoryService.setProcessDefinitionCategory(processDefinition.getId(), "newCategory");
+        assertEquals("newCategory", findLatestProcessDefinition("oneTaskProcess").getCategory());
+        assertEquals("newCategory", repositoryService.getProcessDefinition(processDefinition.getId()).getCategory());
+
+        repositoryService.suspendProcessDefinitionById(processDefinition.getId());
+        assertTrue(findLatestProcessDefinition("oneTaskProcess").isSuspended());
+        repositoryService.activateProcessDefinitionById(processDefinition.getId());
+        assertFalse(findLatestProcessDefinition("oneTaskProcess").isSuspended());
+
+        repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+        assertEquals(2, findLatestProcessDefinition("oneTaskProcess").getVersion());
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertEquals(1, taskService.createTaskQuery().count());
+    }
+
+    @Test
+    public void testDeletedDefinitionIsNotReturned() {
+        Deployment deployment = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+        assertNotNull(findLatestProcessDefinition("oneTaskProcess"));
+
+        repositoryService.deleteDeployment(deployment.getId(), true);
+        assertNull(findLatestProcessDefinition("oneTaskProcess"));
+        assertNull(repositoryService.createDeploymentQuery().deploymentId(deployment.getId()).singleResult());
+    }
+
+    @Test
+    public void testIdentityLinksOfCachedDefinitionAreLoaded() {
+        repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+        String processDefinitionId = findLatestProcessDefinition("oneTaskProcess").getId();
+        identityService.saveUser(identityService.newUser("kermit"));
+        try {
+            repositoryService.addCandidateStarterUser(processDefinitionId, "kermit");
+
+            // Cache the definition while the command already loaded its identity links
+            processEngineConfiguration.getDefinitionEntityCache().clear();
+            managementService.executeCommand(commandContext -> {
+                ProcessDefinitionEntity processDefinition = (ProcessDefinitionEntity) repositoryService.createProcessDefinitionQuery()
+                        .processDefinitionId(processDefinitionId).singleResult();
+                assertEquals(1, processDefinition.getIdentityLinks().size());
+                return CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findLatestProcessDefinitionByKey("oneTaskProcess");
+            });
+
+            int identityLinkCount = managementService.executeCommand(commandContext -> CommandContextUtil.getProcessDefinitionEntityManager(commandContext)
+                    .findLatestProcessDefinitionByKey("oneTaskProcess").getIdentityLinks().size());
+            assertEquals(1, identityLinkCount);
+            assertEquals(1, repositoryService.getIdentityLinksForProcessDefinition(processDefinitionId).size());
+            List<User> potentialStarters = identityService.getPotentialStarterUsers(processDefinitionId);
+            assertEquals(1, potentialStarters.size());
+            assertEquals("kermit", potentialStarters.get(0).getId());
+
+        } finally {
+            identityService.deleteUser("kermit");
+        }
+    }
+
+    @Test
+    public void testChangesAreVisibleWithinCheckInterval() {
+        DefinitionEntityCache definitionEntityCache = processEngineConfiguration.getDefinitionEntityCache();
+        ClusterChangeStamp changeStamp = definitionEntityCache.getChangeStamp();
+        changeStamp.setCheckIntervalInMillis(60000L);
+        try {
+            repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+            ProcessDefinition processDefinition = findLatestProcessDefinition("oneTaskProcess");
+            assertEquals(1, processDefinition.getVersion());
+
+            // Changes made on this node are checked right after they are committed
+            repositoryService.setProcessDefinitionCategory(processDefinition.getId(), "newCategory");
+            assertEquals("newCategory", findLatestProcessDefinition("oneTaskProcess").getCategory());
+
+            repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+            assertEquals(2, findLatestProcessDefinition("oneTaskProcess").getVersion());
+            assertTrue(definitionEntityCache.size() > 0);
+
+            // A change made by another node is only seen at the next check
+            managementService.executeCommand(commandContext -> {
+                PropertyEntity property = CommandContextUtil.getPropertyEntityManager(commandContext).findById(changeStamp.getPropertyName());
+                property.setValue(property.getValue() + "0");
+                return null;
+            });
+            assertEquals(2, findLatestProcessDefinition("oneTaskProcess").getVersion());
+            assertTrue(definitionEntityCache.size() > 0);
+
+        } finally {
+            changeStamp.setCheckIntervalInMillis(0L);
+        }
+    }
+
+    @Test
+    public void testConcurrentChangesDoNotConflictOnStamp() {
+        ClusterChangeStamp changeStamp = processEngineConfiguration.getDefinitionEntityCache().getChangeStamp();
+
+        // The property is created when the engine is built
+        String stampValue = managementService.getProperties().get(changeStamp.getPropertyName());
+        assertNotNull(stampValue);
+
+        managementService.executeCommand(commandContext -> {
+            // Another transaction increments the stamp after this one loaded the property
+            CommandContextUtil.getPropertyEntityManager(commandContext).findById(changeStamp.getPropertyName());
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), otherCommandContext -> {
+                changeStamp.markChanged(otherCommandContext);
+                return null;
+            });
+
+            changeStamp.markChanged(commandContext);
+            return null;
+        });
+
+        assertEquals(Long.parseLong(stampValue) + 2, Long.parseLong(managementService.getProperties().get(changeStamp.getPropertyName())));
+    }
+
+    @Test
+    public void testTransactionThatChangedStampDoesNotPopulateCache() {
+        DefinitionEntityCache definitionEntityCache = processEngineConfiguration.getDefinitionEntityCache();
+        repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+        String processDefinitionId = findLatestProcessDefinition("oneTaskProcess").getId();
+
+        managementService.executeCommand(commandContext -> {
+            CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findById(processDefinitionId).setCategory("uncommittedCategory");
+            definitionEntityCache.markChanged(commandContext);
+            assertTrue(definitionEntityCache.getChangeStamp().isChangedIn(commandContext));
+            definitionEntityCache.clear();
+
+            // A command in another transaction still uses the cache
+            processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), otherCommandContext -> {
+                assertFalse(definitionEntityCache.getChangeStamp().isChangedIn(otherCommandContext));
+                return null;
+            });
+
+            assertNotNull(CommandContextUtil.getProcessDefinitionEntityManager(commandContext).findLatestProcessDefinitionByKey("oneTaskProcess"));
+            assertEquals(0, definitionEntityCache.size());
+            return null;
+        });
+
+        assertEquals("uncommittedCategory", findLatestProcessDefinition("oneTaskProcess").getCategory());
+        assertTrue(definitionEntityCache.size() > 0);
+        managementService.executeCommand(commandContext -> {
+            assertFalse(definitionEntityCache.getChangeStamp().isChangedIn(commandContext));
+            return null;
+        });
+    }
+
+    protected ProcessDefinition findLatestProcessDefinition(String processDefinitionKey) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getProcessDefinitionEntityManager(commandContext)
+                .findLatestProcessDefinitionByKey(processDefinitionKey));
+    }
+
+}
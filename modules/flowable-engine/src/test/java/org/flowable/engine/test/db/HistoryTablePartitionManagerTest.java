@@ -0,0 +1,239 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.util.DefaultClockImpl;
+import org.flowable.engine.HistoryCleaningManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.db.HistoryTablePartitionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+@MockitoSettings
+class HistoryTablePartitionManagerTest {
+
+    @Mock
+    protected Connection connection;
+
+    @Mock
+    protected Statement statement;
+
+    @Mock
+    protected PreparedStatement preparedStatement;
+
+    @Mock
+    protected ResultSet firstMonthResultSet;
+
+    @Mock
+    protected ResultSet countResultSet;
+
+    @Mock
+    protected HistoryCleaningManager historyCleaningManager;
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected HistoryTablePartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setDatabaseType(AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES);
+        processEngineConfiguration.setHistoryCleaningManager(historyCleaningManager);
+        DefaultClockImpl clock = new DefaultClockImpl();
+        clock.setCurrentTime(Date.from(LocalDateTime.of(2020, 6, 15, 12, 0).atZone(ZoneId.systemDefault()).toInstant()));
+        processEngineConfiguration.setClock(clock);
+
+        partitionManager = new HistoryTablePartitionManager(processEngineConfiguration) {
+
+            @Override
+            protected Connection getConnection() {
+                return connection;
+            }
+        };
+
+        lenient().when(connection.createStatement()).thenReturn(statement);
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        lenient().when(statement.executeQuery(anyString())).thenReturn(firstMonthResultSet);
+        lenient().when(preparedStatement.executeQuery()).thenReturn(countResultSet);
+        // Process instances that ended more than 30 days ago are cleaned
+        lenient().when(historyCleaningManager.getHistoricProcessInstanceCleaningEndedBefore())
+                .thenReturn(Date.from(LocalDateTime.of(2020, 5, 16, 12, 0).atZone(ZoneId.systemDefault()).toInstant()));
+    }
+
+    @Test
+    void createPartitionsAheadOnPostgres() throws SQLException {
+        partitionManager.createPartitions();
+
+        List<String> statements = getExecutedStatements();
+        assertThat(statements)
+                .contains("create table if not exists ACT_HI_PROCINST_P202006 partition of ACT_HI_PROCINST"
+                        + " for values from ('2020-06-01 00:00:00') to ('2020-07-01 00:00:00')")
+                .contains("create table if not exists ACT_HI_TASKINST_P202009 partition of ACT_HI_TASKINST"
+                        + " for values from ('2020-09-01 00:00:00') to ('2020-10-01 00:00:00')")
+                .noneMatch(sql -> sql.contains("P202010"));
+
+        // Every partition is created in its own transaction with a lock timeout
+        assertThat(statements).filteredOn(sql -> sql.startsWith("create table")).hasSize(20);
+        assertThat(statements).filteredOn("set local lock_timeout = 5000"::equals).hasSize(20);
+        verify(connection, times(20)).commit();
+    }
+
+    @Test
+    void noPartitionsCreatedOnOracle() {
+        processEngineConfiguration.setDatabaseType(AbstractEngineConfiguration.DATABASE_TYPE_ORACLE);
+
+        partitionManager.createPartitions();
+
+        verifyNoInteractions(connection);
+    }
+
+    @Test
+    void dropExpiredPartitionsOnPostgres() throws SQLException {
+        when(firstMonthResultSet.next()).thenReturn(true);
+        when(firstMonthResultSet.getTimestamp(1)).thenReturn(Timestamp.valueOf("2020-03-10 10:00:00"));
+        when(countResultSet.next()).thenReturn(true);
+        // March has no instances that ended after the cleanup period, April has
+        when(countResultSet.getLong(1)).thenReturn(0L, 1L);
+
+        assertThat(partitionManager.dropExpiredPartitions()).isEqualTo(1);
+
+        assertThat(getExecutedStatements())
+                .filteredOn(sql -> sql.startsWith("drop"))
+                .containsExactly(
+                        "drop table if exists ACT_HI_ACTINST_P202003",
+                        "drop table if exists ACT_HI_DETAIL_P202003",
+                        "drop table if exists ACT_HI_TASKINST_P202003",
+                        "drop table if exists ACT_HI_VARINST_P202003",
+                        "drop table if exists ACT_HI_PROCINST_P202003");
+        // May ends after the cleanup period, so it isn't checked
+        verify(preparedStatement, times(2)).executeQuery();
+    }
+
+    @Test
+    void lockTimeoutLeavesPartitionsForNextRun() throws SQLException {
+        when(firstMonthResultSet.next()).thenReturn(true);
+        when(firstMonthResultSet.getTimestamp(1)).thenReturn(Timestamp.valueOf("2020-03-10 10:00:00"));
+        when(countResultSet.next()).thenReturn(true);
+        when(countResultSet.getLong(1)).thenReturn(0L);
+        lenient().when(statement.execute(startsWith("drop table if exists ACT_HI_DETAIL"))).thenThrow(new SQLException("canceling statement due to lock timeout"));
+
+        assertThat(partitionManager.dropExpiredPartitions()).isZero();
+
+        assertThat(getExecutedStatements())
+                .contains("drop table if exists ACT_HI_ACTINST_P202003")
+                .noneMatch(sql -> sql.startsWith("drop table if exists ACT_HI_PROCINST"))
+                .noneMatch(sql -> sql.contains("P202004"));
+        verify(connection).rollback();
+        verify(connection, atLeastOnce()).setAutoCommit(true);
+    }
+
+    @Test
+    void dropExpiredPartitionsOnOracle() throws SQLException {
+        processEngineConfiguration.setDatabaseType(AbstractEngineConfiguration.DATABASE_TYPE_ORACLE);
+        when(firstMonthResultSet.next()).thenReturn(true);
+        when(firstMonthResultSet.getTimestamp(1)).thenReturn(Timestamp.valueOf("2020-04-10 10:00:00"));
+        when(countResultSet.next()).thenReturn(true);
+        when(countResultSet.getLong(1)).thenReturn(0L);
+        // ORA-02149: there is no partition for the month
+        lenient().when(statement.execute(startsWith("alter table ACT_HI_DETAIL"))).thenThrow(new SQLException("ORA-02149", "42000", 2149));
+
+        assertThat(partitionManager.dropExpiredPartitions()).isEqualTo(1);
+
+        List<String> statements = getExecutedStatements();
+        assertThat(statements)
+                .contains("alter table ACT_HI_PROCINST drop partition for (TIMESTAMP '2020-04-01 00:00:00') update global indexes");
+        assertThat(statements).filteredOn("alter session set ddl_lock_timeout = 5"::equals).hasSize(5);
+        assertThat(statements).filteredOn("alter session set ddl_lock_timeout = 0"::equals).hasSize(5);
+        verify(connection, never()).commit();
+    }
+
+    @Test
+    void noPartitionsDroppedWithoutCleanupPeriod() {
+        when(historyCleaningManager.getHistoricProcessInstanceCleaningEndedBefore()).thenReturn(null);
+
+        assertThat(partitionManager.dropExpiredPartitions()).isZero();
+
+        verifyNoInteractions(connection);
+    }
+
+    @Test
+    void partitioningRequiresHistoryCleaning() {
+        processEngineConfiguration.setEnableHistoryTablePartitioning(true);
+
+        assertThatThrownBy(() -> processEngineConfiguration.initHistoryTablePartitionManager())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("requires history cleaning");
+
+        processEngineConfiguration.setEnableHistoryCleaning(true);
+        processEngineConfiguration.initHistoryTablePartitionManager();
+        assertThat(processEngineConfiguration.getHistoryTablePartitionManager()).isNotNull();
+    }
+
+    @Test
+    void checkPartitionedTablesFailsForTableThatIsNotPartitioned() throws SQLException {
+        when(countResultSet.next()).thenReturn(true);
+        // The task history table was created before partitioning was enabled
+        when(countResultSet.getLong(1)).thenReturn(1L, 1L, 0L);
+
+        assertThatThrownBy(() -> partitionManager.checkPartitionedTables())
+                .isInstanceOf(FlowableException.class)
+                .hasMessageContaining("History table ACT_HI_TASKINST is not partitioned");
+
+        verify(preparedStatement).setString(1, "act_hi_taskinst");
+    }
+
+    @Test
+    void checkPartitionedTables() throws SQLException {
+        when(countResultSet.next()).thenReturn(true);
+        when(countResultSet.getLong(1)).thenReturn(1L);
+
+        partitionManager.checkPartitionedTables();
+
+        verify(preparedStatement, times(5)).executeQuery();
+    }
+
+    protected List<String> getExecutedStatements() throws SQLException {
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(statement, atLeastOnce()).execute(sqlCaptor.capture());
+        return sqlCaptor.getAllValues();
+    }
+
+}
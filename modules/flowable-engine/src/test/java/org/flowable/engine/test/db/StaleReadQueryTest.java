@@ -0,0 +1,101 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.engine.test.db;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.flowable.common.engine.impl.cfg.StaleReadCommandExecutor;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.ProcessInstanceQueryImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StaleReadQueryTest extends PluggableFlowableTestCase {
+
+    protected AtomicInteger readOnlyConnections = new AtomicInteger();
+
+    @BeforeEach
+    protected void setUp() {
+        // Uses the same database as the engine, only the number of connections is counted
+        DataSource dataSource = processEngineConfiguration.getDataSource();
+        DataSource readOnlyDataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DataSource.class },
+                (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        readOnlyConnections.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(dataSource, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        processEngineConfiguration.getDbSqlSessionFactory().setReadOnlyDataSource(readOnlyDataSource);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.getDbSqlSessionFactory().setReadOnlyDataSource(null);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testQueryAllowingStaleRead() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertEquals(0, readOnlyConnections.get());
+
+        assertEquals(1, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(0, readOnlyConnections.get());
+
+        assertEquals(1, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).allowStaleRead().count());
+        assertEquals(1, readOnlyConnections.get());
+
+        assertEquals(processInstance.getId(), runtimeService.createProcessInstanceQuery().allowStaleRead().singleResult().getId());
+        assertEquals(2, readOnlyConnections.get());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testQueryAllowingStaleReadWithinCommand() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        // The command might have written data, so its queries need to read from the primary data source
+        long count = managementService.executeCommand(commandContext -> runtimeService.createProcessInstanceQuery().allowStaleRead().count());
+        assertEquals(1, count);
+        assertEquals(0, readOnlyConnections.get());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStaleReadCommandExecutor() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        CommandExecutor commandExecutor = new StaleReadCommandExecutor(processEngineConfiguration.getCommandExecutor());
+
+        assertEquals(1, new ProcessInstanceQueryImpl(commandExecutor).count());
+        assertEquals(1, readOnlyConnections.get());
+
+        // Other commands are executed against the primary data source
+        long count = commandExecutor.execute(commandContext -> runtimeService.createProcessInstanceQuery().count());
+        assertEquals(1, count);
+        assertEquals(1, readOnlyConnections.get());
+    }
+
+}
@@ -15,6 +15,7 @@ package org.flowable.engine.test.eventregistry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -259,6 +260,43 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerNoCorrelation.bpmn20.xml")
+    public void testBoundaryEventListenerBatch() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+
+        // The second event must not trigger the boundary event execution again, it was already deleted by the first event
+        inboundEventChannelAdapter.triggerTestEventBatch("kermit", "kermit");
+        Task afterTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(afterTask.getTaskDefinitionKey()).isEqualTo("taskAfterBoundary");
+        assertThat(runtimeService.createEventSubscriptionQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @Deployment
+    public void testConsecutiveBoundaryEventListenersBatch() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+
+        // The second event triggers the event subscription that was created by the first event
+        inboundEventChannelAdapter.triggerTestEventBatch("kermit", "kermit", "kermit");
+        Task afterTask = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertThat(afterTask.getTaskDefinitionKey()).isEqualTo("taskAfterEvents");
+        assertThat(runtimeService.createEventSubscriptionQuery().processInstanceId(processInstance.getId()).count()).isZero();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testStartOnlyOneInstance.bpmn20.xml")
+    public void testStartOnlyOneInstanceBatch() {
+        inboundEventChannelAdapter.triggerTestEventBatch("testCustomer", "testCustomer", "anotherTestCustomer", "testCustomer", "anotherTestCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list())
+            .extracting(ProcessInstance::getReferenceId)
+            .doesNotHaveDuplicates()
+            .hasSize(2);
+
+        inboundEventChannelAdapter.triggerTestEventBatch("testCustomer", "anotherTestCustomer");
+        assertThat(runtimeService.createProcessInstanceQuery().list()).hasSize(2);
+    }
+
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
 
         public InboundChannelModel inboundChannelModel;
@@ -287,6 +325,18 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
         }
 
         public void triggerTestEvent(String customerId, String orderId) {
+            eventRegistry.eventReceived(inboundChannelModel, createTestEvent(customerId, orderId));
+        }
+
+        public void triggerTestEventBatch(String... customerIds) {
+            List<String> events = new ArrayList<>();
+            for (String customerId : customerIds) {
+                events.add(createTestEvent(customerId, null));
+            }
+            eventRegistry.eventsReceived(inboundChannelModel, events);
+        }
+
+        protected String createTestEvent(String customerId, String orderId) {
             ObjectMapper objectMapper = new ObjectMapper();
 
             ObjectNode json = objectMapper.createObjectNode();
@@ -301,7 +351,7 @@ public class BpmnEventRegistryConsumerTest extends FlowableEventRegistryBpmnTest
             json.put("payload1", "Hello World");
             json.put("payload2", new Random().nextInt());
             try {
-                eventRegistry.eventReceived(inboundChannelModel, objectMapper.writeValueAsString(json));
+                return objectMapper.writeValueAsString(json);
             } catch (JsonProcessingException e) {
                 throw new RuntimeException(e);
             }
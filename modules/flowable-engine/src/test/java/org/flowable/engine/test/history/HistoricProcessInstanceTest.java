@@ -25,13 +25,20 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.history.HistoricActivityInstance;
+import org.flowable.engine.history.HistoricDetail;
 import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricDetailEntity;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.engine.test.Deployment;
 import org.flowable.identitylink.api.history.HistoricIdentityLink;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+import org.flowable.variable.api.history.HistoricVariableInstance;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -570,6 +577,61 @@ public class HistoricProcessInstanceTest extends PluggableFlowableTestCase {
         deleteDeployment(deploymentId);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/history/oneTaskProcess.bpmn20.xml" })
+    public void testHistoryTablePartitionTime() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration) || processEngineConfiguration.isAsyncHistoryEnabled()) {
+            return;
+        }
+
+        Date startTime = new GregorianCalendar(2010, Calendar.SEPTEMBER, 30, 12, 0, 0).getTime();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        processEngineConfiguration.setEnableHistoryTablePartitioning(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("var", "value"));
+
+            // The history created later on still uses the start time of the process instance
+            processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 24 * 60 * 60 * 1000));
+            org.flowable.task.api.Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+            taskService.complete(task.getId(), Collections.singletonMap("otherVar", "otherValue"));
+
+            HistoricTaskInstanceEntity historicTask = (HistoricTaskInstanceEntity) historyService.createHistoricTaskInstanceQuery()
+                    .processInstanceId(processInstance.getId()).singleResult();
+            assertEquals(startTime, historicTask.getPartitionTime());
+
+            List<HistoricActivityInstance> historicActivities = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId()).list();
+            assertFalse(historicActivities.isEmpty());
+            for (HistoricActivityInstance historicActivity : historicActivities) {
+                assertEquals(startTime, ((HistoricActivityInstanceEntity) historicActivity).getPartitionTime());
+            }
+
+            List<HistoricVariableInstance> historicVariables = historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).list();
+            assertEquals(2, historicVariables.size());
+            for (HistoricVariableInstance historicVariable : historicVariables) {
+                assertEquals(startTime, ((HistoricVariableInstanceEntity) historicVariable).getPartitionTime());
+            }
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.FULL, processEngineConfiguration)) {
+                List<HistoricDetail> historicDetails = historyService.createHistoricDetailQuery().processInstanceId(processInstance.getId()).list();
+                assertFalse(historicDetails.isEmpty());
+                for (HistoricDetail historicDetail : historicDetails) {
+                    assertEquals(startTime, ((HistoricDetailEntity) historicDetail).getPartitionTime());
+                }
+            }
+
+            // The partition pruning predicates don't change the query results
+            Date finishedBefore = new Date(startTime.getTime() + 2 * 24 * 60 * 60 * 1000);
+            assertEquals(1, historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).finishedBefore(finishedBefore).count());
+            assertEquals(historicActivities.size(), historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstance.getId())
+                    .startedBefore(finishedBefore).count());
+            assertEquals(1, historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstance.getId()).taskCompletedBefore(finishedBefore).count());
+
+        } finally {
+            processEngineConfiguration.setEnableHistoryTablePartitioning(false);
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
     public void testQueryByInvalidCallbackId() {
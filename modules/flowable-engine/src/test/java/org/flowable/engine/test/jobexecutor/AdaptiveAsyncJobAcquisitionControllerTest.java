@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.flowable.job.service.impl.asyncexecutor.AdaptiveAsyncJobAcquisitionController;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveAsyncJobAcquisitionControllerTest {
+
+    protected DefaultAsyncJobExecutor asyncExecutor;
+    protected AdaptiveAsyncJobAcquisitionController controller;
+    protected long currentTime;
+
+    @BeforeEach
+    public void setUp() {
+        asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(50);
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(10000);
+        asyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(0);
+        controller = new AdaptiveAsyncJobAcquisitionController(asyncExecutor) {
+
+            @Override
+            protected long getCurrentTimeInMillis() {
+                return currentTime;
+            }
+        };
+    }
+
+    @Test
+    public void testAcquireSizeWithoutObservedDrainRate() {
+        assertThat(controller.determineAcquireSize(100)).isEqualTo(50);
+        assertThat(controller.determineAcquireSize(20)).isEqualTo(20);
+        assertThat(controller.getDrainRatePerSecond()).isNegative();
+    }
+
+    @Test
+    public void testWaitTimeAfterAcquisition() {
+        // A full page means more jobs can be expected
+        assertThat(controller.acquisitionSucceeded(10, 10, 0)).isZero();
+
+        // Less than requested, wait for the default time
+        assertThat(controller.acquisitionSucceeded(10, 3, 0)).isEqualTo(10000L);
+        assertThat(controller.acquisitionSucceeded(10, 0, 0)).isEqualTo(10000L);
+
+        assertThat(controller.getAcquisitionCount()).isEqualTo(3);
+        assertThat(controller.getAcquiredJobCount()).isEqualTo(13);
+    }
+
+    @Test
+    public void testAcquisitionWithBusyQueue() {
+        controller.updateDrainRate();
+
+        // The rate is only measured once a full window has passed
+        finishJobs(1);
+        currentTime = 500L;
+        controller.updateDrainRate();
+        assertThat(controller.getDrainRatePerSecond()).isNegative();
+
+        finishJobs(1);
+        currentTime = 1000L;
+        controller.updateDrainRate();
+        assertThat(controller.getFinishedJobCount()).isEqualTo(2);
+        assertThat(controller.getDrainRatePerSecond()).isEqualTo(2.0);
+
+        // Acquire what is expected to be started until the next acquisition, and wait for that
+        assertThat(controller.determineAcquireSize(100)).isEqualTo(20);
+        assertThat(controller.acquisitionSucceeded(20, 20, 0)).isEqualTo(10000L);
+
+        // No job finishes while the workers are busy, also while the queue is full
+        for (int i = 2; i <= 20; i++) {
+            currentTime = i * 1000L;
+            controller.updateDrainRate();
+            assertThat(controller.queueFull()).isEqualTo(10000L);
+        }
+        assertThat(controller.getDrainRatePerSecond()).isLessThan(0.01);
+
+        // A single job is acquired, but that doesn't lead to acquiring again without waiting
+        assertThat(controller.determineAcquireSize(100)).isEqualTo(1);
+        assertThat(controller.acquisitionSucceeded(1, 1, 0)).isEqualTo(10000L);
+        assertThat(controller.getCurrentWaitTimeInMillis()).isEqualTo(10000L);
+
+        // As soon as the workers finish jobs again, the rate goes up
+        finishJobs(10);
+        currentTime = 21000L;
+        controller.updateDrainRate();
+        assertThat(controller.getDrainRatePerSecond()).isGreaterThan(2.9);
+        assertThat(controller.determineAcquireSize(100)).isEqualTo(31);
+
+        // When the queue limits the acquisition, more jobs can be expected
+        assertThat(controller.determineAcquireSize(5)).isEqualTo(5);
+        assertThat(controller.acquisitionSucceeded(5, 5, 0)).isZero();
+    }
+
+    @Test
+    public void testExponentialBackoffOnConflicts() {
+        controller.setInitialBackoffInMillis(100L);
+        controller.setMaxBackoffInMillis(1000L);
+
+        long previousUpperBound = 0L;
+        for (int i = 1; i <= 6; i++) {
+            long backoff = controller.acquisitionConflicted();
+            long upperBound = Math.min(100L << (i - 1), 1000L);
+            assertThat(backoff).isBetween(upperBound / 2, upperBound);
+            assertThat(upperBound).isGreaterThanOrEqualTo(previousUpperBound);
+            previousUpperBound = upperBound;
+        }
+        assertThat(controller.getConsecutiveConflicts()).isEqualTo(6);
+        assertThat(controller.getConflictCount()).isEqualTo(6);
+
+        // A successful acquisition resets the backoff
+        controller.acquisitionSucceeded(10, 1, 0);
+        assertThat(controller.getConsecutiveConflicts()).isZero();
+        assertThat(controller.acquisitionConflicted()).isBetween(50L, 100L);
+    }
+
+    @Test
+    public void testQueueFullWithLocalWork() {
+        assertThat(controller.queueFull()).isEqualTo(10000L);
+
+        controller.localWorkAdded();
+        assertThat(controller.isLocalWorkPending()).isTrue();
+        assertThat(controller.queueFull()).isEqualTo(controller.getQueueFullPollIntervalInMillis());
+
+        controller.acquisitionSucceeded(10, 1, 0);
+        assertThat(controller.isLocalWorkPending()).isFalse();
+    }
+
+    protected void finishJobs(int count) {
+        for (int i = 0; i < count; i++) {
+            controller.track(() -> {}).run();
+        }
+    }
+
+}
@@ -23,8 +23,10 @@ import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.TimerWheel;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -84,6 +86,75 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testTimerJobPrefetching() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            // Timers due within the next 10 minutes are prefetched
+            processEngine = createProcessEngine(true, null, 10 * 60 * 1000);
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testRegularAsyncExecution.bpmn20.xml");
+
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutor");
+            waitForTimerJobsBeingPrefetched(processEngine, 1, 10000L);
+
+            // The timer is locked, but not yet due
+            Assert.assertEquals(1, processEngine.getManagementService().createTimerJobQuery().count());
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+            Assert.assertEquals(0, getAsyncExecutorJobCount(processEngine));
+
+            // Move clock past the due date of the timer. The prefetched timer fires without being acquired again
+            addSecondsToCurrentTime(processEngine, 361);
+            waitForAllJobsBeingExecuted(processEngine);
+
+            Assert.assertEquals(0, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().taskName("Task after timer").count());
+            Assert.assertEquals(0, processEngine.getManagementService().createTimerJobQuery().count());
+            Assert.assertEquals(0, getTimerWheel(processEngine).size());
+
+            Assert.assertEquals(1, getAsyncExecutorJobCount(processEngine));
+        } finally {
+
+            // Clean up
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
+    @Test
+    public void testTimerJobPrefetchingWithRealTime() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            // The engine clock is not changed, so the prefetched timer is fired by the timer wheel when it is due
+            processEngine = createProcessEngine(true, null, 60 * 1000);
+            deploy(processEngine, "AsyncExecutorTest.testTimerJobPrefetchingWithRealTime.bpmn20.xml");
+
+            processEngine.getRuntimeService().startProcessInstanceByKey("asyncExecutorShortTimer");
+            waitForTimerJobsBeingPrefetched(processEngine, 1, 2000L);
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+
+            waitForTimerJobsBeingFired(processEngine, 10000L);
+            waitForAllJobsBeingExecuted(processEngine);
+
+            Assert.assertEquals(0, processEngine.getTaskService().createTaskQuery().taskName("The Task").count());
+            Assert.assertEquals(1, processEngine.getTaskService().createTaskQuery().taskName("Task after timer").count());
+            Assert.assertEquals(0, getTimerWheel(processEngine).size());
+
+            Assert.assertEquals(1, getAsyncExecutorJobCount(processEngine));
+        } finally {
+
+            // Clean up
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
     @Test
     public void testAsyncExecutorDisabledOnOneEngine() {
 
@@ -219,6 +290,10 @@ public class AsyncExecutorTest {
     }
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time) {
+        return createProcessEngine(enableAsyncExecutor, time, 0);
+    }
+
+    private ProcessEngine createProcessEngine(boolean enableAsyncExecutor, Date time, int timerJobPrefetchWindowInMillis) {
         ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
         processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
         processEngineConfiguration.setDatabaseSchemaUpdate("true");
@@ -229,6 +304,7 @@ public class AsyncExecutorTest {
             CountingAsyncExecutor countingAsyncExecutor = new CountingAsyncExecutor();
             countingAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50); // To avoid waiting too long when a retry happens
             countingAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+            countingAsyncExecutor.setTimerJobPrefetchWindowInMillis(timerJobPrefetchWindowInMillis);
             processEngineConfiguration.setAsyncExecutor(countingAsyncExecutor);
         }
 
@@ -271,6 +347,39 @@ public class AsyncExecutorTest {
         JobTestHelper.waitForJobExecutorToProcessAllJobsAndExecutableTimerJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), maxWaitTime, 1000L, false);
     }
 
+    private void waitForTimerJobsBeingPrefetched(ProcessEngine processEngine, int expectedCount, long maxWaitTime) {
+        long endTime = System.currentTimeMillis() + maxWaitTime;
+        while (getTimerWheel(processEngine) == null || getTimerWheel(processEngine).size() < expectedCount) {
+            if (System.currentTimeMillis() > endTime) {
+                Assert.fail("time limit of " + maxWaitTime + " was exceeded while waiting for timer jobs to be prefetched");
+            }
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                // Ignore
+            }
+        }
+    }
+
+    private void waitForTimerJobsBeingFired(ProcessEngine processEngine, long maxWaitTime) {
+        long endTime = System.currentTimeMillis() + maxWaitTime;
+        while (processEngine.getManagementService().createTimerJobQuery().count() > 0) {
+            if (System.currentTimeMillis() > endTime) {
+                Assert.fail("time limit of " + maxWaitTime + " was exceeded while waiting for timer jobs to be fired");
+            }
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                // Ignore
+            }
+        }
+    }
+
+    private TimerWheel getTimerWheel(ProcessEngine processEngine) {
+        AbstractAsyncExecutor asyncExecutor = (AbstractAsyncExecutor) processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+        return asyncExecutor.getTimerJobRunnable().getTimerWheel();
+    }
+
     private int getAsyncExecutorJobCount(ProcessEngine processEngine) {
         AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
         if (asyncExecutor instanceof CountingAsyncExecutor) {
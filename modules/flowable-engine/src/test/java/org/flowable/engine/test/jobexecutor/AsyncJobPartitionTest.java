@@ -0,0 +1,206 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPartition;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncJobPartitionTest extends PluggableFlowableTestCase {
+
+    protected DefaultAsyncJobExecutor partitionedAsyncExecutor;
+    protected AsyncJobPartition tenantAPartition;
+    protected AsyncJobPartition customHandlerPartition;
+    protected List<String> jobIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        partitionedAsyncExecutor = new DefaultAsyncJobExecutor();
+        partitionedAsyncExecutor.setJobServiceConfiguration(processEngineConfiguration.getJobServiceConfiguration());
+        partitionedAsyncExecutor.setMaxAsyncJobsDuePerAcquisition(10);
+
+        tenantAPartition = new AsyncJobPartition("tenantA").tenantIds(Collections.singleton("tenantA")).weight(3);
+        customHandlerPartition = new AsyncJobPartition("custom").handlerTypes(Collections.singleton("custom-handler")).capacity(5);
+        partitionedAsyncExecutor.setAsyncJobPartitions(Arrays.asList(tenantAPartition, customHandlerPartition));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        managementService.executeCommand(commandContext -> {
+            for (String jobId : jobIds) {
+                CommandContextUtil.getJobService(commandContext).deleteJob(jobId);
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testDefaultPartitionIsAdded() {
+        List<AsyncJobPartition> partitions = partitionedAsyncExecutor.getAsyncJobPartitions();
+        assertThat(partitions).extracting(AsyncJobPartition::getName).containsExactly("tenantA", "custom", AsyncJobPartition.DEFAULT_PARTITION_NAME);
+        assertThat(partitions.get(2).isCatchAll()).isTrue();
+        assertThat(partitions.get(2).getExcludedPartitions()).containsExactly(tenantAPartition, customHandlerPartition);
+        assertThat(customHandlerPartition.getExcludedPartitions()).containsExactly(tenantAPartition);
+
+        assertThatThrownBy(() -> partitionedAsyncExecutor.setAsyncJobPartitions(Arrays.asList(new AsyncJobPartition("one"), new AsyncJobPartition("two"))))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    @Test
+    public void testJobBelongsToFirstMatchingPartition() {
+        assertThat(partitionedAsyncExecutor.findAsyncJobPartition(createJobInfo("tenantA", "custom-handler"))).isSameAs(tenantAPartition);
+        assertThat(partitionedAsyncExecutor.findAsyncJobPartition(createJobInfo("tenantB", "custom-handler"))).isSameAs(customHandlerPartition);
+        assertThat(partitionedAsyncExecutor.findAsyncJobPartition(createJobInfo("tenantB", "async-continuation")).getName())
+                .isEqualTo(AsyncJobPartition.DEFAULT_PARTITION_NAME);
+        assertThat(new DefaultAsyncJobExecutor().findAsyncJobPartition(createJobInfo("tenantA", "custom-handler"))).isNull();
+    }
+
+    @Test
+    public void testJobsAreAcquiredPerPartition() {
+        String tenantAJobId = createJob("tenantA", "async-continuation");
+        String tenantACustomJobId = createJob("tenantA", "custom-handler");
+        String tenantBCustomJobId = createJob("tenantB", "custom-handler");
+        String tenantBJobId = createJob("tenantB", "async-continuation");
+
+        List<AsyncJobPartition> partitions = partitionedAsyncExecutor.getAsyncJobPartitions();
+        assertThat(acquireJobIds(partitions.get(0))).containsExactlyInAnyOrder(tenantAJobId, tenantACustomJobId);
+        assertThat(acquireJobIds(partitions.get(1))).containsExactly(tenantBCustomJobId);
+        assertThat(acquireJobIds(partitions.get(2))).containsExactly(tenantBJobId);
+
+        // All jobs are locked now
+        assertThat(acquireJobIds(partitions.get(2))).isEmpty();
+    }
+
+    @Test
+    public void testPartitionsGoFirstProportionallyToWeight() {
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(partitionedAsyncExecutor);
+
+        List<String> firstPartitions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            firstPartitions.add(runnable.determinePartitionAcquisitionOrder(partitionedAsyncExecutor.getAsyncJobPartitions()).get(0).getName());
+        }
+
+        // Weights 3, 1 and 1
+        assertThat(firstPartitions).containsExactly("tenantA", "custom", "tenantA", "default", "tenantA", "tenantA", "custom", "tenantA", "default", "tenantA");
+    }
+
+    @Test
+    public void testPartitionAcquireSize() {
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(partitionedAsyncExecutor);
+
+        // Share of the weight, rounded up
+        assertThat(runnable.determinePartitionAcquireSize(tenantAPartition, 10, 5)).isEqualTo(6);
+        assertThat(runnable.determinePartitionAcquireSize(tenantAPartition, 1, 5)).isEqualTo(1);
+        assertThat(runnable.determinePartitionAcquireSize(tenantAPartition, 0, 5)).isZero();
+
+        // Limited by the capacity of the partition
+        assertThat(runnable.determinePartitionAcquireSize(customHandlerPartition, 10, 1)).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            customHandlerPartition.track(() -> {});
+        }
+        assertThat(customHandlerPartition.getQueuedJobCount()).isEqualTo(5);
+        assertThat(runnable.determinePartitionAcquireSize(customHandlerPartition, 10, 1)).isZero();
+
+        customHandlerPartition.jobRejected();
+        assertThat(runnable.determinePartitionAcquireSize(customHandlerPartition, 10, 1)).isEqualTo(1);
+    }
+
+    @Test
+    public void testPartitionMetrics() {
+        Runnable first = tenantAPartition.track(() -> {});
+        Runnable second = tenantAPartition.track(() -> {});
+        assertThat(tenantAPartition.getQueuedJobCount()).isEqualTo(2);
+        assertThat(tenantAPartition.getAverageQueueTimeInMillis()).isNegative();
+
+        first.run();
+        assertThat(tenantAPartition.getQueuedJobCount()).isEqualTo(1);
+        assertThat(tenantAPartition.getExecutingJobCount()).isZero();
+        assertThat(tenantAPartition.getExecutedJobCount()).isEqualTo(1);
+        assertThat(tenantAPartition.getAverageQueueTimeInMillis()).isGreaterThanOrEqualTo(0.0);
+
+        Runnable failing = tenantAPartition.track(() -> {
+            throw new IllegalStateException();
+        });
+        assertThatThrownBy(failing::run).isInstanceOf(IllegalStateException.class);
+        second.run();
+        assertThat(tenantAPartition.getQueuedJobCount()).isZero();
+        assertThat(tenantAPartition.getExecutingJobCount()).isZero();
+        assertThat(tenantAPartition.getExecutedJobCount()).isEqualTo(3);
+    }
+
+    protected List<String> acquireJobIds(AsyncJobPartition partition) {
+        AcquiredJobEntities acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(partitionedAsyncExecutor, 10,
+                processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager(), partition));
+        return acquiredJobs.getJobs().stream().map(JobInfoEntity::getId).collect(Collectors.toList());
+    }
+
+    protected String createJob(String tenantId, String handlerType) {
+        String jobId = managementService.executeCommand(commandContext -> {
+            JobEntity job = CommandContextUtil.getJobService(commandContext).createJob();
+            job.setJobType(Job.JOB_TYPE_MESSAGE);
+            job.setJobHandlerType(handlerType);
+            job.setTenantId(tenantId);
+            job.setRetries(3);
+            CommandContextUtil.getJobService(commandContext).insertJob(job);
+            return job.getId();
+        });
+        jobIds.add(jobId);
+        return jobId;
+    }
+
+    protected JobEntity createJobInfo(String tenantId, String handlerType) {
+        JobEntity job = new JobEntityImpl();
+        job.setTenantId(tenantId);
+        job.setJobHandlerType(handlerType);
+        return job;
+    }
+
+    protected static class TestAcquireAsyncJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+        public TestAcquireAsyncJobsDueRunnable(DefaultAsyncJobExecutor asyncExecutor) {
+            super("test", asyncExecutor, null);
+        }
+
+        @Override
+        public List<AsyncJobPartition> determinePartitionAcquisitionOrder(List<AsyncJobPartition> partitions) {
+            return super.determinePartitionAcquisitionOrder(partitions);
+        }
+
+        @Override
+        public int determinePartitionAcquireSize(AsyncJobPartition partition, int remainingAcquireSize, int remainingWeight) {
+            return super.determinePartitionAcquireSize(partition, remainingAcquireSize, remainingWeight);
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPriorityQueue;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.cmd.AcquireJobsCmd;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncJobPriorityTest extends PluggableFlowableTestCase {
+
+    @BeforeEach
+    protected void enablePriorityAcquisition() {
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncExecutorJobPriorityAcquisitionEnabled(true);
+    }
+
+    @AfterEach
+    protected void disablePriorityAcquisition() {
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncExecutorJobPriorityAcquisitionEnabled(false);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncJobPriorityTest.asyncPriorityProcess.bpmn20.xml")
+    public void testJobPriorityFromAsyncPriority() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncPriorityProcess", Collections.singletonMap("priority", 10));
+
+        assertThat(managementService.createJobQuery().processInstanceId(processInstance.getId()).list())
+                .extracting(Job::getElementId, Job::getPriority)
+                .containsExactlyInAnyOrder(
+                        tuple("defaultPriorityTask", Job.DEFAULT_PRIORITY),
+                        tuple("fixedPriorityTask", 5),
+                        tuple("expressionPriorityTask", 10));
+
+        for (Job job : managementService.createJobQuery().processInstanceId(processInstance.getId()).list()) {
+            managementService.executeJob(job.getId());
+        }
+        assertProcessEnded(processInstance.getId());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncJobPriorityTest.asyncPriorityProcess.bpmn20.xml")
+    public void testJobsAreAcquiredByPriority() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncPriorityProcess", Collections.singletonMap("priority", -1));
+
+        assertThat(acquireJobElementIds()).containsExactly("fixedPriorityTask", "defaultPriorityTask", "expressionPriorityTask");
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), null);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/AsyncJobPriorityTest.asyncPriorityProcess.bpmn20.xml")
+    public void testAgedJobsAreAcquiredFirst() {
+        Date startTime = processEngineConfiguration.getClock().getCurrentTime();
+        processEngineConfiguration.getJobServiceConfiguration().setAsyncExecutorJobPriorityAgingTime(60 * 60 * 1000);
+        try {
+            ProcessInstance oldProcessInstance = runtimeService.startProcessInstanceByKey("asyncPriorityProcess", Collections.singletonMap("priority", -1));
+
+            processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 2 * 60 * 60 * 1000));
+            ProcessInstance newProcessInstance = runtimeService.startProcessInstanceByKey("asyncPriorityProcess", Collections.singletonMap("priority", 10));
+
+            List<JobInfoEntity> acquiredJobs = acquireJobs();
+            assertThat(acquiredJobs).hasSize(6);
+            assertThat(acquiredJobs.subList(0, 3)).extracting(job -> ((Job) job).getProcessInstanceId()).containsOnly(oldProcessInstance.getId());
+            assertThat(acquiredJobs.subList(3, 6)).extracting(job -> ((Job) job).getElementId())
+                    .containsExactly("expressionPriorityTask", "fixedPriorityTask", "defaultPriorityTask");
+
+            runtimeService.deleteProcessInstance(oldProcessInstance.getId(), null);
+            runtimeService.deleteProcessInstance(newProcessInstance.getId(), null);
+
+        } finally {
+            processEngineConfiguration.getJobServiceConfiguration().setAsyncExecutorJobPriorityAgingTime(0);
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
+    @Test
+    public void testPriorityQueueOrdering() {
+        AsyncJobPriorityQueue queue = new AsyncJobPriorityQueue(4, 0);
+        List<String> executed = new ArrayList<>();
+
+        assertThat(queue.offer(queue.prioritize(() -> executed.add("low"), -1))).isTrue();
+        assertThat(queue.offer(() -> executed.add("default1"))).isTrue();
+        assertThat(queue.offer(queue.prioritize(() -> executed.add("high"), 5))).isTrue();
+        assertThat(queue.offer(queue.prioritize(() -> executed.add("default2"), Job.DEFAULT_PRIORITY))).isTrue();
+        assertThat(queue.remainingCapacity()).isZero();
+        assertThat(queue.offer(() -> executed.add("rejected"))).isFalse();
+
+        Runnable runnable;
+        while ((runnable = queue.poll()) != null) {
+            runnable.run();
+        }
+        assertThat(executed).containsExactly("high", "default1", "default2", "low");
+        assertThat(queue.remainingCapacity()).isEqualTo(4);
+    }
+
+    @Test
+    public void testPriorityQueueAging() {
+        AsyncJobPriorityQueue queue = new AsyncJobPriorityQueue(10, 60 * 60 * 1000);
+        List<String> executed = new ArrayList<>();
+
+        // Both are queued within the same hour, so the priority decides
+        queue.offer(queue.prioritize(() -> executed.add("low"), 0));
+        queue.offer(queue.prioritize(() -> executed.add("high"), 1));
+        queue.poll().run();
+        queue.poll().run();
+
+        assertThat(executed).containsExactly("high", "low");
+    }
+
+    protected List<String> acquireJobElementIds() {
+        return acquireJobs().stream().map(job -> ((Job) job).getElementId()).collect(Collectors.toList());
+    }
+
+    protected List<JobInfoEntity> acquireJobs() {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setJobServiceConfiguration(processEngineConfiguration.getJobServiceConfiguration());
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(10);
+
+        AcquiredJobEntities acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(asyncExecutor, 10,
+                processEngineConfiguration.getJobServiceConfiguration().getJobEntityManager()));
+        return new ArrayList<>(acquiredJobs.getJobs());
+    }
+
+}
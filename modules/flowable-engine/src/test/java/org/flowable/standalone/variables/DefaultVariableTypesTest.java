@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.types.BooleanType;
+import org.flowable.variable.service.impl.types.DateType;
+import org.flowable.variable.service.impl.types.DefaultVariableTypes;
+import org.flowable.variable.service.impl.types.IntegerType;
+import org.flowable.variable.service.impl.types.LongStringType;
+import org.flowable.variable.service.impl.types.NullType;
+import org.flowable.variable.service.impl.types.SerializableType;
+import org.flowable.variable.service.impl.types.StringType;
+import org.junit.jupiter.api.Test;
+
+class DefaultVariableTypesTest {
+
+    @Test
+    void findVariableType() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+
+        for (int i = 0; i < 2; i++) {
+            // The second time, the types are taken from the cache
+            assertThat(variableTypes.findVariableType(null).getTypeName()).isEqualTo(NullType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(42).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(true).getTypeName()).isEqualTo(BooleanType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(new Date()).getTypeName()).isEqualTo(DateType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(new ArrayList<>()).getTypeName()).isEqualTo(SerializableType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(StringUtils.repeat('a', 10)).getTypeName()).isEqualTo(StringType.TYPE_NAME);
+            assertThat(variableTypes.findVariableType(StringUtils.repeat('a', 11)).getTypeName()).isEqualTo(LongStringType.TYPE_NAME);
+        }
+
+        assertThatThrownBy(() -> variableTypes.findVariableType(new Object()))
+                .isInstanceOf(FlowableException.class)
+                .hasMessageStartingWith("couldn't find a variable type that is able to serialize");
+    }
+
+    @Test
+    void valueDependentTypesAreCheckedForEveryValue() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        variableTypes.addType(new NegativeIntegerType(), 0);
+
+        assertThat(variableTypes.findVariableType(-1).getTypeName()).isEqualTo("negativeInteger");
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(-2).getTypeName()).isEqualTo("negativeInteger");
+    }
+
+    @Test
+    void subclassOfBuiltInTypeIsCheckedForEveryValue() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        variableTypes.addType(new PositiveIntegerType(), 0);
+
+        assertThat(variableTypes.findVariableType(1).getTypeName()).isEqualTo("positiveInteger");
+        assertThat(variableTypes.findVariableType(-1).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+        assertThat(variableTypes.findVariableType(2).getTypeName()).isEqualTo("positiveInteger");
+    }
+
+    @Test
+    void cacheIsClearedWhenTypesChange() {
+        DefaultVariableTypes variableTypes = createVariableTypes();
+        assertThat(variableTypes.findVariableType(-1).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+
+        NegativeIntegerType negativeIntegerType = new NegativeIntegerType();
+        variableTypes.addType(negativeIntegerType, 0);
+        assertThat(variableTypes.findVariableType(-1).getTypeName()).isEqualTo("negativeInteger");
+
+        variableTypes.removeType(negativeIntegerType);
+        assertThat(variableTypes.findVariableType(-1).getTypeName()).isEqualTo(IntegerType.TYPE_NAME);
+    }
+
+    protected DefaultVariableTypes createVariableTypes() {
+        return new DefaultVariableTypes()
+                .addType(new NullType())
+                .addType(new StringType(10))
+                .addType(new LongStringType(11))
+                .addType(new BooleanType())
+                .addType(new IntegerType())
+                .addType(new DateType())
+                .addType(new SerializableType());
+    }
+
+    protected static class NegativeIntegerType implements VariableType {
+
+        @Override
+        public String getTypeName() {
+            return "negativeInteger";
+        }
+
+        @Override
+        public boolean isCachable() {
+            return true;
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return value instanceof Integer && (Integer) value < 0;
+        }
+
+        @Override
+        public void setValue(Object value, ValueFields valueFields) {
+            valueFields.setLongValue(((Integer) value).longValue());
+        }
+
+        @Override
+        public Object getValue(ValueFields valueFields) {
+            return valueFields.getLongValue().intValue();
+        }
+    }
+
+    protected static class PositiveIntegerType extends IntegerType {
+
+        @Override
+        public String getTypeName() {
+            return "positiveInteger";
+        }
+
+        @Override
+        public boolean isAbleToStore(Object value) {
+            return super.isAbleToStore(value) && value != null && (Integer) value > 0;
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.api;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,6 +30,12 @@ public interface EntityLinkService {
     
     List<EntityLink> findEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType, String linkType);
     
+    /**
+     * Returns the stored links of the given type that {@link #deleteEntityLinksByScopeIdAndType(String, String)} deletes,
+     * without the links derived from them.
+     */
+    List<EntityLink> findEntityLinksToDeleteByScopeIdAndType(String scopeId, String scopeType, String linkType);
+    
     EntityLink createEntityLink();
     
     void insertEntityLink(EntityLink entityLink);
@@ -41,6 +48,8 @@ public interface EntityLinkService {
     
     void deleteEntityLinksByScopeIdAndType(String scopeId, String scopeType);
     
+    void deleteEntityLinksByScopeIdsAndType(Collection<String> scopeIds, String scopeType);
+    
     void deleteEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType);
     
 }
@@ -53,6 +53,8 @@ public class EntityLinkServiceConfiguration extends AbstractServiceConfiguration
     protected HistoryLevel historyLevel;
     
     protected ObjectMapper objectMapper;
+
+    protected boolean enableHierarchicalEntityLinks;
     
     public EntityLinkServiceConfiguration(String engineName) {
         super(engineName);
@@ -165,6 +167,24 @@ public class EntityLinkServiceConfiguration extends AbstractServiceConfiguration
         return this;
     }
     
+    public boolean isEnableHierarchicalEntityLinks() {
+        return enableHierarchicalEntityLinks;
+    }
+
+    /**
+     * When enabled, only one link is stored for a new child scope: the link to its direct parent, with the root scope and the path of ancestor scope ids.
+     * The links to the other ancestors are derived from the path when queried, and the descendants of a scope are found with a prefix match on the path
+     * within the hierarchy of the root scope. By default, a link is stored for every ancestor of a new child scope.
+     *
+     * Only the {@link EntityLinkService} queries derive the links to all ancestors and descendants. Queries that use the entity link tables directly,
+     * such as the task query with processInstanceIdWithChildren, and the historic entity links only see the links to the direct parents.
+     * Links that were created while this was disabled are not part of a hierarchy, so this should be enabled before any entity links are created.
+     */
+    public EntityLinkServiceConfiguration setEnableHierarchicalEntityLinks(boolean enableHierarchicalEntityLinks) {
+        this.enableHierarchicalEntityLinks = enableHierarchicalEntityLinks;
+        return this;
+    }
+
     @Override
     public HistoryLevel getHistoryLevel() {
         return historyLevel;
@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -75,11 +76,21 @@ public class EntityLinkServiceImpl extends CommonServiceImpl<EntityLinkServiceCo
         return getEntityLinkEntityManager().deleteScopeDefinitionEntityLink(scopeDefinitionId, scopeType, linkType);
     }
     
+    @Override
+    public List<EntityLink> findEntityLinksToDeleteByScopeIdAndType(String scopeId, String scopeType, String linkType) {
+        return getEntityLinkEntityManager().findEntityLinksToDeleteByScopeIdAndScopeType(scopeId, scopeType, linkType);
+    }
+    
     @Override
     public void deleteEntityLinksByScopeIdAndType(String scopeId, String scopeType) {
         getEntityLinkEntityManager().deleteEntityLinksByScopeIdAndScopeType(scopeId, scopeType);
     }
     
+    @Override
+    public void deleteEntityLinksByScopeIdsAndType(Collection<String> scopeIds, String scopeType) {
+        getEntityLinkEntityManager().deleteEntityLinksByScopeIdsAndScopeType(scopeIds, scopeType);
+    }
+    
     @Override
     public void deleteEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType) {
         getEntityLinkEntityManager().deleteEntityLinksByScopeDefinitionIdAndScopeType(scopeDefinitionId, scopeType);
@@ -38,5 +38,24 @@ public interface EntityLinkEntity extends EntityLink, Entity {
 
     void setHierarchyType(String hierarchyType);
 
+    /**
+     * The scope id of the root of the hierarchy, only set for links created with hierarchical entity links enabled.
+     */
+    String getRootScopeId();
+
+    void setRootScopeId(String rootScopeId);
+
+    String getRootScopeType();
+
+    void setRootScopeType(String rootScopeType);
+
+    /**
+     * The scope ids of all the ancestors of the referenced scope, starting with the root and separated by a '/' (e.g. /root/parent/),
+     * only set for links created with hierarchical entity links enabled.
+     */
+    String getHierarchyPath();
+
+    void setHierarchyPath(String hierarchyPath);
+
     void setCreateTime(Date createTime);
 }
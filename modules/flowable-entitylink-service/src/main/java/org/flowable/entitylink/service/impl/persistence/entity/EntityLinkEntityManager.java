@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -28,12 +29,22 @@ public interface EntityLinkEntityManager extends EntityManager<EntityLinkEntity>
 
     List<EntityLink> findEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType, String linkType);
 
+    /**
+     * Creates (but doesn't insert) a child link from the given scope to the referenced scope, with the root scope and hierarchy path
+     * taken from the link of the given scope to its own parent.
+     */
+    EntityLinkEntity createHierarchicalEntityLink(String scopeId, String scopeType, String referenceScopeId, String referenceScopeType);
+
     List<EntityLink> deleteScopeEntityLink(String scopeId, String scopeType, String linkType);
 
     List<EntityLink> deleteScopeDefinitionEntityLink(String scopeDefinitionId, String scopeType, String linkType);
 
+    List<EntityLink> findEntityLinksToDeleteByScopeIdAndScopeType(String scopeId, String scopeType, String linkType);
+
     void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
+    void deleteEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+    
     void deleteEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
 
 }
\ No newline at end of file
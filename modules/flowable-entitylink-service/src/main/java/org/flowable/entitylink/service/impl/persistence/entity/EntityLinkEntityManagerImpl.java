@@ -13,10 +13,19 @@
 
 package org.flowable.entitylink.service.impl.persistence.entity;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
 import org.flowable.entitylink.api.EntityLink;
+import org.flowable.entitylink.api.EntityLinkType;
+import org.flowable.entitylink.api.HierarchyType;
 import org.flowable.entitylink.service.EntityLinkServiceConfiguration;
 import org.flowable.entitylink.service.impl.persistence.entity.data.EntityLinkDataManager;
 
@@ -27,6 +36,8 @@ public class EntityLinkEntityManagerImpl
     extends AbstractServiceEngineEntityManager<EntityLinkServiceConfiguration, EntityLinkEntity, EntityLinkDataManager>
     implements EntityLinkEntityManager {
 
+    protected static final String HIERARCHY_PATH_SEPARATOR = "/";
+
     public EntityLinkEntityManagerImpl(EntityLinkServiceConfiguration entityLinkServiceConfiguration, EntityLinkDataManager entityLinkDataManager) {
         super(entityLinkServiceConfiguration, entityLinkDataManager);
     }
@@ -40,23 +51,246 @@ public class EntityLinkEntityManagerImpl
 
     @Override
     public List<EntityLink> findEntityLinksByScopeIdAndType(String scopeId, String scopeType, String linkType) {
+        if (serviceConfiguration.isEnableHierarchicalEntityLinks()) {
+            return findDescendantEntityLinks(scopeId, scopeType, linkType);
+        }
         return dataManager.findEntityLinksByScopeIdAndType(scopeId, scopeType, linkType);
     }
     
     @Override
     public List<EntityLink> findEntityLinksByReferenceScopeIdAndType(String referenceScopeId, String referenceScopeType, String linkType) {
+        if (serviceConfiguration.isEnableHierarchicalEntityLinks()) {
+            return findAncestorEntityLinks(referenceScopeId, referenceScopeType, linkType);
+        }
         return dataManager.findEntityLinksByReferenceScopeIdAndType(referenceScopeId, referenceScopeType, linkType);
     }
 
+    protected List<EntityLink> findDescendantEntityLinks(String scopeId, String scopeType, String linkType) {
+        List<EntityLink> parentLinks = dataManager.findEntityLinksByReferenceScopeIdAndType(scopeId, scopeType, linkType);
+        EntityLinkEntity parentLink = getHierarchicalEntityLink(parentLinks);
+        if (parentLink == null) {
+            return findRootDescendantEntityLinks(scopeId, scopeType, linkType, parentLinks.isEmpty());
+        }
+
+        String hierarchyPathPrefix = parentLink.getHierarchyPath() + scopeId + HIERARCHY_PATH_SEPARATOR;
+        List<EntityLinkEntity> hierarchyLinks = dataManager.findEntityLinksByRootScopeIdAndHierarchyPath(parentLink.getRootScopeId(),
+                parentLink.getRootScopeType(), linkType, hierarchyPathPrefix);
+
+        String scopeDefinitionId = null;
+        for (EntityLinkEntity hierarchyLink : hierarchyLinks) {
+            if (scopeId.equals(hierarchyLink.getScopeId())) {
+                scopeDefinitionId = hierarchyLink.getScopeDefinitionId();
+                break;
+            }
+        }
+
+        List<EntityLink> entityLinks = new ArrayList<>(hierarchyLinks.size());
+        for (EntityLinkEntity hierarchyLink : hierarchyLinks) {
+            // The wildcards in the like aren't escaped, so the prefix is checked again
+            if (hierarchyLink.getHierarchyPath().startsWith(hierarchyPathPrefix)) {
+                String hierarchyType = scopeId.equals(hierarchyLink.getScopeId()) ? HierarchyType.PARENT : null;
+                entityLinks.add(createDerivedDescendantEntityLink(hierarchyLink, scopeId, scopeType, scopeDefinitionId, hierarchyType));
+            }
+        }
+        return entityLinks;
+    }
+
+    /**
+     * Finds the descendants of a scope without a hierarchical link to its parent: the root of a hierarchy, or a scope created before
+     * hierarchical links were enabled. The latter has a stored link to each descendant created before that, and each descendant created
+     * afterwards is in the hierarchy below the scope itself or below one of those descendants.
+     */
+    protected List<EntityLink> findRootDescendantEntityLinks(String scopeId, String scopeType, String linkType, boolean root) {
+        List<EntityLink> entityLinks = new ArrayList<>();
+        Map<String, String> hierarchyRootScopes = new LinkedHashMap<>();
+        hierarchyRootScopes.put(scopeId, scopeType);
+
+        String scopeDefinitionId = null;
+        for (EntityLink storedLink : dataManager.findEntityLinksByScopeIdAndType(scopeId, scopeType, linkType)) {
+            EntityLinkEntity storedLinkEntity = (EntityLinkEntity) storedLink;
+            scopeDefinitionId = storedLinkEntity.getScopeDefinitionId();
+            if (storedLinkEntity.getHierarchyPath() == null) {
+                entityLinks.add(storedLinkEntity);
+                // A task doesn't have child scopes
+                if (!ScopeTypes.TASK.equals(storedLinkEntity.getReferenceScopeType())) {
+                    hierarchyRootScopes.put(storedLinkEntity.getReferenceScopeId(), storedLinkEntity.getReferenceScopeType());
+                }
+            }
+        }
+
+        for (Map.Entry<String, String> hierarchyRootScope : hierarchyRootScopes.entrySet()) {
+            // All links of a hierarchy are descendants of its root
+            for (EntityLinkEntity hierarchyLink : dataManager.findEntityLinksByRootScopeIdAndHierarchyPath(hierarchyRootScope.getKey(),
+                    hierarchyRootScope.getValue(), linkType, null)) {
+
+                String hierarchyType;
+                if (root) {
+                    hierarchyType = HierarchyType.ROOT;
+                } else {
+                    hierarchyType = scopeId.equals(hierarchyLink.getScopeId()) ? HierarchyType.PARENT : null;
+                }
+                entityLinks.add(createDerivedDescendantEntityLink(hierarchyLink, scopeId, scopeType, scopeDefinitionId, hierarchyType));
+            }
+        }
+        return entityLinks;
+    }
+
+    protected EntityLinkEntity createDerivedDescendantEntityLink(EntityLinkEntity hierarchyLink, String scopeId, String scopeType,
+            String scopeDefinitionId, String hierarchyType) {
+
+        EntityLinkEntity entityLink = createDerivedEntityLink(hierarchyLink);
+        entityLink.setScopeId(scopeId);
+        entityLink.setScopeType(scopeType);
+        entityLink.setScopeDefinitionId(scopeDefinitionId);
+        entityLink.setReferenceScopeId(hierarchyLink.getReferenceScopeId());
+        entityLink.setReferenceScopeType(hierarchyLink.getReferenceScopeType());
+        entityLink.setReferenceScopeDefinitionId(hierarchyLink.getReferenceScopeDefinitionId());
+        entityLink.setHierarchyType(hierarchyType);
+        return entityLink;
+    }
+
+    protected List<EntityLink> findAncestorEntityLinks(String referenceScopeId, String referenceScopeType, String linkType) {
+        List<EntityLink> parentLinks = dataManager.findEntityLinksByReferenceScopeIdAndType(referenceScopeId, referenceScopeType, linkType);
+        EntityLinkEntity parentLink = getHierarchicalEntityLink(parentLinks);
+        if (parentLink == null) {
+            return parentLinks;
+        }
+
+        // The path holds the ids of all ancestors, starting with the root. Each ancestor, except the root, has a link to its own parent,
+        // so the links to the ancestors of the parent can be derived from the links of the ancestors below the root.
+        List<String> ancestorIds = Arrays.asList(parentLink.getHierarchyPath().substring(1).split(HIERARCHY_PATH_SEPARATOR));
+        List<EntityLink> entityLinks = new ArrayList<>(ancestorIds.size());
+        EntityLinkEntity rootLink = parentLink;
+        if (ancestorIds.size() > 1) {
+            Map<String, EntityLinkEntity> ancestorLinks = new HashMap<>();
+            for (EntityLinkEntity ancestorLink : dataManager.findEntityLinksByRootScopeIdAndReferenceScopeIds(parentLink.getRootScopeId(),
+                    parentLink.getRootScopeType(), linkType, ancestorIds.subList(1, ancestorIds.size()))) {
+                ancestorLinks.put(ancestorLink.getReferenceScopeId(), ancestorLink);
+            }
+
+            rootLink = ancestorLinks.get(ancestorIds.get(1));
+            for (String ancestorId : ancestorIds.subList(1, ancestorIds.size())) {
+                EntityLinkEntity ancestorLink = ancestorLinks.get(ancestorId);
+                if (ancestorLink != null) {
+                    String hierarchyType = HierarchyType.ROOT.equals(ancestorLink.getHierarchyType()) ? HierarchyType.ROOT : null;
+                    entityLinks.add(createDerivedAncestorEntityLink(ancestorLink, referenceScopeId, referenceScopeType,
+                            parentLink.getReferenceScopeDefinitionId(), hierarchyType));
+                }
+            }
+        }
+
+        // The root of the hierarchy isn't the root of all ancestors when it was created before hierarchical links were enabled,
+        // its own ancestors have a stored link to it then
+        if (rootLink != null && !HierarchyType.ROOT.equals(rootLink.getHierarchyType())) {
+            List<EntityLink> legacyAncestorLinks = new ArrayList<>();
+            for (EntityLink legacyLink : dataManager.findEntityLinksByReferenceScopeIdAndType(parentLink.getRootScopeId(),
+                    parentLink.getRootScopeType(), linkType)) {
+
+                EntityLinkEntity legacyLinkEntity = (EntityLinkEntity) legacyLink;
+                String hierarchyType = HierarchyType.ROOT.equals(legacyLinkEntity.getHierarchyType()) ? HierarchyType.ROOT : null;
+                legacyAncestorLinks.add(createDerivedAncestorEntityLink(legacyLinkEntity, referenceScopeId, referenceScopeType,
+                        parentLink.getReferenceScopeDefinitionId(), hierarchyType));
+            }
+            entityLinks.addAll(0, legacyAncestorLinks);
+        }
+
+        entityLinks.add(parentLink);
+        return entityLinks;
+    }
+
+    protected EntityLinkEntity createDerivedAncestorEntityLink(EntityLinkEntity ancestorLink, String referenceScopeId, String referenceScopeType,
+            String referenceScopeDefinitionId, String hierarchyType) {
+
+        EntityLinkEntity entityLink = createDerivedEntityLink(ancestorLink);
+        entityLink.setScopeId(ancestorLink.getScopeId());
+        entityLink.setScopeType(ancestorLink.getScopeType());
+        entityLink.setScopeDefinitionId(ancestorLink.getScopeDefinitionId());
+        entityLink.setReferenceScopeId(referenceScopeId);
+        entityLink.setReferenceScopeType(referenceScopeType);
+        entityLink.setReferenceScopeDefinitionId(referenceScopeDefinitionId);
+        entityLink.setHierarchyType(hierarchyType);
+        return entityLink;
+    }
+
+    /**
+     * Returns the link with a hierarchy path, links stored before hierarchical links were enabled don't have one.
+     */
+    protected EntityLinkEntity getHierarchicalEntityLink(List<EntityLink> parentLinks) {
+        for (EntityLink entityLink : parentLinks) {
+            EntityLinkEntity entityLinkEntity = (EntityLinkEntity) entityLink;
+            if (entityLinkEntity.getHierarchyPath() != null) {
+                return entityLinkEntity;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A derived link isn't stored, it has the id of the stored link it is derived from.
+     */
+    protected EntityLinkEntity createDerivedEntityLink(EntityLinkEntity hierarchyLink) {
+        EntityLinkEntity entityLink = dataManager.create();
+        entityLink.setId(hierarchyLink.getId());
+        entityLink.setLinkType(hierarchyLink.getLinkType());
+        entityLink.setCreateTime(hierarchyLink.getCreateTime());
+        entityLink.setRootScopeId(hierarchyLink.getRootScopeId());
+        entityLink.setRootScopeType(hierarchyLink.getRootScopeType());
+        entityLink.setHierarchyPath(hierarchyLink.getHierarchyPath());
+        return entityLink;
+    }
+
+    @Override
+    public EntityLinkEntity createHierarchicalEntityLink(String scopeId, String scopeType, String referenceScopeId, String referenceScopeType) {
+        EntityLinkEntity entityLink = create();
+        entityLink.setLinkType(EntityLinkType.CHILD);
+        entityLink.setScopeId(scopeId);
+        entityLink.setScopeType(scopeType);
+        entityLink.setReferenceScopeId(referenceScopeId);
+        entityLink.setReferenceScopeType(referenceScopeType);
+
+        List<EntityLink> parentLinks = dataManager.findEntityLinksByReferenceScopeIdAndType(scopeId, scopeType, EntityLinkType.CHILD);
+        EntityLinkEntity parentLink = getHierarchicalEntityLink(parentLinks);
+        if (parentLink != null) {
+            entityLink.setRootScopeId(parentLink.getRootScopeId());
+            entityLink.setRootScopeType(parentLink.getRootScopeType());
+            entityLink.setHierarchyPath(parentLink.getHierarchyPath() + scopeId + HIERARCHY_PATH_SEPARATOR);
+            entityLink.setHierarchyType(HierarchyType.PARENT);
+        } else {
+            // A scope created before hierarchical links were enabled starts a new hierarchy, its ancestors only have stored links to it
+            entityLink.setRootScopeId(scopeId);
+            entityLink.setRootScopeType(scopeType);
+            entityLink.setHierarchyPath(HIERARCHY_PATH_SEPARATOR + scopeId + HIERARCHY_PATH_SEPARATOR);
+            entityLink.setHierarchyType(parentLinks.isEmpty() ? HierarchyType.ROOT : HierarchyType.PARENT);
+        }
+        return entityLink;
+    }
+
     @Override
     public List<EntityLink> findEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType, String linkType) {
         return dataManager.findEntityLinksByScopeDefinitionIdAndType(scopeDefinitionId, scopeType, linkType);
     }
 
     @Override
-    public List<EntityLink> deleteScopeEntityLink(String scopeId, String scopeType, String linkType) {
-        List<EntityLink> entityLinks = findEntityLinksByScopeIdAndType(scopeId, scopeType, linkType);
+    public List<EntityLink> findEntityLinksToDeleteByScopeIdAndScopeType(String scopeId, String scopeType, String linkType) {
+        List<EntityLink> entityLinks = dataManager.findEntityLinksByScopeIdAndType(scopeId, scopeType, linkType);
+        if (!serviceConfiguration.isEnableHierarchicalEntityLinks()) {
+            return entityLinks;
+        }
 
+        List<EntityLink> storedLinks = new ArrayList<>();
+        for (EntityLink entityLink : entityLinks) {
+            if (((EntityLinkEntity) entityLink).getHierarchyPath() == null) {
+                storedLinks.add(entityLink);
+            }
+        }
+        storedLinks.addAll(dataManager.findEntityLinksByRootScopeIdAndHierarchyPath(scopeId, scopeType, linkType, null));
+        return storedLinks;
+    }
+
+    @Override
+    public List<EntityLink> deleteScopeEntityLink(String scopeId, String scopeType, String linkType) {
+        // Only the stored links are deleted, the links derived from them are gone with them
+        List<EntityLink> entityLinks = findEntityLinksToDeleteByScopeIdAndScopeType(scopeId, scopeType, linkType);
         for (EntityLink entityLink : entityLinks) {
             deleteEntityLink((EntityLinkEntity) entityLink);
         }
@@ -80,7 +314,23 @@ public class EntityLinkEntityManagerImpl
 
     @Override
     public void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
-        dataManager.deleteEntityLinksByScopeIdAndScopeType(scopeId, scopeType);
+        if (serviceConfiguration.isEnableHierarchicalEntityLinks()) {
+            // The hierarchical links of a scope are needed to derive the links of its ancestors to its descendants,
+            // so they are kept until the root of the hierarchy ends and are then deleted together
+            dataManager.deleteNonHierarchicalEntityLinksByScopeIdAndScopeType(scopeId, scopeType);
+            dataManager.deleteEntityLinksByRootScopeIdAndRootScopeType(scopeId, scopeType);
+        } else {
+            dataManager.deleteEntityLinksByScopeIdAndScopeType(scopeId, scopeType);
+        }
+    }
+    
+    @Override
+    public void deleteEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        // The scopes are deleted together with all their descendants, so the hierarchical links of the scopes can be deleted as well
+        dataManager.deleteEntityLinksByScopeIdsAndScopeType(scopeIds, scopeType);
+        if (serviceConfiguration.isEnableHierarchicalEntityLinks()) {
+            dataManager.deleteEntityLinksByRootScopeIdsAndRootScopeType(scopeIds, scopeType);
+        }
     }
     
     @Override
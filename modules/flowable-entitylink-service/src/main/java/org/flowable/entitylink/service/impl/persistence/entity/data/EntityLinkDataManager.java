@@ -12,6 +12,7 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -29,8 +30,20 @@ public interface EntityLinkDataManager extends DataManager<EntityLinkEntity> {
     
     List<EntityLink> findEntityLinksByScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType, String linkType);
 
+    List<EntityLinkEntity> findEntityLinksByRootScopeIdAndHierarchyPath(String rootScopeId, String rootScopeType, String linkType, String hierarchyPathPrefix);
+
+    List<EntityLinkEntity> findEntityLinksByRootScopeIdAndReferenceScopeIds(String rootScopeId, String rootScopeType, String linkType, Collection<String> referenceScopeIds);
+
     void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
+    void deleteEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType);
+
+    void deleteNonHierarchicalEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
+
+    void deleteEntityLinksByRootScopeIdAndRootScopeType(String rootScopeId, String rootScopeType);
+
+    void deleteEntityLinksByRootScopeIdsAndRootScopeType(Collection<String> rootScopeIds, String rootScopeType);
+    
     void deleteEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType);
 
 }
@@ -12,17 +12,22 @@
  */
 package org.flowable.entitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.entitylink.api.EntityLink;
 import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntity;
 import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntityImpl;
 import org.flowable.entitylink.service.impl.persistence.entity.data.EntityLinkDataManager;
 import org.flowable.entitylink.service.impl.persistence.entity.data.impl.cachematcher.EntityLinksByReferenceScopeIdAndTypeMatcher;
+import org.flowable.entitylink.service.impl.persistence.entity.data.impl.cachematcher.EntityLinksByRootScopeIdAndTypeMatcher;
 import org.flowable.entitylink.service.impl.persistence.entity.data.impl.cachematcher.EntityLinksByScopeIdAndTypeMatcher;
 
 /**
@@ -32,6 +37,7 @@ public class MybatisEntityLinkDataManager extends AbstractDataManager<EntityLink
 
     protected CachedEntityMatcher<EntityLinkEntity> entityLinksByScopeIdAndTypeMatcher = new EntityLinksByScopeIdAndTypeMatcher();
     protected CachedEntityMatcher<EntityLinkEntity> entityLinksByReferenceScopeIdAndTypeMatcher = new EntityLinksByReferenceScopeIdAndTypeMatcher();
+    protected CachedEntityMatcher<EntityLinkEntity> entityLinksByRootScopeIdAndTypeMatcher = new EntityLinksByRootScopeIdAndTypeMatcher();
 
     @Override
     public Class<? extends EntityLinkEntity> getManagedEntityClass() {
@@ -73,6 +79,29 @@ public class MybatisEntityLinkDataManager extends AbstractDataManager<EntityLink
         return getDbSqlSession().selectList("selectEntityLinksByScopeDefinitionAndType", parameters);
     }
 
+    @Override
+    public List<EntityLinkEntity> findEntityLinksByRootScopeIdAndHierarchyPath(String rootScopeId, String rootScopeType, String linkType, String hierarchyPathPrefix) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rootScopeId", rootScopeId);
+        parameters.put("rootScopeType", rootScopeType);
+        parameters.put("linkType", linkType);
+        if (hierarchyPathPrefix != null) {
+            parameters.put("hierarchyPathPrefix", hierarchyPathPrefix);
+            parameters.put("hierarchyPathPrefixLike", hierarchyPathPrefix + "%");
+        }
+        return getList("selectEntityLinksByRootScopeIdAndType", parameters, entityLinksByRootScopeIdAndTypeMatcher, true);
+    }
+
+    @Override
+    public List<EntityLinkEntity> findEntityLinksByRootScopeIdAndReferenceScopeIds(String rootScopeId, String rootScopeType, String linkType, Collection<String> referenceScopeIds) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rootScopeId", rootScopeId);
+        parameters.put("rootScopeType", rootScopeType);
+        parameters.put("linkType", linkType);
+        parameters.put("referenceScopeIds", new ArrayList<>(referenceScopeIds));
+        return getList("selectEntityLinksByRootScopeIdAndType", parameters, entityLinksByRootScopeIdAndTypeMatcher, true);
+    }
+
     @Override
     public void deleteEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
         Map<String, String> parameters = new HashMap<>();
@@ -81,6 +110,44 @@ public class MybatisEntityLinkDataManager extends AbstractDataManager<EntityLink
         bulkDelete("deleteEntityLinksByScopeIdAndScopeType", entityLinksByScopeIdAndTypeMatcher, parameters);
     }
     
+    @Override
+    public void deleteEntityLinksByScopeIdsAndScopeType(Collection<String> scopeIds, String scopeType) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> scopeIdsChunk : CollectionUtil.partition(scopeIds, MAX_IDS_PER_STATEMENT)) {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("scopeIds", scopeIdsChunk);
+            parameters.put("scopeType", scopeType);
+            dbSqlSession.delete("bulkDeleteEntityLinksByScopeIdsAndScopeType", parameters, EntityLinkEntityImpl.class);
+        }
+    }
+    
+    @Override
+    public void deleteNonHierarchicalEntityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("scopeId", scopeId);
+        parameters.put("scopeType", scopeType);
+        getDbSqlSession().delete("deleteNonHierarchicalEntityLinksByScopeIdAndScopeType", parameters, EntityLinkEntityImpl.class);
+    }
+
+    @Override
+    public void deleteEntityLinksByRootScopeIdAndRootScopeType(String rootScopeId, String rootScopeType) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("rootScopeId", rootScopeId);
+        parameters.put("rootScopeType", rootScopeType);
+        getDbSqlSession().delete("deleteEntityLinksByRootScopeIdAndRootScopeType", parameters, EntityLinkEntityImpl.class);
+    }
+
+    @Override
+    public void deleteEntityLinksByRootScopeIdsAndRootScopeType(Collection<String> rootScopeIds, String rootScopeType) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> rootScopeIdsChunk : CollectionUtil.partition(rootScopeIds, MAX_IDS_PER_STATEMENT)) {
+            Map<String, Object> parameters = new HashMap<>();
+            parameters.put("rootScopeIds", rootScopeIdsChunk);
+            parameters.put("rootScopeType", rootScopeType);
+            dbSqlSession.delete("bulkDeleteEntityLinksByRootScopeIdsAndRootScopeType", parameters, EntityLinkEntityImpl.class);
+        }
+    }
+    
     @Override
     public void deleteEntityLinksByScopeDefinitionIdAndScopeType(String scopeDefinitionId, String scopeType) {
         Map<String, String> parameters = new HashMap<>();
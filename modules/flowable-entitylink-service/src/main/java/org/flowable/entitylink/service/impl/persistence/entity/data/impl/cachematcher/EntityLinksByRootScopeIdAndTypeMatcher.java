@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.entitylink.service.impl.persistence.entity.data.impl.cachematcher;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
+import org.flowable.entitylink.service.impl.persistence.entity.EntityLinkEntity;
+
+public class EntityLinksByRootScopeIdAndTypeMatcher extends CachedEntityMatcherAdapter<EntityLinkEntity> {
+
+    @Override
+    public boolean isRetained(EntityLinkEntity entity, Object parameter) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> parameterMap = (Map<String, Object>) parameter;
+        if (entity.getRootScopeId() == null || !entity.getRootScopeId().equals(parameterMap.get("rootScopeId"))
+                || entity.getRootScopeType() == null || !entity.getRootScopeType().equals(parameterMap.get("rootScopeType"))
+                || entity.getLinkType() == null || !entity.getLinkType().equals(parameterMap.get("linkType"))) {
+            return false;
+        }
+
+        String hierarchyPathPrefix = (String) parameterMap.get("hierarchyPathPrefix");
+        if (hierarchyPathPrefix != null && (entity.getHierarchyPath() == null || !entity.getHierarchyPath().startsWith(hierarchyPathPrefix))) {
+            return false;
+        }
+
+        Collection<?> referenceScopeIds = (Collection<?>) parameterMap.get("referenceScopeIds");
+        return referenceScopeIds == null || referenceScopeIds.contains(entity.getReferenceScopeId());
+    }
+
+}
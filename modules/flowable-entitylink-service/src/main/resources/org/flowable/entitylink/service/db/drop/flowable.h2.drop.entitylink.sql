@@ -1,4 +1,5 @@
 drop table if exists ACT_RU_ENTITYLINK cascade constraints;
 
 drop index if exists ACT_IDX_ENT_LNK_SCOPE;
-drop index if exists ACT_IDX_ENT_LNK_SCOPE_DEF;
\ No newline at end of file
+drop index if exists ACT_IDX_ENT_LNK_SCOPE_DEF;
+drop index if exists ACT_IDX_ENT_LNK_ROOT;
\ No newline at end of file
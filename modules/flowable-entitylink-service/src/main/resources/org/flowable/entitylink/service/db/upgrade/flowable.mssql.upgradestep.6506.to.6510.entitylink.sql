@@ -0,0 +1,5 @@
+alter table ACT_RU_ENTITYLINK add ROOT_SCOPE_ID_ nvarchar(255);
+alter table ACT_RU_ENTITYLINK add ROOT_SCOPE_TYPE_ nvarchar(255);
+alter table ACT_RU_ENTITYLINK add HIERARCHY_PATH_ nvarchar(4000);
+
+create index ACT_IDX_ENT_LNK_ROOT on ACT_RU_ENTITYLINK(ROOT_SCOPE_ID_, ROOT_SCOPE_TYPE_, LINK_TYPE_);
@@ -0,0 +1,5 @@
+alter table ACT_RU_ENTITYLINK add column ROOT_SCOPE_ID_ varchar(255);
+alter table ACT_RU_ENTITYLINK add column ROOT_SCOPE_TYPE_ varchar(255);
+alter table ACT_RU_ENTITYLINK add column HIERARCHY_PATH_ varchar(4000);
+
+create index ACT_IDX_ENT_LNK_ROOT on ACT_RU_ENTITYLINK(ROOT_SCOPE_ID_, ROOT_SCOPE_TYPE_, LINK_TYPE_);
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.flowable.eventregistry.api.runtime.EventInstance;
@@ -61,12 +62,23 @@ public interface EventRegistry {
      * Events received in adapters should call this method to process events.
      */
     void eventReceived(InboundChannelModel channelModel, String event);
+
+    /**
+     * Adapters that receive events in batches (e.g. a Kafka poll) should call this method to process them.
+     * When this method returns without an exception, all the events of the batch have been handled.
+     */
+    void eventsReceived(InboundChannelModel channelModel, Collection<String> events);
     
     /**
      * Send an event to all the registered event consumers.
      */
     void sendEventToConsumers(EventRegistryEvent eventRegistryEvent);
 
+    /**
+     * Send a batch of events to all the registered event consumers.
+     */
+    void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents);
+
     /**
      * Send out an event. The corresponding {@link EventModel} will be used to
      * decide which channel (and pipeline) will be used
@@ -12,7 +12,9 @@
  */
 package org.flowable.eventregistry.api;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * @author Joram Barrez
@@ -21,5 +23,18 @@ import java.util.Collection;
 public interface InboundEventProcessingPipeline {
 
     Collection<EventRegistryEvent> run(String channelKey, String rawEvent);
-    
+
+    /**
+     * Runs a batch of raw events through the pipeline.
+     * The default implementation runs every event separately, implementations can override this
+     * to share work (e.g. model lookups) between the events of the batch.
+     */
+    default Collection<EventRegistryEvent> run(String channelKey, Collection<String> rawEvents) {
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>();
+        for (String rawEvent : rawEvents) {
+            eventRegistryEvents.addAll(run(channelKey, rawEvent));
+        }
+        return eventRegistryEvents;
+    }
+
 }
@@ -188,6 +188,14 @@ public interface InboundChannelModelBuilder {
          */
         InboundKafkaChannelBuilder concurrency(String concurrency);
 
+        /**
+         * Receive the records of a poll as one batch. The whole batch is passed through the pipeline and the consumers at once.
+         * When handling the batch fails, none of its events are handled. What happens with its records depends on the error handler
+         * of the listener container: with the default one, the error is logged and the offsets are committed,
+         * so the events of the batch are dropped (as a failing event is for a channel without batching).
+         */
+        InboundKafkaChannelBuilder batchListener();
+
         /**
          * Sets custom properties for this Kafka adapter. See the Spring Kafka docs for more information.
          */
@@ -79,4 +79,16 @@ class KafkaInboundChannelJsonConverterTest extends AbstractChannelConverterTest
 
     }
 
+    @Test
+    void batchListenerIsOnlyExportedWhenSet() {
+        KafkaInboundChannelModel channelModel = (KafkaInboundChannelModel) readJson("org/flowable/eventregistry/converter/channel/simpleKafkaInboundChannel.json");
+        assertThat(channelModel.isBatchListener()).isFalse();
+        assertThat(channelConverter.convertToJson(channelModel)).doesNotContain("batchListener");
+
+        channelModel.setBatchListener(true);
+        ChannelModel parsedChannel = exportAndReadChannel(channelModel);
+        assertThat(parsedChannel)
+            .isInstanceOfSatisfying(KafkaInboundChannelModel.class, model -> assertThat(model.isBatchListener()).isTrue());
+    }
+
 }
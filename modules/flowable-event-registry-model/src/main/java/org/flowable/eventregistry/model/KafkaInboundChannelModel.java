@@ -30,6 +30,8 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
     protected String topicPattern;
     protected String clientIdPrefix;
     protected String concurrency;
+    @JsonInclude(Include.NON_DEFAULT)
+    protected boolean batchListener;
     protected List<CustomProperty> customProperties;
     
     public KafkaInboundChannelModel() {
@@ -77,6 +79,14 @@ public class KafkaInboundChannelModel extends InboundChannelModel {
         this.concurrency = concurrency;
     }
 
+    public boolean isBatchListener() {
+        return batchListener;
+    }
+
+    public void setBatchListener(boolean batchListener) {
+        this.batchListener = batchListener;
+    }
+
     public List<CustomProperty> getCustomProperties() {
         return customProperties;
     }
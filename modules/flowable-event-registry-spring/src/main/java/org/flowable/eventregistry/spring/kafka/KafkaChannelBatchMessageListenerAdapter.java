@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.spring.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.flowable.eventregistry.api.EventRegistry;
+import org.flowable.eventregistry.model.InboundChannelModel;
+import org.springframework.kafka.listener.BatchMessageListener;
+
+/**
+ * Passes all the records of a poll to the {@link EventRegistry} as one batch.
+ *
+ * When handling the batch fails, the exception is passed to the batch error handler of the listener container.
+ * The default error handler of Spring Kafka logs the error, after which the offsets of the batch are committed:
+ * the events of the failed batch are dropped. A container factory configured with a
+ * {@link org.springframework.kafka.listener.SeekToCurrentBatchErrorHandler} redelivers the batch instead.
+ */
+public class KafkaChannelBatchMessageListenerAdapter implements BatchMessageListener<String, String> {
+
+    protected EventRegistry eventRegistry;
+    protected InboundChannelModel inboundChannelModel;
+
+    public KafkaChannelBatchMessageListenerAdapter(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
+        this.eventRegistry = eventRegistry;
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+    @Override
+    public void onMessage(List<ConsumerRecord<String, String>> data) {
+        List<String> events = new ArrayList<>(data.size());
+        for (ConsumerRecord<String, String> record : data) {
+            events.add(record.value());
+        }
+
+        eventRegistry.eventsReceived(inboundChannelModel, events);
+    }
+
+    public EventRegistry getEventRegistry() {
+        return eventRegistry;
+    }
+
+    public void setEventRegistry(EventRegistry eventRegistry) {
+        this.eventRegistry = eventRegistry;
+    }
+
+    public InboundChannelModel getInboundChannelModel() {
+        return inboundChannelModel;
+    }
+
+    public void setInboundChannelModel(InboundChannelModel inboundChannelModel) {
+        this.inboundChannelModel = inboundChannelModel;
+    }
+
+}
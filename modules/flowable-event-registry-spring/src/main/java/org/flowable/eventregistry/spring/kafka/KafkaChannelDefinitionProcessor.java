@@ -203,7 +203,12 @@ public class KafkaChannelDefinitionProcessor implements BeanFactoryAware, Channe
     @SuppressWarnings("unchecked")
     protected GenericMessageListener<ConsumerRecord<Object, Object>> createMessageListener(EventRegistry eventRegistry, InboundChannelModel inboundChannelModel) {
         @SuppressWarnings("rawtypes")
-        GenericMessageListener kafkaChannelMessageListenerAdapter = new KafkaChannelMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        GenericMessageListener kafkaChannelMessageListenerAdapter;
+        if (inboundChannelModel instanceof KafkaInboundChannelModel && ((KafkaInboundChannelModel) inboundChannelModel).isBatchListener()) {
+            kafkaChannelMessageListenerAdapter = new KafkaChannelBatchMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        } else {
+            kafkaChannelMessageListenerAdapter = new KafkaChannelMessageListenerAdapter(eventRegistry, inboundChannelModel);
+        }
         return kafkaChannelMessageListenerAdapter;
     }
 
@@ -13,9 +13,11 @@
 package org.flowable.eventregistry.spring.rabbit;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.model.InboundChannelModel;
@@ -45,20 +47,35 @@ public class RabbitChannelMessageListenerAdapter implements MessageListener {
 
     @Override
     public void onMessage(Message message) {
+        eventRegistry.eventReceived(inboundChannelModel, convertToRawEvent(message));
+    }
+
+    /**
+     * Invoked when the listener container is configured with consumer batching enabled.
+     * All the messages are handled as one batch and only acknowledged when the complete batch has been handled.
+     */
+    @Override
+    public void onMessageBatch(List<Message> messages) {
+        List<String> rawEvents = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            rawEvents.add(convertToRawEvent(message));
+        }
+
+        eventRegistry.eventsReceived(inboundChannelModel, rawEvents);
+    }
+
+    protected String convertToRawEvent(Message message) {
         byte[] body = message.getBody();
         MessageProperties messageProperties = message.getMessageProperties();
         String contentType = messageProperties != null ? messageProperties.getContentType() : null;
 
-        String rawEvent;
         if (body == null) {
-            rawEvent = null;
+            return null;
         } else if (stringContentTypes.contains(contentType)) {
-            rawEvent = new String(body, StandardCharsets.UTF_8);
+            return new String(body, StandardCharsets.UTF_8);
         } else {
-            rawEvent = Base64.getEncoder().encodeToString(body);
+            return Base64.getEncoder().encodeToString(body);
         }
-
-        eventRegistry.eventReceived(inboundChannelModel, rawEvent);
     }
 
     public EventRegistry getEventRegistry() {
@@ -55,6 +55,11 @@ public class DefaultEventRegistry implements EventRegistry {
     public void eventReceived(InboundChannelModel channelModel, String event) {
         inboundEventProcessor.eventReceived(channelModel, event);
     }
+
+    @Override
+    public void eventsReceived(InboundChannelModel channelModel, Collection<String> events) {
+        inboundEventProcessor.eventsReceived(channelModel, events);
+    }
     
     @Override
     public void sendEventToConsumers(EventRegistryEvent eventRegistryEvent) {
@@ -64,6 +69,18 @@ public class DefaultEventRegistry implements EventRegistry {
         }
     }
 
+    @Override
+    public void sendEventsToConsumers(Collection<EventRegistryEvent> eventRegistryEvents) {
+        if (eventRegistryEvents.isEmpty()) {
+            return;
+        }
+
+        Collection<EventRegistryEventConsumer> engineEventRegistryEventConsumers = engineConfiguration.getEventRegistryEventConsumers().values();
+        for (EventRegistryEventConsumer eventConsumer : engineEventRegistryEventConsumers) {
+            eventConsumer.eventsReceived(eventRegistryEvents);
+        }
+    }
+
     @Override
     public void sendEventOutbound(EventInstance eventInstance) {
         outboundEventProcessor.sendEvent(eventInstance);
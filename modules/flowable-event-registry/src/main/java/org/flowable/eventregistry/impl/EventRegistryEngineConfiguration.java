@@ -187,6 +187,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
     public EventRegistryEngine buildEventRegistryEngine() {
         init();
         EventRegistryEngineImpl eventRegistryEngine = new EventRegistryEngineImpl(this);
+        initClusterChangeStamps();
 
         if (enableEventRegistryChangeDetectionAfterEngineCreate) {
 
@@ -234,6 +235,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
         configuratorsAfterInit();
         initDataManagers();
         initEntityManagers();
+        initDefinitionEntityCache();
         initEventRegistry();
         initInboundEventProcessor();
         initOutboundEventProcessor();
@@ -341,6 +343,7 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
             dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
             dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
             dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
+        dbSqlSessionFactory.setReadOnlyDataSource(readOnlyDataSource);
             addSessionFactory(dbSqlSessionFactory);
         }
         initDbSqlSessionFactoryEntitySettings();
@@ -18,15 +18,21 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRegistryEvent;
 import org.flowable.eventregistry.api.EventRegistryEventConsumer;
@@ -53,8 +59,21 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     @Override
     public void eventReceived(EventRegistryEvent event) {
+        eventReceived(getEventInstance(event));
+    }
+
+    @Override
+    public void eventsReceived(Collection<EventRegistryEvent> events) {
+        List<EventInstance> eventInstances = new ArrayList<>(events.size());
+        for (EventRegistryEvent event : events) {
+            eventInstances.add(getEventInstance(event));
+        }
+        eventInstancesReceived(eventInstances);
+    }
+
+    protected EventInstance getEventInstance(EventRegistryEvent event) {
         if (event.getEventObject() != null && event.getEventObject() instanceof EventInstance) {
-            eventReceived((EventInstance) event.getEventObject());
+            return (EventInstance) event.getEventObject();
         } else {
             if (event.getEventObject() == null) {
                 throw new FlowableIllegalArgumentException("No event object was passed to the consumer");
@@ -66,6 +85,16 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    /**
+     * Handles a batch of event instances. By default every event instance is handled on its own,
+     * subclasses can override this to correlate and process the whole batch at once.
+     */
+    protected void eventInstancesReceived(List<EventInstance> eventInstances) {
+        for (EventInstance eventInstance : eventInstances) {
+            eventReceived(eventInstance);
+        }
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -167,6 +196,190 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         });
     }
 
+    /**
+     * Finds the event subscriptions for a batch of event instances.
+     * Instead of one query per event instance, one query per event type is executed with the union of all correlation keys
+     * and tenants of the batch. The result is then matched in memory against every event instance,
+     * applying the same configuration and tenant rules as {@link #findEventSubscriptions(String, EventInstance, Collection)}.
+     *
+     * @return the matching event subscriptions per event instance, in the order of the given map
+     */
+    protected Map<EventInstance, List<EventSubscription>> findEventSubscriptions(String scopeType, Map<EventInstance, Collection<CorrelationKey>> correlationKeysByEventInstance) {
+        return commandExecutor.execute(commandContext -> {
+
+            EventRegistryEngineConfiguration eventRegistryConfiguration = CommandContextUtil.getEventRegistryConfiguration();
+
+            Map<String, List<EventInstance>> eventInstancesByEventType = new LinkedHashMap<>();
+            for (EventInstance eventInstance : correlationKeysByEventInstance.keySet()) {
+                eventInstancesByEventType.computeIfAbsent(eventInstance.getEventModel().getKey(), key -> new ArrayList<>()).add(eventInstance);
+            }
+
+            Map<EventInstance, List<EventSubscription>> result = new LinkedHashMap<>();
+            for (Map.Entry<String, List<EventInstance>> entry : eventInstancesByEventType.entrySet()) {
+                String eventType = entry.getKey();
+                List<EventInstance> eventInstances = entry.getValue();
+
+                Map<EventInstance, Set<String>> correlationKeyValuesByEventInstance = new HashMap<>();
+                Map<EventInstance, Collection<String>> tenantIdsByEventInstance = new HashMap<>();
+
+                Set<String> allCorrelationKeyValues = new HashSet<>();
+                Set<String> allTenantIds = new HashSet<>();
+                boolean filterOnTenant = true;
+                boolean includeWithoutTenant = false;
+
+                for (EventInstance eventInstance : eventInstances) {
+                    Set<String> correlationKeyValues = correlationKeysByEventInstance.get(eventInstance).stream()
+                        .map(CorrelationKey::getValue)
+                        .collect(Collectors.toSet());
+                    correlationKeyValuesByEventInstance.put(eventInstance, correlationKeyValues);
+                    allCorrelationKeyValues.addAll(correlationKeyValues);
+
+                    Collection<String> tenantIds = getSubscriptionTenantIds(eventRegistryConfiguration, scopeType, eventInstance);
+                    tenantIdsByEventInstance.put(eventInstance, tenantIds);
+                    if (tenantIds == null) {
+                        filterOnTenant = false;
+                    } else {
+                        for (String tenantId : tenantIds) {
+                            if (AbstractEngineConfiguration.NO_TENANT_ID.equals(tenantId)) {
+                                includeWithoutTenant = true;
+                            } else {
+                                allTenantIds.add(tenantId);
+                            }
+                        }
+                    }
+                }
+
+                EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
+                    .eventType(eventType)
+                    .scopeType(scopeType);
+
+                if (!allCorrelationKeyValues.isEmpty()) {
+                    eventSubscriptionQuery.or()
+                        .withoutConfiguration()
+                        .configurations(allCorrelationKeyValues)
+                        .endOr();
+
+                } else {
+                    eventSubscriptionQuery.withoutConfiguration();
+
+                }
+
+                if (filterOnTenant && !allTenantIds.isEmpty()) {
+                    if (includeWithoutTenant) {
+                        eventSubscriptionQuery.or()
+                            .tenantIds(allTenantIds)
+                            .withoutTenantId()
+                        .endOr();
+
+                    } else {
+                        eventSubscriptionQuery.tenantIds(allTenantIds);
+
+                    }
+                }
+
+                List<EventSubscription> eventSubscriptions = eventSubscriptionQuery.list();
+
+                for (EventInstance eventInstance : eventInstances) {
+                    Set<String> correlationKeyValues = correlationKeyValuesByEventInstance.get(eventInstance);
+                    Collection<String> tenantIds = tenantIdsByEventInstance.get(eventInstance);
+
+                    List<EventSubscription> matchingEventSubscriptions = new ArrayList<>();
+                    for (EventSubscription eventSubscription : eventSubscriptions) {
+                        if (matchesConfiguration(eventSubscription, correlationKeyValues) && matchesTenant(eventSubscription, tenantIds)) {
+                            matchingEventSubscriptions.add(eventSubscription);
+                        }
+                    }
+                    result.put(eventInstance, matchingEventSubscriptions);
+                }
+            }
+
+            return result;
+
+        });
+    }
+
+    /**
+     * Returns the event subscriptions an event instance of a batch needs to be handled with, when the whole batch is handled in one transaction.
+     * The given event subscriptions were found for the batch before its first event instance was handled. The ones that were deleted since,
+     * e.g. because an earlier event instance of the batch triggered the execution they belonged to, are left out.
+     * The event subscriptions that were created since, e.g. because the execution moved on to a next event, are added.
+     */
+    protected List<EventSubscription> getCurrentEventSubscriptions(CommandContext commandContext, String scopeType, EventInstance eventInstance,
+            Collection<CorrelationKey> correlationKeys, List<EventSubscription> eventSubscriptions) {
+
+        Map<String, EventSubscription> result = new LinkedHashMap<>();
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            if (!isEventSubscriptionDeleted(commandContext, eventSubscription)) {
+                result.put(eventSubscription.getId(), eventSubscription);
+            }
+        }
+
+        // Event subscriptions created in this transaction are not flushed yet, so they can only be found in the entity cache
+        Set<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+        Collection<String> tenantIds = getSubscriptionTenantIds(CommandContextUtil.getEventRegistryConfiguration(), scopeType, eventInstance);
+        EntityCache entityCache = commandContext.getSession(EntityCache.class);
+        for (Map.Entry<Class<?>, Map<String, CachedEntity>> entry : entityCache.getAllCachedEntities().entrySet()) {
+            if (EventSubscription.class.isAssignableFrom(entry.getKey())) {
+                for (CachedEntity cachedEntity : entry.getValue().values()) {
+                    Entity entity = cachedEntity.getEntity();
+                    EventSubscription eventSubscription = (EventSubscription) entity;
+                    if (entity.isInserted() && !result.containsKey(entity.getId())
+                            && Objects.equals(eventInstance.getEventModel().getKey(), eventSubscription.getEventType())
+                            && Objects.equals(scopeType, eventSubscription.getScopeType())
+                            && matchesConfiguration(eventSubscription, correlationKeyValues) && matchesTenant(eventSubscription, tenantIds)
+                            && !isEventSubscriptionDeleted(commandContext, eventSubscription)) {
+
+                        result.put(entity.getId(), eventSubscription);
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>(result.values());
+    }
+
+    /**
+     * @return true when the event subscription was deleted in the current transaction
+     */
+    protected boolean isEventSubscriptionDeleted(CommandContext commandContext, EventSubscription eventSubscription) {
+        return eventSubscription instanceof Entity && ((Entity) eventSubscription).isDeleted();
+    }
+
+    /**
+     * @return the tenant ids the event subscriptions for the event instance can have,
+     *          or {@code null} when the subscriptions should not be filtered on tenant
+     */
+    protected Collection<String> getSubscriptionTenantIds(EventRegistryEngineConfiguration eventRegistryConfiguration, String scopeType, EventInstance eventInstance) {
+        String eventInstanceTenantId = eventInstance.getTenantId();
+        if (eventInstanceTenantId == null || AbstractEngineConfiguration.NO_TENANT_ID.equals(eventInstanceTenantId)) {
+            return null;
+        }
+
+        if (eventRegistryConfiguration.isFallbackToDefaultTenant()) {
+            String defaultTenant = eventRegistryConfiguration.getDefaultTenantProvider()
+                .getDefaultTenant(eventInstanceTenantId, scopeType, eventInstance.getEventModel().getKey());
+            return Arrays.asList(eventInstanceTenantId, defaultTenant);
+        }
+
+        return Collections.singletonList(eventInstanceTenantId);
+    }
+
+    protected boolean matchesConfiguration(EventSubscription eventSubscription, Set<String> correlationKeyValues) {
+        return eventSubscription.getConfiguration() == null || correlationKeyValues.contains(eventSubscription.getConfiguration());
+    }
+
+    protected boolean matchesTenant(EventSubscription eventSubscription, Collection<String> tenantIds) {
+        if (tenantIds == null) {
+            return true;
+        }
+
+        String subscriptionTenantId = eventSubscription.getTenantId();
+        if (subscriptionTenantId == null || AbstractEngineConfiguration.NO_TENANT_ID.equals(subscriptionTenantId)) {
+            return tenantIds.contains(AbstractEngineConfiguration.NO_TENANT_ID);
+        }
+        return tenantIds.contains(subscriptionTenantId);
+    }
+
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
 
 }
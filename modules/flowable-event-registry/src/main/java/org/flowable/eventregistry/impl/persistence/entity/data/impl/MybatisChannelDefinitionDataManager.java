@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.eventregistry.api.ChannelDefinition;
 import org.flowable.eventregistry.impl.ChannelDefinitionQueryImpl;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
@@ -36,6 +37,11 @@ public class MybatisChannelDefinitionDataManager extends AbstractEventDataManage
         return ChannelDefinitionEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return eventRegistryConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public ChannelDefinitionEntity create() {
         return new ChannelDefinitionEntityImpl();
@@ -43,7 +49,8 @@ public class MybatisChannelDefinitionDataManager extends AbstractEventDataManage
 
     @Override
     public ChannelDefinitionEntity findLatestChannelDefinitionByKey(String channelDefinitionKey) {
-        return (ChannelDefinitionEntity) getDbSqlSession().selectOne("selectLatestChannelDefinitionByKey", channelDefinitionKey);
+        return findInDefinitionEntityCache("latestByKey:" + channelDefinitionKey,
+                () -> (ChannelDefinitionEntity) getDbSqlSession().selectOne("selectLatestChannelDefinitionByKey", channelDefinitionKey));
     }
 
     @Override
@@ -51,7 +58,8 @@ public class MybatisChannelDefinitionDataManager extends AbstractEventDataManage
         Map<String, Object> params = new HashMap<>(2);
         params.put("channelDefinitionKey", channelDefinitionKey);
         params.put("tenantId", tenantId);
-        return (ChannelDefinitionEntity) getDbSqlSession().selectOne("selectLatestChannelDefinitionByKeyAndTenantId", params);
+        return findInDefinitionEntityCache("latestByKeyAndTenantId:" + channelDefinitionKey + ":" + tenantId,
+                () -> (ChannelDefinitionEntity) getDbSqlSession().selectOne("selectLatestChannelDefinitionByKeyAndTenantId", params));
     }
 
     @Override
@@ -74,6 +82,7 @@ public class MybatisChannelDefinitionDataManager extends AbstractEventDataManage
     @Override
     public void deleteChannelDefinitionsByDeploymentId(String deploymentId) {
         getDbSqlSession().delete("deleteChannelDefinitionsByDeploymentId", deploymentId, getManagedEntityClass());
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -152,6 +161,7 @@ public class MybatisChannelDefinitionDataManager extends AbstractEventDataManage
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateChannelDefinitionTenantIdForDeploymentId", params);
+        markDefinitionEntityCacheChanged();
     }
 
 }
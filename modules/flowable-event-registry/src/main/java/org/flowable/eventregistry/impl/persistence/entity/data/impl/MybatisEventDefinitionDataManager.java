@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.eventregistry.api.EventDefinition;
 import org.flowable.eventregistry.impl.EventDefinitionQueryImpl;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
@@ -39,6 +40,11 @@ public class MybatisEventDefinitionDataManager extends AbstractEventDataManager<
         return EventDefinitionEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return eventRegistryConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public EventDefinitionEntity create() {
         return new EventDefinitionEntityImpl();
@@ -46,7 +52,8 @@ public class MybatisEventDefinitionDataManager extends AbstractEventDataManager<
 
     @Override
     public EventDefinitionEntity findLatestEventDefinitionByKey(String eventDefinitionKey) {
-        return (EventDefinitionEntity) getDbSqlSession().selectOne("selectLatestEventDefinitionByKey", eventDefinitionKey);
+        return findInDefinitionEntityCache("latestByKey:" + eventDefinitionKey,
+                () -> (EventDefinitionEntity) getDbSqlSession().selectOne("selectLatestEventDefinitionByKey", eventDefinitionKey));
     }
 
     @Override
@@ -54,7 +61,8 @@ public class MybatisEventDefinitionDataManager extends AbstractEventDataManager<
         Map<String, Object> params = new HashMap<>(2);
         params.put("eventDefinitionKey", eventDefinitionKey);
         params.put("tenantId", tenantId);
-        return (EventDefinitionEntity) getDbSqlSession().selectOne("selectLatestEventDefinitionByKeyAndTenantId", params);
+        return findInDefinitionEntityCache("latestByKeyAndTenantId:" + eventDefinitionKey + ":" + tenantId,
+                () -> (EventDefinitionEntity) getDbSqlSession().selectOne("selectLatestEventDefinitionByKeyAndTenantId", params));
     }
 
     @Override
@@ -77,6 +85,7 @@ public class MybatisEventDefinitionDataManager extends AbstractEventDataManager<
     @Override
     public void deleteEventDefinitionsByDeploymentId(String deploymentId) {
         getDbSqlSession().delete("deleteEventDefinitionsByDeploymentId", deploymentId, getManagedEntityClass());
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -155,6 +164,7 @@ public class MybatisEventDefinitionDataManager extends AbstractEventDataManager<
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateEventDefinitionTenantIdForDeploymentId", params);
+        markDefinitionEntityCacheChanged();
     }
 
 }
@@ -15,6 +15,7 @@ package org.flowable.eventregistry.impl.persistence.entity.data.impl;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.eventregistry.api.EventDeployment;
 import org.flowable.eventregistry.impl.EventDeploymentQueryImpl;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
@@ -38,6 +39,11 @@ public class MybatisEventDeploymentDataManager extends AbstractEventDataManager<
         return EventDeploymentEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return eventRegistryConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public EventDeploymentEntity create() {
         return new EventDeploymentEntityImpl();
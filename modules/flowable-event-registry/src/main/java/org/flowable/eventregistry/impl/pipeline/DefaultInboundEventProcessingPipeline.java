@@ -12,8 +12,12 @@
  */
 package org.flowable.eventregistry.impl.pipeline;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.eventregistry.api.EventRegistryEvent;
@@ -85,6 +89,46 @@ public class DefaultInboundEventProcessingPipeline<T> implements InboundEventPro
         return transform(eventInstance);
     }
 
+    @Override
+    public Collection<EventRegistryEvent> run(String channelKey, Collection<String> rawEvents) {
+        // The events of a batch typically share the same event and channel model,
+        // so the models are only looked up once per (key, tenant) combination for the whole batch
+        Map<String, EventModel> eventModels = new HashMap<>();
+        Map<String, ChannelModel> channelModels = new HashMap<>();
+
+        List<EventRegistryEvent> eventRegistryEvents = new ArrayList<>(rawEvents.size());
+        for (String rawEvent : rawEvents) {
+            T event = deserialize(rawEvent);
+            String eventKey = detectEventDefinitionKey(event);
+
+            boolean multiTenant = false;
+            String tenantId = AbstractEngineConfiguration.NO_TENANT_ID;
+            if (inboundEventTenantDetector != null) {
+                tenantId = inboundEventTenantDetector.detectTenantId(event);
+                multiTenant = true;
+            }
+
+            boolean multiTenantLookup = multiTenant;
+            String lookupTenantId = tenantId;
+            EventModel eventModel = eventModels.computeIfAbsent(eventKey + '#' + tenantId, key -> multiTenantLookup
+                    ? eventRepositoryService.getEventModelByKey(eventKey, lookupTenantId) : eventRepositoryService.getEventModelByKey(eventKey));
+            ChannelModel channelModel = channelModels.computeIfAbsent(tenantId, key -> multiTenantLookup
+                    ? eventRepositoryService.getChannelModelByKey(channelKey, lookupTenantId) : eventRepositoryService.getChannelModelByKey(channelKey));
+
+            EventInstanceImpl eventInstance = new EventInstanceImpl(
+                eventModel,
+                Collections.singletonList(channelModel),
+                extractCorrelationParameters(eventModel, event),
+                extractPayload(eventModel, event),
+                tenantId
+            );
+
+            eventRegistryEvents.addAll(transform(eventInstance));
+        }
+
+        return eventRegistryEvents;
+    }
+
     public T deserialize(String rawEvent) {
         return inboundEventDeserializer.deserialize(rawEvent);
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -79,6 +80,8 @@ public interface EventSubscriptionService {
     
     void deleteEventSubscriptionsByExecutionId(String executionId);
     
+    void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType);
     
     void deleteEventSubscriptionsForProcessDefinition(String processDefinitionId);
@@ -14,6 +14,7 @@ package org.flowable.eventsubscription.service;
 
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionServiceImpl;
+import org.flowable.eventsubscription.service.impl.cache.DefinitionEventSubscriptionCache;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManager;
 import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntityManagerImpl;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
@@ -40,6 +41,13 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
     protected EventSubscriptionEntityManager eventSubscriptionEntityManager;
     
     protected ObjectMapper objectMapper;
+
+    // CACHES //////////////////////////////////////////////////////////
+
+    protected boolean enableDefinitionEventSubscriptionCache;
+    protected long definitionEventSubscriptionCacheCheckInterval = 5000L;
+    protected int definitionEventSubscriptionCacheLimit = 1000;
+    protected DefinitionEventSubscriptionCache definitionEventSubscriptionCache;
     
     public EventSubscriptionServiceConfiguration(String engineName) {
         super(engineName);
@@ -51,6 +59,7 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
     public void init() {
         initDataManagers();
         initEntityManagers();
+        initDefinitionEventSubscriptionCache();
     }
 
     // Data managers
@@ -68,6 +77,12 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         }
     }
 
+    public void initDefinitionEventSubscriptionCache() {
+        if (enableDefinitionEventSubscriptionCache && definitionEventSubscriptionCache == null) {
+            definitionEventSubscriptionCache = new DefinitionEventSubscriptionCache(definitionEventSubscriptionCacheCheckInterval, definitionEventSubscriptionCacheLimit);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -112,4 +127,40 @@ public class EventSubscriptionServiceConfiguration extends AbstractServiceConfig
         this.objectMapper = objectMapper;
         return this;
     }
+
+    public boolean isEnableDefinitionEventSubscriptionCache() {
+        return enableDefinitionEventSubscriptionCache;
+    }
+
+    public EventSubscriptionServiceConfiguration setEnableDefinitionEventSubscriptionCache(boolean enableDefinitionEventSubscriptionCache) {
+        this.enableDefinitionEventSubscriptionCache = enableDefinitionEventSubscriptionCache;
+        return this;
+    }
+
+    public long getDefinitionEventSubscriptionCacheCheckInterval() {
+        return definitionEventSubscriptionCacheCheckInterval;
+    }
+
+    public EventSubscriptionServiceConfiguration setDefinitionEventSubscriptionCacheCheckInterval(long definitionEventSubscriptionCacheCheckInterval) {
+        this.definitionEventSubscriptionCacheCheckInterval = definitionEventSubscriptionCacheCheckInterval;
+        return this;
+    }
+
+    public int getDefinitionEventSubscriptionCacheLimit() {
+        return definitionEventSubscriptionCacheLimit;
+    }
+
+    public EventSubscriptionServiceConfiguration setDefinitionEventSubscriptionCacheLimit(int definitionEventSubscriptionCacheLimit) {
+        this.definitionEventSubscriptionCacheLimit = definitionEventSubscriptionCacheLimit;
+        return this;
+    }
+
+    public DefinitionEventSubscriptionCache getDefinitionEventSubscriptionCache() {
+        return definitionEventSubscriptionCache;
+    }
+
+    public EventSubscriptionServiceConfiguration setDefinitionEventSubscriptionCache(DefinitionEventSubscriptionCache definitionEventSubscriptionCache) {
+        this.definitionEventSubscriptionCache = definitionEventSubscriptionCache;
+        return this;
+    }
 }
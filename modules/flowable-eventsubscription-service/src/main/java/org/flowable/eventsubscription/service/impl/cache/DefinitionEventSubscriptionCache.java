@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventsubscription.service.impl.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.persistence.cache.ClusterChangeStamp;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
+
+/**
+ * Node-local index of the definition-level event subscriptions (e.g. the subscriptions of signal and message start events),
+ * keyed by event type, event name and tenant.
+ *
+ * These subscriptions only change when definitions are deployed or deleted. Every such change marks a {@link ClusterChangeStamp},
+ * which is checked before the index is used, so that the index of every node is cleared at most one check interval after the change.
+ * The cached subscriptions are shared between commands and must be treated as read-only.
+ */
+public class DefinitionEventSubscriptionCache {
+
+    public static final String CHANGE_STAMP_PROPERTY_NAME = "eventsubscr.definition.stamp";
+
+    protected final Map<CacheKey, List<EventSubscriptionEntity>> cache = new ConcurrentHashMap<>();
+    protected final ClusterChangeStamp changeStamp;
+    protected int limit;
+
+    // Incremented when the cache is cleared, so subscriptions read from the database before the cache was cleared aren't cached afterwards
+    protected long generation;
+
+    public DefinitionEventSubscriptionCache(long checkIntervalInMillis, int limit) {
+        this.changeStamp = new ClusterChangeStamp(CHANGE_STAMP_PROPERTY_NAME, checkIntervalInMillis);
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the definition-level event subscriptions for the given event type, name and tenant,
+     * using the loader to fetch them from the database if they are not cached yet.
+     *
+     * @return the cached subscriptions, or {@code null} if the cache can't be used in the current command because
+     *          definition-level subscriptions were changed in it
+     */
+    public List<EventSubscriptionEntity> getDefinitionEventSubscriptions(CommandContext commandContext, String eventType, String eventName, String tenantId,
+            Supplier<List<EventSubscriptionEntity>> loader) {
+
+        if (changeStamp.isChangedIn(commandContext)) {
+            return null;
+        }
+
+        if (changeStamp.checkForChange(commandContext)) {
+            clear();
+        }
+
+        CacheKey key = new CacheKey(eventType, eventName, tenantId);
+        List<EventSubscriptionEntity> eventSubscriptions = cache.get(key);
+        if (eventSubscriptions == null) {
+            long currentGeneration = getGeneration();
+            eventSubscriptions = Collections.unmodifiableList(loader.get());
+            synchronized (this) {
+                if (generation == currentGeneration) {
+                    if (limit > 0 && cache.size() >= limit) {
+                        cache.clear();
+                    }
+                    cache.put(key, eventSubscriptions);
+                }
+            }
+        }
+        return eventSubscriptions;
+    }
+
+    /**
+     * Called whenever a definition-level event subscription is created, changed or deleted in the given command.
+     */
+    public void definitionEventSubscriptionsChanged(CommandContext commandContext) {
+        changeStamp.markChanged(commandContext);
+    }
+
+    public void clear() {
+        synchronized (this) {
+            generation++;
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public ClusterChangeStamp getChangeStamp() {
+        return changeStamp;
+    }
+
+    protected synchronized long getGeneration() {
+        return generation;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    protected static class CacheKey {
+
+        protected final String eventType;
+        protected final String eventName;
+        protected final String tenantId;
+
+        protected CacheKey(String eventType, String eventName, String tenantId) {
+            this.eventType = eventType;
+            this.eventName = eventName;
+            this.tenantId = tenantId != null ? tenantId : AbstractEngineConfiguration.NO_TENANT_ID;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return Objects.equals(eventType, cacheKey.eventType)
+                && Objects.equals(eventName, cacheKey.eventName)
+                && Objects.equals(tenantId, cacheKey.tenantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(eventType, eventName, tenantId);
+        }
+    }
+}
@@ -14,7 +14,10 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.flowable.bpmn.model.Signal;
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -22,7 +25,9 @@ import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
+import org.flowable.eventsubscription.service.impl.cache.DefinitionEventSubscriptionCache;
 import org.flowable.eventsubscription.service.impl.persistence.entity.data.EventSubscriptionDataManager;
+import org.flowable.eventsubscription.service.impl.util.CommandContextUtil;
 
 /**
  * @author Joram Barrez
@@ -38,6 +43,30 @@ public class EventSubscriptionEntityManagerImpl
         super(eventSubscriptionServiceConfiguration, eventSubscriptionDataManager);
     }
 
+    @Override
+    public void insert(EventSubscriptionEntity entity, boolean fireCreateEvent) {
+        super.insert(entity, fireCreateEvent);
+        if (isDefinitionEventSubscription(entity)) {
+            definitionEventSubscriptionsChanged();
+        }
+    }
+
+    @Override
+    public EventSubscriptionEntity update(EventSubscriptionEntity entity, boolean fireUpdateEvent) {
+        if (isDefinitionEventSubscription(entity)) {
+            definitionEventSubscriptionsChanged();
+        }
+        return super.update(entity, fireUpdateEvent);
+    }
+
+    @Override
+    public void delete(EventSubscriptionEntity entity, boolean fireDeleteEvent) {
+        super.delete(entity, fireDeleteEvent);
+        if (isDefinitionEventSubscription(entity)) {
+            definitionEventSubscriptionsChanged();
+        }
+    }
+
     @Override
     public CompensateEventSubscriptionEntity createCompensateEventSubscription() {
         return dataManager.createCompensateEventSubscription();
@@ -120,7 +149,26 @@ public class EventSubscriptionEntityManagerImpl
 
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId) {
-        return dataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
+        List<EventSubscriptionEntity> definitionEventSubscriptions = getCachedDefinitionEventSubscriptions(SignalEventSubscriptionEntity.EVENT_TYPE, eventName, tenantId);
+        if (definitionEventSubscriptions == null) {
+            return dataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
+        }
+
+        // Only the subscriptions of process and case instances need to be fetched from the database
+        List<SignalEventSubscriptionEntity> eventSubscriptions = dataManager.findInstanceSignalEventSubscriptionsByEventName(eventName, tenantId);
+        Set<String> eventSubscriptionIds = new HashSet<>();
+        for (SignalEventSubscriptionEntity eventSubscription : eventSubscriptions) {
+            eventSubscriptionIds.add(eventSubscription.getId());
+        }
+
+        List<SignalEventSubscriptionEntity> result = new ArrayList<>(definitionEventSubscriptions.size() + eventSubscriptions.size());
+        for (EventSubscriptionEntity definitionEventSubscription : definitionEventSubscriptions) {
+            if (!eventSubscriptionIds.contains(definitionEventSubscription.getId())) {
+                result.add((SignalEventSubscriptionEntity) definitionEventSubscription);
+            }
+        }
+        result.addAll(eventSubscriptions);
+        return result;
     }
 
     @Override
@@ -175,17 +223,24 @@ public class EventSubscriptionEntityManagerImpl
 
     @Override
     public MessageEventSubscriptionEntity findMessageStartEventSubscriptionByName(String messageName, String tenantId) {
-        return dataManager.findMessageStartEventSubscriptionByName(messageName, tenantId);
+        List<EventSubscriptionEntity> definitionEventSubscriptions = getCachedDefinitionEventSubscriptions(MessageEventSubscriptionEntity.EVENT_TYPE, messageName, tenantId);
+        if (definitionEventSubscriptions == null) {
+            return dataManager.findMessageStartEventSubscriptionByName(messageName, tenantId);
+        }
+
+        return !definitionEventSubscriptions.isEmpty() ? (MessageEventSubscriptionEntity) definitionEventSubscriptions.get(0) : null;
     }
 
     @Override
     public void updateEventSubscriptionTenantId(String oldTenantId, String newTenantId) {
         dataManager.updateEventSubscriptionTenantId(oldTenantId, newTenantId);
+        definitionEventSubscriptionsChanged();
     }
 
     @Override
     public void deleteEventSubscriptionsForProcessDefinition(String processDefinitionId) {
         dataManager.deleteEventSubscriptionsForProcessDefinition(processDefinitionId);
+        definitionEventSubscriptionsChanged();
     }
 
     @Override
@@ -193,6 +248,11 @@ public class EventSubscriptionEntityManagerImpl
         dataManager.deleteEventSubscriptionsByExecutionId(executionId);
     }
     
+    @Override
+    public void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteEventSubscriptionsByProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType) {
         dataManager.deleteEventSubscriptionsForScopeIdAndType(scopeId, scopeType);
@@ -201,6 +261,32 @@ public class EventSubscriptionEntityManagerImpl
     @Override
     public void deleteEventSubscriptionsForScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType) {
         dataManager.deleteEventSubscriptionsForScopeDefinitionIdAndType(scopeDefinitionId, scopeType);
+        definitionEventSubscriptionsChanged();
+    }
+
+    /**
+     * @return the definition-level subscriptions from the {@link DefinitionEventSubscriptionCache},
+     *          or {@code null} if the cache is not enabled or can't be used in the current command
+     */
+    protected List<EventSubscriptionEntity> getCachedDefinitionEventSubscriptions(String eventType, String eventName, String tenantId) {
+        DefinitionEventSubscriptionCache definitionEventSubscriptionCache = serviceConfiguration.getDefinitionEventSubscriptionCache();
+        if (definitionEventSubscriptionCache == null) {
+            return null;
+        }
+
+        return definitionEventSubscriptionCache.getDefinitionEventSubscriptions(CommandContextUtil.getCommandContext(), eventType, eventName, tenantId,
+            () -> dataManager.findDefinitionEventSubscriptionsByName(eventType, eventName, tenantId));
+    }
+
+    protected void definitionEventSubscriptionsChanged() {
+        DefinitionEventSubscriptionCache definitionEventSubscriptionCache = serviceConfiguration.getDefinitionEventSubscriptionCache();
+        if (definitionEventSubscriptionCache != null) {
+            definitionEventSubscriptionCache.definitionEventSubscriptionsChanged(CommandContextUtil.getCommandContext());
+        }
+    }
+
+    protected boolean isDefinitionEventSubscription(EventSubscriptionEntity eventSubscription) {
+        return eventSubscription.getExecutionId() == null && eventSubscription.getProcessInstanceId() == null && eventSubscription.getScopeId() == null;
     }
 
     protected SignalEventSubscriptionEntity insertSignalEvent(EventSubscriptionBuilder eventSubscriptionBuilder) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.eventsubscription.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -44,6 +45,17 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId);
 
+    /**
+     * Same as {@link #findSignalEventSubscriptionsByEventName(String, String)}, but without the definition-level subscriptions
+     * (e.g. the subscriptions of signal start events).
+     */
+    List<SignalEventSubscriptionEntity> findInstanceSignalEventSubscriptionsByEventName(final String eventName, final String tenantId);
+
+    /**
+     * Finds the event subscriptions that are not bound to a process or case instance (e.g. those of start events).
+     */
+    List<EventSubscriptionEntity> findDefinitionEventSubscriptionsByName(final String type, final String eventName, final String tenantId);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByScopeAndEventName(final String scopeId, final String scopeType, final String eventName);
@@ -72,6 +84,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
     
     void deleteEventSubscriptionsByExecutionId(String executionId);
     
+    void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType);
 
     void deleteEventSubscriptionsForScopeDefinitionIdAndType(String scopeDefinitionId, String scopeType);
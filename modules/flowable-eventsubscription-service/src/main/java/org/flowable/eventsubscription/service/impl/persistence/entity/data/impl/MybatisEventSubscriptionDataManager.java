@@ -13,12 +13,14 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
 import org.flowable.eventsubscription.service.impl.EventSubscriptionQueryImpl;
@@ -160,6 +162,34 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    public List<SignalEventSubscriptionEntity> findInstanceSignalEventSubscriptionsByEventName(final String eventName, final String tenantId) {
+        final String query = "selectSignalEventSubscriptionsByEventName";
+
+        final Map<String, Object> params = new HashMap<>();
+        params.put("eventName", eventName);
+        params.put("instanceSubscriptionsOnly", Boolean.TRUE);
+        if (tenantId != null && !tenantId.equals(EventSubscriptionServiceConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+
+        List<EventSubscriptionEntity> result = getList(query, params, signalEventSubscriptionByEventNameMatcher, true);
+        return toSignalEventSubscriptionEntityList(result);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<EventSubscriptionEntity> findDefinitionEventSubscriptionsByName(final String type, final String eventName, final String tenantId) {
+        final String query = "selectDefinitionEventSubscriptionsByName";
+        Map<String, String> params = new HashMap<>();
+        params.put("eventType", type);
+        params.put("eventName", eventName);
+        if (tenantId != null && !tenantId.equals(EventSubscriptionServiceConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+        return getDbSqlSession().selectList(query, params);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -301,6 +331,14 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         }
     }
     
+    @Override
+    public void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteEventSubscriptionsByProcessInstanceIds", processInstanceIdsChunk, EventSubscriptionEntityImpl.class);
+        }
+    }
+    
     @Override
     public void deleteEventSubscriptionsForScopeIdAndType(String scopeId, String scopeType) {
         Map<String, String> params = new HashMap<>();
@@ -12,6 +12,7 @@
  */
 package org.flowable.form.api;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -126,4 +127,9 @@ public interface FormService {
     void deleteFormInstancesByProcessDefinition(String processDefinitionId);
     
     void deleteFormInstancesByScopeDefinition(String scopeDefinitionId);
+
+    /**
+     * Deletes the form instances of the given process instances with bulk statements.
+     */
+    void deleteFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
 }
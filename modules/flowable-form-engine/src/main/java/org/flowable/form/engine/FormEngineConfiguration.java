@@ -155,7 +155,9 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
 
     public FormEngine buildFormEngine() {
         init();
-        return new FormEngineImpl(this);
+        FormEngineImpl formEngine = new FormEngineImpl(this);
+        initClusterChangeStamps();
+        return formEngine;
     }
 
     // init
@@ -192,6 +194,7 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
         configuratorsAfterInit();
         initDataManagers();
         initEntityManagers();
+        initDefinitionEntityCache();
         initDeployers();
         initClock();
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.form.engine.impl;
 
+import java.util.Collection;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
@@ -25,6 +26,7 @@ import org.flowable.form.engine.impl.cmd.CreateFormInstanceCmd;
 import org.flowable.form.engine.impl.cmd.DeleteFormInstanceCmd;
 import org.flowable.form.engine.impl.cmd.DeleteFormInstancesByFormDefinitionCmd;
 import org.flowable.form.engine.impl.cmd.DeleteFormInstancesByProcessDefinitionCmd;
+import org.flowable.form.engine.impl.cmd.DeleteFormInstancesByProcessInstanceIdsCmd;
 import org.flowable.form.engine.impl.cmd.DeleteFormInstancesByScopeDefinitionCmd;
 import org.flowable.form.engine.impl.cmd.GetFormInstanceByScopeModelCmd;
 import org.flowable.form.engine.impl.cmd.GetFormInstanceModelCmd;
@@ -243,4 +245,9 @@ public class FormServiceImpl extends CommonEngineServiceImpl<FormEngineConfigura
     public void deleteFormInstancesByScopeDefinition(String scopeDefinitionId) {
         commandExecutor.execute(new DeleteFormInstancesByScopeDefinitionCmd(scopeDefinitionId));
     }
+
+    @Override
+    public void deleteFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        commandExecutor.execute(new DeleteFormInstancesByProcessInstanceIdsCmd(processInstanceIds));
+    }
 }
@@ -30,7 +30,6 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.el.VariableContainerWrapper;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
-import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.form.api.FormDeployment;
 import org.flowable.form.api.FormInstance;
 import org.flowable.form.api.FormInstanceInfo;
@@ -43,6 +42,7 @@ import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
 import org.flowable.form.engine.impl.persistence.entity.FormInstanceEntity;
 import org.flowable.form.engine.impl.util.CommandContextUtil;
+import org.flowable.form.engine.impl.util.FormUtil;
 import org.flowable.form.model.ExpressionFormField;
 import org.flowable.form.model.FormField;
 import org.flowable.form.model.FormFieldTypes;
@@ -79,6 +79,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
     protected String tenantId;
     protected Map<String, Object> variables;
     protected boolean fallbackToDefaultTenant;
+    protected transient FormDefinitionCacheEntry formDefinitionCacheEntry;
 
     @Override
     public FormInstanceInfo execute(CommandContext commandContext) {
@@ -86,7 +87,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
             throw new FlowableException("A task id or process instance id or scope id should be provided");
         }
 
-        FormDefinitionCacheEntry formDefinitionCacheEntry = resolveFormDefinition(commandContext);
+        formDefinitionCacheEntry = resolveFormDefinition(commandContext);
         FormInstance formInstance = resolveFormInstance(commandContext);
         FormInstanceInfo formInstanceModel = resolveFormInstanceModel(formDefinitionCacheEntry, formInstance, commandContext);
         fillFormFieldValues(formInstance, formInstanceModel, commandContext);
@@ -145,7 +146,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
                     OptionFormField optionFormField = (OptionFormField) field;
                     if(optionFormField.getOptionsExpression() != null) {
                         // Drop down options to be populated from an expression
-                        Expression optionsExpression = formEngineConfiguration.getExpressionManager().createExpression(optionFormField.getOptionsExpression());
+                        Expression optionsExpression = getFieldExpression(optionFormField.getOptionsExpression(), formEngineConfiguration);
                         Object value = null;
                         try {
                             value = optionsExpression.getValue(new VariableContainerWrapper(variables));
@@ -180,7 +181,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
                         // No value set, process as expression
                         if (field.getParam("hyperlinkUrl") != null) {
                             String hyperlinkUrl = field.getParam("hyperlinkUrl").toString();
-                            Expression formExpression = formEngineConfiguration.getExpressionManager().createExpression(hyperlinkUrl);
+                            Expression formExpression = getFieldExpression(hyperlinkUrl, formEngineConfiguration);
                             try {
                                 field.setValue(formExpression.getValue(new VariableContainerWrapper(variables)));
                             } catch (Exception e) {
@@ -191,7 +192,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
                     
                 } else if (field instanceof ExpressionFormField) {
                     ExpressionFormField expressionField = (ExpressionFormField) field;
-                    Expression formExpression = formEngineConfiguration.getExpressionManager().createExpression(expressionField.getExpression());
+                    Expression formExpression = getFieldExpression(expressionField.getExpression(), formEngineConfiguration);
                     try {
                         field.setValue(formExpression.getValue(new VariableContainerWrapper(variables)));
                     } catch (Exception e) {
@@ -230,6 +231,16 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
         }
     }
 
+    /**
+     * @return the compiled expression of a form field, from the form definition cache entry when available
+     */
+    protected Expression getFieldExpression(String expressionText, FormEngineConfiguration formEngineConfiguration) {
+        if (formDefinitionCacheEntry != null) {
+            return formDefinitionCacheEntry.getFieldExpression(expressionText, formEngineConfiguration.getExpressionManager());
+        }
+        return formEngineConfiguration.getExpressionManager().createExpression(expressionText);
+    }
+
     protected FormDefinitionCacheEntry resolveFormDefinition(CommandContext commandContext) {
         FormEngineConfiguration formEngineConfiguration = CommandContextUtil.getFormEngineConfiguration();
         DeploymentManager deploymentManager = formEngineConfiguration.getDeploymentManager();
@@ -446,8 +457,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
             FormInstance formInstance, CommandContext commandContext) {
 
         FormDefinitionEntity formDefinitionEntity = formCacheEntry.getFormDefinitionEntity();
-        FormJsonConverter formJsonConverter = CommandContextUtil.getFormEngineConfiguration().getFormJsonConverter();
-        SimpleFormModel formModel = formJsonConverter.convertToFormModel(formCacheEntry.getFormDefinitionJson());
+        SimpleFormModel formModel = FormUtil.getFormModel(formCacheEntry);
         FormInstanceInfo formInstanceModel = new FormInstanceInfo();
         formInstanceModel.setId(formDefinitionEntity.getId());
         formInstanceModel.setName(formDefinitionEntity.getName());
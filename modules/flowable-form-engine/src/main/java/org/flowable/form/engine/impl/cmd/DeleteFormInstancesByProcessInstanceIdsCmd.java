@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.form.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.form.engine.impl.persistence.entity.FormInstanceEntity;
+import org.flowable.form.engine.impl.persistence.entity.FormInstanceEntityManager;
+import org.flowable.form.engine.impl.util.CommandContextUtil;
+
+public class DeleteFormInstancesByProcessInstanceIdsCmd implements Command<Void>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    protected Collection<String> processInstanceIds;
+
+    public DeleteFormInstancesByProcessInstanceIdsCmd(Collection<String> processInstanceIds) {
+        this.processInstanceIds = processInstanceIds;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (processInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("processInstanceIds is null");
+        }
+
+        FormInstanceEntityManager formInstanceEntityManager = CommandContextUtil.getFormInstanceEntityManager(commandContext);
+        List<String> formValuesIds = new ArrayList<>();
+        for (FormInstanceEntity formInstance : formInstanceEntityManager.findFormInstancesByProcessInstanceIds(processInstanceIds)) {
+            if (formInstance.getFormValuesId() != null) {
+                formValuesIds.add(formInstance.getFormValuesId());
+            }
+        }
+
+        CommandContextUtil.getResourceEntityManager(commandContext).deleteResourcesByIds(formValuesIds);
+        formInstanceEntityManager.deleteFormInstancesByProcessInstanceIds(processInstanceIds);
+
+        return null;
+    }
+}
@@ -29,6 +29,7 @@ import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntry
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
 import org.flowable.form.engine.impl.util.CommandContextUtil;
+import org.flowable.form.engine.impl.util.FormUtil;
 import org.flowable.form.model.SimpleFormModel;
 
 /**
@@ -152,7 +153,7 @@ public class GetFormModelCmd implements Command<FormInfo>, Serializable {
         }
 
         FormDefinitionCacheEntry formDefinitionCacheEntry = deploymentManager.resolveFormDefinition(formDefinitionEntity);
-        SimpleFormModel formModel = CommandContextUtil.getFormEngineConfiguration(commandContext).getFormJsonConverter().convertToFormModel(formDefinitionCacheEntry.getFormDefinitionJson());
+        SimpleFormModel formModel = FormUtil.getFormModel(formDefinitionCacheEntry);
         FormInfo formInfo = new FormInfo();
         formInfo.setId(formDefinitionEntity.getId());
         formInfo.setName(formDefinitionEntity.getName());
@@ -29,7 +29,6 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.el.VariableContainerWrapper;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
-import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.form.api.FormDeployment;
 import org.flowable.form.api.FormInfo;
 import org.flowable.form.api.FormInstance;
@@ -40,6 +39,7 @@ import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntry
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
 import org.flowable.form.engine.impl.util.CommandContextUtil;
+import org.flowable.form.engine.impl.util.FormUtil;
 import org.flowable.form.model.ExpressionFormField;
 import org.flowable.form.model.FormField;
 import org.flowable.form.model.FormFieldTypes;
@@ -72,6 +72,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
     protected String tenantId;
     protected Map<String, Object> variables;
     protected boolean fallbackToDefaultTenant;
+    protected transient FormDefinitionCacheEntry formDefinitionCacheEntry;
 
     public GetFormModelWithVariablesCmd(String formDefinitionKey, String formDefinitionId, String taskId, Map<String, Object> variables) {
         initializeValues(formDefinitionKey, formDefinitionId, null, variables);
@@ -98,9 +99,9 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
 
     @Override
     public FormInfo execute(CommandContext commandContext) {
-        FormDefinitionCacheEntry formCacheEntry = resolveFormDefinition(commandContext);
-        FormInstance formInstance = resolveFormInstance(formCacheEntry, commandContext);
-        FormInfo formInfo = resolveFormModel(formCacheEntry, commandContext);
+        formDefinitionCacheEntry = resolveFormDefinition(commandContext);
+        FormInstance formInstance = resolveFormInstance(formDefinitionCacheEntry, commandContext);
+        FormInfo formInfo = resolveFormModel(formDefinitionCacheEntry, commandContext);
         fillFormFieldValues(formInstance, formInfo, commandContext);
         return formInfo;
     }
@@ -134,7 +135,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
                     // Drop down options to be populated from an expression
                     OptionFormField optionFormField = (OptionFormField) field;
                     if(optionFormField.getOptionsExpression() != null) {
-                        Expression optionsExpression = formEngineConfiguration.getExpressionManager().createExpression(optionFormField.getOptionsExpression());
+                        Expression optionsExpression = getFieldExpression(optionFormField.getOptionsExpression(), formEngineConfiguration);
                         Object value = null;
                         try {
                             value = optionsExpression.getValue(new VariableContainerWrapper(variables));
@@ -168,7 +169,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
                         // No value set, process as expression
                         if (field.getParam("hyperlinkUrl") != null) {
                             String hyperlinkUrl = field.getParam("hyperlinkUrl").toString();
-                            Expression formExpression = formEngineConfiguration.getExpressionManager().createExpression(hyperlinkUrl);
+                            Expression formExpression = getFieldExpression(hyperlinkUrl, formEngineConfiguration);
                             try {
                                 field.setValue(formExpression.getValue(new VariableContainerWrapper(variables)));
                             } catch (Exception e) {
@@ -178,7 +179,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
                     }
                 } else if (field instanceof ExpressionFormField) {
                     ExpressionFormField expressionField = (ExpressionFormField) field;
-                    Expression formExpression = formEngineConfiguration.getExpressionManager().createExpression(expressionField.getExpression());
+                    Expression formExpression = getFieldExpression(expressionField.getExpression(), formEngineConfiguration);
                     try {
                         field.setValue(formExpression.getValue(new VariableContainerWrapper(variables)));
                     } catch (Exception e) {
@@ -206,6 +207,16 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
         }
     }
 
+    /**
+     * @return the compiled expression of a form field, from the form definition cache entry when available
+     */
+    protected Expression getFieldExpression(String expressionText, FormEngineConfiguration formEngineConfiguration) {
+        if (formDefinitionCacheEntry != null) {
+            return formDefinitionCacheEntry.getFieldExpression(expressionText, formEngineConfiguration.getExpressionManager());
+        }
+        return formEngineConfiguration.getExpressionManager().createExpression(expressionText);
+    }
+
     protected FormDefinitionCacheEntry resolveFormDefinition(CommandContext commandContext) {
         FormEngineConfiguration formEngineConfiguration = CommandContextUtil.getFormEngineConfiguration();
         DeploymentManager deploymentManager = formEngineConfiguration.getDeploymentManager();
@@ -388,8 +399,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
 
     protected FormInfo resolveFormModel(FormDefinitionCacheEntry formCacheEntry, CommandContext commandContext) {
         FormDefinitionEntity formEntity = formCacheEntry.getFormDefinitionEntity();
-        FormJsonConverter formJsonConverter = CommandContextUtil.getFormEngineConfiguration().getFormJsonConverter();
-        SimpleFormModel formModel = formJsonConverter.convertToFormModel(formCacheEntry.getFormDefinitionJson());
+        SimpleFormModel formModel = FormUtil.getFormModel(formCacheEntry);
         FormInfo formInfo = new FormInfo();
         formInfo.setId(formEntity.getId());
         formInfo.setName(formEntity.getName());
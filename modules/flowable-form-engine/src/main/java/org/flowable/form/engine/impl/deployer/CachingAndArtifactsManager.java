@@ -38,7 +38,8 @@ public class CachingAndArtifactsManager {
 
         for (FormDefinitionEntity formDefinition : parsedDeployment.getAllFormDefinitions()) {
             SimpleFormModel formModel = parsedDeployment.getFormModelForFormDefinition(formDefinition);
-            FormDefinitionCacheEntry cacheEntry = new FormDefinitionCacheEntry(formDefinition, formJsonConverter.convertToJson(formModel));
+            FormDefinitionCacheEntry cacheEntry = new FormDefinitionCacheEntry(formDefinition, formJsonConverter.convertToJson(formModel), formModel);
+            cacheEntry.compileFieldExpressions(formEngineConfiguration.getExpressionManager());
             formDefinitionCache.add(formDefinition.getId(), cacheEntry);
 
             // Add to deployment for further usage
@@ -13,10 +13,26 @@
 package org.flowable.form.engine.impl.persistence.deploy;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
+import org.flowable.form.model.ExpressionFormField;
+import org.flowable.form.model.FormField;
+import org.flowable.form.model.FormFieldTypes;
+import org.flowable.form.model.OptionFormField;
+import org.flowable.form.model.SimpleFormModel;
 
 /**
+ * The cached form definition: the form definition entity, its json and the parsed form model.
+ *
+ * The parsed form model is a template that is never handed out or changed: use {@link org.flowable.form.engine.impl.util.FormUtil#getFormModel(FormDefinitionCacheEntry)}
+ * to get a copy of it that can be filled with values. The expressions of the form fields are compiled once and kept here as well.
+ *
  * @author Tijs Rademakers
  */
 public class FormDefinitionCacheEntry implements Serializable {
@@ -25,12 +41,64 @@ public class FormDefinitionCacheEntry implements Serializable {
 
     protected FormDefinitionEntity formDefinitionEntity;
     protected String formDefinitionJson;
+    protected SimpleFormModel formModel;
+    protected transient volatile Map<String, Expression> fieldExpressions;
 
     public FormDefinitionCacheEntry(FormDefinitionEntity formDefinitionEntity, String formDefinitionJson) {
         this.formDefinitionEntity = formDefinitionEntity;
         this.formDefinitionJson = formDefinitionJson;
     }
 
+    public FormDefinitionCacheEntry(FormDefinitionEntity formDefinitionEntity, String formDefinitionJson, SimpleFormModel formModel) {
+        this(formDefinitionEntity, formDefinitionJson);
+        this.formModel = formModel;
+    }
+
+    /**
+     * Compiles the options, hyperlink and value expressions of the fields of the form model.
+     */
+    public void compileFieldExpressions(ExpressionManager expressionManager) {
+        if (formModel == null) {
+            return;
+        }
+
+        List<FormField> allFields = formModel.listAllFields();
+        for (FormField field : allFields) {
+            if (field instanceof OptionFormField) {
+                getFieldExpression(((OptionFormField) field).getOptionsExpression(), expressionManager);
+
+            } else if (FormFieldTypes.HYPERLINK.equals(field.getType())) {
+                Object hyperlinkUrl = field.getParam("hyperlinkUrl");
+                if (hyperlinkUrl != null) {
+                    getFieldExpression(hyperlinkUrl.toString(), expressionManager);
+                }
+
+            } else if (field instanceof ExpressionFormField) {
+                getFieldExpression(((ExpressionFormField) field).getExpression(), expressionManager);
+            }
+        }
+    }
+
+    /**
+     * @return the compiled expression for the given expression text of a field, which is compiled on first use
+     */
+    public Expression getFieldExpression(String expressionText, ExpressionManager expressionManager) {
+        if (StringUtils.isEmpty(expressionText)) {
+            return null;
+        }
+
+        Map<String, Expression> expressions = fieldExpressions;
+        if (expressions == null) {
+            synchronized (this) {
+                if (fieldExpressions == null) {
+                    fieldExpressions = new ConcurrentHashMap<>();
+                }
+                expressions = fieldExpressions;
+            }
+        }
+        return expressions.computeIfAbsent(expressionText, expressionManager::createExpression);
+    }
+
     public FormDefinitionEntity getFormDefinitionEntity() {
         return formDefinitionEntity;
     }
@@ -46,4 +114,15 @@ public class FormDefinitionCacheEntry implements Serializable {
     public void setFormDefinitionJson(String formDefinitionJson) {
         this.formDefinitionJson = formDefinitionJson;
     }
+
+    /**
+     * @return the parsed form model template, which should not be changed
+     */
+    public SimpleFormModel getFormModel() {
+        return formModel;
+    }
+
+    public void setFormModel(SimpleFormModel formModel) {
+        this.formModel = formModel;
+    }
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.form.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -32,4 +33,8 @@ public interface FormInstanceEntityManager extends EntityManager<FormInstanceEnt
     void deleteFormInstancesByProcessDefinitionId(String processDefinitionId);
     
     void deleteFormInstancesByScopeDefinitionId(String scopeDefinitionId);
+
+    List<FormInstanceEntity> findFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
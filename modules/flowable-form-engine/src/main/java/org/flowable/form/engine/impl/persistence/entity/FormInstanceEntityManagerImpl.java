@@ -13,6 +13,7 @@
 
 package org.flowable.form.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
@@ -58,4 +59,14 @@ public class FormInstanceEntityManagerImpl
         dataManager.deleteFormInstancesByScopeDefinitionId(scopeDefinitionId);
     }
 
+    @Override
+    public List<FormInstanceEntity> findFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return dataManager.findFormInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteFormInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.form.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -27,4 +28,6 @@ public interface FormResourceEntityManager extends EntityManager<FormResourceEnt
 
     void deleteResourcesByDeploymentId(String deploymentId);
 
+    void deleteResourcesByIds(Collection<String> resourceIds);
+
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.form.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractEngineEntityManager;
@@ -36,6 +37,11 @@ public class FormResourceEntityManagerImpl
         dataManager.deleteResourcesByDeploymentId(deploymentId);
     }
 
+    @Override
+    public void deleteResourcesByIds(Collection<String> resourceIds) {
+        dataManager.deleteResourcesByIds(resourceIds);
+    }
+
     @Override
     public FormResourceEntity findResourceByDeploymentIdAndResourceName(String deploymentId, String resourceName) {
         return dataManager.findResourceByDeploymentIdAndResourceName(deploymentId, resourceName);
@@ -12,6 +12,7 @@
  */
 package org.flowable.form.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -33,4 +34,8 @@ public interface FormInstanceDataManager extends DataManager<FormInstanceEntity>
     void deleteFormInstancesByProcessDefinitionId(String processDefinitionId);
     
     void deleteFormInstancesByScopeDefinitionId(String scopeDefinitionId);
+
+    List<FormInstanceEntity> findFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.form.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -24,6 +25,8 @@ public interface FormResourceDataManager extends DataManager<FormResourceEntity>
 
     void deleteResourcesByDeploymentId(String deploymentId);
 
+    void deleteResourcesByIds(Collection<String> resourceIds);
+
     FormResourceEntity findResourceByDeploymentIdAndResourceName(String deploymentId, String resourceName);
 
     List<FormResourceEntity> findResourcesByDeploymentId(String deploymentId);
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.form.api.FormDefinition;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.FormDefinitionQueryImpl;
@@ -39,6 +40,11 @@ public class MybatisFormDefinitionDataManager extends AbstractFormDataManager<Fo
         return FormDefinitionEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return formEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public FormDefinitionEntity create() {
         return new FormDefinitionEntityImpl();
@@ -46,7 +52,8 @@ public class MybatisFormDefinitionDataManager extends AbstractFormDataManager<Fo
 
     @Override
     public FormDefinitionEntity findLatestFormDefinitionByKey(String formDefinitionKey) {
-        return (FormDefinitionEntity) getDbSqlSession().selectOne("selectLatestFormDefinitionByKey", formDefinitionKey);
+        return findInDefinitionEntityCache("latestByKey:" + formDefinitionKey,
+                () -> (FormDefinitionEntity) getDbSqlSession().selectOne("selectLatestFormDefinitionByKey", formDefinitionKey));
     }
 
     @Override
@@ -54,7 +61,8 @@ public class MybatisFormDefinitionDataManager extends AbstractFormDataManager<Fo
         Map<String, Object> params = new HashMap<>(2);
         params.put("formDefinitionKey", formDefinitionKey);
         params.put("tenantId", tenantId);
-        return (FormDefinitionEntity) getDbSqlSession().selectOne("selectLatestFormDefinitionByKeyAndTenantId", params);
+        return findInDefinitionEntityCache("latestByKeyAndTenantId:" + formDefinitionKey + ":" + tenantId,
+                () -> (FormDefinitionEntity) getDbSqlSession().selectOne("selectLatestFormDefinitionByKeyAndTenantId", params));
     }
 
     @Override
@@ -77,6 +85,7 @@ public class MybatisFormDefinitionDataManager extends AbstractFormDataManager<Fo
     @Override
     public void deleteFormDefinitionsByDeploymentId(String deploymentId) {
         getDbSqlSession().delete("deleteFormDefinitionsByDeploymentId", deploymentId, getManagedEntityClass());
+        markDefinitionEntityCacheChanged();
     }
 
     @Override
@@ -154,6 +163,7 @@ public class MybatisFormDefinitionDataManager extends AbstractFormDataManager<Fo
         params.put("deploymentId", deploymentId);
         params.put("tenantId", newTenantId);
         getDbSqlSession().update("updateFormDefinitionTenantIdForDeploymentId", params);
+        markDefinitionEntityCacheChanged();
     }
 
 }
@@ -15,6 +15,7 @@ package org.flowable.form.engine.impl.persistence.entity.data.impl;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.persistence.cache.DefinitionEntityCache;
 import org.flowable.form.api.FormDeployment;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.FormDeploymentQueryImpl;
@@ -38,6 +39,11 @@ public class MybatisFormDeploymentDataManager extends AbstractFormDataManager<Fo
         return FormDeploymentEntityImpl.class;
     }
 
+    @Override
+    protected DefinitionEntityCache getDefinitionEntityCache() {
+        return formEngineConfiguration.getDefinitionEntityCache();
+    }
+
     @Override
     public FormDeploymentEntity create() {
         return new FormDeploymentEntityImpl();
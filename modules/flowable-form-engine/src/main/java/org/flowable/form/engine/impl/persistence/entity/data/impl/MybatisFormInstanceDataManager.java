@@ -12,8 +12,12 @@
  */
 package org.flowable.form.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.form.api.FormInstance;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.FormInstanceQueryImpl;
@@ -61,6 +65,23 @@ public class MybatisFormInstanceDataManager extends AbstractFormDataManager<Form
         getDbSqlSession().delete("deleteFormInstancesByScopeDefinitionId", scopeDefinitionId, getManagedEntityClass());
     }
 
+    @Override
+    public List<FormInstanceEntity> findFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        List<FormInstanceEntity> formInstances = new ArrayList<>();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            formInstances.addAll(getList("selectFormInstancesByProcessInstanceIds", processInstanceIdsChunk));
+        }
+        return formInstances;
+    }
+
+    @Override
+    public void deleteFormInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteFormInstancesByProcessInstanceIds", processInstanceIdsChunk, getManagedEntityClass());
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<FormInstance> findFormInstancesByQueryCriteria(FormInstanceQueryImpl formInstanceQuery) {
@@ -12,10 +12,13 @@
  */
 package org.flowable.form.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.persistence.entity.FormResourceEntity;
 import org.flowable.form.engine.impl.persistence.entity.FormResourceEntityImpl;
@@ -46,6 +49,14 @@ public class MybatisFormResourceDataManager extends AbstractFormDataManager<Form
         getDbSqlSession().delete("deleteFormResourcesByDeploymentId", deploymentId, getManagedEntityClass());
     }
 
+    @Override
+    public void deleteResourcesByIds(Collection<String> resourceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> resourceIdsChunk : CollectionUtil.partition(resourceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteFormResourcesByIds", resourceIdsChunk, getManagedEntityClass());
+        }
+    }
+
     @Override
     public FormResourceEntity findResourceByDeploymentIdAndResourceName(String deploymentId, String resourceName) {
         Map<String, Object> params = new HashMap<>();
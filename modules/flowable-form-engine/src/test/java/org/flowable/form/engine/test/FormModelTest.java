@@ -21,7 +21,10 @@ import java.util.Map;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.engine.impl.DefaultTenantProvider;
 import org.flowable.form.api.FormInfo;
+import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntry;
 import org.flowable.form.model.FormField;
+import org.flowable.form.model.Option;
+import org.flowable.form.model.OptionFormField;
 import org.flowable.form.model.SimpleFormModel;
 import org.junit.jupiter.api.Test;
 
@@ -168,6 +171,36 @@ public class FormModelTest extends AbstractFlowableFormTest {
         }
     }
     
+    @Test
+    @FormDeploymentAnnotation(resources = "org/flowable/form/engine/test/deployment/options.form")
+    public void getFormModelUsesCachedTemplate() {
+        String formDefinitionId = repositoryService.getFormModelByKey("optionsForm").getId();
+
+        FormDefinitionCacheEntry cacheEntry = formEngineConfiguration.getFormDefinitionCache().get(formDefinitionId);
+        assertThat(cacheEntry.getFormModel()).isNotNull();
+        assertThat(cacheEntry.getFieldExpression("${optionsVariable}", formEngineConfiguration.getExpressionManager()))
+                .isSameAs(cacheEntry.getFieldExpression("${optionsVariable}", formEngineConfiguration.getExpressionManager()));
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("optionsVariable", "[{\"id\":\"opt0\",\"name\":\"Opt0\"}]");
+        variables.put("dynamicDropDown", "opt0");
+        SimpleFormModel filledFormModel = (SimpleFormModel) formService.getFormModelWithVariablesById(formDefinitionId, null, variables).getFormModel();
+        OptionFormField filledField = (OptionFormField) filledFormModel.getFields().get(0);
+        assertThat(filledField.getValue()).isEqualTo("opt0");
+        assertThat(filledField.getOptions()).extracting(Option::getId).containsExactly("opt0");
+
+        // The values of one request don't end up in the cached template or in the next request
+        OptionFormField templateField = (OptionFormField) cacheEntry.getFormModel().getFields().get(0);
+        assertThat(templateField).isNotSameAs(filledField);
+        assertThat(templateField.getValue()).isNull();
+        assertThat(templateField.getOptions()).isNull();
+
+        OptionFormField cleanField = (OptionFormField) ((SimpleFormModel) repositoryService.getFormModelById(formDefinitionId).getFormModel()).getFields().get(0);
+        assertThat(cleanField.getValue()).isNull();
+        assertThat(cleanField.getOptions()).isNull();
+        assertThat(cleanField.getOptionsExpression()).isEqualTo("${optionsVariable}");
+    }
+
     protected void assertFormModel(FormInfo formInfo) {
         SimpleFormModel formModel = (SimpleFormModel) formInfo.getFormModel();
         assertThat(formModel.getFields()).hasSize(1);
@@ -15,6 +15,8 @@ package org.flowable.form.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * @author Erik Winlof
  *
@@ -32,4 +34,25 @@ public class FormContainer extends FormField {
     public void setFields(List<List<FormField>> fields) {
         this.fields = fields;
     }
+
+    @Override
+    public FormContainer clone() {
+        FormContainer clone = new FormContainer();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(FormContainer otherField) {
+        super.setValues(otherField);
+
+        List<List<FormField>> clonedFields = null;
+        if (otherField.getFields() != null) {
+            clonedFields = new ArrayList<>(otherField.getFields().size());
+            for (List<FormField> row : otherField.getFields()) {
+                clonedFields.add(SimpleFormModel.cloneFields(row));
+            }
+        }
+        setFields(clonedFields);
+    }
 }
@@ -13,6 +13,7 @@
 package org.flowable.form.model;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -133,4 +134,25 @@ public class FormField implements Serializable {
         }
         return null;
     }
+
+    @Override
+    public FormField clone() {
+        FormField clone = new FormField();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(FormField otherField) {
+        setId(otherField.getId());
+        setName(otherField.getName());
+        setType(otherField.getType());
+        setValue(otherField.getValue());
+        setRequired(otherField.isRequired());
+        setReadOnly(otherField.isReadOnly());
+        setOverrideId(otherField.isOverrideId());
+        setPlaceholder(otherField.getPlaceholder());
+        setParams(otherField.getParams() != null ? new HashMap<>(otherField.getParams()) : null);
+        setLayout(otherField.getLayout() != null ? new LayoutDefinition(otherField.getLayout().getRow()) : null);
+    }
 }
@@ -12,8 +12,11 @@
  */
 package org.flowable.form.model;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * @author Tijs Rademakers
  */
@@ -57,5 +60,21 @@ public class OptionFormField extends FormField {
     public void setOptionsExpression(String optionsExpression) {
         this.optionsExpression = optionsExpression;
     }
+
+    @Override
+    public OptionFormField clone() {
+        OptionFormField clone = new OptionFormField();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(OptionFormField otherField) {
+        super.setValues(otherField);
+        setOptionType(otherField.getOptionType());
+        setHasEmptyValue(otherField.getHasEmptyValue());
+        setOptions(otherField.getOptions() != null ? new ArrayList<>(otherField.getOptions()) : null);
+        setOptionsExpression(otherField.getOptionsExpression());
+    }
     
 }
@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.flowable.form.api.FormModel;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
@@ -101,6 +102,28 @@ public class SimpleFormModel implements FormModel {
         this.outcomeVariableName = outcomeVariableName;
     }
 
+    /**
+     * @return a copy of this form model with copies of all (sub) fields, so the values of the fields of the copy can be set
+     * without changing this form model
+     */
+    @Override
+    public SimpleFormModel clone() {
+        SimpleFormModel clone = new SimpleFormModel();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(SimpleFormModel otherModel) {
+        setName(otherModel.getName());
+        setKey(otherModel.getKey());
+        setVersion(otherModel.getVersion());
+        setDescription(otherModel.getDescription());
+        setFields(cloneFields(otherModel.getFields()));
+        setOutcomes(otherModel.getOutcomes() != null ? new ArrayList<>(otherModel.getOutcomes()) : null);
+        setOutcomeVariableName(otherModel.getOutcomeVariableName());
+    }
+
     /*
      * Helper methods
      */
@@ -124,6 +147,18 @@ public class SimpleFormModel implements FormModel {
         return listOfAllFields;
     }
 
+    protected static List<FormField> cloneFields(List<FormField> fields) {
+        if (fields == null) {
+            return null;
+        }
+
+        List<FormField> clonedFields = new ArrayList<>(fields.size());
+        for (FormField field : fields) {
+            clonedFields.add(field != null ? field.clone() : null);
+        }
+        return clonedFields;
+    }
+
     protected void collectSubFields(List<FormField> fields, List<FormField> listOfAllFields) {
         if (fields != null && fields.size() > 0) {
             for (FormField field : fields) {
@@ -13,20 +13,25 @@
 package org.flowable.http;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
+import java.util.function.Supplier;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpMessage;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.config.RequestConfig;
@@ -37,9 +42,11 @@ import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.protocol.HTTP;
 import org.apache.http.util.EntityUtils;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.common.engine.api.FlowableException;
@@ -74,11 +81,26 @@ public class HttpActivityExecutor {
 
     protected final Timer timer = new Timer(true);
     protected final HttpClientBuilder clientBuilder;
+    protected final Supplier<PooledHttpClient> pooledHttpClientSupplier;
     protected final ErrorPropagator errorPropagator;
     protected ObjectMapper objectMapper;
 
+    /**
+     * Creates an executor that builds a new http client for every request.
+     */
     public HttpActivityExecutor(HttpClientBuilder clientBuilder, ErrorPropagator errorPropagator, ObjectMapper objectMapper) {
         this.clientBuilder = clientBuilder;
+        this.pooledHttpClientSupplier = null;
+        this.errorPropagator = errorPropagator;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates an executor that uses the shared http client returned by the supplier, which is not closed after a request.
+     */
+    public HttpActivityExecutor(Supplier<PooledHttpClient> pooledHttpClientSupplier, ErrorPropagator errorPropagator, ObjectMapper objectMapper) {
+        this.clientBuilder = null;
+        this.pooledHttpClientSupplier = pooledHttpClientSupplier;
         this.errorPropagator = errorPropagator;
         this.objectMapper = objectMapper;
     }
@@ -89,14 +111,16 @@ public class HttpActivityExecutor {
                         List<MapExceptionEntry> mapExceptions, int socketTimeout, int connectTimeout, int connectionRequestTimeout) {
         validate(request);
 
+        PooledHttpClient pooledHttpClient = pooledHttpClientSupplier != null ? pooledHttpClientSupplier.get() : null;
         CloseableHttpClient client = null;
         try {
-            client = clientBuilder.build();
+            client = pooledHttpClient != null ? pooledHttpClient.getHttpClient() : clientBuilder.build();
 
             HttpResponse response = perform(client, variableContainer, request, flowableHttpRequestHandler, flowableHttpResponseHandler,
                     socketTimeout,
                     connectTimeout,
-                    connectionRequestTimeout);
+                    connectionRequestTimeout,
+                    pooledHttpClient != null ? pooledHttpClient.getMaxResponseBodySize() : -1);
             // Save response fields
             if (response != null) {
                 // Save response body only by default
@@ -171,11 +195,14 @@ public class HttpActivityExecutor {
                 }
             }
         } finally {
-            try {
-                client.close();
-                LOGGER.debug("HTTP client is closed");
-            } catch (Throwable e) {
-                LOGGER.error("Could not close http client", e);
+            // The shared client keeps its connections open for the next requests
+            if (pooledHttpClient == null && client != null) {
+                try {
+                    client.close();
+                    LOGGER.debug("HTTP client is closed");
+                } catch (Throwable e) {
+                    LOGGER.error("Could not close http client", e);
+                }
             }
         }
 
@@ -207,6 +234,13 @@ public class HttpActivityExecutor {
                                 HttpRequestHandler httpRequestHandler,
                                 HttpResponseHandler httpResponseHandler,
                                 int socketTimeout, int connectTimeout, int connectionRequestTimeout) {
+        return perform(client, execution, requestInfo, httpRequestHandler, httpResponseHandler, socketTimeout, connectTimeout, connectionRequestTimeout, -1);
+    }
+
+    public HttpResponse perform(CloseableHttpClient client, VariableContainer execution, final HttpRequest requestInfo,
+                                HttpRequestHandler httpRequestHandler,
+                                HttpResponseHandler httpResponseHandler,
+                                int socketTimeout, int connectTimeout, int connectionRequestTimeout, long maxResponseBodySize) {
 
         HttpRequestBase request;
         CloseableHttpResponse response = null;
@@ -280,7 +314,7 @@ public class HttpActivityExecutor {
             }
 
             if (response.getEntity() != null) {
-                responseInfo.setBody(EntityUtils.toString(response.getEntity()));
+                responseInfo.setBody(getResponseBody(response.getEntity(), maxResponseBodySize));
             }
 
             try {
@@ -315,6 +349,45 @@ public class HttpActivityExecutor {
         }
     }
 
+    protected String getResponseBody(HttpEntity entity, long maxResponseBodySize) throws IOException {
+        if (maxResponseBodySize < 0) {
+            return EntityUtils.toString(entity);
+        }
+
+        if (entity.getContentLength() > maxResponseBodySize) {
+            throw new FlowableException("HTTP response body of " + entity.getContentLength() + " bytes exceeds the maximum of " + maxResponseBodySize + " bytes");
+        }
+
+        // The content length is not always known, so the size is also checked while reading
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (InputStream content = entity.getContent()) {
+            if (content == null) {
+                return null;
+            }
+
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                if (body.size() + read > maxResponseBodySize) {
+                    throw new FlowableException("HTTP response body exceeds the maximum of " + maxResponseBodySize + " bytes");
+                }
+                body.write(buffer, 0, read);
+            }
+        }
+
+        // Same charset resolution as EntityUtils#toString
+        Charset charset = null;
+        ContentType contentType = ContentType.get(entity);
+        if (contentType != null) {
+            charset = contentType.getCharset();
+            if (charset == null) {
+                ContentType defaultContentType = ContentType.getByMimeType(contentType.getMimeType());
+                charset = defaultContentType != null ? defaultContentType.getCharset() : null;
+            }
+        }
+        return new String(body.toByteArray(), charset != null ? charset : HTTP.DEF_CONTENT_CHARSET);
+    }
+
     protected void setRequestEntity(HttpRequest requestInfo, HttpEntityEnclosingRequestBase requestBase) throws UnsupportedEncodingException {
         if (requestInfo.getBody() != null) {
             if (StringUtils.isNotEmpty(requestInfo.getBodyEncoding())) {
@@ -0,0 +1,153 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.ssl.SSLContextBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An http client with a connection pool, shared by all the http tasks of an engine so connections to the same hosts are reused
+ * instead of opening (and closing) a connection for every request.
+ *
+ * Connections are kept alive for the time the server asks for, or the configured keep alive time when the server doesn't send one.
+ * Idle and expired connections are closed by a background thread. The pool statistics can be used for monitoring.
+ */
+public class PooledHttpClient implements Closeable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PooledHttpClient.class);
+
+    protected final CloseableHttpClient httpClient;
+    protected final PoolingHttpClientConnectionManager connectionManager;
+    protected final long maxResponseBodySize;
+
+    public PooledHttpClient(CloseableHttpClient httpClient, PoolingHttpClientConnectionManager connectionManager, long maxResponseBodySize) {
+        this.httpClient = httpClient;
+        this.connectionManager = connectionManager;
+        this.maxResponseBodySize = maxResponseBodySize;
+    }
+
+    public static PooledHttpClient create(boolean disableCertVerify, boolean useSystemProperties, int requestRetryLimit, int maxTotalConnections,
+            int maxConnectionsPerRoute, long keepAliveTime, long idleConnectionTimeout, long maxResponseBodySize) {
+
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
+
+        // The socket factories of the builder are not used when a connection manager is set, so they need to be registered on the connection manager
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                createSocketFactoryRegistry(disableCertVerify, useSystemProperties));
+        connectionManager.setMaxTotal(maxTotalConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        httpClientBuilder.setConnectionManager(connectionManager);
+
+        httpClientBuilder.setKeepAliveStrategy((response, context) -> {
+            long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? keepAlive : keepAliveTime;
+        });
+
+        httpClientBuilder.evictExpiredConnections();
+        if (idleConnectionTimeout > 0) {
+            httpClientBuilder.evictIdleConnections(idleConnectionTimeout, TimeUnit.MILLISECONDS);
+        }
+
+        // request retry settings
+        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(Math.max(requestRetryLimit, 0), false));
+
+        // client builder settings
+        if (useSystemProperties) {
+            httpClientBuilder.useSystemProperties();
+        }
+
+        return new PooledHttpClient(httpClientBuilder.build(), connectionManager, maxResponseBodySize);
+    }
+
+    protected static Registry<ConnectionSocketFactory> createSocketFactoryRegistry(boolean disableCertVerify, boolean useSystemProperties) {
+        SSLConnectionSocketFactory sslSocketFactory = useSystemProperties ? SSLConnectionSocketFactory.getSystemSocketFactory() : SSLConnectionSocketFactory.getSocketFactory();
+
+        // https settings
+        if (disableCertVerify) {
+            try {
+                SSLContextBuilder builder = new SSLContextBuilder();
+                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
+                sslSocketFactory = new SSLConnectionSocketFactory(builder.build(), NoopHostnameVerifier.INSTANCE);
+
+            } catch (Exception e) {
+                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
+            }
+        }
+
+        return RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslSocketFactory)
+                .build();
+    }
+
+    public CloseableHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public PoolingHttpClientConnectionManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * The maximum size in bytes of a response body, -1 means no limit.
+     */
+    public long getMaxResponseBodySize() {
+        return maxResponseBodySize;
+    }
+
+    /**
+     * The number of leased, available and pending connections of the whole pool.
+     */
+    public PoolStats getTotalStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    /**
+     * The number of leased, available and pending connections per host.
+     */
+    public Map<HttpRoute, PoolStats> getRouteStats() {
+        Map<HttpRoute, PoolStats> routeStats = new HashMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            routeStats.put(route, connectionManager.getStats(route));
+        }
+        return routeStats;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Also closes the connection manager and the idle connection evictor
+        httpClient.close();
+    }
+
+}
@@ -22,15 +22,7 @@ import static org.flowable.http.ExpressionUtils.getStringSetFromField;
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLSession;
-
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.ssl.SSLContextBuilder;
 import org.flowable.bpmn.model.FieldExtension;
 import org.flowable.bpmn.model.FlowableHttpRequestHandler;
 import org.flowable.bpmn.model.FlowableHttpResponseHandler;
@@ -51,12 +43,11 @@ import org.flowable.engine.impl.el.FixedValue;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
+import org.flowable.http.PooledHttpClient;
 import org.flowable.http.bpmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.bpmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
 import org.flowable.http.delegate.HttpResponseHandler;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Implementation of HttpActivityBehavior using Apache HTTP Client
@@ -69,7 +60,6 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
     public static final String HTTP_TASK_REQUEST_FIELD_INVALID = "request fields are invalid";
 
     private static final long serialVersionUID = 1L;
-    private static final Logger LOGGER = LoggerFactory.getLogger(HttpActivityBehaviorImpl.class);
 
     // HttpRequest method (GET,POST,PUT etc)
     protected Expression requestMethod;
@@ -109,41 +99,32 @@ public class HttpActivityBehaviorImpl extends AbstractBpmnActivityBehavior {
     protected HttpActivityExecutor httpActivityExecutor;
 
     public HttpActivityBehaviorImpl() {
-        HttpClientConfig config = CommandContextUtil.getProcessEngineConfiguration().getHttpClientConfig();
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
-        // https settings
-        if (config.isDisableCertVerify()) {
-            try {
-                SSLContextBuilder builder = new SSLContextBuilder();
-                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                httpClientBuilder.setSSLSocketFactory(
-                        new SSLConnectionSocketFactory(builder.build(), new HostnameVerifier() {
-                            @Override
-                            public boolean verify(String s, SSLSession sslSession) {
-                                return true;
-                            }
-                        }));
+        // The shared client is looked up for every request, as it is only created when the first http task of the engine is executed
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        HttpClientConfig config = processEngineConfiguration.getHttpClientConfig();
+        this.httpActivityExecutor = new HttpActivityExecutor(() -> getHttpClient(config), new ProcessErrorPropagator(),
+                processEngineConfiguration.getObjectMapper());
+    }
 
-            } catch (Exception e) {
-                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
+    protected PooledHttpClient getHttpClient(HttpClientConfig config) {
+        // The client is shared by all http tasks of the engine, so the pooled connections are reused
+        Object httpClient = config.getHttpClient();
+        if (httpClient == null) {
+            synchronized (config) {
+                httpClient = config.getHttpClient();
+                if (httpClient == null) {
+                    httpClient = createHttpClient(config);
+                    config.setHttpClient(httpClient);
+                }
             }
         }
+        return (PooledHttpClient) httpClient;
+    }
 
-        // request retry settings
-        int retryCount = 0;
-        if (config.getRequestRetryLimit() > 0) {
-            retryCount = config.getRequestRetryLimit();
-        }
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
-
-        // client builder settings
-        if (config.isUseSystemProperties()) {
-            httpClientBuilder.useSystemProperties();
-        }
-
-        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, new ProcessErrorPropagator(),
-                CommandContextUtil.getProcessEngineConfiguration().getObjectMapper());
+    protected PooledHttpClient createHttpClient(HttpClientConfig config) {
+        return PooledHttpClient.create(config.isDisableCertVerify(), config.isUseSystemProperties(), config.getRequestRetryLimit(),
+                config.getMaxTotalConnections(), config.getMaxConnectionsPerRoute(), config.getKeepAliveTime(), config.getIdleConnectionTimeout(),
+                config.getMaxResponseBodySize());
     }
 
     @Override
@@ -19,15 +19,7 @@ import static org.flowable.http.HttpActivityExecutor.HTTP_TASK_REQUEST_FIELD_INV
 
 import java.util.Collections;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.SSLSession;
-
 import org.apache.commons.lang3.StringUtils;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
-import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.ssl.SSLContextBuilder;
 import org.flowable.bpmn.model.MapExceptionEntry;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.HttpClientConfig;
@@ -45,12 +37,11 @@ import org.flowable.http.ExpressionUtils;
 import org.flowable.http.HttpActivityExecutor;
 import org.flowable.http.HttpRequest;
 import org.flowable.http.NopErrorPropagator;
+import org.flowable.http.PooledHttpClient;
 import org.flowable.http.cmmn.impl.handler.ClassDelegateHttpHandler;
 import org.flowable.http.cmmn.impl.handler.DelegateExpressionHttpHandler;
 import org.flowable.http.delegate.HttpRequestHandler;
 import org.flowable.http.delegate.HttpResponseHandler;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * This class provides http task for cmmn models
@@ -59,8 +50,6 @@ import org.slf4j.LoggerFactory;
  */
 public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnHttpActivityBehaviorImpl.class);
-
     // HttpRequest method (GET,POST,PUT etc)
     protected Expression requestMethod;
     // HttpRequest URL (http://flowable.org)
@@ -98,43 +87,33 @@ public class CmmnHttpActivityBehaviorImpl extends CoreCmmnActivityBehavior {
     protected HttpActivityExecutor httpActivityExecutor;
 
     public CmmnHttpActivityBehaviorImpl() {
-        org.flowable.cmmn.engine.HttpClientConfig config = CommandContextUtil.getCmmnEngineConfiguration().getHttpClientConfig();
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
-        // https settings
-        if (config.isDisableCertVerify()) {
-            try {
-                SSLContextBuilder builder = new SSLContextBuilder();
-                builder.loadTrustMaterial(null, new TrustSelfSignedStrategy());
-                httpClientBuilder.setSSLSocketFactory(
-                        new SSLConnectionSocketFactory(builder.build(), new HostnameVerifier() {
-                            @Override
-                            public boolean verify(String s, SSLSession sslSession) {
-                                return true;
-                            }
-                        }));
+        // The shared client is looked up for every request, as it is only created when the first http task of the engine is executed
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration();
+        HttpClientConfig config = cmmnEngineConfiguration.getHttpClientConfig();
+        this.httpActivityExecutor = new HttpActivityExecutor(() -> getHttpClient(config), new NopErrorPropagator(),
+                cmmnEngineConfiguration.getObjectMapper());
+    }
 
-            } catch (Exception e) {
-                LOGGER.error("Could not configure HTTP client SSL self signed strategy", e);
+    protected PooledHttpClient getHttpClient(HttpClientConfig config) {
+        // The client is shared by all http tasks of the engine, so the pooled connections are reused
+        Object httpClient = config.getHttpClient();
+        if (httpClient == null) {
+            synchronized (config) {
+                httpClient = config.getHttpClient();
+                if (httpClient == null) {
+                    httpClient = createHttpClient(config);
+                    config.setHttpClient(httpClient);
+                }
             }
         }
-
-        // request retry settings
-        int retryCount = 0;
-        if (config.getRequestRetryLimit() > 0) {
-            retryCount = config.getRequestRetryLimit();
-        }
-        httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(retryCount, false));
-
-        // client builder settings
-        if (config.isUseSystemProperties()) {
-            httpClientBuilder.useSystemProperties();
-        }
-
-        this.httpActivityExecutor = new HttpActivityExecutor(httpClientBuilder, new NopErrorPropagator(), 
-                CommandContextUtil.getCmmnEngineConfiguration().getObjectMapper());
+        return (PooledHttpClient) httpClient;
     }
 
+    protected PooledHttpClient createHttpClient(HttpClientConfig config) {
+        return PooledHttpClient.create(config.isDisableCertVerify(), config.isUseSystemProperties(), config.getRequestRetryLimit(),
+                config.getMaxTotalConnections(), config.getMaxConnectionsPerRoute(), config.getKeepAliveTime(), config.getIdleConnectionTimeout(),
+                config.getMaxResponseBodySize());
+    }
 
     @Override
     public void execute(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
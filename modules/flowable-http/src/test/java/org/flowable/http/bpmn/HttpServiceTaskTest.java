@@ -23,12 +23,14 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.cfg.HttpClientConfig;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.http.PooledHttpClient;
 import org.flowable.http.bpmn.HttpServiceTaskTestServer.HttpServiceTaskTestServlet;
 import org.flowable.task.api.Task;
 import org.flowable.variable.api.history.HistoricVariableInstance;
@@ -75,6 +77,64 @@ public class HttpServiceTaskTest extends HttpServiceTaskTestCase {
         assertProcessEnded(procId);
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskTest.testGetWithoutVariableName.bpmn20.xml")
+    public void testPooledHttpClientIsShared() {
+        // Start with a new client, so the pool only contains the connections of this test
+        processEngineConfiguration.getHttpClientConfig().closeHttpClient();
+
+        assertProcessEnded(runtimeService.startProcessInstanceByKey("simpleGetOnly").getId());
+        Object httpClient = processEngineConfiguration.getHttpClientConfig().getHttpClient();
+        assertTrue(httpClient instanceof PooledHttpClient);
+
+        assertProcessEnded(runtimeService.startProcessInstanceByKey("simpleGetOnly").getId());
+        assertSame(httpClient, processEngineConfiguration.getHttpClientConfig().getHttpClient());
+
+        // The connection is returned to the pool after reading the response
+        PooledHttpClient pooledHttpClient = (PooledHttpClient) httpClient;
+        assertEquals(0, pooledHttpClient.getTotalStats().getLeased());
+        assertEquals(1, pooledHttpClient.getTotalStats().getAvailable());
+        assertEquals(1, pooledHttpClient.getRouteStats().size());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskTest.testGetWithoutVariableName.bpmn20.xml")
+    public void testChangedSettingDoesNotCloseSharedClient() {
+        assertProcessEnded(runtimeService.startProcessInstanceByKey("simpleGetOnly").getId());
+        HttpClientConfig httpClientConfig = processEngineConfiguration.getHttpClientConfig();
+        Object httpClient = httpClientConfig.getHttpClient();
+
+        // Other http tasks might be using the client, so it's kept until the engine is closed
+        int maxTotalConnections = httpClientConfig.getMaxTotalConnections();
+        httpClientConfig.setMaxTotalConnections(maxTotalConnections + 1);
+        try {
+            assertSame(httpClient, httpClientConfig.getHttpClient());
+            assertProcessEnded(runtimeService.startProcessInstanceByKey("simpleGetOnly").getId());
+        } finally {
+            httpClientConfig.setMaxTotalConnections(maxTotalConnections);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/http/bpmn/HttpServiceTaskTest.testGetWithoutVariableName.bpmn20.xml")
+    public void testMaxResponseBodySize() {
+        // The setting is used when the shared client is created, so a new client is needed
+        HttpClientConfig httpClientConfig = processEngineConfiguration.getHttpClientConfig();
+        httpClientConfig.closeHttpClient();
+        httpClientConfig.setMaxResponseBodySize(10);
+        try {
+            runtimeService.startProcessInstanceByKey("simpleGetOnly");
+            fail("FlowableException expected");
+        } catch (FlowableException e) {
+            assertTrue(e.getMessage().contains("exceeds the maximum of 10 bytes"));
+        } finally {
+            httpClientConfig.closeHttpClient();
+            httpClientConfig.setMaxResponseBodySize(-1);
+        }
+
+        assertProcessEnded(runtimeService.startProcessInstanceByKey("simpleGetOnly").getId());
+    }
+
     @Test
     @Deployment
     public void testGetWithResponseHandler() {
@@ -84,4 +84,8 @@ public interface IdentityLinkService {
     
     void deleteIdentityLinksByProcessInstanceId(String processInstanceId);
     
+    void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteIdentityLinksByTaskIds(Collection<String> taskIds);
+    
 }
@@ -181,6 +181,16 @@ public class IdentityLinkServiceImpl extends CommonServiceImpl<IdentityLinkServi
     public void deleteIdentityLinksByProcessInstanceId(String processInstanceId) {
         getIdentityLinkEntityManager().deleteIdentityLinksByProcessInstanceId(processInstanceId);
     }
+    
+    @Override
+    public void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getIdentityLinkEntityManager().deleteIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteIdentityLinksByTaskIds(Collection<String> taskIds) {
+        getIdentityLinkEntityManager().deleteIdentityLinksByTaskIds(taskIds);
+    }
 
     public IdentityLinkEntityManager getIdentityLinkEntityManager() {
         return configuration.getIdentityLinkEntityManager();
@@ -80,6 +80,10 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
     void deleteIdentityLinksByProcDef(String processDefId);
     
     void deleteIdentityLinksByProcessInstanceId(String processInstanceId);
+    
+    void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteIdentityLinksByTaskIds(Collection<String> taskIds);
 
     void deleteIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
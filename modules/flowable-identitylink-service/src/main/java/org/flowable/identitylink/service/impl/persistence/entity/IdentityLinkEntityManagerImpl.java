@@ -308,6 +308,16 @@ public class IdentityLinkEntityManagerImpl
     public void deleteIdentityLinksByProcessInstanceId(String processInstanceId) {
         dataManager.deleteIdentityLinksByProcessInstanceId(processInstanceId);
     }
+    
+    @Override
+    public void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteIdentityLinksByTaskIds(Collection<String> taskIds) {
+        dataManager.deleteIdentityLinksByTaskIds(taskIds);
+    }
 
     @Override
     public void deleteIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -49,6 +50,10 @@ public interface IdentityLinkDataManager extends DataManager<IdentityLinkEntity>
     void deleteIdentityLinksByProcDef(String processDefId);
     
     void deleteIdentityLinksByProcessInstanceId(String processInstanceId);
+    
+    void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteIdentityLinksByTaskIds(Collection<String> taskIds);
 
     void deleteIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType);
     
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +21,7 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntityImpl;
 import org.flowable.identitylink.service.impl.persistence.entity.data.IdentityLinkDataManager;
@@ -186,6 +188,22 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
             bulkDelete("deleteIdentityLinksByProcessInstanceId", identityLinkByProcessInstanceMatcher, processInstanceId);
         }
     }
+    
+    @Override
+    public void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteIdentityLinksByProcessInstanceIds", processInstanceIdsChunk, IdentityLinkEntityImpl.class);
+        }
+    }
+
+    @Override
+    public void deleteIdentityLinksByTaskIds(Collection<String> taskIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> taskIdsChunk : CollectionUtil.partition(taskIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteIdentityLinksByTaskIds", taskIdsChunk, IdentityLinkEntityImpl.class);
+        }
+    }
 
     @Override
     public void deleteIdentityLinksByScopeIdAndScopeType(String scopeId, String scopeType) {
@@ -198,6 +198,34 @@ public class DefaultProcessDiagramCanvas {
         initialize(imageType);
     }
 
+    /**
+     * Creates a canvas that starts from a copy of what is drawn on the given canvas.
+     *
+     * This allows drawing an overlay (eg the highlighted activities) on top of a cached base layer, without drawing the whole diagram again.
+     */
+    public DefaultProcessDiagramCanvas(DefaultProcessDiagramCanvas baseLayer) {
+        this.canvasWidth = baseLayer.canvasWidth;
+        this.canvasHeight = baseLayer.canvasHeight;
+        this.minX = baseLayer.minX;
+        this.minY = baseLayer.minY;
+        this.activityFontName = baseLayer.activityFontName;
+        this.labelFontName = baseLayer.labelFontName;
+        this.annotationFontName = baseLayer.annotationFontName;
+        this.customClassLoader = baseLayer.customClassLoader;
+
+        BufferedImage baseImage = baseLayer.processDiagram;
+        this.processDiagram = new BufferedImage(baseImage.getWidth(), baseImage.getHeight(), baseImage.getType());
+        this.g = processDiagram.createGraphics();
+        g.drawImage(baseImage, 0, 0, null);
+
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setPaint(Color.black);
+
+        Font font = new Font(activityFontName, Font.BOLD, FONT_SIZE);
+        g.setFont(font);
+        this.fontMetrics = g.getFontMetrics();
+    }
+
     public void initialize(String imageType) {
         if ("png".equalsIgnoreCase(imageType)) {
             this.processDiagram = new BufferedImage(canvasWidth, canvasHeight, BufferedImage.TYPE_INT_ARGB);
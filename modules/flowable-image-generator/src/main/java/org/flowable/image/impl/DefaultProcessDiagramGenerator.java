@@ -14,13 +14,20 @@
 package org.flowable.image.impl;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.imageio.ImageIO;
+
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.AdhocSubProcess;
 import org.flowable.bpmn.model.Artifact;
@@ -73,6 +80,7 @@ import org.flowable.bpmn.model.TimerEventDefinition;
 import org.flowable.bpmn.model.Transaction;
 import org.flowable.bpmn.model.UserTask;
 import org.flowable.image.ProcessDiagramGenerator;
+import org.flowable.image.exception.FlowableImageException;
 
 /**
  * Class to generate an image based the diagram interchange information in a BPMN 2.0 process.
@@ -86,6 +94,8 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
 
     protected Map<Class<? extends BaseElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<>();
     protected Map<Class<? extends BaseElement>, ArtifactDrawInstruction> artifactDrawInstructions = new HashMap<>();
+    protected DiagramLayerCache<DefaultProcessDiagramCanvas> baseLayerCache;
+    protected DiagramLayerCache<String> svgBaseLayerCache;
 
     public DefaultProcessDiagramGenerator() {
         this(1.0);
@@ -588,10 +598,204 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         return generateImage(bpmnModel, "png", Collections.<String>emptyList(), Collections.<String>emptyList(), scaleFactor,false);
     }
 
+    /**
+     * Generates an SVG document of the given process definition.
+     *
+     * The diagram itself is embedded as a raster image, which is rendered only once per model when the base layer cache is enabled.
+     * The highlighted activities and flows are added as vector shapes, carrying the id of the element in a data-element-id attribute,
+     * so clients can style or look them up without the diagram being rendered again.
+     */
+    public InputStream generateSvgDiagram(BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        DiagramLayerCache.Key key = new DiagramLayerCache.Key(bpmnModel, "svg", activityFontName, labelFontName, annotationFontName,
+                customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+
+        DefaultProcessDiagramCanvas baseLayer = null;
+        String svgBaseLayer = svgBaseLayerCache != null ? svgBaseLayerCache.get(key) : null;
+        if (svgBaseLayer == null) {
+            baseLayer = getBaseLayer(bpmnModel, "png", activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+            svgBaseLayer = createSvgBaseLayer(baseLayer);
+            if (svgBaseLayerCache != null) {
+                svgBaseLayerCache.put(key, svgBaseLayer);
+            }
+        }
+
+        StringBuilder svg = new StringBuilder(svgBaseLayer);
+        if (!highLightedActivities.isEmpty() || !highLightedFlows.isEmpty()) {
+            if (baseLayer == null) {
+                // Only needed for the shape calculations of the flow waypoints, nothing gets drawn on it
+                baseLayer = getBaseLayer(bpmnModel, "png", activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+            }
+            appendSvgHighLights(svg, baseLayer, bpmnModel, highLightedActivities, highLightedFlows);
+        }
+        svg.append("</svg>");
+
+        return new ByteArrayInputStream(svg.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
     protected DefaultProcessDiagramCanvas generateProcessDiagram(BpmnModel bpmnModel, String imageType,
             List<String> highLightedActivities, List<String> highLightedFlows,
             String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI) {
 
+        if (baseLayerCache == null) {
+            return drawProcessDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        }
+
+        DefaultProcessDiagramCanvas baseLayer = getBaseLayer(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName,
+                customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        DefaultProcessDiagramCanvas processDiagramCanvas = new DefaultProcessDiagramCanvas(baseLayer);
+        drawHighLights(processDiagramCanvas, bpmnModel, highLightedActivities, highLightedFlows, scaleFactor);
+        return processDiagramCanvas;
+    }
+
+    /**
+     * Returns the diagram without any highlights, drawing it only when it is not in the base layer cache yet.
+     * The returned canvas is closed and must not be drawn on.
+     */
+    protected DefaultProcessDiagramCanvas getBaseLayer(BpmnModel bpmnModel, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        DiagramLayerCache.Key key = null;
+        if (baseLayerCache != null) {
+            key = new DiagramLayerCache.Key(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName,
+                    customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+            DefaultProcessDiagramCanvas baseLayer = baseLayerCache.get(key);
+            if (baseLayer != null) {
+                return baseLayer;
+            }
+        }
+
+        DefaultProcessDiagramCanvas baseLayer = drawProcessDiagram(bpmnModel, imageType, Collections.<String>emptyList(), Collections.<String>emptyList(),
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        baseLayer.close();
+
+        if (baseLayerCache != null) {
+            baseLayerCache.put(key, baseLayer);
+        }
+        return baseLayer;
+    }
+
+    /**
+     * Draws the highlights of the given activities and sequence flows on top of an already drawn diagram.
+     */
+    protected void drawHighLights(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel,
+            List<String> highLightedActivities, List<String> highLightedFlows, double scaleFactor) {
+
+        if (highLightedActivities.isEmpty() && highLightedFlows.isEmpty()) {
+            return;
+        }
+
+        for (Process process : bpmnModel.getProcesses()) {
+            for (FlowNode flowNode : process.findFlowElementsOfType(FlowNode.class)) {
+                if (isPartOfCollapsedSubProcess(flowNode, bpmnModel)) {
+                    continue;
+                }
+
+                if (highLightedActivities.contains(flowNode.getId()) && activityDrawInstructions.containsKey(flowNode.getClass())) {
+                    drawHighLight(processDiagramCanvas, bpmnModel.getGraphicInfo(flowNode.getId()));
+                }
+
+                for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                    if (highLightedFlows.contains(sequenceFlow.getId())) {
+                        drawSequenceFlow(processDiagramCanvas, bpmnModel, flowNode, sequenceFlow, true, scaleFactor);
+                    }
+                }
+            }
+        }
+    }
+
+    protected String createSvgBaseLayer(DefaultProcessDiagramCanvas baseLayer) {
+        int minX = Math.max(baseLayer.minX, 5) - 5;
+        int minY = Math.max(baseLayer.minY, 5) - 5;
+        int width = baseLayer.canvasWidth - minX;
+        int height = baseLayer.canvasHeight - minY;
+
+        byte[] image;
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            ImageIO.write(baseLayer.processDiagram, "png", out);
+            image = out.toByteArray();
+        } catch (IOException e) {
+            throw new FlowableImageException("Error while generating process image", e);
+        }
+
+        StringBuilder svg = new StringBuilder();
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\"")
+                .append(" width=\"").append(width).append("\" height=\"").append(height).append('"')
+                .append(" viewBox=\"").append(minX).append(' ').append(minY).append(' ').append(width).append(' ').append(height).append("\">");
+        svg.append("<image x=\"0\" y=\"0\" width=\"").append(baseLayer.canvasWidth).append("\" height=\"").append(baseLayer.canvasHeight).append('"')
+                .append(" xlink:href=\"data:image/png;base64,").append(Base64.getEncoder().encodeToString(image)).append("\"/>");
+        return svg.toString();
+    }
+
+    protected void appendSvgHighLights(StringBuilder svg, DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel,
+            List<String> highLightedActivities, List<String> highLightedFlows) {
+
+        svg.append("<g class=\"highlights\" fill=\"none\" stroke=\"red\">");
+        for (Process process : bpmnModel.getProcesses()) {
+            for (FlowNode flowNode : process.findFlowElementsOfType(FlowNode.class)) {
+                if (isPartOfCollapsedSubProcess(flowNode, bpmnModel)) {
+                    continue;
+                }
+
+                if (highLightedActivities.contains(flowNode.getId()) && activityDrawInstructions.containsKey(flowNode.getClass())) {
+                    GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(flowNode.getId());
+                    svg.append("<rect data-element-id=\"").append(escapeXmlAttribute(flowNode.getId())).append('"')
+                            .append(" x=\"").append((int) graphicInfo.getX()).append("\" y=\"").append((int) graphicInfo.getY()).append('"')
+                            .append(" width=\"").append((int) graphicInfo.getWidth()).append("\" height=\"").append((int) graphicInfo.getHeight()).append('"')
+                            .append(" rx=\"10\" ry=\"10\" stroke-width=\"3\"/>");
+                }
+
+                for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                    if (highLightedFlows.contains(sequenceFlow.getId())) {
+                        List<GraphicInfo> graphicInfoList = getSequenceFlowGraphicInfo(processDiagramCanvas, bpmnModel, sequenceFlow);
+                        if (graphicInfoList != null) {
+                            svg.append("<polyline data-element-id=\"").append(escapeXmlAttribute(sequenceFlow.getId())).append("\" points=\"");
+                            for (int i = 0; i < graphicInfoList.size(); i++) {
+                                GraphicInfo graphicInfo = graphicInfoList.get(i);
+                                if (i > 0) {
+                                    svg.append(' ');
+                                }
+                                svg.append((int) graphicInfo.getX()).append(',').append((int) graphicInfo.getY());
+                            }
+                            svg.append("\" stroke-width=\"1.3\"/>");
+                        }
+                    }
+                }
+            }
+        }
+        svg.append("</g>");
+    }
+
+    protected static String escapeXmlAttribute(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '&':
+                escaped.append("&amp;");
+                break;
+            case '<':
+                escaped.append("&lt;");
+                break;
+            case '>':
+                escaped.append("&gt;");
+                break;
+            case '"':
+                escaped.append("&quot;");
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    protected DefaultProcessDiagramCanvas drawProcessDiagram(BpmnModel bpmnModel, String imageType,
+            List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI) {
+
         prepareBpmnModel(bpmnModel);
 
         DefaultProcessDiagramCanvas processDiagramCanvas = initProcessDiagramCanvas(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
@@ -755,43 +959,8 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         // Outgoing transitions of activity
         for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
             boolean highLighted = (highLightedFlows.contains(sequenceFlow.getId()));
-            String defaultFlow = null;
-            if (flowNode instanceof Activity) {
-                defaultFlow = ((Activity) flowNode).getDefaultFlow();
-            } else if (flowNode instanceof Gateway) {
-                defaultFlow = ((Gateway) flowNode).getDefaultFlow();
-            }
-
-            boolean isDefault = false;
-            if (defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId())) {
-                isDefault = true;
-            }
-            boolean drawConditionalIndicator = sequenceFlow.getConditionExpression() != null && sequenceFlow.getConditionExpression().trim().length() > 0 && !(flowNode instanceof Gateway);
-
-            String sourceRef = sequenceFlow.getSourceRef();
-            String targetRef = sequenceFlow.getTargetRef();
-            FlowElement sourceElement = bpmnModel.getFlowElement(sourceRef);
-            FlowElement targetElement = bpmnModel.getFlowElement(targetRef);
-            List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
-            if (graphicInfoList != null && graphicInfoList.size() > 0) {
-                graphicInfoList = connectionPerfectionizer(processDiagramCanvas, bpmnModel, sourceElement, targetElement, graphicInfoList);
-                int xPoints[] = new int[graphicInfoList.size()];
-                int yPoints[] = new int[graphicInfoList.size()];
-
-                for (int i = 1; i < graphicInfoList.size(); i++) {
-                    GraphicInfo graphicInfo = graphicInfoList.get(i);
-                    GraphicInfo previousGraphicInfo = graphicInfoList.get(i - 1);
-
-                    if (i == 1) {
-                        xPoints[0] = (int) previousGraphicInfo.getX();
-                        yPoints[0] = (int) previousGraphicInfo.getY();
-                    }
-                    xPoints[i] = (int) graphicInfo.getX();
-                    yPoints[i] = (int) graphicInfo.getY();
-
-                }
-
-                processDiagramCanvas.drawSequenceflow(xPoints, yPoints, drawConditionalIndicator, isDefault, highLighted, scaleFactor);
+            List<GraphicInfo> graphicInfoList = drawSequenceFlow(processDiagramCanvas, bpmnModel, flowNode, sequenceFlow, highLighted, scaleFactor);
+            if (graphicInfoList != null) {
 
                 // Draw sequenceflow label
                 GraphicInfo labelGraphicInfo = bpmnModel.getLabelGraphicInfo(sequenceFlow.getId());
@@ -818,6 +987,62 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         }
     }
 
+    /**
+     * Draws the given sequence flow and returns the (adjusted) waypoints it was drawn with, or null when the flow has no diagram information.
+     */
+    protected List<GraphicInfo> drawSequenceFlow(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel,
+            FlowNode flowNode, SequenceFlow sequenceFlow, boolean highLighted, double scaleFactor) {
+
+        List<GraphicInfo> graphicInfoList = getSequenceFlowGraphicInfo(processDiagramCanvas, bpmnModel, sequenceFlow);
+        if (graphicInfoList == null) {
+            return null;
+        }
+
+        String defaultFlow = null;
+        if (flowNode instanceof Activity) {
+            defaultFlow = ((Activity) flowNode).getDefaultFlow();
+        } else if (flowNode instanceof Gateway) {
+            defaultFlow = ((Gateway) flowNode).getDefaultFlow();
+        }
+
+        boolean isDefault = false;
+        if (defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId())) {
+            isDefault = true;
+        }
+        boolean drawConditionalIndicator = sequenceFlow.getConditionExpression() != null && sequenceFlow.getConditionExpression().trim().length() > 0 && !(flowNode instanceof Gateway);
+
+        int xPoints[] = new int[graphicInfoList.size()];
+        int yPoints[] = new int[graphicInfoList.size()];
+
+        for (int i = 1; i < graphicInfoList.size(); i++) {
+            GraphicInfo graphicInfo = graphicInfoList.get(i);
+            GraphicInfo previousGraphicInfo = graphicInfoList.get(i - 1);
+
+            if (i == 1) {
+                xPoints[0] = (int) previousGraphicInfo.getX();
+                yPoints[0] = (int) previousGraphicInfo.getY();
+            }
+            xPoints[i] = (int) graphicInfo.getX();
+            yPoints[i] = (int) graphicInfo.getY();
+
+        }
+
+        processDiagramCanvas.drawSequenceflow(xPoints, yPoints, drawConditionalIndicator, isDefault, highLighted, scaleFactor);
+
+        return graphicInfoList;
+    }
+
+    protected List<GraphicInfo> getSequenceFlowGraphicInfo(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel, SequenceFlow sequenceFlow) {
+        List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
+        if (graphicInfoList == null || graphicInfoList.isEmpty()) {
+            return null;
+        }
+
+        FlowElement sourceElement = bpmnModel.getFlowElement(sequenceFlow.getSourceRef());
+        FlowElement targetElement = bpmnModel.getFlowElement(sequenceFlow.getTargetRef());
+        return connectionPerfectionizer(processDiagramCanvas, bpmnModel, sourceElement, targetElement, graphicInfoList);
+    }
+
     /**
      * This method makes coordinates of connection flow better.
      * 
@@ -1108,6 +1333,35 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         return false;
     }
 
+    public int getBaseLayerCacheLimit() {
+        return baseLayerCache != null ? baseLayerCache.getLimit() : 0;
+    }
+
+    /**
+     * Sets the maximum number of diagrams for which the rendered base layer (the diagram without highlights) is cached.
+     * With a cached base layer, generating a diagram only copies the base layer and draws the highlights on top of it.
+     * A limit of 0 (the default) disables the cache.
+     */
+    public void setBaseLayerCacheLimit(int baseLayerCacheLimit) {
+        if (baseLayerCacheLimit > 0) {
+            this.baseLayerCache = new DiagramLayerCache<>(baseLayerCacheLimit);
+            this.svgBaseLayerCache = new DiagramLayerCache<>(baseLayerCacheLimit);
+        } else {
+            this.baseLayerCache = null;
+            this.svgBaseLayerCache = null;
+        }
+    }
+
+    /**
+     * Removes all cached base layers, eg after a model that was used for generating a diagram has been changed.
+     */
+    public void clearBaseLayerCache() {
+        if (baseLayerCache != null) {
+            baseLayerCache.clear();
+            svgBaseLayerCache.clear();
+        }
+    }
+
     public Map<Class<? extends BaseElement>, ActivityDrawInstruction> getActivityDrawInstructions() {
         return activityDrawInstructions;
     }
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded, least recently used cache for rendered diagram layers, used by the process and case diagram generators.
+ *
+ * Layers are keyed on the identity of the model they were rendered from (the engine hands out the same model instance
+ * for a deployed definition for as long as it stays in the deployment cache) combined with all the rendering options.
+ * The number of layers is limited, as a rendered layer holds the full raster of the diagram.
+ */
+public class DiagramLayerCache<T> {
+
+    protected final int limit;
+    protected final Map<Key, T> layers;
+
+    public DiagramLayerCache(final int limit) {
+        this.limit = limit;
+        this.layers = Collections.synchronizedMap(new LinkedHashMap<Key, T>(limit + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, T> eldest) {
+                return size() > limit;
+            }
+        });
+    }
+
+    public T get(Key key) {
+        return layers.get(key);
+    }
+
+    public void put(Key key, T layer) {
+        layers.put(key, layer);
+    }
+
+    public void clear() {
+        layers.clear();
+    }
+
+    public int size() {
+        return layers.size();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Key of a layer: the model is compared by identity, the rendering options (image type, font names, scale factor, ...) by equality.
+     */
+    public static class Key {
+
+        protected final Object model;
+        protected final Object[] options;
+
+        public Key(Object model, Object... options) {
+            this.model = model;
+            this.options = options;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return model == other.model && Arrays.equals(options, other.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(model) + Arrays.hashCode(options);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DefaultProcessDiagramGeneratorTest {
+
+    protected DefaultProcessDiagramGenerator diagramGenerator;
+
+    @Before
+    public void setUp() {
+        diagramGenerator = new DefaultProcessDiagramGenerator();
+        diagramGenerator.setBaseLayerCacheLimit(2);
+    }
+
+    @Test
+    public void testBaseLayerIsCached() {
+        BpmnModel bpmnModel = createBpmnModel();
+
+        DefaultProcessDiagramCanvas baseLayer = getBaseLayer(bpmnModel, 1.0);
+        assertEquals(1, diagramGenerator.baseLayerCache.size());
+        assertSame(baseLayer, getBaseLayer(bpmnModel, 1.0));
+
+        // Other rendering options are rendered separately
+        assertNotSame(baseLayer, getBaseLayer(bpmnModel, 2.0));
+        assertEquals(2, diagramGenerator.baseLayerCache.size());
+
+        // The least recently used layer is evicted
+        getBaseLayer(bpmnModel, 3.0);
+        assertEquals(2, diagramGenerator.baseLayerCache.size());
+        assertNotSame(baseLayer, getBaseLayer(bpmnModel, 1.0));
+    }
+
+    @Test
+    public void testBaseLayerCacheInvalidation() {
+        BpmnModel bpmnModel = createBpmnModel();
+        DefaultProcessDiagramCanvas baseLayer = getBaseLayer(bpmnModel, 1.0);
+
+        // A changed model is a new model instance
+        assertNotSame(baseLayer, getBaseLayer(createBpmnModel(), 1.0));
+
+        diagramGenerator.clearBaseLayerCache();
+        assertEquals(0, diagramGenerator.baseLayerCache.size());
+        assertNotSame(baseLayer, getBaseLayer(bpmnModel, 1.0));
+
+        diagramGenerator.setBaseLayerCacheLimit(0);
+        assertEquals(0, diagramGenerator.getBaseLayerCacheLimit());
+        assertNotSame(getBaseLayer(bpmnModel, 1.0), getBaseLayer(bpmnModel, 1.0));
+    }
+
+    @Test
+    public void testHighLightsAreDrawnOnCopyOfBaseLayer() {
+        BpmnModel bpmnModel = createBpmnModel();
+
+        BufferedImage image = generateImage(bpmnModel, Collections.<String>emptyList(), Collections.<String>emptyList());
+        BufferedImage highLightedImage = generateImage(bpmnModel, Collections.singletonList("userTask"), Collections.singletonList("flow1"));
+        assertEquals(1, diagramGenerator.baseLayerCache.size());
+        assertEquals(image.getWidth(), highLightedImage.getWidth());
+        assertEquals(image.getHeight(), highLightedImage.getHeight());
+        assertFalse(hasSamePixels(image, highLightedImage));
+
+        // The highlights are not drawn on the cached base layer
+        assertTrue(hasSamePixels(image, generateImage(bpmnModel, Collections.<String>emptyList(), Collections.<String>emptyList())));
+        assertTrue(hasSamePixels(highLightedImage, generateImage(bpmnModel, Collections.singletonList("userTask"), Collections.singletonList("flow1"))));
+    }
+
+    @Test
+    public void testSvgDiagram() {
+        BpmnModel bpmnModel = createBpmnModel();
+
+        String svg = generateSvg(bpmnModel, Collections.singletonList("userTask"), Collections.singletonList("flow1"));
+        assertTrue(svg.startsWith("<svg "));
+        assertTrue(svg.endsWith("</svg>"));
+        assertTrue(svg.contains("xlink:href=\"data:image/png;base64,"));
+        assertTrue(svg.contains("<rect data-element-id=\"userTask\""));
+        assertTrue(svg.contains("<polyline data-element-id=\"flow1\""));
+        assertFalse(svg.contains("data-element-id=\"flow2\""));
+        assertEquals(1, diagramGenerator.svgBaseLayerCache.size());
+
+        // The cached base layer is shared, only the highlights differ
+        String svgWithoutHighLights = generateSvg(bpmnModel, Collections.<String>emptyList(), Collections.<String>emptyList());
+        assertFalse(svgWithoutHighLights.contains("data-element-id"));
+        assertTrue(svg.startsWith(svgWithoutHighLights.substring(0, svgWithoutHighLights.length() - "</svg>".length())));
+        assertEquals(1, diagramGenerator.svgBaseLayerCache.size());
+
+        diagramGenerator.clearBaseLayerCache();
+        assertEquals(0, diagramGenerator.svgBaseLayerCache.size());
+    }
+
+    protected DefaultProcessDiagramCanvas getBaseLayer(BpmnModel bpmnModel, double scaleFactor) {
+        return diagramGenerator.getBaseLayer(bpmnModel, "png", null, null, null, null, scaleFactor, false);
+    }
+
+    protected BufferedImage generateImage(BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows) {
+        return diagramGenerator.generateImage(bpmnModel, "png", highLightedActivities, highLightedFlows, 1.0, false);
+    }
+
+    protected String generateSvg(BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows) {
+        InputStream svg = diagramGenerator.generateSvgDiagram(bpmnModel, highLightedActivities, highLightedFlows, null, null, null, null, 1.0, false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try {
+            int bytesRead;
+            while ((bytesRead = svg.read(buffer)) != -1) {
+                out.write(buffer, 0, bytesRead);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    protected boolean hasSamePixels(BufferedImage image, BufferedImage otherImage) {
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (image.getRGB(x, y) != otherImage.getRGB(x, y)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    protected BpmnModel createBpmnModel() {
+        BpmnModel bpmnModel = new BpmnModel();
+        Process process = new Process();
+        process.setId("process");
+        bpmnModel.addProcess(process);
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        addFlowNode(bpmnModel, process, startEvent, 100, 100, 30, 30);
+
+        UserTask userTask = new UserTask();
+        userTask.setId("userTask");
+        userTask.setName("User task");
+        addFlowNode(bpmnModel, process, userTask, 200, 90, 100, 50);
+
+        EndEvent endEvent = new EndEvent();
+        endEvent.setId("end");
+        addFlowNode(bpmnModel, process, endEvent, 370, 100, 30, 30);
+
+        addSequenceFlow(bpmnModel, process, "flow1", startEvent, userTask, new GraphicInfo(130, 115), new GraphicInfo(200, 115));
+        addSequenceFlow(bpmnModel, process, "flow2", userTask, endEvent, new GraphicInfo(300, 115), new GraphicInfo(370, 115));
+        return bpmnModel;
+    }
+
+    protected void addFlowNode(BpmnModel bpmnModel, Process process, FlowNode flowNode, double x, double y, double width, double height) {
+        process.addFlowElement(flowNode);
+        GraphicInfo graphicInfo = new GraphicInfo(x, y);
+        graphicInfo.setWidth(width);
+        graphicInfo.setHeight(height);
+        bpmnModel.addGraphicInfo(flowNode.getId(), graphicInfo);
+    }
+
+    protected void addSequenceFlow(BpmnModel bpmnModel, Process process, String id, FlowNode source, FlowNode target, GraphicInfo... waypoints) {
+        SequenceFlow sequenceFlow = new SequenceFlow(source.getId(), target.getId());
+        sequenceFlow.setId(id);
+        process.addFlowElement(sequenceFlow);
+        source.getOutgoingFlows().add(sequenceFlow);
+        target.getIncomingFlows().add(sequenceFlow);
+        bpmnModel.addFlowGraphicInfoList(id, Arrays.asList(waypoints));
+    }
+
+}
@@ -13,6 +13,9 @@
 package org.flowable.management.jmx.mbeans;
 
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.job.service.impl.asyncexecutor.AdaptiveAsyncJobAcquisitionController;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.management.jmx.annotations.ManagedAttribute;
 import org.flowable.management.jmx.annotations.ManagedOperation;
@@ -45,4 +48,38 @@ public class JobExecutorMBean {
 
     }
 
+    @ManagedAttribute(description = "number of async jobs requested by the last adaptive acquisition, -1 when adaptive acquisition is not active")
+    public int getAsyncJobAcquireSize() {
+        AdaptiveAsyncJobAcquisitionController controller = getAcquisitionController();
+        return controller != null ? controller.getCurrentAcquireSize() : -1;
+    }
+
+    @ManagedAttribute(description = "observed rate at which async jobs are finished per second, -1 when unknown or adaptive acquisition is not active")
+    public double getAsyncJobDrainRate() {
+        AdaptiveAsyncJobAcquisitionController controller = getAcquisitionController();
+        return controller != null ? controller.getDrainRatePerSecond() : -1.0;
+    }
+
+    @ManagedAttribute(description = "current wait time in milliseconds between adaptive async job acquisitions, -1 when adaptive acquisition is not active")
+    public long getAsyncJobAcquisitionWaitTime() {
+        AdaptiveAsyncJobAcquisitionController controller = getAcquisitionController();
+        return controller != null ? controller.getCurrentWaitTimeInMillis() : -1L;
+    }
+
+    @ManagedAttribute(description = "number of async job acquisitions that conflicted with another executor, -1 when adaptive acquisition is not active")
+    public long getAsyncJobAcquisitionConflicts() {
+        AdaptiveAsyncJobAcquisitionController controller = getAcquisitionController();
+        return controller != null ? controller.getConflictCount() : -1L;
+    }
+
+    protected AdaptiveAsyncJobAcquisitionController getAcquisitionController() {
+        if (jobExecutor instanceof AbstractAsyncExecutor) {
+            AcquireAsyncJobsDueRunnable asyncJobsDueRunnable = ((AbstractAsyncExecutor) jobExecutor).getAsyncJobsDueRunnable();
+            if (asyncJobsDueRunnable != null) {
+                return asyncJobsDueRunnable.getAcquisitionController();
+            }
+        }
+        return null;
+    }
+
 }
@@ -76,6 +76,12 @@ public class JobExecutorMBeanTest {
         assertTrue(result);
     }
 
+    @Test
+    public void testAcquisitionStateWithoutAdaptiveAcquisition() {
+        assertEquals(-1, jobExecutorMbean.getAsyncJobAcquireSize());
+        assertEquals(-1L, jobExecutorMbean.getAsyncJobAcquisitionConflicts());
+    }
+
     @Test
     public void setJobExecutorActivateTrue() {
         jobExecutorMbean.setJobExecutorActivate(true);
@@ -112,7 +118,7 @@ public class JobExecutorMBeanTest {
 
         // check attributes
         assertNotNull(beanInfo.getAttributes());
-        assertEquals(1, beanInfo.getAttributes().length);
+        assertEquals(5, beanInfo.getAttributes().length);
 
         counter = 0;
 
@@ -121,9 +127,12 @@ public class JobExecutorMBeanTest {
                 counter++;
                 assertEquals("check if the job executor is activated", attr.getDescription());
                 assertEquals("boolean", attr.getType());
+            } else if (attr.getName().equals("AsyncJobAcquireSize")) {
+                counter++;
+                assertEquals("int", attr.getType());
             }
         }
-        assertEquals(1, counter);
+        assertEquals(2, counter);
 
     }
 
@@ -26,6 +26,7 @@ public interface Job extends JobInfo {
     String JOB_TYPE_MESSAGE = "message";
 
     boolean DEFAULT_EXCLUSIVE = true;
+    int DEFAULT_PRIORITY = 0;
     int MAX_EXCEPTION_MESSAGE_LENGTH = 255;
 
     /**
@@ -57,6 +58,11 @@ public interface Job extends JobInfo {
      * Reference to an element name or null if none is set.
      */
     String getElementName();
+
+    /**
+     * Returns the priority of the job. Jobs with a higher priority are acquired and executed before jobs with a lower priority.
+     */
+    int getPriority();
     
     /**
      * Reference to a scope identifier or null if none is set.
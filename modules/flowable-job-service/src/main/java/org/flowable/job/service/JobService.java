@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.api.DeadLetterJobQuery;
@@ -89,4 +90,10 @@ public interface JobService {
     void deleteSuspendedJobsByExecutionId(String executionId);
     
     void deleteDeadLetterJobsByExecutionId(String executionId);
+    
+    /**
+     * Deletes all executable, timer, suspended and dead letter jobs of the given process instances, including their byte arrays,
+     * with one statement per table. No events are dispatched for the deleted jobs.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
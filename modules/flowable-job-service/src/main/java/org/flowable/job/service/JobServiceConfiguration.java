@@ -109,6 +109,8 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected AsyncExecutor asyncExecutor;
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
+    protected boolean asyncExecutorJobPriorityAcquisitionEnabled;
+    protected int asyncExecutorJobPriorityAgingTime;
     
     protected String jobExecutionScope;
     protected Map<String, JobHandler> jobHandlers;
@@ -562,6 +564,24 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isAsyncExecutorJobPriorityAcquisitionEnabled() {
+        return asyncExecutorJobPriorityAcquisitionEnabled;
+    }
+
+    public JobServiceConfiguration setAsyncExecutorJobPriorityAcquisitionEnabled(boolean asyncExecutorJobPriorityAcquisitionEnabled) {
+        this.asyncExecutorJobPriorityAcquisitionEnabled = asyncExecutorJobPriorityAcquisitionEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorJobPriorityAgingTime() {
+        return asyncExecutorJobPriorityAgingTime;
+    }
+
+    public JobServiceConfiguration setAsyncExecutorJobPriorityAgingTime(int asyncExecutorJobPriorityAgingTime) {
+        this.asyncExecutorJobPriorityAgingTime = asyncExecutorJobPriorityAgingTime;
+        return this;
+    }
+
     @Override
     public ObjectMapper getObjectMapper() {
         return objectMapper;
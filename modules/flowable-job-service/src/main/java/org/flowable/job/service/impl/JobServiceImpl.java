@@ -29,6 +29,7 @@ import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntityManager;
+import org.flowable.job.service.impl.persistence.entity.JobByteArrayEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
@@ -215,4 +216,20 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
         }
     }
     
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // The byte arrays can only be deleted after the jobs referencing them,
+        // so their ids are needed before the jobs are gone
+        JobByteArrayEntityManager jobByteArrayEntityManager = configuration.getJobByteArrayEntityManager();
+        List<String> byteArrayIds = jobByteArrayEntityManager.findJobByteArrayIdsByProcessInstanceIds(processInstanceIds);
+        if (!byteArrayIds.isEmpty()) {
+            jobByteArrayEntityManager.deleteByteArraysByIds(byteArrayIds);
+        }
+        
+        getJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+        getTimerJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+        getSuspendedJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+        getDeadLetterJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
+    
 }
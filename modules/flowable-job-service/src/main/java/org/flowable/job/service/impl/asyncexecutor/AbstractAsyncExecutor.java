@@ -12,9 +12,13 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.UUID;
 
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.cmd.UnacquireOwnedJobsCmd;
@@ -65,6 +69,17 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int resetExpiredJobsInterval = 60 * 1000;
     protected int resetExpiredJobsPageSize = 3;
 
+    // Timer jobs due within this window are acquired upfront and fired from a timer wheel when due. Disabled when 0.
+    protected int timerJobPrefetchWindowInMillis;
+    protected int timerWheelTickDurationInMillis = 100;
+    protected int timerWheelSize = 512;
+
+    // Derives the acquire size and wait times from the observed drain rate and acquisition conflicts instead of the fixed settings
+    protected boolean adaptiveAsyncJobAcquisition;
+
+    // Acquires the jobs per partition, weighted by the partition weights. The jobs are acquired together when empty
+    protected List<AsyncJobPartition> asyncJobPartitions = Collections.emptyList();
+
     // Job queue used when async executor is not yet started and jobs are already added.
     // This is mainly used for testing purpose.
     protected LinkedList<JobInfo> temporaryJobQueue = new LinkedList<>();
@@ -82,7 +97,22 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         Runnable runnable = null;
         if (isActive) {
             runnable = createRunnableForJob(job);
-            return executeAsyncJob(job, runnable);
+            AdaptiveAsyncJobAcquisitionController acquisitionController = asyncJobsDueRunnable != null ? asyncJobsDueRunnable.getAcquisitionController() : null;
+            if (acquisitionController != null) {
+                runnable = acquisitionController.track(runnable);
+            }
+
+            AsyncJobPartition partition = findAsyncJobPartition(job);
+            if (partition == null) {
+                return executeAsyncJob(job, runnable);
+            }
+
+            boolean jobAccepted = executeAsyncJob(job, partition.track(runnable));
+            if (!jobAccepted) {
+                partition.jobRejected();
+            }
+            return jobAccepted;
+
         } else {
             temporaryJobQueue.add(job);
         }
@@ -92,6 +122,18 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected abstract boolean executeAsyncJob(final JobInfo job, Runnable runnable);
 
+    /**
+     * @return the partition the job belongs to, or null when no partitions are configured
+     */
+    public AsyncJobPartition findAsyncJobPartition(JobInfo job) {
+        for (AsyncJobPartition partition : asyncJobPartitions) {
+            if (partition.matches(job)) {
+                return partition;
+            }
+        }
+        return null;
+    }
+
     protected void unlockOwnedJobs() {
         jobServiceConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(lockOwner, tenantId));
     }
@@ -361,6 +403,88 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.resetExpiredJobsPageSize = resetExpiredJobsPageSize;
     }
 
+    @Override
+    public int getTimerJobPrefetchWindowInMillis() {
+        return timerJobPrefetchWindowInMillis;
+    }
+
+    @Override
+    public void setTimerJobPrefetchWindowInMillis(int timerJobPrefetchWindowInMillis) {
+        this.timerJobPrefetchWindowInMillis = timerJobPrefetchWindowInMillis;
+    }
+
+    @Override
+    public int getTimerWheelTickDurationInMillis() {
+        return timerWheelTickDurationInMillis;
+    }
+
+    @Override
+    public void setTimerWheelTickDurationInMillis(int timerWheelTickDurationInMillis) {
+        this.timerWheelTickDurationInMillis = timerWheelTickDurationInMillis;
+    }
+
+    @Override
+    public int getTimerWheelSize() {
+        return timerWheelSize;
+    }
+
+    @Override
+    public void setTimerWheelSize(int timerWheelSize) {
+        this.timerWheelSize = timerWheelSize;
+    }
+
+    @Override
+    public boolean isAdaptiveAsyncJobAcquisition() {
+        return adaptiveAsyncJobAcquisition;
+    }
+
+    @Override
+    public void setAdaptiveAsyncJobAcquisition(boolean adaptiveAsyncJobAcquisition) {
+        this.adaptiveAsyncJobAcquisition = adaptiveAsyncJobAcquisition;
+    }
+
+    @Override
+    public List<AsyncJobPartition> getAsyncJobPartitions() {
+        return asyncJobPartitions;
+    }
+
+    @Override
+    public void setAsyncJobPartitions(List<AsyncJobPartition> asyncJobPartitions) {
+        if (asyncJobPartitions == null || asyncJobPartitions.isEmpty()) {
+            this.asyncJobPartitions = Collections.emptyList();
+            return;
+        }
+
+        // Every partition excludes the jobs of the partitions before it, so a job is acquired in one partition only.
+        // The catch-all partition comes last and excludes the jobs of all others.
+        List<AsyncJobPartition> partitions = new ArrayList<>();
+        AsyncJobPartition catchAllPartition = null;
+        for (AsyncJobPartition partition : asyncJobPartitions) {
+            if (partition.getWeight() <= 0 || partition.getCapacity() <= 0) {
+                throw new FlowableIllegalArgumentException("The weight and the capacity of async job partition " + partition.getName() + " must be positive");
+            }
+
+            if (partition.isCatchAll()) {
+                if (catchAllPartition != null) {
+                    throw new FlowableIllegalArgumentException("Only one async job partition without tenant ids and handler types is allowed, found "
+                            + catchAllPartition.getName() + " and " + partition.getName());
+                }
+                catchAllPartition = partition;
+            } else {
+                partition.setExcludedPartitions(partitions);
+                partitions.add(partition);
+            }
+        }
+
+        if (catchAllPartition == null) {
+            catchAllPartition = new AsyncJobPartition(AsyncJobPartition.DEFAULT_PARTITION_NAME);
+        }
+        catchAllPartition.setExcludedPartitions(partitions);
+        partitions.add(catchAllPartition);
+
+        this.asyncJobPartitions = Collections.unmodifiableList(partitions);
+    }
+
     public ExecuteAsyncRunnableFactory getExecuteAsyncRunnableFactory() {
         return executeAsyncRunnableFactory;
     }
@@ -13,7 +13,10 @@
 package org.flowable.job.service.impl.asyncexecutor;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -25,6 +28,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Runnable that acquires the async jobs that are due and hands them to the {@link AsyncExecutor}.
+ *
+ * When {@link AsyncExecutor#isAdaptiveAsyncJobAcquisition()} is enabled, the number of acquired jobs and the wait time between acquisitions
+ * are determined by an {@link AdaptiveAsyncJobAcquisitionController} instead of the fixed settings of the {@link AsyncExecutor}.
+ *
+ * When {@link AsyncExecutor#getAsyncJobPartitions() partitions} are configured, the jobs are acquired per partition. The partition that goes first
+ * is picked with a smooth weighted round robin, so over time every partition goes first proportionally to its weight.
+ * Each partition then gets its weighted share of what is left to acquire, limited by its own remaining capacity.
  * 
  * @author Tijs Rademakers
  */
@@ -40,6 +51,11 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    protected AdaptiveAsyncJobAcquisitionController acquisitionController;
+
+    // Current priority of each partition for the smooth weighted round robin, only used by the acquisition thread
+    protected final Map<AsyncJobPartition, Integer> partitionPriorities = new HashMap<>();
+
     public AcquireAsyncJobsDueRunnable(String name, AsyncExecutor asyncExecutor, 
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
         this.name = name;
@@ -54,18 +70,32 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
 
         CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
 
+        if (asyncExecutor.isAdaptiveAsyncJobAcquisition() && acquisitionController == null) {
+            acquisitionController = new AdaptiveAsyncJobAcquisitionController(asyncExecutor);
+        }
+
         while (!isInterrupted) {
             final long millisToWait;
 
             int remainingCapacity = asyncExecutor.getRemainingCapacity();
+            if (acquisitionController != null) {
+                acquisitionController.updateDrainRate();
+            }
+
             if (remainingCapacity > 0) {
-                millisToWait = acquireAndExecuteJobs(commandExecutor, remainingCapacity);
+                if (!asyncExecutor.getAsyncJobPartitions().isEmpty()) {
+                    millisToWait = acquireAndExecuteJobsPerPartition(commandExecutor, remainingCapacity);
+                } else if (acquisitionController != null) {
+                    millisToWait = acquireAndExecuteJobsAdaptively(commandExecutor, remainingCapacity);
+                } else {
+                    millisToWait = acquireAndExecuteJobs(commandExecutor, remainingCapacity);
+                }
 
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("acquired and queued new jobs for engine {}; sleeping for {} ms", asyncExecutor.getJobServiceConfiguration().getEngineName(), millisToWait);
                 }
             } else {
-                millisToWait = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+                millisToWait = acquisitionController != null ? acquisitionController.queueFull() : asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
 
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.debug("queue is full for engine {}; sleeping for {} ms", asyncExecutor.getJobServiceConfiguration().getEngineName(), millisToWait);
@@ -106,6 +136,133 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
     }
 
+    protected long acquireAndExecuteJobsAdaptively(CommandExecutor commandExecutor, int remainingCapacity) {
+        int acquireSize = acquisitionController.determineAcquireSize(remainingCapacity);
+        try {
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, acquireSize, jobEntityManager));
+
+            List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
+
+            LOGGER.debug("Jobs requested: {}, acquired: {}, rejected: {}, for engine {}", acquireSize, acquiredJobs.size(), rejectedJobs.size(),
+                    asyncExecutor.getJobServiceConfiguration().getEngineName());
+            return acquisitionController.acquisitionSucceeded(acquireSize, acquiredJobs.size(), rejectedJobs.size());
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            long backoff = acquisitionController.acquisitionConflicted();
+            LOGGER.debug("Optimistic locking exception during async job acquisition for engine {}, backing off for {} ms after {} consecutive conflicts. Exception message: {}",
+                    asyncExecutor.getJobServiceConfiguration().getEngineName(), backoff, acquisitionController.getConsecutiveConflicts(), optimisticLockingException.getMessage());
+            return backoff;
+
+        } catch (Throwable e) {
+            LOGGER.error("exception for engine {} during async job acquisition: {}", asyncExecutor.getJobServiceConfiguration().getEngineName(), e.getMessage(), e);
+            return acquisitionController.acquisitionFailed();
+        }
+    }
+
+    protected long acquireAndExecuteJobsPerPartition(CommandExecutor commandExecutor, int remainingCapacity) {
+        int acquireSize = acquisitionController != null ? acquisitionController.determineAcquireSize(remainingCapacity)
+                : Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+
+        List<AsyncJobPartition> partitions = determinePartitionAcquisitionOrder(asyncExecutor.getAsyncJobPartitions());
+        int remainingWeight = 0;
+        for (AsyncJobPartition partition : partitions) {
+            remainingWeight += partition.getWeight();
+        }
+
+        int remainingAcquireSize = acquireSize;
+        int acquiredJobCount = 0;
+        int rejectedJobCount = 0;
+        boolean moreJobsExpected = false;
+        boolean conflicted = false;
+        boolean failed = false;
+        for (AsyncJobPartition partition : partitions) {
+            int partitionAcquireSize = determinePartitionAcquireSize(partition, remainingAcquireSize, remainingWeight);
+            remainingWeight -= partition.getWeight();
+            if (partitionAcquireSize <= 0) {
+                continue;
+            }
+
+            try {
+                AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, partitionAcquireSize, jobEntityManager, partition));
+                partition.jobsAcquired(partitionAcquireSize, acquiredJobs.size());
+
+                List<JobInfoEntity> rejectedJobs = offerJobs(acquiredJobs);
+
+                LOGGER.debug("Jobs requested: {}, acquired: {}, rejected: {}, for partition {} of engine {}", partitionAcquireSize, acquiredJobs.size(),
+                        rejectedJobs.size(), partition.getName(), asyncExecutor.getJobServiceConfiguration().getEngineName());
+
+                acquiredJobCount += acquiredJobs.size();
+                rejectedJobCount += rejectedJobs.size();
+                remainingAcquireSize -= acquiredJobs.size();
+                if (acquiredJobs.size() >= partitionAcquireSize) {
+                    // the partition had at least as many jobs as requested, so we can expect more.
+                    moreJobsExpected = true;
+                }
+
+            } catch (FlowableOptimisticLockingException optimisticLockingException) {
+                conflicted = true;
+                LOGGER.debug("Optimistic locking exception during async job acquisition for partition {} of engine {}. Exception message: {}",
+                        partition.getName(), asyncExecutor.getJobServiceConfiguration().getEngineName(), optimisticLockingException.getMessage());
+
+            } catch (Throwable e) {
+                failed = true;
+                LOGGER.error("exception for partition {} of engine {} during async job acquisition: {}", partition.getName(),
+                        asyncExecutor.getJobServiceConfiguration().getEngineName(), e.getMessage(), e);
+            }
+        }
+
+        if (acquisitionController != null) {
+            if (acquiredJobCount == 0 && conflicted) {
+                return acquisitionController.acquisitionConflicted();
+            } else if (acquiredJobCount == 0 && failed) {
+                return acquisitionController.acquisitionFailed();
+            }
+
+            long waitTime = acquisitionController.acquisitionSucceeded(acquireSize, acquiredJobCount, rejectedJobCount);
+            return moreJobsExpected && rejectedJobCount == 0 ? 0L : waitTime;
+        }
+
+        if (rejectedJobCount > 0) {
+            // some jobs were rejected, so the queue was full; wait until attempting to acquire more.
+            return asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
+        }
+        if (moreJobsExpected && !conflicted && !failed) {
+            return 0L;
+        }
+        return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+    }
+
+    /**
+     * Orders the partitions with a smooth weighted round robin: every round the priority of each partition increases with its weight,
+     * the partition with the highest priority goes first and its priority decreases with the total weight.
+     */
+    protected List<AsyncJobPartition> determinePartitionAcquisitionOrder(List<AsyncJobPartition> partitions) {
+        partitionPriorities.keySet().retainAll(partitions);
+
+        int totalWeight = 0;
+        for (AsyncJobPartition partition : partitions) {
+            totalWeight += partition.getWeight();
+            partitionPriorities.merge(partition, partition.getWeight(), Integer::sum);
+        }
+
+        List<AsyncJobPartition> acquisitionOrder = new ArrayList<>(partitions);
+        acquisitionOrder.sort(Comparator.comparingInt((AsyncJobPartition partition) -> -partitionPriorities.get(partition)));
+        partitionPriorities.merge(acquisitionOrder.get(0), -totalWeight, Integer::sum);
+        return acquisitionOrder;
+    }
+
+    /**
+     * @return the weighted share of the partition of the jobs that are left to acquire, rounded up and limited by the remaining capacity of the partition
+     */
+    protected int determinePartitionAcquireSize(AsyncJobPartition partition, int remainingAcquireSize, int remainingWeight) {
+        if (remainingAcquireSize <= 0 || remainingWeight <= 0) {
+            return 0;
+        }
+
+        int weightedShare = (int) Math.ceil((double) remainingAcquireSize * partition.getWeight() / remainingWeight);
+        return Math.min(weightedShare, partition.getRemainingCapacity());
+    }
+
     protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
         List<JobInfoEntity> rejected = new ArrayList<>();
         for (JobInfoEntity job : acquiredJobs.getJobs()) {
@@ -126,6 +283,23 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         }
     }
 
+    /**
+     * Signals that a job was created on this node, but could not be handed to the executor directly (e.g. because its queue was full).
+     * When adaptive acquisition is enabled, this wakes up the acquisition so the job is acquired as soon as there is capacity.
+     */
+    public void localAsyncJobRejected() {
+        if (acquisitionController == null) {
+            return;
+        }
+
+        acquisitionController.localWorkAdded();
+        synchronized (MONITOR) {
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     protected void sleep(long millisToWait) {
         if (millisToWait > 0) {
             try {
@@ -152,4 +326,12 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         }
     }
 
+    public AdaptiveAsyncJobAcquisitionController getAcquisitionController() {
+        return acquisitionController;
+    }
+
+    public void setAcquisitionController(AdaptiveAsyncJobAcquisitionController acquisitionController) {
+        this.acquisitionController = acquisitionController;
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -19,11 +21,19 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.job.service.impl.cmd.MoveTimerToExecutableJobCmd;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Runnable that acquires the timer jobs that are due and moves them to the executable jobs.
+ *
+ * When a timer job prefetch window is configured on the {@link AsyncExecutor}, the timer jobs that are due within that window are acquired as well.
+ * These are kept in a {@link TimerWheel} and moved to the executable jobs as soon as they are due, instead of at the next acquisition.
+ * Their lock expires {@link AsyncExecutor#getTimerLockTimeInMillis()} after their due date, after which the {@link ResetExpiredJobsRunnable}
+ * makes them available again for all executors.
  * 
  * @author Tijs Rademakers
  */
@@ -40,6 +50,8 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
     protected long millisToWait;
 
+    protected TimerWheel timerWheel;
+
     public AcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager) {
         this.asyncExecutor = asyncExecutor;
         this.jobManager = jobManager;
@@ -52,16 +64,28 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
         final CommandExecutor commandExecutor = asyncExecutor.getJobServiceConfiguration().getCommandExecutor();
 
+        int prefetchWindowInMillis = asyncExecutor.getTimerJobPrefetchWindowInMillis();
+        if (prefetchWindowInMillis > 0) {
+            startTimerWheel();
+        }
+
         while (!isInterrupted) {
 
             try {
-                final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+                final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor, prefetchWindowInMillis));
+
+                final List<TimerJobEntity> dueJobs;
+                if (timerWheel != null) {
+                    dueJobs = scheduleTimerJobsNotYetDue(acquiredJobs);
+                } else {
+                    dueJobs = new ArrayList<>(acquiredJobs.getJobs());
+                }
 
                 commandExecutor.execute(new Command<Void>() {
 
                     @Override
                     public Void execute(CommandContext commandContext) {
-                        for (TimerJobEntity job : acquiredJobs.getJobs()) {
+                        for (TimerJobEntity job : dueJobs) {
                             jobManager.moveTimerJobToExecutableJob(job);
                         }
                         return null;
@@ -113,9 +137,83 @@ public class AcquireTimerJobsRunnable implements Runnable {
             }
         }
 
+        if (timerWheel != null) {
+            stopTimerWheel();
+        }
+
         LOGGER.info("stopped async job due acquisition");
     }
 
+    protected void startTimerWheel() {
+        timerWheel = new TimerWheel("flowable-" + asyncExecutor.getJobServiceConfiguration().getEngineName() + "-timer-wheel",
+                asyncExecutor.getTimerWheelTickDurationInMillis(), asyncExecutor.getTimerWheelSize(), this::moveTimerJobToExecutableJob);
+        timerWheel.start();
+    }
+
+    /**
+     * Schedules the acquired timer jobs that are not yet due on the timer wheel and fires the ones of the wheel that became due according
+     * to the engine clock.
+     *
+     * @return the acquired timer jobs that are already due
+     */
+    protected List<TimerJobEntity> scheduleTimerJobsNotYetDue(AcquiredTimerJobEntities acquiredJobs) {
+        long now = asyncExecutor.getJobServiceConfiguration().getClock().getCurrentTime().getTime();
+        timerWheel.expireTimersDueBefore(now);
+
+        List<TimerJobEntity> dueJobs = new ArrayList<>();
+        for (TimerJobEntity job : acquiredJobs.getJobs()) {
+            if (job.getDuedate() == null || job.getDuedate().getTime() <= now) {
+                dueJobs.add(job);
+            } else {
+                long dueTime = job.getDuedate().getTime();
+                timerWheel.schedule(job.getId(), dueTime - now, dueTime);
+            }
+        }
+        return dueJobs;
+    }
+
+    protected void moveTimerJobToExecutableJob(String jobId) {
+        try {
+            asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(new MoveTimerToExecutableJobCmd(jobId, asyncExecutor.getLockOwner()));
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            LOGGER.debug("Optimistic locking exception while moving prefetched timer job {}. The lock of the timer job was reset or it was changed concurrently.",
+                    jobId, optimisticLockingException);
+        }
+    }
+
+    /**
+     * Stops the timer wheel and releases the locks of the timer jobs it still held, so they can be acquired again immediately.
+     */
+    protected void stopTimerWheel() {
+        final List<String> remainingJobIds = timerWheel.stop();
+        timerWheel = null;
+
+        if (remainingJobIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    TimerJobEntityManager timerJobEntityManager = asyncExecutor.getJobServiceConfiguration().getTimerJobEntityManager();
+                    for (String jobId : remainingJobIds) {
+                        TimerJobEntity job = timerJobEntityManager.findById(jobId);
+                        if (job != null && asyncExecutor.getLockOwner().equals(job.getLockOwner())) {
+                            timerJobEntityManager.resetExpiredJob(jobId);
+                        }
+                    }
+                    return null;
+                }
+            });
+
+        } catch (Throwable e) {
+            LOGGER.warn("exception while releasing prefetched timer jobs, they will be reset when their lock expires: {}", e.getMessage(), e);
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -132,4 +230,8 @@ public class AcquireTimerJobsRunnable implements Runnable {
     public void setMillisToWait(long millisToWait) {
         this.millisToWait = millisToWait;
     }
+
+    public TimerWheel getTimerWheel() {
+        return timerWheel;
+    }
 }
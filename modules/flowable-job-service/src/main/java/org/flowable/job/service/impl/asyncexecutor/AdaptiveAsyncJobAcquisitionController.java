@@ -0,0 +1,290 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Determines how many async jobs the {@link AcquireAsyncJobsDueRunnable} acquires and how long it waits between acquisitions,
+ * based on what it observes instead of on fixed settings:
+ *
+ * <ul>
+ * <li>The number of jobs that is acquired follows the rate at which the executor finishes jobs, so a busy node doesn't lock
+ * more jobs than it can start before the next acquisition, while those could be executed by other nodes.
+ * It is never more than the remaining capacity of the queue or {@link AsyncExecutor#getMaxAsyncJobsDuePerAcquisition()}.
+ * The rate is an exponentially weighted moving average of the jobs finished per second, measured over windows of
+ * {@link #getDrainRateWindowInMillis()}. All jobs run by the executor are counted (see {@link #track(Runnable)}),
+ * also the ones it was handed directly instead of through an acquisition.</li>
+ * <li>After an optimistic locking exception (another node acquired the same jobs), the wait time backs off exponentially with a random jitter,
+ * so competing nodes spread their acquisitions instead of colliding again.</li>
+ * <li>When a job created on this node could not be handed to the executor, the next acquisition happens as soon as there is capacity again.</li>
+ * </ul>
+ *
+ * The state is only changed by the acquisition thread, but can be read from any thread.
+ */
+public class AdaptiveAsyncJobAcquisitionController {
+
+    protected final AsyncExecutor asyncExecutor;
+
+    // Weight of the latest window in the drain rate
+    protected double drainRateSmoothingFactor = 0.3;
+    protected long drainRateWindowInMillis = 1000L;
+    protected int minAcquireSize = 1;
+    protected long initialBackoffInMillis = 100L;
+    protected long maxBackoffInMillis = 30 * 1000L;
+    protected long queueFullPollIntervalInMillis = 100L;
+
+    protected volatile double drainRatePerSecond = -1.0; // negative while unknown
+    protected volatile int currentAcquireSize;
+    protected volatile int consecutiveConflicts;
+    protected volatile long currentWaitTimeInMillis;
+    protected volatile boolean localWorkPending;
+
+    protected final AtomicLong acquisitionCount = new AtomicLong();
+    protected final AtomicLong acquiredJobCount = new AtomicLong();
+    protected final AtomicLong rejectedJobCount = new AtomicLong();
+    protected final AtomicLong conflictCount = new AtomicLong();
+    protected final AtomicLong finishedJobCount = new AtomicLong();
+
+    protected long windowStartTime = -1L;
+    protected long finishedJobCountAtWindowStart;
+    protected int lastMaxAcquireSize;
+
+    public AdaptiveAsyncJobAcquisitionController(AsyncExecutor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Wraps a job runnable that is handed to the executor, so the job is counted in the drain rate when it is finished.
+     */
+    public Runnable track(Runnable runnable) {
+        return () -> {
+            try {
+                runnable.run();
+            } finally {
+                finishedJobCount.incrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * Updates the drain rate at the start of an acquisition cycle, when the current window has passed.
+     * This is also done while the queue is full, so the rate keeps following the executor.
+     */
+    public void updateDrainRate() {
+        long now = getCurrentTimeInMillis();
+        long finishedJobs = finishedJobCount.get();
+        if (windowStartTime < 0L) {
+            windowStartTime = now;
+            finishedJobCountAtWindowStart = finishedJobs;
+            return;
+        }
+
+        long elapsedMillis = now - windowStartTime;
+        if (elapsedMillis >= drainRateWindowInMillis) {
+            double observedRate = (finishedJobs - finishedJobCountAtWindowStart) * 1000.0 / elapsedMillis;
+            if (drainRatePerSecond < 0) {
+                drainRatePerSecond = observedRate;
+            } else {
+                drainRatePerSecond = drainRateSmoothingFactor * observedRate + (1 - drainRateSmoothingFactor) * drainRatePerSecond;
+            }
+            windowStartTime = now;
+            finishedJobCountAtWindowStart = finishedJobs;
+        }
+    }
+
+    /**
+     * @return the number of jobs to acquire, given the remaining capacity of the executor queue
+     */
+    public int determineAcquireSize(int remainingCapacity) {
+        int maxAcquireSize = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        lastMaxAcquireSize = maxAcquireSize;
+
+        int acquireSize;
+        if (drainRatePerSecond < 0) {
+            acquireSize = maxAcquireSize;
+        } else {
+            // Acquire what the executor is expected to start until the next acquisition
+            double expectedJobs = drainRatePerSecond * asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis() / 1000.0;
+            acquireSize = (int) Math.min(Math.ceil(expectedJobs), maxAcquireSize);
+        }
+
+        currentAcquireSize = Math.max(Math.min(minAcquireSize, maxAcquireSize), acquireSize);
+        return currentAcquireSize;
+    }
+
+    /**
+     * @return the time to wait before the next acquisition
+     */
+    public long acquisitionSucceeded(int requestedJobs, int acquiredJobs, int rejectedJobs) {
+        acquisitionCount.incrementAndGet();
+        acquiredJobCount.addAndGet(acquiredJobs);
+        rejectedJobCount.addAndGet(rejectedJobs);
+        consecutiveConflicts = 0;
+        localWorkPending = false;
+
+        if (rejectedJobs > 0) {
+            // The queue is full, wait until there is capacity again
+            return setWaitTime(asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis());
+
+        } else if (acquiredJobs > 0 && acquiredJobs >= requestedJobs && requestedJobs >= lastMaxAcquireSize) {
+            // As many jobs as the queue could take were acquired, so more can be expected.
+            // When less was requested because of the drain rate, the executor is busy with what it has until the next acquisition.
+            return setWaitTime(0L);
+        }
+
+        return setWaitTime(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+    }
+
+    /**
+     * Called after an optimistic locking exception during the acquisition, i.e. when another executor acquired some of the same jobs.
+     *
+     * @return the time to wait before the next acquisition, which grows exponentially for consecutive conflicts
+     */
+    public long acquisitionConflicted() {
+        acquisitionCount.incrementAndGet();
+        conflictCount.incrementAndGet();
+        int conflicts = ++consecutiveConflicts;
+
+        long backoff = initialBackoffInMillis << Math.min(conflicts - 1, 20);
+        long maxBackoff = Math.min(maxBackoffInMillis, asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+        backoff = Math.max(1L, Math.min(backoff, maxBackoff));
+
+        // Full jitter on the upper half, so executors that collided don't retry at the same moment
+        long jitteredBackoff = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        return setWaitTime(jitteredBackoff);
+    }
+
+    public long acquisitionFailed() {
+        acquisitionCount.incrementAndGet();
+        return setWaitTime(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+    }
+
+    /**
+     * @return the time to wait when the executor queue has no remaining capacity
+     */
+    public long queueFull() {
+        if (localWorkPending) {
+            // A job created on this node is waiting in the database, poll the queue until it can be acquired
+            long queueFullWaitTime = asyncExecutor.getDefaultQueueSizeFullWaitTimeInMillis();
+            return setWaitTime(queueFullWaitTime > 0 ? queueFullWaitTime : queueFullPollIntervalInMillis);
+        }
+        return setWaitTime(asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+    }
+
+    /**
+     * Signals that a job was created on this node that could not be handed to the executor directly.
+     */
+    public void localWorkAdded() {
+        localWorkPending = true;
+    }
+
+    protected long getCurrentTimeInMillis() {
+        return System.currentTimeMillis();
+    }
+
+    protected long setWaitTime(long waitTimeInMillis) {
+        currentWaitTimeInMillis = waitTimeInMillis;
+        return waitTimeInMillis;
+    }
+
+    public double getDrainRatePerSecond() {
+        return drainRatePerSecond;
+    }
+
+    public int getCurrentAcquireSize() {
+        return currentAcquireSize;
+    }
+
+    public int getConsecutiveConflicts() {
+        return consecutiveConflicts;
+    }
+
+    public long getCurrentWaitTimeInMillis() {
+        return currentWaitTimeInMillis;
+    }
+
+    public boolean isLocalWorkPending() {
+        return localWorkPending;
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitionCount.get();
+    }
+
+    public long getAcquiredJobCount() {
+        return acquiredJobCount.get();
+    }
+
+    public long getRejectedJobCount() {
+        return rejectedJobCount.get();
+    }
+
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+
+    public long getFinishedJobCount() {
+        return finishedJobCount.get();
+    }
+
+    public double getDrainRateSmoothingFactor() {
+        return drainRateSmoothingFactor;
+    }
+
+    public void setDrainRateSmoothingFactor(double drainRateSmoothingFactor) {
+        this.drainRateSmoothingFactor = drainRateSmoothingFactor;
+    }
+
+    public long getDrainRateWindowInMillis() {
+        return drainRateWindowInMillis;
+    }
+
+    public void setDrainRateWindowInMillis(long drainRateWindowInMillis) {
+        this.drainRateWindowInMillis = drainRateWindowInMillis;
+    }
+
+    public int getMinAcquireSize() {
+        return minAcquireSize;
+    }
+
+    public void setMinAcquireSize(int minAcquireSize) {
+        this.minAcquireSize = minAcquireSize;
+    }
+
+    public long getInitialBackoffInMillis() {
+        return initialBackoffInMillis;
+    }
+
+    public void setInitialBackoffInMillis(long initialBackoffInMillis) {
+        this.initialBackoffInMillis = initialBackoffInMillis;
+    }
+
+    public long getMaxBackoffInMillis() {
+        return maxBackoffInMillis;
+    }
+
+    public void setMaxBackoffInMillis(long maxBackoffInMillis) {
+        this.maxBackoffInMillis = maxBackoffInMillis;
+    }
+
+    public long getQueueFullPollIntervalInMillis() {
+        return queueFullPollIntervalInMillis;
+    }
+
+    public void setQueueFullPollIntervalInMillis(long queueFullPollIntervalInMillis) {
+        this.queueFullPollIntervalInMillis = queueFullPollIntervalInMillis;
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
+
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 
@@ -93,4 +95,41 @@ public interface AsyncExecutor {
 
     void setResetExpiredJobsPageSize(int resetExpiredJobsPageSize);
 
+    /**
+     * Timer jobs due within this window are acquired upfront and fired from a timer wheel when due, see {@link AbstractAsyncExecutor}.
+     * Executors that don't implement the timer settings below don't prefetch timer jobs: the window is 0 and setting it has no effect.
+     */
+    default int getTimerJobPrefetchWindowInMillis() {
+        return 0;
+    }
+
+    default void setTimerJobPrefetchWindowInMillis(int timerJobPrefetchWindowInMillis) {
+    }
+
+    default int getTimerWheelTickDurationInMillis() {
+        return 100;
+    }
+
+    default void setTimerWheelTickDurationInMillis(int timerWheelTickDurationInMillis) {
+    }
+
+    default int getTimerWheelSize() {
+        return 512;
+    }
+
+    default void setTimerWheelSize(int timerWheelSize) {
+    }
+
+    boolean isAdaptiveAsyncJobAcquisition();
+
+    void setAdaptiveAsyncJobAcquisition(boolean adaptiveAsyncJobAcquisition);
+
+    List<AsyncJobPartition> getAsyncJobPartitions();
+
+    /**
+     * Divides the acquisition and the capacity of this executor over the given partitions, see {@link AsyncJobPartition}.
+     * An empty list (the default) acquires all jobs together.
+     */
+    void setAsyncJobPartitions(List<AsyncJobPartition> asyncJobPartitions);
+
 }
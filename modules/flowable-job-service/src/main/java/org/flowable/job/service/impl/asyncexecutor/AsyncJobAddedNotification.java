@@ -39,7 +39,14 @@ public class AsyncJobAddedNotification implements CommandContextCloseListener {
     }
 
     public void execute(CommandContext commandContext) {
-        asyncExecutor.executeAsyncJob(job);
+        boolean jobOffered = asyncExecutor.executeAsyncJob(job);
+        if (!jobOffered && asyncExecutor instanceof AbstractAsyncExecutor) {
+            // The job was unacquired again, let the acquisition pick it up as soon as possible
+            AcquireAsyncJobsDueRunnable asyncJobsDueRunnable = ((AbstractAsyncExecutor) asyncExecutor).getAsyncJobsDueRunnable();
+            if (asyncJobsDueRunnable != null) {
+                asyncJobsDueRunnable.localAsyncJobRejected();
+            }
+        }
     }
 
     @Override
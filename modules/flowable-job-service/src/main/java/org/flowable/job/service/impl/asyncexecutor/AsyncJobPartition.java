@@ -0,0 +1,274 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.job.api.JobInfo;
+
+/**
+ * A named share of the async executor, for the async jobs of some tenants and/or job handler types.
+ *
+ * When partitions are configured with {@link AsyncExecutor#setAsyncJobPartitions(List)}, the {@link AcquireAsyncJobsDueRunnable}
+ * acquires the jobs of every partition separately, so a flood of jobs of one tenant or one job type can't starve the jobs of the others:
+ *
+ * <ul>
+ * <li>A job belongs to a partition when its tenant is one of the tenant ids of the partition and its job handler type is one of the handler types
+ * of the partition. A partition without tenant ids matches all tenants, a partition without handler types matches all handler types.
+ * When a job matches multiple partitions, it belongs to the first one.</li>
+ * <li>A partition without any tenant id or handler type gets all jobs that don't belong to another partition.
+ * If no such partition is configured, a {@link #DEFAULT_PARTITION_NAME default} one with weight 1 and an unlimited capacity is added.</li>
+ * <li>The capacity is the maximum number of jobs of the partition that are queued or executing on this node at the same time.
+ * No more jobs are acquired for a partition that is at its capacity.</li>
+ * <li>The remaining capacity of the executor queue is divided over the partitions proportionally to their weight.
+ * The part that a partition doesn't use, because it has fewer jobs, goes to the other partitions.</li>
+ * </ul>
+ *
+ * A partition also keeps the metrics of its jobs on this node, such as the number of queued jobs and the time jobs wait in the queue.
+ * The capacity only limits the acquisition: jobs that are created on this node and executed directly after the transaction are counted,
+ * but never rejected.
+ */
+public class AsyncJobPartition {
+
+    public static final String DEFAULT_PARTITION_NAME = "default";
+
+    protected String name;
+    protected Set<String> tenantIds = new HashSet<>();
+    protected Set<String> handlerTypes = new HashSet<>();
+    protected int capacity = Integer.MAX_VALUE;
+    protected int weight = 1;
+
+    // For the partition without tenant ids and handler types: the partitions of which the jobs are excluded
+    protected List<AsyncJobPartition> excludedPartitions = Collections.emptyList();
+
+    protected final AtomicInteger queuedJobCount = new AtomicInteger();
+    protected final AtomicInteger executingJobCount = new AtomicInteger();
+    protected final AtomicLong acquiredJobCount = new AtomicLong();
+    protected final AtomicLong rejectedJobCount = new AtomicLong();
+    protected final AtomicLong executedJobCount = new AtomicLong();
+    protected final AtomicLong totalQueueTimeInMillis = new AtomicLong();
+    protected final AtomicLong maxQueueTimeInMillis = new AtomicLong();
+    protected final AtomicLong totalExecutionTimeInMillis = new AtomicLong();
+    protected volatile int lastAcquireSize;
+
+    public AsyncJobPartition() {
+
+    }
+
+    public AsyncJobPartition(String name) {
+        this.name = name;
+    }
+
+    public AsyncJobPartition tenantIds(Collection<String> tenantIds) {
+        this.tenantIds = new HashSet<>(tenantIds);
+        return this;
+    }
+
+    public AsyncJobPartition handlerTypes(Collection<String> handlerTypes) {
+        this.handlerTypes = new HashSet<>(handlerTypes);
+        return this;
+    }
+
+    public AsyncJobPartition capacity(int capacity) {
+        this.capacity = capacity;
+        return this;
+    }
+
+    public AsyncJobPartition weight(int weight) {
+        this.weight = weight;
+        return this;
+    }
+
+    /**
+     * @return whether this partition gets the jobs that don't belong to another partition
+     */
+    public boolean isCatchAll() {
+        return tenantIds.isEmpty() && handlerTypes.isEmpty();
+    }
+
+    /**
+     * @return whether the tenant and the handler type of the job match this partition, without taking the other partitions into account
+     */
+    public boolean matches(JobInfo job) {
+        return (tenantIds.isEmpty() || tenantIds.contains(job.getTenantId()))
+                && (handlerTypes.isEmpty() || handlerTypes.contains(job.getJobHandlerType()));
+    }
+
+    /**
+     * @return the number of jobs that can still be acquired for this partition
+     */
+    public int getRemainingCapacity() {
+        return Math.max(0, capacity - queuedJobCount.get() - executingJobCount.get());
+    }
+
+    /**
+     * Wraps the runnable of a job of this partition, to keep track of the queued and executing jobs.
+     * {@link #jobRejected()} must be called when the returned runnable isn't accepted by the executor.
+     */
+    public Runnable track(Runnable runnable) {
+        long queuedTime = System.currentTimeMillis();
+        queuedJobCount.incrementAndGet();
+        return new PartitionRunnable(runnable, queuedTime);
+    }
+
+    public void jobRejected() {
+        queuedJobCount.decrementAndGet();
+        rejectedJobCount.incrementAndGet();
+    }
+
+    public void jobsAcquired(int requestedJobs, int acquiredJobs) {
+        lastAcquireSize = requestedJobs;
+        acquiredJobCount.addAndGet(acquiredJobs);
+    }
+
+    protected void jobStarted(long queueTimeInMillis) {
+        queuedJobCount.decrementAndGet();
+        executingJobCount.incrementAndGet();
+        totalQueueTimeInMillis.addAndGet(queueTimeInMillis);
+        maxQueueTimeInMillis.accumulateAndGet(queueTimeInMillis, Math::max);
+    }
+
+    protected void jobFinished(long executionTimeInMillis) {
+        executingJobCount.decrementAndGet();
+        executedJobCount.incrementAndGet();
+        totalExecutionTimeInMillis.addAndGet(executionTimeInMillis);
+    }
+
+    /**
+     * @return the average time in milliseconds between handing a job to the executor and starting it, -1 when no job was started yet
+     */
+    public double getAverageQueueTimeInMillis() {
+        long startedJobs = executedJobCount.get() + executingJobCount.get();
+        return startedJobs > 0 ? (double) totalQueueTimeInMillis.get() / startedJobs : -1.0;
+    }
+
+    /**
+     * @return the average execution time of a job in milliseconds, -1 when no job was executed yet
+     */
+    public double getAverageExecutionTimeInMillis() {
+        long executedJobs = executedJobCount.get();
+        return executedJobs > 0 ? (double) totalExecutionTimeInMillis.get() / executedJobs : -1.0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Set<String> getTenantIds() {
+        return tenantIds;
+    }
+
+    public void setTenantIds(Set<String> tenantIds) {
+        this.tenantIds = tenantIds != null ? tenantIds : new HashSet<>();
+    }
+
+    public Set<String> getHandlerTypes() {
+        return handlerTypes;
+    }
+
+    public void setHandlerTypes(Set<String> handlerTypes) {
+        this.handlerTypes = handlerTypes != null ? handlerTypes : new HashSet<>();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    public List<AsyncJobPartition> getExcludedPartitions() {
+        return excludedPartitions;
+    }
+
+    public void setExcludedPartitions(List<AsyncJobPartition> excludedPartitions) {
+        this.excludedPartitions = new ArrayList<>(excludedPartitions);
+    }
+
+    public int getQueuedJobCount() {
+        return queuedJobCount.get();
+    }
+
+    public int getExecutingJobCount() {
+        return executingJobCount.get();
+    }
+
+    public long getAcquiredJobCount() {
+        return acquiredJobCount.get();
+    }
+
+    public long getRejectedJobCount() {
+        return rejectedJobCount.get();
+    }
+
+    public long getExecutedJobCount() {
+        return executedJobCount.get();
+    }
+
+    public long getMaxQueueTimeInMillis() {
+        return maxQueueTimeInMillis.get();
+    }
+
+    public int getLastAcquireSize() {
+        return lastAcquireSize;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncJobPartition[name=" + name + ", tenantIds=" + tenantIds + ", handlerTypes=" + handlerTypes
+                + ", capacity=" + capacity + ", weight=" + weight + "]";
+    }
+
+    protected class PartitionRunnable implements Runnable {
+
+        protected final Runnable runnable;
+        protected final long queuedTime;
+
+        public PartitionRunnable(Runnable runnable, long queuedTime) {
+            this.runnable = runnable;
+            this.queuedTime = queuedTime;
+        }
+
+        @Override
+        public void run() {
+            long startTime = System.currentTimeMillis();
+            jobStarted(startTime - queuedTime);
+            try {
+                runnable.run();
+            } finally {
+                jobFinished(System.currentTimeMillis() - startTime);
+            }
+        }
+    }
+
+}
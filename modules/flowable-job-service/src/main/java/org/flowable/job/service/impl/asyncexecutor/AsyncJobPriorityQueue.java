@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.Comparator;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.job.api.Job;
+
+/**
+ * A bounded queue for the thread pool of the {@link DefaultAsyncJobExecutor} that hands out the jobs with the highest priority first,
+ * and jobs with the same priority in the order in which they were queued.
+ *
+ * To avoid that a steady stream of high priority jobs starves the low priority jobs, an aging time (in milliseconds) can be configured:
+ * the priority of a queued job then goes up by one for every aging time the job has been waiting in the queue.
+ * This is done by ordering on <code>queue time - priority * aging time</code>, which doesn't change while a job is waiting in the queue.
+ *
+ * Runnables that aren't created with {@link #prioritize(Runnable, int)} get the {@link Job#DEFAULT_PRIORITY default priority}.
+ */
+public class AsyncJobPriorityQueue extends PriorityBlockingQueue<Runnable> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final int capacity;
+    protected final long agingTimeInMillis;
+    protected final AtomicLong sequence = new AtomicLong();
+
+    public AsyncJobPriorityQueue(int capacity, long agingTimeInMillis) {
+        super(Math.max(1, Math.min(capacity, 11)), new PrioritizedRunnableComparator());
+        this.capacity = capacity;
+        this.agingTimeInMillis = agingTimeInMillis;
+    }
+
+    /**
+     * Wraps the runnable of a job, so it is ordered by the given priority in this queue.
+     */
+    public Runnable prioritize(Runnable runnable, int priority) {
+        if (runnable instanceof PrioritizedRunnable) {
+            return runnable;
+        }
+
+        long sequenceNumber = sequence.getAndIncrement();
+        long sortKey = agingTimeInMillis > 0 ? System.currentTimeMillis() - priority * agingTimeInMillis : -priority;
+        return new PrioritizedRunnable(runnable, priority, sortKey, sequenceNumber);
+    }
+
+    @Override
+    public synchronized boolean offer(Runnable runnable) {
+        // synchronized so that concurrent offers can't go over the capacity
+        if (size() >= capacity) {
+            return false;
+        }
+        return super.offer(prioritize(runnable, Job.DEFAULT_PRIORITY));
+    }
+
+    @Override
+    public boolean offer(Runnable runnable, long timeout, TimeUnit unit) {
+        return offer(runnable);
+    }
+
+    @Override
+    public boolean add(Runnable runnable) {
+        if (!offer(runnable)) {
+            throw new IllegalStateException("Queue full");
+        }
+        return true;
+    }
+
+    @Override
+    public void put(Runnable runnable) {
+        add(runnable);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return Math.max(0, capacity - size());
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getAgingTimeInMillis() {
+        return agingTimeInMillis;
+    }
+
+    public static class PrioritizedRunnable implements Runnable {
+
+        protected final Runnable runnable;
+        protected final int priority;
+        protected final long sortKey;
+        protected final long sequenceNumber;
+
+        public PrioritizedRunnable(Runnable runnable, int priority, long sortKey, long sequenceNumber) {
+            this.runnable = runnable;
+            this.priority = priority;
+            this.sortKey = sortKey;
+            this.sequenceNumber = sequenceNumber;
+        }
+
+        @Override
+        public void run() {
+            runnable.run();
+        }
+
+        public Runnable getRunnable() {
+            return runnable;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+    }
+
+    protected static class PrioritizedRunnableComparator implements Comparator<Runnable> {
+
+        @Override
+        public int compare(Runnable first, Runnable second) {
+            PrioritizedRunnable firstRunnable = (PrioritizedRunnable) first;
+            PrioritizedRunnable secondRunnable = (PrioritizedRunnable) second;
+            int result = Long.compare(firstRunnable.sortKey, secondRunnable.sortKey);
+            if (result == 0) {
+                result = Long.compare(firstRunnable.sequenceNumber, secondRunnable.sequenceNumber);
+            }
+            return result;
+        }
+    }
+
+}
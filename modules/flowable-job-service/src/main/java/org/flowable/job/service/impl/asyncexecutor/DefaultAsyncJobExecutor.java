@@ -24,6 +24,7 @@ import org.flowable.common.engine.impl.cfg.TransactionPropagation;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
@@ -90,6 +91,12 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     /** The size of the queue on which jobs to be executed are placed */
     protected int queueSize = 100;
 
+    /**
+     * Whether the queue of the thread pool hands out the jobs with the highest priority first (see {@link AsyncJobPriorityQueue}),
+     * instead of in the order in which they were acquired
+     */
+    protected boolean jobPriorityQueueEnabled;
+
     /** Whether or not core threads can time out (which is needed to scale down the threads) */
     protected boolean allowCoreThreadTimeout = true;
 
@@ -116,6 +123,10 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
         try {
+            if (threadPoolQueue instanceof AsyncJobPriorityQueue) {
+                int priority = job instanceof Job ? ((Job) job).getPriority() : Job.DEFAULT_PRIORITY;
+                runnable = ((AsyncJobPriorityQueue) threadPoolQueue).prioritize(runnable, priority);
+            }
             executorService.execute(runnable);
             return true;
 
@@ -177,8 +188,13 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     protected void initAsyncJobExecutionThreadPool() {
         if (threadPoolQueue == null) {
-            LOGGER.info("Creating thread pool queue of size {}", queueSize);
-            threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
+            if (jobPriorityQueueEnabled) {
+                LOGGER.info("Creating thread pool priority queue of size {}", queueSize);
+                threadPoolQueue = new AsyncJobPriorityQueue(queueSize, jobServiceConfiguration.getAsyncExecutorJobPriorityAgingTime());
+            } else {
+                LOGGER.info("Creating thread pool queue of size {}", queueSize);
+                threadPoolQueue = new ArrayBlockingQueue<>(queueSize);
+            }
         }
 
         if (executorService == null) {
@@ -329,6 +345,14 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         return queueSize;
     }
 
+    public boolean isJobPriorityQueueEnabled() {
+        return jobPriorityQueueEnabled;
+    }
+
+    public void setJobPriorityQueueEnabled(boolean jobPriorityQueueEnabled) {
+        this.jobPriorityQueueEnabled = jobPriorityQueueEnabled;
+    }
+
     public boolean isAllowCoreThreadTimeout() {
         return allowCoreThreadTimeout;
     }
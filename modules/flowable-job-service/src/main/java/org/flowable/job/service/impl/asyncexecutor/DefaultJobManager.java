@@ -606,6 +606,7 @@ public class DefaultJobManager implements JobManager {
         copyToJob.setProcessDefinitionId(copyFromJob.getProcessDefinitionId());
         copyToJob.setElementId(copyFromJob.getElementId());
         copyToJob.setElementName(copyFromJob.getElementName());
+        copyToJob.setPriority(copyFromJob.getPriority());
         copyToJob.setProcessInstanceId(copyFromJob.getProcessInstanceId());
         copyToJob.setScopeId(copyFromJob.getScopeId());
         copyToJob.setSubScopeId(copyFromJob.getSubScopeId());
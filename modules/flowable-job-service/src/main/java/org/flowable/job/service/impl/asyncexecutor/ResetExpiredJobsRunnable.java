@@ -20,6 +20,7 @@ import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,6 +62,10 @@ public class ResetExpiredJobsRunnable implements Runnable {
 
             resetJobs();
 
+            if (asyncExecutor.getTimerJobPrefetchWindowInMillis() > 0) {
+                resetTimerJobs();
+            }
+
             // Sleep
             try {
 
@@ -127,6 +132,40 @@ public class ResetExpiredJobsRunnable implements Runnable {
 
     }
 
+    /**
+     * Resets timer jobs of which the lock expired. Timer jobs are only locked for a longer time when they are prefetched
+     * by the {@link AcquireTimerJobsRunnable}, which is why this only happens when timer job prefetching is enabled.
+     */
+    public void resetTimerJobs() {
+
+        boolean hasExpiredJobs = true;
+        while (hasExpiredJobs) {
+
+            try {
+
+                List<TimerJobEntity> expiredJobs = asyncExecutor.getJobServiceConfiguration().getCommandExecutor()
+                    .execute(new FindExpiredTimerJobsCmd(asyncExecutor.getResetExpiredJobsPageSize()));
+
+                List<String> expiredJobIds = expiredJobs.stream().map(TimerJobEntity::getId).collect(Collectors.toList());
+                if (!expiredJobIds.isEmpty()) {
+                    asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(new ResetExpiredTimerJobsCmd(expiredJobIds));
+
+                } else {
+                    hasExpiredJobs = false;
+
+                }
+
+            } catch (Throwable e) {
+                LOGGER.error("exception during resetting expired timer jobs: {} for engine {}", e.getMessage(),
+                                asyncExecutor.getJobServiceConfiguration().getEngineName(), e);
+                hasExpiredJobs = false; // will stop the loop
+
+            }
+
+        }
+
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
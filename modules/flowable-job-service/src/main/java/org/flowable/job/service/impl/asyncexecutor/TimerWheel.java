@@ -0,0 +1,235 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hashed timer wheel holding the ids of timer jobs that were prefetched (and locked) by the {@link AcquireTimerJobsRunnable}
+ * before they are due.
+ *
+ * The wheel consists of a fixed number of buckets, each covering one tick. A dedicated thread advances the wheel every tick and hands the
+ * timer jobs of the current bucket that are due to the expiration handler, so timers fire with the precision of one tick instead of the
+ * precision of the acquisition wait time. Scheduling and expiring a timer are constant time operations, independent of the number of timers
+ * in the wheel.
+ *
+ * The due dates are also kept as absolute times of the engine clock, which allows {@link #expireTimersDueBefore(long)} to fire timers
+ * when the engine clock moves independently of the system time (e.g. in tests).
+ */
+public class TimerWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TimerWheel.class);
+
+    protected final String threadName;
+    protected final long tickDurationInMillis;
+    protected final int mask;
+    protected final List<TimerWheelEntry>[] buckets;
+    protected final Map<String, TimerWheelEntry> entries = new ConcurrentHashMap<>();
+    protected final Consumer<String> expirationHandler;
+
+    protected final Object MONITOR = new Object();
+    protected volatile boolean isInterrupted;
+    protected Thread workerThread;
+    protected long startTime;
+    protected long tick;
+
+    /**
+     * @param wheelSize the number of buckets, rounded up to a power of two
+     * @param expirationHandler called with the id of every timer job that is due, on the thread of the wheel
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(String threadName, long tickDurationInMillis, int wheelSize, Consumer<String> expirationHandler) {
+        if (tickDurationInMillis <= 0) {
+            throw new IllegalArgumentException("tickDurationInMillis must be greater than 0");
+        }
+        this.threadName = threadName;
+        this.tickDurationInMillis = tickDurationInMillis;
+        this.expirationHandler = expirationHandler;
+
+        int normalizedWheelSize = 1;
+        while (normalizedWheelSize < wheelSize) {
+            normalizedWheelSize <<= 1;
+        }
+        this.mask = normalizedWheelSize - 1;
+        this.buckets = new List[normalizedWheelSize];
+        for (int i = 0; i < normalizedWheelSize; i++) {
+            buckets[i] = new LinkedList<>();
+        }
+    }
+
+    public void start() {
+        synchronized (MONITOR) {
+            if (workerThread != null) {
+                return;
+            }
+            isInterrupted = false;
+            startTime = System.nanoTime();
+            tick = 0;
+            workerThread = new Thread(this::run, threadName);
+            workerThread.setDaemon(true);
+            workerThread.start();
+        }
+    }
+
+    /**
+     * Stops the wheel thread and removes all timer jobs from the wheel.
+     *
+     * @return the ids of the timer jobs that were still in the wheel, which are still locked by this executor
+     */
+    public List<String> stop() {
+        Thread threadToJoin;
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            threadToJoin = workerThread;
+            workerThread = null;
+            MONITOR.notifyAll();
+        }
+
+        if (threadToJoin != null) {
+            try {
+                threadToJoin.join();
+            } catch (InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the timer wheel thread to terminate", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        List<String> remainingJobIds = new ArrayList<>(entries.keySet());
+        entries.clear();
+        synchronized (MONITOR) {
+            for (List<TimerWheelEntry> bucket : buckets) {
+                bucket.clear();
+            }
+        }
+        return remainingJobIds;
+    }
+
+    /**
+     * Adds a timer job to the wheel.
+     *
+     * @param delayInMillis the time until the timer job is due
+     * @param dueTime the due date of the timer job, according to the engine clock
+     */
+    public void schedule(String jobId, long delayInMillis, long dueTime) {
+        TimerWheelEntry entry = new TimerWheelEntry(jobId, dueTime);
+        if (entries.putIfAbsent(jobId, entry) != null) {
+            return;
+        }
+
+        synchronized (MONITOR) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            long deadlineTick = (elapsedMillis + Math.max(delayInMillis, 0L) + tickDurationInMillis - 1) / tickDurationInMillis;
+
+            // The current tick is processed already, so anything that is due now goes into the next one
+            deadlineTick = Math.max(deadlineTick, tick + 1);
+
+            entry.remainingRounds = (deadlineTick - tick - 1) / buckets.length;
+            buckets[(int) (deadlineTick & mask)].add(entry);
+        }
+    }
+
+    /**
+     * Fires all timer jobs in the wheel that are due at the given time of the engine clock, on the calling thread.
+     */
+    public void expireTimersDueBefore(long time) {
+        for (TimerWheelEntry entry : entries.values()) {
+            if (entry.dueTime <= time) {
+                expire(entry);
+            }
+        }
+    }
+
+    public boolean contains(String jobId) {
+        return entries.containsKey(jobId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    protected void run() {
+        while (!isInterrupted) {
+            List<TimerWheelEntry> expiredEntries = waitForNextTick();
+            for (TimerWheelEntry entry : expiredEntries) {
+                expire(entry);
+            }
+        }
+    }
+
+    protected List<TimerWheelEntry> waitForNextTick() {
+        synchronized (MONITOR) {
+            long deadline = (tick + 1) * tickDurationInMillis;
+            long millisToWait = deadline - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            while (millisToWait > 0 && !isInterrupted) {
+                try {
+                    MONITOR.wait(millisToWait);
+                } catch (InterruptedException e) {
+                    LOGGER.debug("timer wheel wait interrupted");
+                }
+                millisToWait = deadline - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            }
+
+            if (isInterrupted) {
+                return new ArrayList<>(0);
+            }
+
+            tick++;
+            List<TimerWheelEntry> expiredEntries = new ArrayList<>();
+            Iterator<TimerWheelEntry> iterator = buckets[(int) (tick & mask)].iterator();
+            while (iterator.hasNext()) {
+                TimerWheelEntry entry = iterator.next();
+                if (entry.remainingRounds <= 0) {
+                    iterator.remove();
+                    expiredEntries.add(entry);
+                } else {
+                    entry.remainingRounds--;
+                }
+            }
+            return expiredEntries;
+        }
+    }
+
+    protected void expire(TimerWheelEntry entry) {
+        // An entry can expire from the wheel thread and through expireTimersDueBefore, only the first one fires it
+        if (entries.remove(entry.jobId, entry)) {
+            try {
+                expirationHandler.accept(entry.jobId);
+            } catch (Throwable e) {
+                LOGGER.error("exception while firing prefetched timer job {}: {}", entry.jobId, e.getMessage(), e);
+            }
+        }
+    }
+
+    protected static class TimerWheelEntry {
+
+        protected final String jobId;
+        protected final long dueTime;
+        protected long remainingRounds;
+
+        public TimerWheelEntry(String jobId, long dueTime) {
+            this.jobId = jobId;
+            this.dueTime = dueTime;
+        }
+    }
+
+}
@@ -14,6 +14,7 @@
 package org.flowable.job.service.impl.asyncexecutor.multitenant;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -22,6 +23,7 @@ import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPartition;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
 import org.slf4j.Logger;
@@ -296,4 +298,64 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
     }
 
+    @Override
+    public int getTimerJobPrefetchWindowInMillis() {
+        return determineAsyncExecutor().getTimerJobPrefetchWindowInMillis();
+    }
+
+    @Override
+    public void setTimerJobPrefetchWindowInMillis(int timerJobPrefetchWindowInMillis) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setTimerJobPrefetchWindowInMillis(timerJobPrefetchWindowInMillis);
+        }
+    }
+
+    @Override
+    public int getTimerWheelTickDurationInMillis() {
+        return determineAsyncExecutor().getTimerWheelTickDurationInMillis();
+    }
+
+    @Override
+    public void setTimerWheelTickDurationInMillis(int timerWheelTickDurationInMillis) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setTimerWheelTickDurationInMillis(timerWheelTickDurationInMillis);
+        }
+    }
+
+    @Override
+    public int getTimerWheelSize() {
+        return determineAsyncExecutor().getTimerWheelSize();
+    }
+
+    @Override
+    public void setTimerWheelSize(int timerWheelSize) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setTimerWheelSize(timerWheelSize);
+        }
+    }
+
+    @Override
+    public boolean isAdaptiveAsyncJobAcquisition() {
+        return determineAsyncExecutor().isAdaptiveAsyncJobAcquisition();
+    }
+
+    @Override
+    public void setAdaptiveAsyncJobAcquisition(boolean adaptiveAsyncJobAcquisition) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setAdaptiveAsyncJobAcquisition(adaptiveAsyncJobAcquisition);
+        }
+    }
+
+    @Override
+    public List<AsyncJobPartition> getAsyncJobPartitions() {
+        return determineAsyncExecutor().getAsyncJobPartitions();
+    }
+
+    @Override
+    public void setAsyncJobPartitions(List<AsyncJobPartition> asyncJobPartitions) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setAsyncJobPartitions(asyncJobPartitions);
+        }
+    }
+
 }
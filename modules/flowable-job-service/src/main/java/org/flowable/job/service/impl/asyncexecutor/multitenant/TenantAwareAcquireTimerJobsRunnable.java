@@ -44,4 +44,20 @@ public class TenantAwareAcquireTimerJobsRunnable extends AcquireTimerJobsRunnabl
         tenantInfoHolder.clearCurrentTenantId();
     }
 
+    @Override
+    protected void moveTimerJobToExecutableJob(String jobId) {
+        // Mostly called from the thread of the timer wheel, which doesn't have a current tenant
+        if (tenantId.equals(tenantInfoHolder.getCurrentTenantId())) {
+            super.moveTimerJobToExecutableJob(jobId);
+            return;
+        }
+
+        tenantInfoHolder.setCurrentTenantId(tenantId);
+        try {
+            super.moveTimerJobToExecutableJob(jobId);
+        } finally {
+            tenantInfoHolder.clearCurrentTenantId();
+        }
+    }
+
 }
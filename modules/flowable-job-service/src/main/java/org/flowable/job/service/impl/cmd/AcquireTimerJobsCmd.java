@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -30,19 +31,41 @@ import org.flowable.job.service.impl.util.CommandContextUtil;
 public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
 
     private final AsyncExecutor asyncExecutor;
+    private final int prefetchWindowInMillis;
 
     public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor) {
+        this(asyncExecutor, 0);
+    }
+
+    /**
+     * Acquires the timer jobs that are due within the given window from now, instead of only those that are already due.
+     * The lock of a timer that is not yet due is extended with the time until its due date.
+     */
+    public AcquireTimerJobsCmd(AsyncExecutor asyncExecutor, int prefetchWindowInMillis) {
         this.asyncExecutor = asyncExecutor;
+        this.prefetchWindowInMillis = prefetchWindowInMillis;
     }
 
     @Override
     public AcquiredTimerJobEntities execute(CommandContext commandContext) {
         AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
-        List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
-                .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
-        
+        List<TimerJobEntity> timerJobs;
+        if (prefetchWindowInMillis > 0) {
+            Date now = CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime();
+            timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
+                    .findTimerJobsDueBefore(new Date(now.getTime() + prefetchWindowInMillis), new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+
+        } else {
+            timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
+                    .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+        }
+
         for (TimerJobEntity job : timerJobs) {
-            lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
+            if (prefetchWindowInMillis > 0) {
+                lockJob(commandContext, job, asyncExecutor.getTimerLockTimeInMillis());
+            } else {
+                lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
+            }
             acquiredJobs.addJob(job);
         }
 
@@ -54,8 +77,14 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         // This will trigger an optimistic locking exception when two concurrent executors
         // try to lock, as the revision will not match.
 
+        Date lockStartTime = CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime();
+        if (job.getDuedate() != null && job.getDuedate().after(lockStartTime)) {
+            // A prefetched timer is held until its due date, so the lock only starts to count down from then on
+            lockStartTime = job.getDuedate();
+        }
+
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
-        gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
+        gregorianCalendar.setTime(lockStartTime);
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
         job.setLockOwner(asyncExecutor.getLockOwner());
         job.setLockExpirationTime(gregorianCalendar.getTime());
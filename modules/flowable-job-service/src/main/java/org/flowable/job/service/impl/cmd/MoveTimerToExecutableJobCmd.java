@@ -34,11 +34,21 @@ public class MoveTimerToExecutableJobCmd implements Command<JobEntity>, Serializ
     private static final Logger LOGGER = LoggerFactory.getLogger(MoveTimerToExecutableJobCmd.class);
 
     protected String jobId;
+    protected String lockOwner;
 
     public MoveTimerToExecutableJobCmd(String jobId) {
         this.jobId = jobId;
     }
 
+    /**
+     * Only moves the timer job when it is still locked by the given lock owner. Nothing is done otherwise, as the timer job
+     * was removed or its lock was reset in the meantime (for example when it was prefetched by an executor that did not move it in time).
+     */
+    public MoveTimerToExecutableJobCmd(String jobId, String lockOwner) {
+        this.jobId = jobId;
+        this.lockOwner = lockOwner;
+    }
+
     @Override
     public JobEntity execute(CommandContext commandContext) {
 
@@ -48,6 +58,11 @@ public class MoveTimerToExecutableJobCmd implements Command<JobEntity>, Serializ
 
         TimerJobEntity timerJob = CommandContextUtil.getTimerJobEntityManager(commandContext).findById(jobId);
 
+        if (lockOwner != null && (timerJob == null || !lockOwner.equals(timerJob.getLockOwner()))) {
+            LOGGER.debug("Timer job {} is no longer locked by {}, not moving it to the executable jobs", jobId, lockOwner);
+            return null;
+        }
+
         if (timerJob == null) {
             throw new JobNotFoundException(jobId);
         }
@@ -63,4 +78,8 @@ public class MoveTimerToExecutableJobCmd implements Command<JobEntity>, Serializ
         return jobId;
     }
 
+    public String getLockOwner() {
+        return lockOwner;
+    }
+
 }
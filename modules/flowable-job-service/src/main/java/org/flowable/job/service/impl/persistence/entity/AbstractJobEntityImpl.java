@@ -39,6 +39,8 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
     
     protected String elementId;
     protected String elementName;
+
+    protected int priority = DEFAULT_PRIORITY;
     
     protected String scopeId;
     protected String subScopeId;
@@ -74,6 +76,7 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
         persistentState.put("processDefinitionId", processDefinitionId);
         persistentState.put("elementId", elementId);
         persistentState.put("elementName", elementName);
+        persistentState.put("priority", priority);
         
         if (customValuesByteArrayRef != null) {
             persistentState.put("customValuesByteArrayRef", customValuesByteArrayRef);
@@ -178,6 +181,16 @@ public abstract class AbstractJobEntityImpl extends AbstractJobServiceEntity imp
         this.elementName = elementName;
     }
 
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+
     @Override
     public String getScopeId() {
         return scopeId;
@@ -32,6 +32,8 @@ public interface AbstractRuntimeJobEntity extends Job, AbstractJobEntity {
     
     void setElementName(String elementName);
 
+    void setPriority(int priority);
+
     void setScopeId(String scopeId);
 
     void setSubScopeId(String subScopeId);
@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
@@ -113,4 +114,9 @@ public class DeadLetterJobEntityManagerImpl
         return newJobEntity;
     }
 
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -31,5 +32,15 @@ public interface JobByteArrayEntityManager extends EntityManager<JobByteArrayEnt
      * only in conjunction with an entity that has optimistic locking!.
      */
     void deleteByteArrayById(String byteArrayEntityId);
+    
+    /**
+     * Deletes the {@link JobByteArrayEntity} instances with the given ids with one statement, without optimistic locking (see {@link #deleteByteArrayById(String)}).
+     */
+    void deleteByteArraysByIds(Collection<String> byteArrayEntityIds);
+    
+    /**
+     * Returns the ids of the exception stacktrace and custom values byte arrays of all jobs (executable, timer, suspended and dead letter) of the given process instances.
+     */
+    List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
 
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.service.JobServiceConfiguration;
@@ -39,5 +40,15 @@ public class JobByteArrayEntityManagerImpl
     public void deleteByteArrayById(String byteArrayEntityId) {
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
+    
+    @Override
+    public void deleteByteArraysByIds(Collection<String> byteArrayEntityIds) {
+        dataManager.deleteByteArraysNoRevisionCheck(byteArrayEntityIds);
+    }
+    
+    @Override
+    public List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return dataManager.findJobByteArrayIdsByProcessInstanceIds(processInstanceIds);
+    }
 
 }
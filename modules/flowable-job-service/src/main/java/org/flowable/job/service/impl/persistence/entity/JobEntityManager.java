@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -40,5 +41,10 @@ public interface JobEntityManager extends EntityManager<JobEntity>, JobInfoEntit
      * Same as {@link #findJobsByQueryCriteria(JobQueryImpl)}, but only returns a count and not the instances itself.
      */
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
+
+    /**
+     * Deletes all jobs of the given process instances with one statement. The byte arrays referenced by the jobs are not deleted.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
     
 }
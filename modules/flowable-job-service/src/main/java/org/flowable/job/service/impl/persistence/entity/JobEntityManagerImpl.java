@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
@@ -92,4 +93,9 @@ public class JobEntityManagerImpl
         super.delete(entity, fireDeleteEvent);
     }
 
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
+
 }
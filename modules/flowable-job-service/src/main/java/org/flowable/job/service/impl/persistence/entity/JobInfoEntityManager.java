@@ -16,6 +16,7 @@ import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPartition;
 
 public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityManager<T> {
 
@@ -26,6 +27,11 @@ public interface JobInfoEntityManager <T extends JobInfoEntity> extends EntityMa
      */
     List<T> findJobsToExecute(Page page);
 
+    /**
+     * Returns {@link JobEntity} that are eligible to be executed and belong to the given {@link AsyncJobPartition}.
+     */
+    List<T> findJobsToExecute(AsyncJobPartition partition, Page page);
+
     /**
      * Returns all {@link JobEntity} instances related to on ExecutionEntity.
      */
@@ -17,6 +17,7 @@ import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
 import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPartition;
 import org.flowable.job.service.impl.persistence.entity.data.JobInfoDataManager;
 
 /**
@@ -37,6 +38,11 @@ public abstract class JobInfoEntityManagerImpl<T extends JobInfoEntity, DM exten
         return dataManager.findJobsToExecute(page);
     }
 
+    @Override
+    public List<T> findJobsToExecute(AsyncJobPartition partition, Page page) {
+        return dataManager.findJobsToExecute(partition, page);
+    }
+
     @Override
     public List<T> findJobsByExecutionId(String executionId) {
         return dataManager.findJobsByExecutionId(executionId);
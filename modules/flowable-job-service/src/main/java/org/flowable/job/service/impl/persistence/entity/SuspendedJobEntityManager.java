@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -48,5 +49,10 @@ public interface SuspendedJobEntityManager extends EntityManager<SuspendedJobEnt
      * Changes the tenantId for all jobs related to a given {@link DeploymentEntity}.
      */
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
+
+    /**
+     * Deletes all jobs of the given process instances with one statement. The byte arrays referenced by the jobs are not deleted.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
     
 }
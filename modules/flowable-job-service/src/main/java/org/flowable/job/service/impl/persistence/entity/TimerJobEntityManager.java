@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -40,6 +42,23 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Same as {@link #findTimerJobsToExecute(Page)}, but returns the unlocked {@link TimerJobEntity} instances of which the due date is before the given date,
+     * which can be in the future. This is used to prefetch timers that are due soon.
+     */
+    List<TimerJobEntity> findTimerJobsDueBefore(Date dueDate, Page page);
+
+    /**
+     * Returns the {@link TimerJobEntity} instances of which the lock has expired, which means that the executor that acquired them did not move them
+     * to the executable jobs in time (for example because it went down).
+     */
+    List<TimerJobEntity> findExpiredJobs(Page page);
+
+    /**
+     * Removes the lock of an expired {@link TimerJobEntity}, so it can be acquired again by any executor.
+     */
+    void resetExpiredJob(String jobId);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
@@ -93,5 +112,10 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      * Changes the tenantId for all jobs related to a given {@link DeploymentEntity}.
      */
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
+
+    /**
+     * Deletes all jobs of the given process instances with one statement. The byte arrays referenced by the jobs are not deleted.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
     
 }
@@ -14,6 +14,7 @@
 package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -65,6 +66,21 @@ public class TimerJobEntityManagerImpl
         return dataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> findTimerJobsDueBefore(Date dueDate, Page page) {
+        return dataManager.findTimerJobsDueBefore(dueDate, page);
+    }
+
+    @Override
+    public List<TimerJobEntity> findExpiredJobs(Page page) {
+        return dataManager.findExpiredJobs(page);
+    }
+
+    @Override
+    public void resetExpiredJob(String jobId) {
+        dataManager.resetExpiredJob(jobId);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return dataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
@@ -214,4 +230,10 @@ public class TimerJobEntityManagerImpl
         }
         return times;
     }
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
+
 }
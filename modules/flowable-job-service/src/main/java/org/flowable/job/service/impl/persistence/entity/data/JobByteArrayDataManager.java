@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -25,5 +26,9 @@ public interface JobByteArrayDataManager extends DataManager<JobByteArrayEntity>
     List<JobByteArrayEntity> findAll();
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
+    
+    void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds);
+    
+    List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
 
 }
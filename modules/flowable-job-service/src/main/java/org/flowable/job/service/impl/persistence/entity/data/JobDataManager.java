@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -29,5 +30,7 @@ public interface JobDataManager extends DataManager<JobEntity>, JobInfoDataManag
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
 
     void deleteJobsByExecutionId(String executionId);
+
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
     
 }
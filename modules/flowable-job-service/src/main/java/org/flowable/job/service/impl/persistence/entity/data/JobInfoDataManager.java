@@ -16,12 +16,15 @@ import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPartition;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 
 public interface JobInfoDataManager<T extends JobInfoEntity> extends DataManager<T> {
 
     List<T> findJobsToExecute(Page page);
 
+    List<T> findJobsToExecute(AsyncJobPartition partition, Page page);
+
     List<T> findJobsByExecutionId(final String executionId);
 
     List<T> findJobsByProcessInstanceId(final String processInstanceId);
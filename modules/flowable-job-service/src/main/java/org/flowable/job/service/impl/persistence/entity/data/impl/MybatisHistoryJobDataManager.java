@@ -23,6 +23,7 @@ import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.HistoryJobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPartition;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.HistoryJobDataManager;
@@ -66,6 +67,21 @@ public class MybatisHistoryJobDataManager extends AbstractDataManager<HistoryJob
         return getDbSqlSession().selectList("selectHistoryJobsToExecute", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoryJobEntity> findJobsToExecute(AsyncJobPartition partition, Page page) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("jobExecutionScope", jobServiceConfiguration.getHistoryJobExecutionScope());
+        parameters.put("partition", partition);
+
+        ListQueryParameterObject params = new ListQueryParameterObject();
+        params.setParameter(parameters);
+        params.setFirstResult(page.getFirstResult());
+        params.setMaxResults(page.getMaxResults());
+        params.setOrderByColumns("CREATE_TIME_ ASC");
+        return getDbSqlSession().selectList("selectHistoryJobsToExecuteInPartition", params);
+    }
+
     @Override
     public List<HistoryJobEntity> findJobsByExecutionId(final String executionId) {
         return getDbSqlSession().selectList("selectHistoryJobsByExecutionId", executionId);
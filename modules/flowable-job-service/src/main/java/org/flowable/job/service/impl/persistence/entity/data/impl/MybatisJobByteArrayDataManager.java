@@ -12,9 +12,13 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.job.service.impl.persistence.entity.JobByteArrayEntity;
 import org.flowable.job.service.impl.persistence.entity.JobByteArrayEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.JobByteArrayDataManager;
@@ -44,5 +48,25 @@ public class MybatisJobByteArrayDataManager extends AbstractDataManager<JobByteA
     public void deleteByteArrayNoRevisionCheck(String byteArrayEntityId) {
         getDbSqlSession().delete("deleteJobByteArrayNoRevisionCheck", byteArrayEntityId, JobByteArrayEntityImpl.class);
     }
+    
+    @Override
+    public void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> byteArrayEntityIdsChunk : CollectionUtil.partition(byteArrayEntityIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteJobByteArraysNoRevisionCheck", byteArrayEntityIdsChunk, JobByteArrayEntityImpl.class);
+        }
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // The query binds the ids once for each of its eight selects (two byte array columns in four job tables)
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<String> byteArrayIds = new ArrayList<>();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT / 8)) {
+            byteArrayIds.addAll(dbSqlSession.selectList("selectJobByteArrayIdsByProcessInstanceIds", processInstanceIdsChunk));
+        }
+        return byteArrayIds;
+    }
 
 }
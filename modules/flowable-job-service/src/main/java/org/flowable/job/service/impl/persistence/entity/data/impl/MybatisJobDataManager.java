@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -20,10 +22,13 @@ import java.util.Map;
 import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.JobQueryImpl;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobPartition;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobEntityImpl;
 import org.flowable.job.service.impl.persistence.entity.data.JobDataManager;
@@ -58,12 +63,62 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<JobEntity> findJobsToExecute(Page page) {
         HashMap<String, Object> params = new HashMap<>();
         params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
         
-        return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+        return findJobsToExecute(params, page);
+    }
+
+    @Override
+    public List<JobEntity> findJobsToExecute(AsyncJobPartition partition, Page page) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("partition", partition);
+
+        return findJobsToExecute(params, page);
+    }
+
+    /**
+     * When acquisition by priority is enabled, jobs are acquired by priority (highest first) and then by create time (oldest first).
+     * When a priority aging time is configured as well, the jobs that were created longer than the aging time ago are acquired first (oldest first),
+     * so jobs with a low priority can't be starved by a steady stream of higher priority jobs.
+     */
+    @SuppressWarnings("unchecked")
+    protected List<JobEntity> findJobsToExecute(Map<String, Object> params, Page page) {
+        if (!jobServiceConfiguration.isAsyncExecutorJobPriorityAcquisitionEnabled()) {
+            return getDbSqlSession().selectList("selectJobsToExecute", params, page);
+        }
+
+        int agingTime = jobServiceConfiguration.getAsyncExecutorJobPriorityAgingTime();
+        if (agingTime <= 0) {
+            return selectJobsToExecute(params, page.getFirstResult(), page.getMaxResults(), "PRIORITY_ DESC, CREATE_TIME_ ASC");
+        }
+
+        Date agedBefore = new Date(jobServiceConfiguration.getClock().getCurrentTime().getTime() - agingTime);
+        Map<String, Object> agedJobParams = new HashMap<>(params);
+        agedJobParams.put("createdBefore", agedBefore);
+        List<JobEntity> jobs = selectJobsToExecute(agedJobParams, page.getFirstResult(), page.getMaxResults(), "CREATE_TIME_ ASC");
+
+        if (jobs.size() < page.getMaxResults()) {
+            Map<String, Object> otherJobParams = new HashMap<>(params);
+            otherJobParams.put("createdOnOrAfter", agedBefore);
+            jobs.addAll(selectJobsToExecute(otherJobParams, 0, page.getMaxResults() - jobs.size(), "PRIORITY_ DESC, CREATE_TIME_ ASC"));
+        }
+        return jobs;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<JobEntity> selectJobsToExecute(Map<String, Object> parameters, int firstResult, int maxResults, String orderByColumns) {
+        parameters.put("orderByPriority", true);
+        ListQueryParameterObject params = new ListQueryParameterObject();
+        params.setParameter(parameters);
+
+        // Needed for db2/sqlserver (see limitBetween in mssql.properties), otherwise ordering will be incorrect
+        params.setFirstResult(firstResult);
+        params.setMaxResults(maxResults);
+        params.setOrderByColumns(orderByColumns);
+        return new ArrayList<>(getDbSqlSession().selectList("selectJobsToExecute", params));
     }
 
     @Override
@@ -134,4 +189,12 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         }
     }
 
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteJobsByProcessInstanceIds", processInstanceIdsChunk, JobEntityImpl.class);
+        }
+    }
+    
 }
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.el.ExpressionManager;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+
+/**
+ * Sets the priority of a job from the <code>asyncPriority</code> of the element for which the job is created.
+ * The async priority is either a number or an expression resolving to a number (or a String containing a number).
+ */
+public class JobPriorityUtil {
+
+    public static void setPriority(AbstractRuntimeJobEntity job, String asyncPriority, ExpressionManager expressionManager, VariableContainer variableContainer) {
+        job.setPriority(resolvePriority(asyncPriority, expressionManager, variableContainer));
+    }
+
+    public static int resolvePriority(String asyncPriority, ExpressionManager expressionManager, VariableContainer variableContainer) {
+        if (StringUtils.isEmpty(asyncPriority)) {
+            return Job.DEFAULT_PRIORITY;
+        }
+
+        Object value = asyncPriority;
+        if (asyncPriority.contains("${") || asyncPriority.contains("#{")) {
+            value = expressionManager.createExpression(asyncPriority).getValue(variableContainer);
+        }
+
+        if (value == null) {
+            return Job.DEFAULT_PRIORITY;
+
+        } else if (value instanceof Number) {
+            return ((Number) value).intValue();
+
+        } else if (value instanceof String) {
+            try {
+                return Integer.parseInt(((String) value).trim());
+            } catch (NumberFormatException e) {
+                throw new FlowableIllegalArgumentException("Async priority '" + asyncPriority + "' does not resolve to a number: " + value, e);
+            }
+        }
+
+        throw new FlowableIllegalArgumentException("Async priority '" + asyncPriority + "' does not resolve to a number: " + value);
+    }
+
+}
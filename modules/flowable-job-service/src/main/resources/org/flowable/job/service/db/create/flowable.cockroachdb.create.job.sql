@@ -23,6 +23,7 @@ CREATE TABLE ACT_RU_JOB (
     HANDLER_CFG_ varchar(4000),
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
+    PRIORITY_ integer default 0 not null,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 );
@@ -52,6 +53,7 @@ CREATE TABLE ACT_RU_TIMER_JOB (
     HANDLER_CFG_ varchar(4000),
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
+    PRIORITY_ integer default 0 not null,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 );
@@ -79,6 +81,7 @@ CREATE TABLE ACT_RU_SUSPENDED_JOB (
     HANDLER_CFG_ varchar(4000),
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
+    PRIORITY_ integer default 0 not null,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 );
@@ -105,6 +108,7 @@ CREATE TABLE ACT_RU_DEADLETTER_JOB (
     HANDLER_CFG_ varchar(4000),
     CUSTOM_VALUES_ID_ varchar(64),
     CREATE_TIME_ timestamp,
+    PRIORITY_ integer default 0 not null,
     TENANT_ID_ varchar(255) default '',
     primary key (ID_)
 );
@@ -142,6 +146,7 @@ create index ACT_IDX_DEADLETTER_JOB_CUSTOM_VALUES_ID on ACT_RU_DEADLETTER_JOB(CU
 create index ACT_IDX_JOB_SCOPE on ACT_RU_JOB(SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_JOB_SUB_SCOPE on ACT_RU_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_JOB_SCOPE_DEF on ACT_RU_JOB(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
+create index ACT_IDX_JOB_PRIORITY on ACT_RU_JOB(PRIORITY_ desc, CREATE_TIME_);
 
 create index ACT_IDX_TJOB_SCOPE on ACT_RU_TIMER_JOB(SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_TJOB_SUB_SCOPE on ACT_RU_TIMER_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
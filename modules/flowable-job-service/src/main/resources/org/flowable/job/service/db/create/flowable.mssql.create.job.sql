@@ -23,6 +23,7 @@ create table ACT_RU_JOB (
     HANDLER_CFG_ nvarchar(4000),
     CUSTOM_VALUES_ID_ nvarchar(64),
     CREATE_TIME_ datetime2 NULL,
+    PRIORITY_ int default 0 not null,
     TENANT_ID_ nvarchar(255) default '',
     primary key (ID_)
 );
@@ -52,6 +53,7 @@ create table ACT_RU_TIMER_JOB (
     HANDLER_CFG_ nvarchar(4000),
     CUSTOM_VALUES_ID_ nvarchar(64),
     CREATE_TIME_ datetime2 NULL,
+    PRIORITY_ int default 0 not null,
     TENANT_ID_ nvarchar(255) default '',
     primary key (ID_)
 );
@@ -79,6 +81,7 @@ create table ACT_RU_SUSPENDED_JOB (
     HANDLER_CFG_ nvarchar(4000),
     CUSTOM_VALUES_ID_ nvarchar(64),
     CREATE_TIME_ datetime2 NULL,
+    PRIORITY_ int default 0 not null,
     TENANT_ID_ nvarchar(255) default '',
     primary key (ID_)
 );
@@ -105,6 +108,7 @@ create table ACT_RU_DEADLETTER_JOB (
     HANDLER_CFG_ nvarchar(4000),
     CUSTOM_VALUES_ID_ nvarchar(64),
     CREATE_TIME_ datetime2 NULL,
+    PRIORITY_ int default 0 not null,
     TENANT_ID_ nvarchar(255) default '',
     primary key (ID_)
 );
@@ -182,6 +186,7 @@ alter table ACT_RU_DEADLETTER_JOB
 create index ACT_IDX_JOB_SCOPE on ACT_RU_JOB(SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_JOB_SUB_SCOPE on ACT_RU_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_JOB_SCOPE_DEF on ACT_RU_JOB(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
+create index ACT_IDX_JOB_PRIORITY on ACT_RU_JOB(PRIORITY_ desc, CREATE_TIME_);
 
 create index ACT_IDX_TJOB_SCOPE on ACT_RU_TIMER_JOB(SCOPE_ID_, SCOPE_TYPE_);
 create index ACT_IDX_TJOB_SUB_SCOPE on ACT_RU_TIMER_JOB(SUB_SCOPE_ID_, SCOPE_TYPE_);
@@ -1,6 +1,7 @@
 drop index if exists ACT_IDX_JOB_SCOPE;
 drop index if exists ACT_IDX_JOB_SUB_SCOPE;
 drop index if exists ACT_IDX_JOB_SCOPE_DEF;
+drop index if exists ACT_IDX_JOB_PRIORITY;
 drop index if exists ACT_IDX_TJOB_SCOPE;
 drop index if exists ACT_IDX_TJOB_SUB_SCOPE;
 drop index if exists ACT_IDX_TJOB_SCOPE_DEF;
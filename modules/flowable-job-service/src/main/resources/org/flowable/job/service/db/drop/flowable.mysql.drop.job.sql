@@ -1,6 +1,7 @@
 drop index ACT_IDX_JOB_SCOPE on ACT_RU_JOB;
 drop index ACT_IDX_JOB_SUB_SCOPE on ACT_RU_JOB;
 drop index ACT_IDX_JOB_SCOPE_DEF on ACT_RU_JOB;
+drop index ACT_IDX_JOB_PRIORITY on ACT_RU_JOB;
 drop index ACT_IDX_TJOB_SCOPE on ACT_RU_TIMER_JOB;
 drop index ACT_IDX_TJOB_SUB_SCOPE on ACT_RU_TIMER_JOB;
 drop index ACT_IDX_TJOB_SCOPE_DEF on ACT_RU_TIMER_JOB;
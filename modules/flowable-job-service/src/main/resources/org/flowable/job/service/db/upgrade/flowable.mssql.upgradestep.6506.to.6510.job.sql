@@ -0,0 +1,6 @@
+alter table ACT_RU_JOB add PRIORITY_ int default 0 not null;
+alter table ACT_RU_TIMER_JOB add PRIORITY_ int default 0 not null;
+alter table ACT_RU_SUSPENDED_JOB add PRIORITY_ int default 0 not null;
+alter table ACT_RU_DEADLETTER_JOB add PRIORITY_ int default 0 not null;
+
+create index ACT_IDX_JOB_PRIORITY on ACT_RU_JOB(PRIORITY_ desc, CREATE_TIME_);
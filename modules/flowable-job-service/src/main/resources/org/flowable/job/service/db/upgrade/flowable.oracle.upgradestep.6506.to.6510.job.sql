@@ -0,0 +1,6 @@
+alter table ACT_RU_JOB add PRIORITY_ INTEGER DEFAULT 0 NOT NULL;
+alter table ACT_RU_TIMER_JOB add PRIORITY_ INTEGER DEFAULT 0 NOT NULL;
+alter table ACT_RU_SUSPENDED_JOB add PRIORITY_ INTEGER DEFAULT 0 NOT NULL;
+alter table ACT_RU_DEADLETTER_JOB add PRIORITY_ INTEGER DEFAULT 0 NOT NULL;
+
+create index ACT_IDX_JOB_PRIORITY on ACT_RU_JOB(PRIORITY_ desc, CREATE_TIME_);
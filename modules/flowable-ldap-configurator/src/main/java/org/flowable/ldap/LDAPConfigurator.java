@@ -12,7 +12,9 @@
  */
 package org.flowable.ldap;
 
+import org.flowable.common.engine.api.Engine;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.engine.EngineLifecycleListener;
 import org.flowable.common.engine.impl.AbstractEngineConfiguration;
 import org.flowable.common.engine.impl.EngineConfigurator;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
@@ -55,12 +57,47 @@ public class LDAPConfigurator extends IdmEngineConfigurator {
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
             }
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getCacheRefreshAheadTime());
+        }
+
+        LDAPUserCache ldapUserCache = null;
+        if (ldapConfiguration.getUserCacheSize() > 0) {
+            ldapUserCache = new LDAPUserCache(ldapConfiguration.getUserCacheSize(),
+                    ldapConfiguration.getUserCacheExpirationTime(), engineConfiguration::getClock);
+            ldapUserCache.setRefreshAheadTime(ldapConfiguration.getCacheRefreshAheadTime());
+        }
+        
+        if (ldapGroupCache != null || ldapUserCache != null) {
+            engineConfiguration.addEngineLifecycleListener(createCacheCloseListener(ldapGroupCache, ldapUserCache));
         }
         
         super.configure(engineConfiguration);
         
         getIdmEngineConfiguration(engineConfiguration)
-                .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache));
+                .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, ldapGroupCache, ldapUserCache));
+    }
+
+    /**
+     * Stops the background refreshes of the caches when the engine is closed.
+     */
+    protected EngineLifecycleListener createCacheCloseListener(LDAPGroupCache ldapGroupCache, LDAPUserCache ldapUserCache) {
+        return new EngineLifecycleListener() {
+
+            @Override
+            public void onEngineBuilt(Engine engine) {
+                // Nothing to do
+            }
+
+            @Override
+            public void onEngineClosed(Engine engine) {
+                if (ldapGroupCache != null) {
+                    ldapGroupCache.close();
+                }
+                if (ldapUserCache != null) {
+                    ldapUserCache.close();
+                }
+            }
+        };
     }
 
     // Getters and Setters //////////////////////////////////////////////////
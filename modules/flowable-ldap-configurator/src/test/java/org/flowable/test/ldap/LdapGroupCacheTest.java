@@ -12,13 +12,17 @@
  */
 package org.flowable.test.ldap;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 
 import org.flowable.engine.impl.util.EngineServiceUtil;
 import org.flowable.engine.test.Deployment;
+import org.flowable.idm.api.User;
 import org.flowable.ldap.LDAPGroupCache;
 import org.flowable.ldap.LDAPGroupCache.LDAPGroupCacheListener;
 import org.flowable.ldap.LDAPIdentityServiceImpl;
+import org.flowable.ldap.LDAPUserCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ContextConfiguration;
@@ -27,14 +31,21 @@ import org.springframework.test.context.ContextConfiguration;
 public class LdapGroupCacheTest extends LDAPTestCase {
 
     protected TestLDAPGroupCacheListener cacheListener;
+    protected LDAPGroupCache ldapGroupCache;
+    protected LDAPUserCache ldapUserCache;
 
     @BeforeEach
     protected void setUp() throws Exception {
 
         // Set test cache listener
-        LDAPGroupCache ldapGroupCache = ((LDAPIdentityServiceImpl) 
-                        EngineServiceUtil.getIdmIdentityService(processEngineConfiguration)).getLdapGroupCache();
+        LDAPIdentityServiceImpl ldapIdentityService = (LDAPIdentityServiceImpl) EngineServiceUtil.getIdmIdentityService(processEngineConfiguration);
+        ldapGroupCache = ldapIdentityService.getLdapGroupCache();
         ldapGroupCache.clear();
+        ldapGroupCache.resetStatistics();
+
+        ldapUserCache = ldapIdentityService.getLdapUserCache();
+        ldapUserCache.clear();
+        ldapUserCache.resetStatistics();
 
         cacheListener = new TestLDAPGroupCacheListener();
         ldapGroupCache.setLdapCacheListener(cacheListener);
@@ -96,6 +107,58 @@ public class LdapGroupCacheTest extends LDAPTestCase {
         assertEquals("fozzie", cacheListener.getLastCacheMiss());
     }
 
+    @Test
+    public void testLdapGroupCacheGroupMembers() {
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertEquals(1, ldapGroupCache.getMissCount());
+
+        // Kermit's groups come from the cache, the groups of pepe and fozzie are fetched with one search
+        assertEquals(3, identityService.createGroupQuery().groupMembers(Arrays.asList("kermit", "pepe", "fozzie")).count());
+        assertEquals(1, ldapGroupCache.getHitCount());
+        assertEquals(3, ldapGroupCache.getMissCount());
+        assertEquals(1, ldapGroupCache.size());
+    }
+
+    @Test
+    public void testLdapUserCache() {
+        assertEquals("kermit", identityService.createUserQuery().userId("kermit").singleResult().getId());
+        assertEquals("kermit", identityService.createUserQuery().userId("kermit").singleResult().getId());
+        assertEquals(1, ldapUserCache.getHitCount());
+        assertEquals(1, ldapUserCache.getMissCount());
+
+        // Kermit comes from the cache, pepe and fozzie are fetched with one search and cached
+        assertEquals(3, identityService.createUserQuery().userIds(Arrays.asList("kermit", "pepe", "fozzie")).list().size());
+        assertEquals(2, ldapUserCache.getHitCount());
+        assertEquals(3, ldapUserCache.getMissCount());
+
+        assertEquals(3, identityService.createUserQuery().userIds(Arrays.asList("kermit", "pepe", "fozzie")).list().size());
+        assertEquals(5, ldapUserCache.getHitCount());
+        assertEquals(3, ldapUserCache.size());
+        assertEquals(5.0 / 8, ldapUserCache.getHitRatio(), 0.001);
+    }
+
+    @Test
+    public void testLdapUserCacheReturnsCopies() {
+        User user = identityService.createUserQuery().userId("kermit").singleResult();
+        String firstName = user.getFirstName();
+        user.setFirstName("changed");
+
+        User cachedUser = identityService.createUserQuery().userId("kermit").singleResult();
+        assertEquals(1, ldapUserCache.getHitCount());
+        assertEquals(firstName, cachedUser.getFirstName());
+        assertNotSame(cachedUser, identityService.createUserQuery().userId("kermit").singleResult());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testLdapGroupCacheMap() {
+        assertEquals(0, taskService.createTaskQuery().taskCandidateUser("kermit").count());
+        assertTrue(ldapGroupCache.getGroupCache().containsKey("kermit"));
+
+        ldapGroupCache.setGroupCache(new HashMap<>());
+        assertEquals(0, ldapGroupCache.size());
+    }
+
     // Test cache listener
     static class TestLDAPGroupCacheListener implements LDAPGroupCacheListener {
 
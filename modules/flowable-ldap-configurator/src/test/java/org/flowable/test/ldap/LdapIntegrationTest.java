@@ -12,10 +12,13 @@
  */
 package org.flowable.test.ldap;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.engine.test.Deployment;
+import org.flowable.idm.api.Group;
 import org.flowable.idm.api.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ContextConfiguration;
@@ -106,4 +109,21 @@ public class LdapIntegrationTest extends LDAPTestCase {
         assertEquals(3, identityService.createUserQuery().userFullNameLike("The").count());
     }
 
+    @Test
+    public void testUserQueryByIds() {
+        List<User> users = identityService.createUserQuery().userIds(Arrays.asList("kermit", "fozzie", "unknown")).list();
+        assertEquals(2, users.size());
+        assertEquals(Arrays.asList("fozzie", "kermit"), users.stream().map(User::getId).sorted().collect(Collectors.toList()));
+        assertEquals(2, identityService.createUserQuery().userIds(Arrays.asList("kermit", "fozzie", "unknown")).count());
+    }
+
+    @Test
+    public void testGroupQueryByGroupMembers() {
+        List<Group> groups = identityService.createGroupQuery().groupMembers(Arrays.asList("pepe", "fozzie")).list();
+        assertEquals(Arrays.asList("admin", "sales", "user"), groups.stream().map(Group::getId).sorted().collect(Collectors.toList()));
+
+        groups = identityService.createGroupQuery().groupMembers(Arrays.asList("pepe")).list();
+        assertEquals(Arrays.asList("sales", "user"), groups.stream().map(Group::getId).sorted().collect(Collectors.toList()));
+    }
+
 }
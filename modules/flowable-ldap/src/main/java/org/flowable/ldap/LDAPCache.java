@@ -0,0 +1,371 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.ldap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread safe, bounded cache for data fetched from the LDAP system, such as the groups of a user ({@link LDAPGroupCache}) or users ({@link LDAPUserCache}).
+ *
+ * When more entries than the cache size are added, the least recently used entry is evicted. Cached entries expire after the expiration time. When a refresh
+ * ahead time is set, an entry that is used during the last part of its lifetime is reloaded in the background, so frequently used entries are kept up to date
+ * without callers having to wait for the LDAP system.
+ *
+ * The hit, miss, eviction, expiration and refresh counts can be used to see how many LDAP calls are saved by the cache.
+ */
+public class LDAPCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LDAPCache.class);
+
+    protected static final int DEFAULT_REFRESH_QUEUE_SIZE = 100;
+
+    protected final Supplier<ClockReader> clockReader;
+    protected final int cacheSize;
+
+    // Access ordered, so the eldest entry is the least recently used one. Every access changes the order, so all access is synchronized on the map.
+    protected final Map<String, LDAPCacheEntry<T>> cache;
+
+    protected long expirationTime;
+    protected long refreshAheadTime;
+    protected Executor refreshExecutor;
+    protected ExecutorService defaultRefreshExecutor;
+    protected LDAPCacheListener cacheListener;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+    protected final LongAdder expiredCount = new LongAdder();
+    protected final LongAdder refreshCount = new LongAdder();
+
+    public LDAPCache(int cacheSize, long expirationTime, Supplier<ClockReader> clockReader) {
+        this.cacheSize = cacheSize;
+        this.expirationTime = expirationTime;
+        this.clockReader = clockReader;
+        this.cache = new LinkedHashMap<String, LDAPCacheEntry<T>>(cacheSize + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LDAPCacheEntry<T>> eldest) {
+                boolean removeEldest = size() > LDAPCache.this.cacheSize;
+                if (removeEldest) {
+                    evictionCount.increment();
+                    if (cacheListener != null) {
+                        cacheListener.cacheEviction(eldest.getKey());
+                    }
+                }
+                return removeEldest;
+            }
+
+        };
+    }
+
+    /**
+     * Returns the cached value for the given key, or null when there is no cached value or the cached value has expired.
+     */
+    public T get(String key) {
+        LDAPCacheEntry<T> entry = getEntry(key);
+        return entry != null ? copyValue(entry.getValue()) : null;
+    }
+
+    /**
+     * Returns the cached value for the given key. When there is no cached value, it is loaded with the given loader and cached.
+     * When the cached value is about to expire (see {@link #setRefreshAheadTime(long)}), the cached value is returned and reloaded in the background.
+     */
+    public T get(String key, Function<String, T> loader) {
+        LDAPCacheEntry<T> entry = getEntry(key);
+        if (entry != null) {
+            if (isRefreshNeeded(entry) && entry.refreshing.compareAndSet(false, true)) {
+                refresh(key, entry, loader);
+            }
+            return copyValue(entry.getValue());
+        }
+
+        T value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public void put(String key, T value) {
+        putEntry(key, new LDAPCacheEntry<>(copyValue(value), currentTime()));
+    }
+
+    public void remove(String key) {
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Stops the background refreshes, when they use the default executor. Called when the engine is closed.
+     */
+    public synchronized void close() {
+        if (defaultRefreshExecutor != null) {
+            defaultRefreshExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the value to cache for a value that was added, and the value to return for a cached value.
+     * By default the value itself, a cache of mutable values returns a copy, so callers can't change the cached value.
+     */
+    protected T copyValue(T value) {
+        return value;
+    }
+
+    protected void putEntry(String key, LDAPCacheEntry<T> entry) {
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+    }
+
+    protected LDAPCacheEntry<T> getEntry(String key) {
+        long now = currentTime();
+        LDAPCacheEntry<T> entry;
+        boolean expired = false;
+        synchronized (cache) {
+            entry = cache.get(key);
+            if (entry != null && now - entry.getTimestamp() >= expirationTime) {
+                cache.remove(key);
+                entry = null;
+                expired = true;
+            }
+        }
+
+        if (entry != null) {
+            hitCount.increment();
+            if (cacheListener != null) {
+                cacheListener.cacheHit(key);
+            }
+            return entry;
+        }
+
+        if (expired) {
+            expiredCount.increment();
+            if (cacheListener != null) {
+                cacheListener.cacheExpired(key);
+                cacheListener.cacheEviction(key);
+            }
+        }
+
+        missCount.increment();
+        if (cacheListener != null) {
+            cacheListener.cacheMiss(key);
+        }
+        return null;
+    }
+
+    protected boolean isRefreshNeeded(LDAPCacheEntry<T> entry) {
+        return refreshAheadTime > 0 && currentTime() - entry.getTimestamp() >= expirationTime - refreshAheadTime;
+    }
+
+    protected void refresh(String key, LDAPCacheEntry<T> entry, Function<String, T> loader) {
+        refreshCount.increment();
+        try {
+            getOrCreateRefreshExecutor().execute(() -> {
+                try {
+                    T value = loader.apply(key);
+                    if (value != null) {
+                        // Only replace the entry if it hasn't been evicted or replaced in the meantime
+                        LDAPCacheEntry<T> refreshedEntry = new LDAPCacheEntry<>(copyValue(value), currentTime());
+                        synchronized (cache) {
+                            cache.replace(key, entry, refreshedEntry);
+                        }
+                    }
+
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Could not refresh cached LDAP entry {}", key, e);
+
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Could not schedule refresh of cached LDAP entry {}", key, e);
+            entry.refreshing.set(false);
+        }
+    }
+
+    protected synchronized Executor getOrCreateRefreshExecutor() {
+        if (refreshExecutor == null) {
+            defaultRefreshExecutor = createDefaultRefreshExecutor();
+            refreshExecutor = defaultRefreshExecutor;
+        }
+        return refreshExecutor;
+    }
+
+    /**
+     * A single thread with a bounded queue. A refresh is only done to avoid waiting for the LDAP system later on,
+     * so refreshes are skipped rather than queued when the LDAP system can't keep up.
+     */
+    protected ExecutorService createDefaultRefreshExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(DEFAULT_REFRESH_QUEUE_SIZE),
+                new BasicThreadFactory.Builder().namingPattern("flowable-ldap-cache-refresh-%d").daemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    protected long currentTime() {
+        return clockReader.get().getCurrentTime().getTime();
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public void setExpirationTime(long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    public long getRefreshAheadTime() {
+        return refreshAheadTime;
+    }
+
+    /**
+     * Sets the time in milliseconds before the expiration of an entry during which a cache hit reloads the entry in the background.
+     * By default 0, which means entries are never refreshed ahead and expire.
+     */
+    public void setRefreshAheadTime(long refreshAheadTime) {
+        this.refreshAheadTime = refreshAheadTime;
+    }
+
+    public synchronized Executor getRefreshExecutor() {
+        return refreshExecutor;
+    }
+
+    /**
+     * Sets the executor used to refresh entries ahead of their expiration. By default a single thread is started when the first entry is refreshed,
+     * see {@link #createDefaultRefreshExecutor()}.
+     */
+    public synchronized void setRefreshExecutor(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public LDAPCacheListener getCacheListener() {
+        return cacheListener;
+    }
+
+    public void setCacheListener(LDAPCacheListener cacheListener) {
+        this.cacheListener = cacheListener;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.sum();
+    }
+
+    /**
+     * The share of the lookups that were served from the cache, between 0 and 1.
+     */
+    public double getHitRatio() {
+        long hits = getHitCount();
+        long lookups = hits + getMissCount();
+        return lookups > 0 ? (double) hits / lookups : 0;
+    }
+
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+        expiredCount.reset();
+        refreshCount.reset();
+    }
+
+    // Helper classes ////////////////////////////////////
+
+    protected static class LDAPCacheEntry<T> {
+
+        protected final T value;
+        protected final long timestamp;
+        protected final AtomicBoolean refreshing = new AtomicBoolean();
+
+        public LDAPCacheEntry(T value, long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+    }
+
+    // Experimental stuff!
+
+    public interface LDAPCacheListener {
+
+        void cacheHit(String key);
+
+        void cacheMiss(String key);
+
+        void cacheEviction(String key);
+
+        void cacheExpired(String key);
+
+    }
+
+}
@@ -46,6 +46,7 @@ public class LDAPConfiguration {
 
     // For parameters like connection pooling settings, etc.
     protected Map<String, String> customConnectionParameters = new HashMap<>();
+    protected boolean connectionPooling;
 
     // Query configuration
     protected String baseDn;
@@ -77,6 +78,12 @@ public class LDAPConfiguration {
     protected int groupCacheSize = -1;
     protected long groupCacheExpirationTime = 3600000L; // default: one hour
 
+    // User caching
+    protected int userCacheSize = -1;
+    protected long userCacheExpirationTime = 3600000L; // default: one hour
+
+    protected long cacheRefreshAheadTime = 0L;
+
     // Cache listener (experimental)
     protected LDAPGroupCacheListener groupCacheListener;
 
@@ -166,6 +173,21 @@ public class LDAPConfiguration {
         this.customConnectionParameters = customConnectionParameters;
     }
 
+    public boolean isConnectionPooling() {
+        return connectionPooling;
+    }
+
+    /**
+     * Allows to reuse the LDAP connections that are used for searching users and groups, instead of opening a new connection for each query.
+     * This uses the connection pool of the JNDI LDAP provider, which is configured through system properties such as <code>com.sun.jndi.ldap.connect.pool.maxsize</code>
+     * and <code>com.sun.jndi.ldap.connect.pool.timeout</code>.
+     * <p>
+     * The connections that are used for checking the password of a user are never pooled. By default set to false.
+     */
+    public void setConnectionPooling(boolean connectionPooling) {
+        this.connectionPooling = connectionPooling;
+    }
+
     public String getBaseDn() {
         return baseDn;
     }
@@ -446,6 +468,45 @@ public class LDAPConfiguration {
         this.groupCacheExpirationTime = groupCacheExpirationTime;
     }
 
+    public int getUserCacheSize() {
+        return userCacheSize;
+    }
+
+    /**
+     * Allows to set the size of the {@link LDAPUserCache}. This is an LRU cache that caches users by their id and thus avoids hitting the LDAP system each time a user is looked up.
+     * <p>
+     * The cache will not be instantiated if the value is less then zero. By default set to -1, so no caching is done.
+     */
+    public void setUserCacheSize(int userCacheSize) {
+        this.userCacheSize = userCacheSize;
+    }
+
+    public long getUserCacheExpirationTime() {
+        return userCacheExpirationTime;
+    }
+
+    /**
+     * Sets the expiration time of the {@link LDAPUserCache} in milliseconds. Changes to a user in the LDAP system will be visible after this time. By default set to one hour.
+     */
+    public void setUserCacheExpirationTime(long userCacheExpirationTime) {
+        this.userCacheExpirationTime = userCacheExpirationTime;
+    }
+
+    public long getCacheRefreshAheadTime() {
+        return cacheRefreshAheadTime;
+    }
+
+    /**
+     * Sets the time in milliseconds before the expiration of a cached user or group list during which using it reloads it from the LDAP system in the background.
+     * For example with an expiration time of one hour and a refresh ahead time of ten minutes, the groups of a user fetched at 00:00 and used at 00:55 are returned from
+     * the cache and refreshed, so the next fetch after 01:00 still comes from the cache.
+     * <p>
+     * By default set to 0, so cached entries are never refreshed ahead.
+     */
+    public void setCacheRefreshAheadTime(long cacheRefreshAheadTime) {
+        this.cacheRefreshAheadTime = cacheRefreshAheadTime;
+    }
+
     public LDAPGroupCacheListener getGroupCacheListener() {
         return groupCacheListener;
     }
@@ -31,11 +31,17 @@ public class LDAPConnectionUtil {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPConnectionUtil.class);
 
+    public static final String CONNECTION_POOL_PROPERTY = "com.sun.jndi.ldap.connect.pool";
+
     public static InitialDirContext creatDirectoryContext(LDAPConfiguration ldapConfigurator) {
-        return createDirectoryContext(ldapConfigurator, ldapConfigurator.getUser(), ldapConfigurator.getPassword());
+        return createDirectoryContext(ldapConfigurator, ldapConfigurator.getUser(), ldapConfigurator.getPassword(), ldapConfigurator.isConnectionPooling());
     }
 
     public static InitialDirContext createDirectoryContext(LDAPConfiguration ldapConfigurator, String principal, String credentials) {
+        return createDirectoryContext(ldapConfigurator, principal, credentials, false);
+    }
+
+    public static InitialDirContext createDirectoryContext(LDAPConfiguration ldapConfigurator, String principal, String credentials, boolean pooled) {
         Properties properties = new Properties();
         properties.put(Context.INITIAL_CONTEXT_FACTORY, ldapConfigurator.getInitialContextFactory());
         properties.put(Context.PROVIDER_URL, ldapConfigurator.getServer() + ":" + ldapConfigurator.getPort());
@@ -49,6 +55,11 @@ public class LDAPConnectionUtil {
             }
         }
 
+        if (pooled) {
+            // Closing a pooled context returns the connection to the pool of the LDAP provider
+            properties.put(CONNECTION_POOL_PROPERTY, "true");
+        }
+
         InitialDirContext context;
         try {
             context = new InitialDirContext(properties);
@@ -60,6 +71,10 @@ public class LDAPConnectionUtil {
     }
 
     public static void closeDirectoryContext(InitialDirContext initialDirContext) {
+        if (initialDirContext == null) {
+            return;
+        }
+
         try {
             initialDirContext.close();
         } catch (NamingException e) {
@@ -22,20 +22,17 @@ import org.flowable.common.engine.impl.runtime.ClockReader;
 import org.flowable.idm.api.Group;
 
 /**
- * Simple cache for groups a user belongs to, which avoid hitting the LDAP system too much. Groups are fetched internally by the engine for example when doing queries, eg when fetching tasks for a
+ * Cache for groups a user belongs to, which avoid hitting the LDAP system too much. Groups are fetched internally by the engine for example when doing queries, eg when fetching tasks for a
  * candidateUser. Configured through the {@link LDAPConfiguration}.
  * 
  * Cached entries have an expiration time. For example when set to one hour, changes to the ldap system around the groups of a user will be visible after that hour.
+ * See {@link LDAPCache} for the eviction, refresh ahead and statistics.
  * 
  * Experimental: can have a listener for cache events, and instance of {@link LDAPGroupCacheListener}.
  * 
  * @author Joram Barrez
  */
-public class LDAPGroupCache {
-
-    private final Supplier<ClockReader> clockReader;
-    protected Map<String, LDAPGroupCacheEntry> groupCache;
-    protected long expirationTime;
+public class LDAPGroupCache extends LDAPCache<List<Group>> {
 
     protected LDAPGroupCacheListener ldapCacheListener;
 
@@ -44,81 +41,38 @@ public class LDAPGroupCache {
     }
 
     public LDAPGroupCache(final int cacheSize, final long expirationTime, final Supplier<ClockReader> clockReader) {
-        this.clockReader = clockReader;
-
-        // From
-        // http://stackoverflow.com/questions/224868/easy-simple-to-use-lru-cache-in-java
-        this.groupCache = new LinkedHashMap<String, LDAPGroupCache.LDAPGroupCacheEntry>(cacheSize + 1, 0.75f, true) {
-
-            private static final long serialVersionUID = 5207574193173514579L;
-
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, LDAPGroupCacheEntry> eldest) {
-                boolean removeEldest = size() > cacheSize;
-
-                if (removeEldest && ldapCacheListener != null) {
-                    ldapCacheListener.cacheEviction(eldest.getKey());
-                }
-
-                return removeEldest;
-            }
-
-        };
-        this.expirationTime = expirationTime;
+        super(cacheSize, expirationTime, clockReader);
     }
 
     public void add(String userId, List<Group> groups) {
-        this.groupCache.put(userId, new LDAPGroupCacheEntry(clockReader.get().getCurrentTime(), groups));
+        put(userId, groups);
     }
 
-    public List<Group> get(String userId) {
-        LDAPGroupCacheEntry cacheEntry = groupCache.get(userId);
-        if (cacheEntry != null) {
-            if ((clockReader.get().getCurrentTime().getTime() - cacheEntry.getTimestamp().getTime()) < expirationTime) {
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheHit(userId);
-                }
-
-                return cacheEntry.getGroups();
-
-            } else {
-
-                this.groupCache.remove(userId);
-
-                if (ldapCacheListener != null) {
-                    ldapCacheListener.cacheExpired(userId);
-                    ldapCacheListener.cacheEviction(userId);
-                }
-
+    /**
+     * @deprecated the cached entries aren't kept in a map of {@link LDAPGroupCacheEntry} anymore, this returns a copy of the cached entries
+     */
+    @Deprecated
+    public Map<String, LDAPGroupCacheEntry> getGroupCache() {
+        Map<String, LDAPGroupCacheEntry> groupCache = new LinkedHashMap<>();
+        synchronized (cache) {
+            for (Map.Entry<String, LDAPCacheEntry<List<Group>>> entry : cache.entrySet()) {
+                LDAPCacheEntry<List<Group>> cacheEntry = entry.getValue();
+                groupCache.put(entry.getKey(), new LDAPGroupCacheEntry(new Date(cacheEntry.getTimestamp()), cacheEntry.getValue()));
             }
         }
-
-        if (ldapCacheListener != null) {
-            ldapCacheListener.cacheMiss(userId);
-        }
-
-        return null;
-    }
-
-    public void clear() {
-        groupCache.clear();
-    }
-
-    public Map<String, LDAPGroupCacheEntry> getGroupCache() {
         return groupCache;
     }
 
+    /**
+     * @deprecated the cached entries aren't kept in a map of {@link LDAPGroupCacheEntry} anymore, this replaces the cached entries with the given ones
+     */
+    @Deprecated
     public void setGroupCache(Map<String, LDAPGroupCacheEntry> groupCache) {
-        this.groupCache = groupCache;
-    }
-
-    public long getExpirationTime() {
-        return expirationTime;
-    }
-
-    public void setExpirationTime(long expirationTime) {
-        this.expirationTime = expirationTime;
+        clear();
+        for (Map.Entry<String, LDAPGroupCacheEntry> entry : groupCache.entrySet()) {
+            LDAPGroupCacheEntry groupCacheEntry = entry.getValue();
+            putEntry(entry.getKey(), new LDAPCacheEntry<>(groupCacheEntry.getGroups(), groupCacheEntry.getTimestamp().getTime()));
+        }
     }
 
     public LDAPGroupCacheListener getLdapCacheListener() {
@@ -127,10 +81,15 @@ public class LDAPGroupCache {
 
     public void setLdapCacheListener(LDAPGroupCacheListener ldapCacheListener) {
         this.ldapCacheListener = ldapCacheListener;
+        setCacheListener(ldapCacheListener);
     }
 
     // Helper classes ////////////////////////////////////
 
+    /**
+     * @deprecated only used by {@link LDAPGroupCache#getGroupCache()} and {@link LDAPGroupCache#setGroupCache(Map)}
+     */
+    @Deprecated
     static class LDAPGroupCacheEntry {
 
         protected Date timestamp;
@@ -168,15 +127,7 @@ public class LDAPGroupCache {
 
     // Experimental stuff!
 
-    public static interface LDAPGroupCacheListener {
-
-        void cacheHit(String userId);
-
-        void cacheMiss(String userId);
-
-        void cacheEviction(String userId);
-
-        void cacheExpired(String userId);
+    public static interface LDAPGroupCacheListener extends LDAPCacheListener {
 
     }
 
@@ -13,6 +13,9 @@
 package org.flowable.ldap;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
@@ -81,6 +84,70 @@ public class LDAPQueryBuilder {
         return searchExpression;
     }
 
+    /**
+     * Builds one query for all the given users, so they can be fetched with a single search.
+     * Returns null when no 'queryUserByUserId' is configured, in which case the users need to be fetched one by one.
+     */
+    public String buildQueryByUserIds(LDAPConfiguration ldapConfigurator, Collection<String> userIds) {
+        if (ldapConfigurator.getQueryUserByUserId() == null) {
+            return null;
+        }
+
+        List<String> searchExpressions = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            searchExpressions.add(buildQueryByUserId(ldapConfigurator, userId));
+        }
+        return buildOrQuery(searchExpressions);
+    }
+
+    /**
+     * Builds one query for the groups of all the given users. The dn's of the users are fetched with a single search.
+     * Returns null when the query can't be combined, in which case the groups need to be fetched per user.
+     */
+    public String buildQueryGroupsForUsers(final LDAPConfiguration ldapConfigurator, final Collection<String> userIds) {
+        if (ldapConfigurator.getQueryGroupsForUser() == null) {
+            return null;
+        }
+
+        final String userDnSearch = buildQueryByUserIds(ldapConfigurator, userIds);
+        if (userDnSearch == null) {
+            return null;
+        }
+
+        // Fetch the dn's of the users
+        LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
+        List<String> userDns = ldapTemplate.execute(new LDAPCallBack<List<String>>() {
+
+            @Override
+            public List<String> executeInContext(InitialDirContext initialDirContext) {
+                List<String> result = new ArrayList<>();
+                try {
+                    String baseDn = ldapConfigurator.getUserBaseDn() != null ? ldapConfigurator.getUserBaseDn() : ldapConfigurator.getBaseDn();
+                    NamingEnumeration<?> namingEnum = initialDirContext.search(baseDn, userDnSearch, createSearchControls(ldapConfigurator));
+                    while (namingEnum.hasMore()) {
+                        SearchResult searchResult = (SearchResult) namingEnum.next();
+                        result.add(searchResult.getNameInNamespace());
+                    }
+                    namingEnum.close();
+                } catch (NamingException e) {
+                    LOGGER.debug("Could not find user dn's : {}", e.getMessage(), e);
+                }
+                return result;
+            }
+
+        });
+
+        if (userDns.isEmpty()) {
+            return null;
+        }
+
+        List<String> searchExpressions = new ArrayList<>(userDns.size());
+        for (String userDn : userDns) {
+            searchExpressions.add(MessageFormat.format(ldapConfigurator.getQueryGroupsForUser(), Rdn.escapeValue(userDn)));
+        }
+        return buildOrQuery(searchExpressions);
+    }
+
     public String buildQueryByFullNameLike(final LDAPConfiguration ldapConfigurator, String searchText) {
         String searchExpression = null;
         if (ldapConfigurator.getQueryUserByFullNameLike() != null) {
@@ -102,6 +169,41 @@ public class LDAPQueryBuilder {
         return searchExpression;
     }
 
+    /**
+     * Builds one query for all the given groups, so they can be fetched with a single search.
+     * Returns null when no 'queryGroupByGroupId' is configured, in which case the groups need to be fetched one by one.
+     */
+    public String buildQueryGroupsByIds(LDAPConfiguration ldapConfigurator, Collection<String> groupIds) {
+        if (ldapConfigurator.getQueryGroupByGroupId() == null) {
+            return null;
+        }
+
+        List<String> searchExpressions = new ArrayList<>(groupIds.size());
+        for (String groupId : groupIds) {
+            searchExpressions.add(buildQueryGroupsById(ldapConfigurator, groupId));
+        }
+        return buildOrQuery(searchExpressions);
+    }
+
+    /**
+     * Combines the given search filters into a single LDAP OR filter, eg (|(uid=kermit)(uid=fozzie)).
+     */
+    protected String buildOrQuery(List<String> searchExpressions) {
+        if (searchExpressions.size() == 1) {
+            return searchExpressions.get(0);
+        }
+
+        StringBuilder searchExpression = new StringBuilder("(|");
+        for (String expression : searchExpressions) {
+            if (expression.startsWith("(")) {
+                searchExpression.append(expression);
+            } else {
+                searchExpression.append('(').append(expression).append(')');
+            }
+        }
+        return searchExpression.append(')').toString();
+    }
+
     protected SearchControls createSearchControls(LDAPConfiguration ldapConfigurator) {
         SearchControls searchControls = new SearchControls();
         searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
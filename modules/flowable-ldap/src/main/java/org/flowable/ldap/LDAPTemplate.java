@@ -39,9 +39,12 @@ public class LDAPTemplate {
         } catch (Exception e) {
             LOGGER.info("Could not create LDAP connection: {}", e.getMessage(), e);
         }
-        T result = ldapCallBack.executeInContext(initialDirContext);
-        LDAPConnectionUtil.closeDirectoryContext(initialDirContext);
-        return result;
+
+        try {
+            return ldapCallBack.executeInContext(initialDirContext);
+        } finally {
+            LDAPConnectionUtil.closeDirectoryContext(initialDirContext);
+        }
     }
 
     public LDAPConfiguration getLdapConfigurator() {
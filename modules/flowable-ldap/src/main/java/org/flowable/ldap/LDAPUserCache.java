@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.ldap;
+
+import java.util.function.Supplier;
+
+import org.flowable.common.engine.impl.runtime.ClockReader;
+import org.flowable.idm.api.User;
+import org.flowable.idm.engine.impl.persistence.entity.UserEntityImpl;
+
+/**
+ * Cache for users by user id, which avoids a search in the LDAP system for every user lookup, for example when resolving the assignee of tasks.
+ * Configured through the {@link LDAPConfiguration}. Users that are not found in the LDAP system are not cached.
+ *
+ * Users are mutable, so every lookup returns its own copy of the cached user.
+ */
+public class LDAPUserCache extends LDAPCache<User> {
+
+    public LDAPUserCache(int cacheSize, long expirationTime, Supplier<ClockReader> clockReader) {
+        super(cacheSize, expirationTime, clockReader);
+    }
+
+    @Override
+    protected User copyValue(User user) {
+        UserEntityImpl copy = new UserEntityImpl();
+        copy.setId(user.getId());
+        copy.setFirstName(user.getFirstName());
+        copy.setLastName(user.getLastName());
+        copy.setDisplayName(user.getDisplayName());
+        copy.setEmail(user.getEmail());
+        copy.setTenantId(user.getTenantId());
+        return copy;
+    }
+
+}
@@ -13,7 +13,9 @@
 package org.flowable.ldap.impl;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.naming.NamingEnumeration;
 import javax.naming.NamingException;
@@ -57,8 +59,12 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
     protected List<Group> executeQuery() {
         if (getUserId() != null) {
             return findGroupsByUser(getUserId());
+        } else if (getUserIds() != null) {
+            return findGroupsByUsers(getUserIds());
         } else if (getId() != null) {
             return findGroupsById(getId());
+        } else if (getIds() != null) {
+            return findGroupsByIds(getIds());
         } else {
             return findAllGroups();
         }
@@ -66,23 +72,57 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
 
     protected List<Group> findGroupsByUser(String userId) {
 
-        // First try the cache (if one is defined)
+        // First try the cache (if one is defined), which fetches and caches the groups when needed
         if (ldapGroupCache != null) {
-            List<Group> groups = ldapGroupCache.get(userId);
-            if (groups != null) {
-                return groups;
-            }
+            return ldapGroupCache.get(userId, this::executeFindGroupsByUser);
         }
 
+        return executeFindGroupsByUser(userId);
+    }
+
+    protected List<Group> executeFindGroupsByUser(String userId) {
         String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUser(ldapConfigurator, userId);
-        List<Group> groups = executeGroupQuery(searchExpression);
+        return executeGroupQuery(searchExpression);
+    }
 
-        // Cache results for later
-        if (ldapGroupCache != null) {
-            ldapGroupCache.add(userId, groups);
+    protected List<Group> findGroupsByUsers(List<String> userIds) {
+        // The same group can be returned for multiple users
+        Map<String, Group> groups = new LinkedHashMap<>();
+        List<String> uncachedUserIds = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            List<Group> userGroups = ldapGroupCache != null ? ldapGroupCache.get(userId) : null;
+            if (userGroups != null) {
+                addGroups(groups, userGroups);
+            } else {
+                uncachedUserIds.add(userId);
+            }
         }
 
-        return groups;
+        if (!uncachedUserIds.isEmpty()) {
+            // Fetch the groups of the other users with one search. The combined result doesn't tell to which user a group belongs, so it isn't cached.
+            String searchExpression = uncachedUserIds.size() > 1 ? ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsForUsers(ldapConfigurator, uncachedUserIds) : null;
+            if (searchExpression != null) {
+                addGroups(groups, executeGroupQuery(searchExpression));
+            } else {
+                for (String userId : uncachedUserIds) {
+                    List<Group> userGroups = executeFindGroupsByUser(userId);
+                    addGroups(groups, userGroups);
+
+                    // Cache results for later
+                    if (ldapGroupCache != null) {
+                        ldapGroupCache.add(userId, userGroups);
+                    }
+                }
+            }
+        }
+
+        return new ArrayList<>(groups.values());
+    }
+
+    protected void addGroups(Map<String, Group> groups, List<Group> groupsToAdd) {
+        for (Group group : groupsToAdd) {
+            groups.putIfAbsent(group.getId() != null ? group.getId() : group.getName(), group);
+        }
     }
 
     protected List<Group> findGroupsById(String id) {
@@ -90,6 +130,19 @@ public class LDAPGroupQueryImpl extends GroupQueryImpl {
         return executeGroupQuery(searchExpression);
     }
 
+    protected List<Group> findGroupsByIds(List<String> ids) {
+        String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryGroupsByIds(ldapConfigurator, ids);
+        if (searchExpression != null) {
+            return executeGroupQuery(searchExpression);
+        }
+
+        List<Group> groups = new ArrayList<>();
+        for (String id : ids) {
+            groups.addAll(findGroupsById(id));
+        }
+        return groups;
+    }
+
     protected List<Group> findAllGroups() {
         String searchExpression = ldapConfigurator.getQueryAllGroups();
         List<Group> groups = executeGroupQuery(searchExpression);
@@ -29,6 +29,7 @@ import org.flowable.idm.engine.impl.persistence.entity.UserEntityImpl;
 import org.flowable.ldap.LDAPCallBack;
 import org.flowable.ldap.LDAPConfiguration;
 import org.flowable.ldap.LDAPTemplate;
+import org.flowable.ldap.LDAPUserCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,9 +40,15 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
     private static final Logger LOGGER = LoggerFactory.getLogger(LDAPUserQueryImpl.class);
 
     protected LDAPConfiguration ldapConfigurator;
+    protected LDAPUserCache ldapUserCache;
 
     public LDAPUserQueryImpl(LDAPConfiguration ldapConfigurator) {
+        this(ldapConfigurator, null);
+    }
+
+    public LDAPUserQueryImpl(LDAPConfiguration ldapConfigurator, LDAPUserCache ldapUserCache) {
         this.ldapConfigurator = ldapConfigurator;
+        this.ldapUserCache = ldapUserCache;
     }
 
     @Override
@@ -65,6 +72,9 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
             result.add(findById(getIdIgnoreCase()));
             return result;
 
+        } else if (getIds() != null) {
+            return findByIds(getIds());
+
         } else if (getFullNameLike() != null) {
             return executeNameQuery(getFullNameLike());
 
@@ -87,7 +97,70 @@ public class LDAPUserQueryImpl extends UserQueryImpl {
         return executeUsersQuery(searchExpression);
     }
 
-    protected UserEntity findById(final String userId) {
+    protected UserEntity findById(String userId) {
+
+        // First try the cache (if one is defined)
+        if (ldapUserCache != null) {
+            User user = ldapUserCache.get(userId, this::loadUser);
+            return user != null ? (UserEntity) user : new UserEntityImpl();
+        }
+
+        return executeFindById(userId);
+    }
+
+    protected List<User> findByIds(List<String> userIds) {
+        List<User> result = new ArrayList<>(userIds.size());
+        List<String> uncachedUserIds = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            User user = ldapUserCache != null ? ldapUserCache.get(userId) : null;
+            if (user != null) {
+                result.add(user);
+            } else {
+                uncachedUserIds.add(userId);
+            }
+        }
+
+        if (uncachedUserIds.isEmpty()) {
+            return result;
+        }
+
+        // Fetch all the other users with one search instead of a search per user
+        List<User> users;
+        String searchExpression = ldapConfigurator.getLdapQueryBuilder().buildQueryByUserIds(ldapConfigurator, uncachedUserIds);
+        if (searchExpression != null) {
+            users = executeUsersQuery(searchExpression);
+        } else {
+            users = new ArrayList<>(uncachedUserIds.size());
+            for (String userId : uncachedUserIds) {
+                User user = loadUser(userId);
+                if (user != null) {
+                    users.add(user);
+                }
+            }
+        }
+
+        if (users != null) {
+            for (User user : users) {
+                result.add(user);
+
+                // Cache results for later
+                if (ldapUserCache != null && user.getId() != null) {
+                    ldapUserCache.put(user.getId(), user);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Fetches the user from the LDAP system, returns null when the user is not found.
+     */
+    protected User loadUser(String userId) {
+        UserEntity user = executeFindById(userId);
+        return user != null && user.getId() != null ? user : null;
+    }
+
+    protected UserEntity executeFindById(final String userId) {
         LDAPTemplate ldapTemplate = new LDAPTemplate(ldapConfigurator);
         return ldapTemplate.execute(new LDAPCallBack<UserEntity>() {
 
@@ -15,7 +15,6 @@ package org.flowable.osgi.blueprint;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
 import org.flowable.common.engine.impl.javax.el.ArrayELResolver;
 import org.flowable.common.engine.impl.javax.el.BeanELResolver;
@@ -62,9 +61,9 @@ public class ProcessEngineFactoryWithELResolver extends ProcessEngineFactory {
         }
 
         @Override
-        protected ELResolver createElResolver(VariableContainer variableContainer) {
+        protected ELResolver createElResolver() {
             CompositeELResolver compositeElResolver = new CompositeELResolver();
-            compositeElResolver.add(createVariableElResolver(variableContainer));
+            compositeElResolver.add(createVariableElResolver());
             if (blueprintContextELResolver != null) {
                 compositeElResolver.add(blueprintContextELResolver);
             }
@@ -22,6 +22,7 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.rest.variable.VariableDataUtil;
 import org.flowable.engine.HistoryService;
 import org.flowable.rest.service.api.BpmnRestApiInterceptor;
 import org.flowable.rest.service.api.RestResponseFactory;
@@ -67,6 +68,13 @@ public class HistoricVariableInstanceDataResource {
     public byte[] getVariableData(@ApiParam(name = "varInstanceId") @PathVariable("varInstanceId") String varInstanceId, HttpServletRequest request, HttpServletResponse response) {
         try {
             byte[] result = null;
+
+            HistoricVariableInstance variableInstance = getHistoricVariableInstanceFromRequest(varInstanceId);
+            if (VariableDataUtil.writeVariableData(variableInstance, response)) {
+                // The data is streamed to the response already
+                return null;
+            }
+
             RestVariable variable = getVariableFromRequest(true, varInstanceId, request);
             if (RestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
                 result = (byte[]) variable.getValue();
@@ -91,6 +99,22 @@ public class HistoricVariableInstanceDataResource {
         }
     }
 
+    /**
+     * Returns the historic variable instance, without initializing its value.
+     */
+    protected HistoricVariableInstance getHistoricVariableInstanceFromRequest(String varInstanceId) {
+        HistoricVariableInstance varObject = historyService.createHistoricVariableInstanceQuery().id(varInstanceId).excludeVariableInitialization().singleResult();
+
+        if (varObject == null) {
+            throw new FlowableObjectNotFoundException("Historic variable instance '" + varInstanceId + "' could not be found.", VariableInstanceEntity.class);
+        }
+
+        if (restApiInterceptor != null) {
+            restApiInterceptor.accessHistoryVariableInfoById(varObject);
+        }
+        return varObject;
+    }
+
     public RestVariable getVariableFromRequest(boolean includeBinary, String varInstanceId, HttpServletRequest request) {
         HistoricVariableInstance varObject = historyService.createHistoricVariableInstanceQuery().id(varInstanceId).singleResult();
 
@@ -27,6 +27,7 @@ import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.common.rest.exception.FlowableContentNotSupportedException;
+import org.flowable.common.rest.variable.VariableDataUtil;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -34,6 +35,7 @@ import org.flowable.rest.service.api.BpmnRestApiInterceptor;
 import org.flowable.rest.service.api.RestResponseFactory;
 import org.flowable.rest.service.api.engine.variable.RestVariable;
 import org.flowable.rest.service.api.engine.variable.RestVariable.RestVariableScope;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -70,6 +72,12 @@ public class BaseExecutionVariableResource {
         try {
             byte[] result = null;
 
+            VariableInstance variableInstance = getVariableInstanceFromRequest(execution, variableName, scope);
+            if (variableInstance != null && VariableDataUtil.writeVariableData(variableInstance, response)) {
+                // The data is streamed to the response already
+                return null;
+            }
+
             RestVariable variable = getVariableFromRequest(execution, variableName, scope, true);
             if (RestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE.equals(variable.getType())) {
                 result = (byte[]) variable.getValue();
@@ -150,7 +158,7 @@ public class BaseExecutionVariableResource {
 
             if (variableType.equals(RestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE)) {
                 // Use raw bytes as variable value
-                byte[] variableBytes = IOUtils.toByteArray(file.getInputStream());
+                byte[] variableBytes = IOUtils.toByteArray(file.getInputStream(), file.getSize());
                 setVariable(execution, variableName, variableBytes, scope, isNew);
 
             } else if (isSerializableVariableAllowed) {
@@ -278,6 +286,23 @@ public class BaseExecutionVariableResource {
         }
     }
 
+    /**
+     * Returns the variable instance, without its value, using the same scope rules as {@link #getVariableFromRequest(Execution, String, String, boolean)}.
+     * Returns null when the variable is not found.
+     */
+    protected VariableInstance getVariableInstanceFromRequest(Execution execution, String variableName, String scope) {
+        RestVariableScope variableScope = RestVariable.getScopeFromString(scope);
+
+        VariableInstance variableInstance = null;
+        if (variableScope != RestVariableScope.GLOBAL) {
+            variableInstance = runtimeService.getVariableInstanceLocal(execution.getId(), variableName);
+        }
+        if (variableInstance == null && variableScope != RestVariableScope.LOCAL && execution.getParentId() != null) {
+            variableInstance = runtimeService.getVariableInstance(execution.getParentId(), variableName);
+        }
+        return variableInstance;
+    }
+
     protected RestVariable constructRestVariable(String variableName, Object value, RestVariableScope variableScope, String executionId, boolean includeBinary) {
 
         return restResponseFactory.createRestVariable(variableName, value, variableScope, executionId, RestResponseFactory.VARIABLE_EXECUTION, includeBinary);
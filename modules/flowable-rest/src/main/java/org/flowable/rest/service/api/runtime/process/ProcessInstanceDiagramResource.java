@@ -31,13 +31,18 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * @author Frederik Heremans
@@ -55,19 +60,28 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
     @ApiOperation(value = "Get diagram for a process instance", tags = { "Process Instances" })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Indicates the process instance was found and the diagram was returned."),
+            @ApiResponse(code = 304, message = "Indicates the diagram didn't change since it was returned with the ETag given in the If-None-Match header."),
             @ApiResponse(code = 400, message = "Indicates the requested process instance was not found but the process does not contain any graphical information (BPMN:DI) and no diagram can be created."),
             @ApiResponse(code = 404, message = "Indicates the requested process instance was not found.")
     })
     @GetMapping(value = "/runtime/process-instances/{processInstanceId}/diagram")
-    public ResponseEntity<byte[]> getProcessInstanceDiagram(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId, HttpServletResponse response) {
+    public ResponseEntity<byte[]> getProcessInstanceDiagram(@ApiParam(name = "processInstanceId") @PathVariable String processInstanceId, HttpServletResponse response,
+            WebRequest webRequest) {
         ProcessInstance processInstance = getProcessInstanceFromRequest(processInstanceId);
 
         ProcessDefinition pde = repositoryService.getProcessDefinition(processInstance.getProcessDefinitionId());
 
         if (pde != null && pde.hasGraphicalNotation()) {
+            List<String> activeActivityIds = runtimeService.getActiveActivityIds(processInstance.getId());
+
+            // The diagram only changes when other activities become active, so there is no need to render it again for a client that has it already
+            if (webRequest.checkNotModified(createDiagramETag(pde.getId(), activeActivityIds))) {
+                return null;
+            }
+
             BpmnModel bpmnModel = repositoryService.getBpmnModel(pde.getId());
             ProcessDiagramGenerator diagramGenerator = processEngineConfiguration.getProcessDiagramGenerator();
-            InputStream resource = diagramGenerator.generateDiagram(bpmnModel, "png", runtimeService.getActiveActivityIds(processInstance.getId()), Collections.<String>emptyList(),
+            InputStream resource = diagramGenerator.generateDiagram(bpmnModel, "png", activeActivityIds, Collections.<String>emptyList(),
                     processEngineConfiguration.getActivityFontName(), processEngineConfiguration.getLabelFontName(),
                     processEngineConfiguration.getAnnotationFontName(), processEngineConfiguration.getClassLoader(), 1.0,processEngineConfiguration.isDrawSequenceFlowNameWithNoLabelDI());
 
@@ -83,4 +97,11 @@ public class ProcessInstanceDiagramResource extends BaseProcessInstanceResource
             throw new FlowableIllegalArgumentException("Process instance with id '" + processInstance.getId() + "' has no graphical notation defined.");
         }
     }
+
+    protected String createDiagramETag(String processDefinitionId, List<String> activeActivityIds) {
+        List<String> sortedActivityIds = new ArrayList<>(activeActivityIds);
+        Collections.sort(sortedActivityIds);
+        String diagramState = processDefinitionId + ":" + String.join(",", sortedActivityIds);
+        return DigestUtils.md5DigestAsHex(diagramState.getBytes(StandardCharsets.UTF_8));
+    }
 }
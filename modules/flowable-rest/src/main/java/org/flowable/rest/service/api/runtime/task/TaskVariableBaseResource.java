@@ -29,6 +29,7 @@ import org.flowable.rest.service.api.RestResponseFactory;
 import org.flowable.rest.service.api.engine.variable.RestVariable;
 import org.flowable.rest.service.api.engine.variable.RestVariable.RestVariableScope;
 import org.flowable.task.api.Task;
+import org.flowable.variable.api.persistence.entity.VariableInstance;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
@@ -96,6 +97,26 @@ public class TaskVariableBaseResource extends TaskBaseResource {
         }
     }
 
+    /**
+     * Returns the variable instance, without its value, using the same scope rules as {@link #getVariableFromRequest(String, String, String, boolean)}.
+     * Returns null when the variable is not found.
+     */
+    protected VariableInstance getVariableInstanceFromRequest(String taskId, String variableName, String scope) {
+        RestVariableScope variableScope = RestVariable.getScopeFromString(scope);
+
+        VariableInstance variableInstance = null;
+        if (variableScope != RestVariableScope.GLOBAL) {
+            variableInstance = taskService.getVariableInstanceLocal(taskId, variableName);
+        }
+        if (variableInstance == null && variableScope != RestVariableScope.LOCAL) {
+            Task task = taskService.createTaskQuery().taskId(taskId).singleResult();
+            if (task != null && task.getExecutionId() != null) {
+                variableInstance = runtimeService.getVariableInstance(task.getExecutionId(), variableName);
+            }
+        }
+        return variableInstance;
+    }
+
     protected boolean hasVariableOnScope(Task task, String variableName, RestVariableScope scope) {
         boolean variableFound = false;
 
@@ -168,7 +189,7 @@ public class TaskVariableBaseResource extends TaskBaseResource {
 
             if (variableType.equals(RestResponseFactory.BYTE_ARRAY_VARIABLE_TYPE)) {
                 // Use raw bytes as variable value
-                byte[] variableBytes = IOUtils.toByteArray(file.getInputStream());
+                byte[] variableBytes = IOUtils.toByteArray(file.getInputStream(), file.getSize());
                 setVariable(task, variableName, variableBytes, scope, isNew);
 
             } else if (isSerializableVariableAllowed) {
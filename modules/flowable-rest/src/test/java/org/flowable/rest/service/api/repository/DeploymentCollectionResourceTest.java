@@ -13,6 +13,8 @@
 package org.flowable.rest.service.api.repository;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Calendar;
 import java.util.List;
@@ -132,4 +134,54 @@ public class DeploymentCollectionResourceTest extends BaseSpringRestTestCase {
             }
         }
     }
+
+    /**
+     * Test getting deployments with the different total modes. GET repository/deployments
+     */
+    @Test
+    public void testGetDeploymentsWithTotalMode() throws Exception {
+        try {
+            for (int i = 0; i < 3; i++) {
+                repositoryService.createDeployment().name("Deployment " + i)
+                        .addClasspathResource("org/flowable/rest/service/api/repository/oneTaskProcess.bpmn20.xml").deploy();
+            }
+
+            String baseUrl = SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_DEPLOYMENT_COLLECTION) + "?sort=name&size=2";
+
+            JsonNode responseNode = getResponseNode(baseUrl + "&totalMode=exact");
+            assertEquals(3L, responseNode.get("total").longValue());
+            assertFalse(responseNode.has("hasMore"));
+
+            responseNode = getResponseNode(baseUrl + "&totalMode=none");
+            assertEquals(2L, responseNode.get("data").size());
+            assertEquals(-1L, responseNode.get("total").longValue());
+
+            responseNode = getResponseNode(baseUrl + "&totalMode=hasMore");
+            assertEquals(2L, responseNode.get("data").size());
+            assertEquals(-1L, responseNode.get("total").longValue());
+            assertTrue(responseNode.get("hasMore").booleanValue());
+
+            // Last page: the total is known without counting
+            responseNode = getResponseNode(baseUrl + "&totalMode=hasMore&start=2");
+            assertEquals(1L, responseNode.get("data").size());
+            assertEquals("Deployment 2", responseNode.get("data").get(0).get("name").textValue());
+            assertEquals(3L, responseNode.get("total").longValue());
+            assertFalse(responseNode.get("hasMore").booleanValue());
+
+            closeResponse(executeRequest(new HttpGet(baseUrl + "&totalMode=unknown"), HttpStatus.SC_BAD_REQUEST));
+
+        } finally {
+            List<Deployment> deployments = repositoryService.createDeploymentQuery().list();
+            for (Deployment deployment : deployments) {
+                repositoryService.deleteDeployment(deployment.getId(), true);
+            }
+        }
+    }
+
+    protected JsonNode getResponseNode(String url) throws Exception {
+        CloseableHttpResponse response = executeRequest(new HttpGet(url), HttpStatus.SC_OK);
+        JsonNode responseNode = objectMapper.readTree(response.getEntity().getContent());
+        closeResponse(response);
+        return responseNode;
+    }
 }
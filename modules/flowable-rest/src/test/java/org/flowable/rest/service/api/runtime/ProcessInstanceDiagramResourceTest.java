@@ -16,6 +16,8 @@ package org.flowable.rest.service.api.runtime;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -42,6 +44,28 @@ public class ProcessInstanceDiagramResourceTest extends BaseSpringRestTestCase {
         closeResponse(response);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/runtime/ProcessInstanceDiagramResourceTest.testGetProcessDiagram.bpmn20.xml" })
+    public void testGetProcessDiagramNotModified() throws Exception {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("simpleProcess");
+        String url = SERVER_URL_PREFIX + RestUrls.createRelativeResourceUrl(RestUrls.URL_PROCESS_INSTANCE_DIAGRAM, processInstance.getId());
+
+        CloseableHttpResponse response = executeRequest(new HttpGet(url), HttpStatus.SC_OK);
+        Header eTag = response.getFirstHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        closeResponse(response);
+
+        HttpGet getRequest = new HttpGet(url);
+        getRequest.setHeader(HttpHeaders.IF_NONE_MATCH, eTag.getValue());
+        response = executeRequest(getRequest, HttpStatus.SC_NOT_MODIFIED);
+        assertEquals(eTag.getValue(), response.getFirstHeader(HttpHeaders.ETAG).getValue());
+        closeResponse(response);
+
+        getRequest = new HttpGet(url);
+        getRequest.setHeader(HttpHeaders.IF_NONE_MATCH, "\"otherDiagram\"");
+        closeResponse(executeRequest(getRequest, HttpStatus.SC_OK));
+    }
+
     @Test
     @Deployment
     public void testGetProcessDiagramWithoutDiagram() throws Exception {
@@ -49,6 +49,27 @@ public class FlowableHttpProperties {
      * Whether to disable certificate validation for the http client
      */
     protected boolean disableCertVerify = false;
+    /**
+     * The maximum number of pooled connections of the http client shared by the http tasks
+     */
+    protected int maxTotalConnections = 100;
+    /**
+     * The maximum number of pooled connections to the same host, which limits the number of concurrent requests to a host.
+     * Needs to be raised when more than 20 threads (e.g. async executor threads) call the same host
+     */
+    protected int maxConnectionsPerRoute = 20;
+    /**
+     * How long a connection is kept alive for reuse when the server doesn't send a keep alive timeout
+     */
+    protected Duration keepAliveTime = Duration.ofSeconds(30);
+    /**
+     * How long a pooled connection can be idle before it's closed
+     */
+    protected Duration idleConnectionTimeout = Duration.ofMinutes(1);
+    /**
+     * The maximum size in bytes of a response body, -1 means no limit
+     */
+    protected long maxResponseBodySize = -1;
 
     public boolean isUseSystemProperties() {
         return useSystemProperties;
@@ -97,4 +118,44 @@ public class FlowableHttpProperties {
     public void setDisableCertVerify(boolean disableCertVerify) {
         this.disableCertVerify = disableCertVerify;
     }
+
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    public void setMaxTotalConnections(int maxTotalConnections) {
+        this.maxTotalConnections = maxTotalConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public Duration getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    public void setKeepAliveTime(Duration keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+    }
+
+    public Duration getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    public void setIdleConnectionTimeout(Duration idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+    }
+
+    public long getMaxResponseBodySize() {
+        return maxResponseBodySize;
+    }
+
+    public void setMaxResponseBodySize(long maxResponseBodySize) {
+        this.maxResponseBodySize = maxResponseBodySize;
+    }
 }
@@ -213,6 +213,11 @@ public class ProcessEngineAutoConfiguration extends AbstractSpringEngineAutoConf
         conf.getHttpClientConfig().setDisableCertVerify(httpProperties.isDisableCertVerify());
         conf.getHttpClientConfig().setRequestRetryLimit(httpProperties.getRequestRetryLimit());
         conf.getHttpClientConfig().setSocketTimeout(httpProperties.getSocketTimeout());
+        conf.getHttpClientConfig().setMaxTotalConnections(httpProperties.getMaxTotalConnections());
+        conf.getHttpClientConfig().setMaxConnectionsPerRoute(httpProperties.getMaxConnectionsPerRoute());
+        conf.getHttpClientConfig().setKeepAliveTime(httpProperties.getKeepAliveTime());
+        conf.getHttpClientConfig().setIdleConnectionTimeout(httpProperties.getIdleConnectionTimeout());
+        conf.getHttpClientConfig().setMaxResponseBodySize(httpProperties.getMaxResponseBodySize());
 
         conf.setEnableProcessDefinitionHistoryLevel(processProperties.isEnableProcessDefinitionHistoryLevel());
         conf.setProcessDefinitionCacheLimit(processProperties.getDefinitionCacheLimit());
@@ -171,6 +171,11 @@ public class CmmnEngineAutoConfiguration extends AbstractSpringEngineAutoConfigu
         configuration.getHttpClientConfig().setDisableCertVerify(httpProperties.isDisableCertVerify());
         configuration.getHttpClientConfig().setRequestRetryLimit(httpProperties.getRequestRetryLimit());
         configuration.getHttpClientConfig().setSocketTimeout(httpProperties.getSocketTimeout());
+        configuration.getHttpClientConfig().setMaxTotalConnections(httpProperties.getMaxTotalConnections());
+        configuration.getHttpClientConfig().setMaxConnectionsPerRoute(httpProperties.getMaxConnectionsPerRoute());
+        configuration.getHttpClientConfig().setKeepAliveTime(httpProperties.getKeepAliveTime());
+        configuration.getHttpClientConfig().setIdleConnectionTimeout(httpProperties.getIdleConnectionTimeout());
+        configuration.getHttpClientConfig().setMaxResponseBodySize(httpProperties.getMaxResponseBodySize());
 
         //TODO Can it have different then the Process engine?
         configuration.setHistoryLevel(flowableProperties.getHistoryLevel());
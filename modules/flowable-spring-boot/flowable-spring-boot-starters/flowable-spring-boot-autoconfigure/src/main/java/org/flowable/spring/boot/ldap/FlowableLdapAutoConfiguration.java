@@ -16,6 +16,7 @@ import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.idm.spring.SpringIdmEngineConfiguration;
 import org.flowable.ldap.LDAPConfiguration;
 import org.flowable.ldap.LDAPGroupCache;
+import org.flowable.ldap.LDAPUserCache;
 import org.flowable.ldap.LDAPIdentityServiceImpl;
 import org.flowable.ldap.LDAPQueryBuilder;
 import org.flowable.spring.boot.EngineConfigurationConfigurer;
@@ -85,7 +86,8 @@ public class FlowableLdapAutoConfiguration {
     @Bean
     public EngineConfigurationConfigurer<SpringIdmEngineConfiguration> ldapIdmEngineConfigurer(LDAPConfiguration ldapConfiguration) {
         return idmEngineConfiguration -> idmEngineConfiguration
-            .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, createCache(idmEngineConfiguration, ldapConfiguration)));
+            .setIdmIdentityService(new LDAPIdentityServiceImpl(ldapConfiguration, createCache(idmEngineConfiguration, ldapConfiguration),
+                createUserCache(idmEngineConfiguration, ldapConfiguration)));
     }
 
     // We need a custom AuthenticationProvider for the LDAP Support
@@ -109,8 +111,19 @@ public class FlowableLdapAutoConfiguration {
             if (ldapConfiguration.getGroupCacheListener() != null) {
                 ldapGroupCache.setLdapCacheListener(ldapConfiguration.getGroupCacheListener());
             }
+            ldapGroupCache.setRefreshAheadTime(ldapConfiguration.getCacheRefreshAheadTime());
         }
         return ldapGroupCache;
     }
 
+    protected LDAPUserCache createUserCache(SpringIdmEngineConfiguration engineConfiguration, LDAPConfiguration ldapConfiguration) {
+        LDAPUserCache ldapUserCache = null;
+        if (ldapConfiguration.getUserCacheSize() > 0) {
+            ldapUserCache = new LDAPUserCache(ldapConfiguration.getUserCacheSize(),
+                ldapConfiguration.getUserCacheExpirationTime(), engineConfiguration::getClock);
+            ldapUserCache.setRefreshAheadTime(ldapConfiguration.getCacheRefreshAheadTime());
+        }
+        return ldapUserCache;
+    }
+
 }
@@ -70,6 +70,12 @@ public class FlowableLdapProperties {
      */
     private Map<String, String> customConnectionParameters = new HashMap<>();
 
+    /**
+     * Whether the connections used for searching users and groups are pooled by the JNDI LDAP provider, instead of opening a new connection for each query.
+     * The pool itself is configured through the 'com.sun.jndi.ldap.connect.pool.*' system properties. Connections for checking passwords are never pooled.
+     */
+    private boolean connectionPooling = false;
+
     /**
      * The base 'distinguished name' (DN) from which the searches for users and groups are started.
      * <p>
@@ -174,6 +180,14 @@ public class FlowableLdapProperties {
         this.customConnectionParameters = customConnectionParameters;
     }
 
+    public boolean isConnectionPooling() {
+        return connectionPooling;
+    }
+
+    public void setConnectionPooling(boolean connectionPooling) {
+        this.connectionPooling = connectionPooling;
+    }
+
     public String getBaseDn() {
         return baseDn;
     }
@@ -226,6 +240,7 @@ public class FlowableLdapProperties {
         configuration.setInitialContextFactory(getInitialContextFactory());
         configuration.setSecurityAuthentication(getSecurityAuthentication());
         configuration.setCustomConnectionParameters(getCustomConnectionParameters());
+        configuration.setConnectionPooling(isConnectionPooling());
         configuration.setBaseDn(getBaseDn());
         configuration.setUserBaseDn(getUserBaseDn());
         configuration.setGroupBaseDn(getGroupBaseDn());
@@ -509,6 +524,25 @@ public class FlowableLdapProperties {
         //TODO once we move to Boot 2.0 we can use Duration as a parameter’
         private long groupExpiration = Duration.of(1, ChronoUnit.HOURS).toMillis();
 
+        /**
+         * Allows to set the size of the {@link org.flowable.ldap.LDAPUserCache}. This is an LRU cache that caches users by their id and thus avoids hitting
+         * the LDAP system each time a user is looked up.
+         * <p>
+         * The cache will not be instantiated if the value is less then zero. By default set to -1, so no caching is done.
+         */
+        private int userSize = -1;
+
+        /**
+         * Sets the expiration time of the {@link org.flowable.ldap.LDAPUserCache} in milliseconds. By default set to one hour.
+         */
+        private long userExpiration = Duration.of(1, ChronoUnit.HOURS).toMillis();
+
+        /**
+         * The time in milliseconds before the expiration of a cached entry during which using it reloads it in the background.
+         * By default set to 0, so cached entries are never refreshed ahead.
+         */
+        private long refreshAhead = 0;
+
         public int getGroupSize() {
             return groupSize;
         }
@@ -525,9 +559,36 @@ public class FlowableLdapProperties {
             this.groupExpiration = groupExpiration;
         }
 
+        public int getUserSize() {
+            return userSize;
+        }
+
+        public void setUserSize(int userSize) {
+            this.userSize = userSize;
+        }
+
+        public long getUserExpiration() {
+            return userExpiration;
+        }
+
+        public void setUserExpiration(long userExpiration) {
+            this.userExpiration = userExpiration;
+        }
+
+        public long getRefreshAhead() {
+            return refreshAhead;
+        }
+
+        public void setRefreshAhead(long refreshAhead) {
+            this.refreshAhead = refreshAhead;
+        }
+
         public void customize(LDAPConfiguration configuration) {
             configuration.setGroupCacheSize(getGroupSize());
             configuration.setGroupCacheExpirationTime(getGroupExpiration());
+            configuration.setUserCacheSize(getUserSize());
+            configuration.setUserCacheExpirationTime(getUserExpiration());
+            configuration.setCacheRefreshAheadTime(getRefreshAhead());
         }
     }
 }
@@ -37,8 +37,13 @@ public class SpringTransactionInterceptor extends AbstractCommandInterceptor {
     }
 
     @Override
-    public <T> T execute(final CommandConfig config, final Command<T> command) {
-        LOGGER.debug("Running command with propagation {}", config.getTransactionPropagation());
+    public <T> T execute(CommandConfig commandConfig, final Command<T> command) {
+        LOGGER.debug("Running command with propagation {}", commandConfig.getTransactionPropagation());
+
+        // A query within an existing transaction needs to see the data written by that transaction,
+        // which isn't available on the read-only data source
+        final CommandConfig config = commandConfig.isStaleReadAllowed() && TransactionSynchronizationManager.isActualTransactionActive()
+                ? commandConfig.setStaleReadAllowed(false) : commandConfig;
 
 
         // If the transaction is required (the other two options always need to go through the transactionTemplate),
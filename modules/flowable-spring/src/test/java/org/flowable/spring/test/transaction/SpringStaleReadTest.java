@@ -0,0 +1,82 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.spring.test.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.flowable.engine.test.Deployment;
+import org.flowable.spring.impl.test.SpringFlowableTestCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ContextConfiguration("classpath:org/flowable/spring/test/transaction/SpringTransactionIntegrationTest-context.xml")
+public class SpringStaleReadTest extends SpringFlowableTestCase {
+
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
+    protected AtomicInteger readOnlyConnections = new AtomicInteger();
+
+    @BeforeEach
+    protected void setUp() {
+        // Uses the same database as the engine, only the number of connections is counted
+        DataSource dataSource = processEngineConfiguration.getDataSource();
+        DataSource readOnlyDataSource = (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { DataSource.class },
+                (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        readOnlyConnections.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(dataSource, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        processEngineConfiguration.getDbSqlSessionFactory().setReadOnlyDataSource(readOnlyDataSource);
+    }
+
+    @AfterEach
+    protected void tearDown() {
+        processEngineConfiguration.getDbSqlSessionFactory().setReadOnlyDataSource(null);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/spring/test/transaction/SpringTransactionIntegrationTest.testBasicFlowableSpringIntegration.bpmn20.xml")
+    public void testStaleReadWithinSpringTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // The query needs to see the process instance started in the same transaction, so it can't use the read-only data source
+        long count = transactionTemplate.execute(status -> {
+            runtimeService.startProcessInstanceByKey("helloProcess");
+            return runtimeService.createProcessInstanceQuery().allowStaleRead().count();
+        });
+        assertThat(count).isEqualTo(1);
+        assertThat(readOnlyConnections).hasValue(0);
+
+        assertThat(runtimeService.createProcessInstanceQuery().allowStaleRead().count()).isEqualTo(1);
+        assertThat(readOnlyConnections).hasValue(1);
+    }
+
+}
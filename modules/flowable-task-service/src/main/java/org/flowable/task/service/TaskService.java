@@ -17,6 +17,7 @@ import org.flowable.task.api.TaskBuilder;
 import org.flowable.task.api.TaskQuery;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -33,6 +34,10 @@ public interface TaskService {
     
     List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId);
     
+    List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    List<TaskEntity> findTasksByParentTaskIds(Collection<String> parentTaskIds);
+    
     List<Task> findTasksByParentTaskId(String parentTaskId);
     
     List<TaskEntity> findTasksBySubScopeIdScopeType(String subScopeId, String scopeType);
@@ -58,4 +63,6 @@ public interface TaskService {
     void deleteTask(TaskEntity task, boolean fireEvents);
     
     void deleteTasksByExecutionId(String executionId);
+    
+    void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds);
 }
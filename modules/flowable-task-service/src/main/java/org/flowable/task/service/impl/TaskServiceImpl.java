@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
@@ -47,6 +48,16 @@ public class TaskServiceImpl extends CommonServiceImpl<TaskServiceConfiguration>
     public List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId) {
         return getTaskEntityManager().findTasksByProcessInstanceId(processInstanceId);
     }
+    
+    @Override
+    public List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getTaskEntityManager().findTasksByProcessInstanceIds(processInstanceIds);
+    }
+    
+    @Override
+    public List<TaskEntity> findTasksByParentTaskIds(Collection<String> parentTaskIds) {
+        return getTaskEntityManager().findTasksByParentTaskIds(parentTaskIds);
+    }
 
     @Override
     public List<Task> findTasksByParentTaskId(String parentTaskId) {
@@ -107,6 +118,11 @@ public class TaskServiceImpl extends CommonServiceImpl<TaskServiceConfiguration>
     public void deleteTasksByExecutionId(String executionId) {
         getTaskEntityManager().deleteTasksByExecutionId(executionId);
     }
+    
+    @Override
+    public void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getTaskEntityManager().deleteTasksByProcessInstanceIds(processInstanceIds);
+    }
 
     public TaskEntityManager getTaskEntityManager() {
         return configuration.getTaskEntityManager();
@@ -63,6 +63,13 @@ public interface HistoricTaskInstanceEntity extends Entity, HistoricTaskInstance
     
     void setLastUpdateTime(Date lastUpdateTime);
 
+    /**
+     * The start time of the process instance, used as partition key when history table partitioning is enabled.
+     */
+    Date getPartitionTime();
+
+    void setPartitionTime(Date partitionTime);
+
     List<HistoricVariableInstanceEntity> getQueryVariables();
 
     void setQueryVariables(List<HistoricVariableInstanceEntity> queryVariables);
@@ -63,6 +63,7 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
     protected String category;
     protected String tenantId = TaskServiceConfiguration.NO_TENANT_ID;
     protected Date lastUpdateTime;
+    protected Date partitionTime;
     protected List<HistoricVariableInstanceEntity> queryVariables;
     protected List<HistoricIdentityLinkEntity> queryIdentityLinks;
     protected List<HistoricIdentityLinkEntity> identityLinks = new ArrayList<>();
@@ -441,6 +442,16 @@ public class HistoricTaskInstanceEntityImpl extends AbstractTaskServiceEntity im
         this.lastUpdateTime = lastUpdateTime;
     }
 
+    @Override
+    public Date getPartitionTime() {
+        return partitionTime;
+    }
+
+    @Override
+    public void setPartitionTime(Date partitionTime) {
+        this.partitionTime = partitionTime;
+    }
+
     @Override
     public Map<String, Object> getTaskLocalVariables() {
         Map<String, Object> variables = new HashMap<>();
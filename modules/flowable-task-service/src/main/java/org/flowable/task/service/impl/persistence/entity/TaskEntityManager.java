@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +40,10 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
 
     List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId);
     
+    List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    List<TaskEntity> findTasksByParentTaskIds(Collection<String> parentTaskIds);
+    
     List<TaskEntity> findTasksByScopeIdAndScopeType(String scopeId, String scopeType);
     
     List<TaskEntity> findTasksBySubScopeIdAndScopeType(String subScopeId, String scopeType);
@@ -60,4 +65,6 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
     void updateAllTaskRelatedEntityCountFlags(boolean configProperty);
     
     void deleteTasksByExecutionId(String executionId);
+    
+    void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -159,6 +160,16 @@ public class TaskEntityManagerImpl
         return dataManager.findTasksByProcessInstanceId(processInstanceId);
     }
     
+    @Override
+    public List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return dataManager.findTasksByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public List<TaskEntity> findTasksByParentTaskIds(Collection<String> parentTaskIds) {
+        return dataManager.findTasksByParentTaskIds(parentTaskIds);
+    }
+    
     @Override
     public List<TaskEntity> findTasksByScopeIdAndScopeType(String scopeId, String scopeType) {
         return dataManager.findTasksByScopeIdAndScopeType(scopeId, scopeType);
@@ -213,6 +224,11 @@ public class TaskEntityManagerImpl
     public void deleteTasksByExecutionId(String executionId) {
         dataManager.deleteTasksByExecutionId(executionId);
     }
+    
+    @Override
+    public void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        dataManager.deleteTasksByProcessInstanceIds(processInstanceIds);
+    }
 
     protected void logAssigneeChanged(TaskEntity taskEntity, String previousAssignee, String newAssignee) {
         if (serviceConfiguration.isEnableHistoricTaskLogging()) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +30,10 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
 
     List<TaskEntity> findTasksByProcessInstanceId(String processInstanceId);
     
+    List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    List<TaskEntity> findTasksByParentTaskIds(Collection<String> parentTaskIds);
+    
     List<TaskEntity> findTasksByScopeIdAndScopeType(String scopeId, String scopeType);
     
     List<TaskEntity> findTasksBySubScopeIdAndScopeType(String subScopeId, String scopeType);
@@ -50,5 +55,7 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
     void updateAllTaskRelatedEntityCountFlags(boolean newValue);
     
     void deleteTasksByExecutionId(String executionId);
+    
+    void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds);
 
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +22,7 @@ import java.util.Map;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.task.api.Task;
 import org.flowable.task.service.impl.TaskQueryImpl;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
@@ -79,6 +82,28 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         return getList(dbSqlSession, "selectTasksByProcessInstanceId", processInstanceId, tasksByProcessInstanceIdMatcher, true);
     }
     
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskEntity> findTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            tasks.addAll(dbSqlSession.selectList("selectTasksByProcessInstanceIds", processInstanceIdsChunk));
+        }
+        return tasks;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskEntity> findTasksByParentTaskIds(Collection<String> parentTaskIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<TaskEntity> tasks = new ArrayList<>();
+        for (List<String> parentTaskIdsChunk : CollectionUtil.partition(parentTaskIds, MAX_IDS_PER_STATEMENT)) {
+            tasks.addAll(dbSqlSession.selectList("selectTasksByParentTaskIds", parentTaskIdsChunk));
+        }
+        return tasks;
+    }
+    
     @Override
     public List<TaskEntity> findTasksByScopeIdAndScopeType(String scopeId, String scopeType) {
         Map<String, String> params = new HashMap<>();
@@ -182,5 +207,13 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
             bulkDelete("deleteTasksByExecutionId", tasksByExecutionIdMatcher, executionId);
         }
     }
+    
+    @Override
+    public void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> processInstanceIdsChunk : CollectionUtil.partition(processInstanceIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteTasksByProcessInstanceIds", processInstanceIdsChunk, TaskEntityImpl.class);
+        }
+    }
 
 }
@@ -27,6 +27,7 @@ create table ACT_HI_TASKINST (
     CATEGORY_ varchar(255),
     TENANT_ID_ varchar(255) default '',
     LAST_UPDATED_TIME_ timestamp,
+    PARTITION_TIME_ timestamp,
     primary key (ID_)
 );
 
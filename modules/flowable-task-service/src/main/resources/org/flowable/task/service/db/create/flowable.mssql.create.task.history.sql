@@ -27,6 +27,7 @@ create table ACT_HI_TASKINST (
     CATEGORY_ nvarchar(255),
     TENANT_ID_ nvarchar(255) default '',
     LAST_UPDATED_TIME_ datetime2,
+    PARTITION_TIME_ datetime,
     primary key (ID_)
 );
 
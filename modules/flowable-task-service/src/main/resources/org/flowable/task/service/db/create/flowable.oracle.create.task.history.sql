@@ -27,6 +27,7 @@ create table ACT_HI_TASKINST (
     CATEGORY_ NVARCHAR2(255),
     TENANT_ID_ NVARCHAR2(255) default '',
     LAST_UPDATED_TIME_ TIMESTAMP(6),
+    PARTITION_TIME_ TIMESTAMP(6),
     primary key (ID_)
 );
 
@@ -0,0 +1,55 @@
+create table ACT_HI_TASKINST (
+    ID_ varchar(64) not null,
+    REV_ integer default 1,
+    PROC_DEF_ID_ varchar(64),
+    TASK_DEF_ID_ varchar(64),
+    TASK_DEF_KEY_ varchar(255),
+    PROC_INST_ID_ varchar(64),
+    EXECUTION_ID_ varchar(64),
+    SCOPE_ID_ varchar(255),
+    SUB_SCOPE_ID_ varchar(255),
+    SCOPE_TYPE_ varchar(255),
+    SCOPE_DEFINITION_ID_ varchar(255),
+    PROPAGATED_STAGE_INST_ID_ varchar(255),
+    NAME_ varchar(255),
+    PARENT_TASK_ID_ varchar(64),
+    DESCRIPTION_ varchar(4000),
+    OWNER_ varchar(255),
+    ASSIGNEE_ varchar(255),
+    START_TIME_ timestamp not null,
+    CLAIM_TIME_ timestamp,
+    END_TIME_ timestamp,
+    DURATION_ bigint,
+    DELETE_REASON_ varchar(4000),
+    PRIORITY_ integer,
+    DUE_DATE_ timestamp,
+    FORM_KEY_ varchar(255),
+    CATEGORY_ varchar(255),
+    TENANT_ID_ varchar(255) default '',
+    LAST_UPDATED_TIME_ timestamp,
+    PARTITION_TIME_ timestamp
+) partition by range (PARTITION_TIME_);
+
+create table ACT_HI_TASKINST_DEFAULT partition of ACT_HI_TASKINST default;
+
+create table ACT_HI_TSK_LOG (
+    ID_ SERIAL PRIMARY KEY,
+    TYPE_ varchar(64),
+    TASK_ID_ varchar(64) not null,
+    TIME_STAMP_ timestamp not null,
+    USER_ID_ varchar(255),
+    DATA_ varchar(4000),
+    EXECUTION_ID_ varchar(64),
+    PROC_INST_ID_ varchar(64),
+    PROC_DEF_ID_ varchar(64),
+    SCOPE_ID_ varchar(255),
+    SCOPE_DEFINITION_ID_ varchar(255),
+    SUB_SCOPE_ID_ varchar(255),
+    SCOPE_TYPE_ varchar(255),
+    TENANT_ID_ varchar(255) default ''
+);
+
+create index ACT_IDX_HI_TASK_SCOPE on ACT_HI_TASKINST(SCOPE_ID_, SCOPE_TYPE_);
+create index ACT_IDX_HI_TASK_SUB_SCOPE on ACT_HI_TASKINST(SUB_SCOPE_ID_, SCOPE_TYPE_);
+create index ACT_IDX_HI_TASK_SCOPE_DEF on ACT_HI_TASKINST(SCOPE_DEFINITION_ID_, SCOPE_TYPE_);
+create index ACT_IDX_HI_TASK_INST_ID on ACT_HI_TASKINST(ID_);
\ No newline at end of file
@@ -0,0 +1 @@
+alter table ACT_HI_TASKINST add column PARTITION_TIME_ datetime(3);
@@ -0,0 +1 @@
+alter table ACT_HI_TASKINST add PARTITION_TIME_ TIMESTAMP(6);
@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.api.types;
+
+/**
+ * A {@link VariableType} that is able to store the non-null values of one class of which the size is within a range,
+ * like strings up to a maximum length.
+ *
+ * When looking up the type of a variable value, the type is then only considered for values of that class,
+ * and {@link #isAbleToStore(Object)} is replaced by a check of the size of the value against the range.
+ */
+public interface SizeLimitedVariableType extends VariableType {
+
+    /**
+     * @return the class of the values that can be stored by this type.
+     */
+    Class<?> getValueClass();
+
+    /**
+     * @return the size of the given value, which is an instance of {@link #getValueClass()}.
+     */
+    int getValueSize(Object value);
+
+    /**
+     * @return the minimum size (inclusive) of the values that can be stored by this type.
+     */
+    int getMinValueSize();
+
+    /**
+     * @return the maximum size (inclusive) of the values that can be stored by this type.
+     */
+    int getMaxValueSize();
+
+}
@@ -42,6 +42,19 @@ public interface VariableType {
      */
     boolean isAbleToStore(Object value);
 
+    /**
+     * Indicates if the result of {@link #isAbleToStore(Object)} only depends on the class of the value and not on the value itself.
+     * The result of {@link #isAbleToStore(Object)} is then cached per value class when looking up the type of a variable value.
+     * Types of which the result depends on the size of the value can implement {@link SizeLimitedVariableType} instead.
+     * The built-in types only return true for their own class, so a subclass that overrides {@link #isAbleToStore(Object)}
+     * isn't cached per value class unless it overrides this method as well.
+     *
+     * @return false by default, in which case {@link #isAbleToStore(Object)} is called for every value.
+     */
+    default boolean isValueClassBased() {
+        return false;
+    }
+
     /**
      * Stores the specified value in the supplied {@link ValueFields}.
      */
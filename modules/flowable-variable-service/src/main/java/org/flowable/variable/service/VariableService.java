@@ -37,6 +37,11 @@ public interface VariableService {
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    /**
+     * Returns the variables of all executions of the given process instance, excluding the task local variables.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId);
+
     VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String taskName);
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> taskNames);
@@ -83,6 +88,12 @@ public interface VariableService {
 
     void deleteVariablesByExecutionId(String executionId);
     
+    /**
+     * Deletes all variables of the given process instances, including the variables of their executions and tasks, and the byte arrays
+     * referenced by those variables, with one statement per table.
+     */
+    void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteVariablesByTaskId(String taskId);
 
 }
@@ -58,6 +58,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().findVariableInstancesByExecutionIds(executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId) {
+        return getVariableInstanceEntityManager().findVariableInstancesByProcessInstanceId(processInstanceId);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String taskName) {
         return getVariableInstanceEntityManager().findVariableInstanceByTaskAndName(taskId, taskName);
@@ -138,6 +143,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         getVariableInstanceEntityManager().deleteVariablesByExecutionId(executionId);
     }
     
+    @Override
+    public void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getVariableInstanceEntityManager().deleteVariablesByProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public void deleteVariablesByTaskId(String taskId) {
         getVariableInstanceEntityManager().deleteVariablesByTaskId(taskId);
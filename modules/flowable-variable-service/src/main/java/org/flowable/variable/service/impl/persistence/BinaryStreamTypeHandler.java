@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.persistence;
+
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeReference;
+
+/**
+ * MyBatis TypeHandler that reads a binary column as an {@link InputStream}, without loading its bytes in memory.
+ * Unlike the default MyBatis handler for streams, it doesn't require the column to be a BLOB (e.g. bytea on Postgres).
+ *
+ * The stream is only valid as long as the result set it was read from is open,
+ * so it should only be used for statements that are executed as a cursor.
+ */
+public class BinaryStreamTypeHandler extends TypeReference<InputStream> implements TypeHandler<InputStream> {
+
+    @Override
+    public void setParameter(PreparedStatement ps, int i, InputStream parameter, JdbcType jdbcType) throws SQLException {
+        ps.setBinaryStream(i, parameter);
+    }
+
+    @Override
+    public InputStream getResult(ResultSet rs, String columnName) throws SQLException {
+        return rs.getBinaryStream(columnName);
+    }
+
+    @Override
+    public InputStream getResult(ResultSet rs, int columnIndex) throws SQLException {
+        return rs.getBinaryStream(columnIndex);
+    }
+
+    @Override
+    public InputStream getResult(CallableStatement cs, int columnIndex) throws SQLException {
+        Blob blob = cs.getBlob(columnIndex);
+        return blob != null ? blob.getBinaryStream() : null;
+    }
+}
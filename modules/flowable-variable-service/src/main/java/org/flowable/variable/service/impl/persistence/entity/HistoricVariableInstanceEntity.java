@@ -41,6 +41,13 @@ public interface HistoricVariableInstanceEntity extends ValueFields, HistoricVar
 
     void setLastUpdatedTime(Date lastUpdatedTime);
 
+    /**
+     * The start time of the process instance, used as partition key when history table partitioning is enabled.
+     */
+    Date getPartitionTime();
+
+    void setPartitionTime(Date partitionTime);
+
     void setExecutionId(String executionId);
     
     void setScopeId(String scopeId);
@@ -40,6 +40,7 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
 
     protected Date createTime;
     protected Date lastUpdatedTime;
+    protected Date partitionTime;
 
     protected Long longValue;
     protected Double doubleValue;
@@ -227,6 +228,16 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
     public void setLastUpdatedTime(Date lastUpdatedTime) {
         this.lastUpdatedTime = lastUpdatedTime;
     }
+
+    @Override
+    public Date getPartitionTime() {
+        return partitionTime;
+    }
+
+    @Override
+    public void setPartitionTime(Date partitionTime) {
+        this.partitionTime = partitionTime;
+    }
     
     @Override
     public Date getTime() {
@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -31,5 +33,18 @@ public interface VariableByteArrayEntityManager extends EntityManager<VariableBy
      * only in conjunction with an entity that has optimistic locking!.
      */
     void deleteByteArrayById(String byteArrayEntityId);
+    
+    /**
+     * Deletes the {@link VariableByteArrayEntity} instances with the given ids with one statement, without optimistic locking (see {@link #deleteByteArrayById(String)}).
+     */
+    void deleteByteArraysByIds(Collection<String> byteArrayEntityIds);
+
+    /**
+     * Returns the bytes of the {@link VariableByteArrayEntity} with the given id as a stream, without loading the entity in memory.
+     * The stream reads from the database and is only valid until the current command context is closed.
+     * The database connection of the command context is in use until the stream is closed.
+     * Returns null if there is no {@link VariableByteArrayEntity} with the given id or if it has no bytes.
+     */
+    InputStream findBytesAsStream(String byteArrayEntityId);
 
 }
\ No newline at end of file
@@ -13,6 +13,8 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -40,5 +42,15 @@ public class VariableByteArrayEntityManagerImpl
     public void deleteByteArrayById(String byteArrayEntityId) {
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
+    
+    @Override
+    public void deleteByteArraysByIds(Collection<String> byteArrayEntityIds) {
+        dataManager.deleteByteArraysNoRevisionCheck(byteArrayEntityIds);
+    }
+
+    @Override
+    public InputStream findBytesAsStream(String byteArrayEntityId) {
+        return dataManager.findBytesAsStream(byteArrayEntityId);
+    }
 
 }
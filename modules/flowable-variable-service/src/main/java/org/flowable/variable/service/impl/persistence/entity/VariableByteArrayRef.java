@@ -12,10 +12,14 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.variable.service.impl.util.CommandContextUtil;
 
 /**
@@ -58,6 +62,59 @@ public class VariableByteArrayRef implements Serializable {
         return (entity != null ? entity.getBytes() : null);
     }
 
+    /**
+     * Returns the bytes as a stream, or null if there are no bytes.
+     * When the bytes aren't loaded yet, they are streamed from the database instead of being loaded in memory.
+     * Such a stream can only be read in the current command context, it is closed when the command context is closed.
+     */
+    public InputStream getInputStream() {
+        if (id == null || entity != null) {
+            byte[] bytes = getBytes();
+            return bytes != null ? new ByteArrayInputStream(bytes) : null;
+        }
+
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        if (commandContext == null) {
+            throw new IllegalStateException("Cannot stream byte array. There is no command context");
+        }
+        return CommandContextUtil.getByteArrayEntityManager(commandContext).findBytesAsStream(id);
+    }
+
+    /**
+     * Writes the bytes to the given output stream, streaming them from the database when they aren't loaded yet (see {@link #getInputStream()}).
+     * When there is no command context, the bytes are written in a new command.
+     * <p>
+     * While streaming from the database, the database connection and transaction of the command are in use until the last byte
+     * has been written to the output stream. So a slow output stream, like the response to a remote client, holds the connection
+     * for as long as it takes to write it: copy the bytes to a buffer or a file first in that case.
+     *
+     * @return the number of bytes written
+     */
+    public long writeBytes(OutputStream outputStream) {
+        if (id == null || entity != null || CommandContextUtil.getCommandContext() != null) {
+            return copyBytes(outputStream);
+
+        } else if (commandExecutor != null) {
+            return commandExecutor.execute(commandContext -> copyBytes(outputStream));
+
+        } else {
+            throw new IllegalStateException("Cannot write byte array. There is no command context and there is no command Executor");
+        }
+    }
+
+    protected long copyBytes(OutputStream outputStream) {
+        InputStream inputStream = getInputStream();
+        if (inputStream == null) {
+            return 0;
+        }
+
+        try {
+            return IoUtil.copyInputStream(inputStream, outputStream, "byte array " + id);
+        } finally {
+            IoUtil.closeSilently(inputStream);
+        }
+    }
+
     public void setValue(String name, byte[] bytes) {
         this.name = name;
         setBytes(bytes);
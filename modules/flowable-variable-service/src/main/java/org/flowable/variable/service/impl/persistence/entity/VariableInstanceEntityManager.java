@@ -45,6 +45,8 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId);
+
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
@@ -69,6 +71,8 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     void deleteVariablesByExecutionId(String executionId);
     
+    void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteByScopeIdAndScopeType(String scopeId, String scopeType);
 
 }
\ No newline at end of file
@@ -71,6 +71,11 @@ public class VariableInstanceEntityManagerImpl
         return dataManager.findVariableInstancesByExecutionIds(executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId) {
+        return dataManager.findVariableInstancesByProcessInstanceId(processInstanceId);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
         return dataManager.findVariableInstanceByExecutionAndName(executionId, variableName);
@@ -141,6 +146,17 @@ public class VariableInstanceEntityManagerImpl
         dataManager.deleteVariablesByExecutionId(executionId);
     }
     
+    @Override
+    public void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // The byte arrays can only be deleted after the variables referencing them,
+        // so their ids are needed before the variables are gone
+        List<String> byteArrayIds = dataManager.findByteArrayIdsByProcessInstanceIds(processInstanceIds);
+        if (!byteArrayIds.isEmpty()) {
+            serviceConfiguration.getByteArrayEntityManager().deleteByteArraysByIds(byteArrayIds);
+        }
+        dataManager.deleteVariablesByProcessInstanceIds(processInstanceIds);
+    }
+    
     @Override
     public void deleteByScopeIdAndScopeType(String scopeId, String scopeType) {
         dataManager.deleteByScopeIdAndScopeType(scopeId, scopeType);
@@ -91,6 +91,13 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         this.variableInstances = variableInstances;
     }
 
+    /**
+     * Returns whether all variables of this scope have been fetched already.
+     */
+    public boolean isVariableInstancesInitialized() {
+        return variableInstances != null;
+    }
+
     @Override
     public Map<String, Object> getVariables() {
         return collectVariables(new HashMap<>());
@@ -254,12 +261,66 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     @Override
     public Object getVariable(String variableName) {
-        return getVariable(variableName, true);
+        if (isFetchAllVariablesOnGet()) {
+            return getVariable(variableName, true);
+        }
+
+        VariableInstance variable = getVariableInstanceByName(variableName, true);
+        return variable != null ? variable.getValue() : null;
     }
 
     @Override
     public VariableInstance getVariableInstance(String variableName) {
-        return getVariableInstance(variableName, true);
+        if (isFetchAllVariablesOnGet()) {
+            return getVariableInstance(variableName, true);
+        }
+        return getVariableInstanceByName(variableName, true);
+    }
+
+    /**
+     * Whether {@link #getVariable(String)} and {@link #getVariableLocal(String)} fetch all variables of a scope of which the variables aren't fetched yet (the default),
+     * or only the requested variable, see {@link #getVariableInstanceByName(String, boolean)}.
+     */
+    protected boolean isFetchAllVariablesOnGet() {
+        return true;
+    }
+
+    /**
+     * Looks up a variable without fetching all variables of the scopes: a scope of which the variables were fetched already is only checked in memory,
+     * for any other scope only the requested variable is fetched.
+     * Unlike {@link #getVariableInstance(String, boolean)} with fetchAllVariables false, the parent scopes decide for themselves how to look up the variable.
+     */
+    protected VariableInstance getVariableInstanceByName(String variableName, boolean includeParentScopes) {
+        if (transientVariables != null && transientVariables.containsKey(variableName)) {
+            return transientVariables.get(variableName);
+        }
+
+        if (usedVariablesCache.containsKey(variableName)) {
+            return usedVariablesCache.get(variableName);
+        }
+
+        if (variableInstances != null) {
+            VariableInstanceEntity variableInstance = variableInstances.get(variableName);
+            if (variableInstance != null) {
+                return variableInstance;
+            }
+
+        } else {
+            VariableInstanceEntity variableInstance = getSpecificVariable(variableName);
+            if (variableInstance != null) {
+                usedVariablesCache.put(variableName, variableInstance);
+                return variableInstance;
+            }
+        }
+
+        if (includeParentScopes) {
+            VariableScope parentScope = getParentVariableScope();
+            if (parentScope != null) {
+                return parentScope.getVariableInstance(variableName);
+            }
+        }
+
+        return null;
     }
 
     /**
@@ -335,12 +396,20 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
     @Override
     public Object getVariableLocal(String variableName) {
-        return getVariableLocal(variableName, true);
+        if (isFetchAllVariablesOnGet()) {
+            return getVariableLocal(variableName, true);
+        }
+
+        VariableInstance variable = getVariableInstanceByName(variableName, false);
+        return variable != null ? variable.getValue() : null;
     }
 
     @Override
     public VariableInstance getVariableInstanceLocal(String variableName) {
-        return getVariableInstanceLocal(variableName, true);
+        if (isFetchAllVariablesOnGet()) {
+            return getVariableInstanceLocal(variableName, true);
+        }
+        return getVariableInstanceByName(variableName, false);
     }
 
     @Override
@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
@@ -25,5 +27,9 @@ public interface VariableByteArrayDataManager extends DataManager<VariableByteAr
     List<VariableByteArrayEntity> findAll();
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
+    
+    void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds);
+
+    InputStream findBytesAsStream(String byteArrayEntityId);
 
 }
@@ -32,6 +32,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    List<VariableInstanceEntity> findVariableInstancesByProcessInstanceId(String processInstanceId);
+
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
@@ -56,6 +58,10 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
     
     void deleteVariablesByExecutionId(String executionId);
     
+    List<String> findByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
+    
+    void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds);
+    
     void deleteByScopeIdAndScopeType(String scopeId, String scopeType);
     
 }
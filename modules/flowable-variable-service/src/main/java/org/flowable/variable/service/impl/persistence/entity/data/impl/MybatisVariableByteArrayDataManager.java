@@ -12,9 +12,23 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.ibatis.cursor.Cursor;
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.VariableByteArrayDataManager;
@@ -44,5 +58,94 @@ public class MybatisVariableByteArrayDataManager extends AbstractDataManager<Var
     public void deleteByteArrayNoRevisionCheck(String byteArrayEntityId) {
         getDbSqlSession().delete("deleteVariableByteArrayNoRevisionCheck", byteArrayEntityId, VariableByteArrayEntityImpl.class);
     }
+    
+    @Override
+    public void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds) {
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        for (List<String> byteArrayEntityIdsChunk : CollectionUtil.partition(byteArrayEntityIds, MAX_IDS_PER_STATEMENT)) {
+            dbSqlSession.delete("bulkDeleteVariableByteArraysNoRevisionCheck", byteArrayEntityIdsChunk, VariableByteArrayEntityImpl.class);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public InputStream findBytesAsStream(String byteArrayEntityId) {
+        // Bytes changed in the current command aren't flushed yet, so these need to be taken from the cache
+        VariableByteArrayEntity cachedEntity = getEntityCache().findInCache(getManagedEntityClass(), byteArrayEntityId);
+        if (cachedEntity != null) {
+            return cachedEntity.getBytes() != null ? new ByteArrayInputStream(cachedEntity.getBytes()) : null;
+        }
+
+        // A cursor keeps the result set open, which is needed to read the stream of the bytes
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        String statement = dbSqlSession.getDbSqlSessionFactory().mapStatement("selectVariableByteArrayBytesStream");
+        Cursor<Map<String, Object>> cursor = dbSqlSession.getSqlSession().selectCursor(statement, byteArrayEntityId);
+        try {
+            Iterator<Map<String, Object>> rows = cursor.iterator();
+            Map<String, Object> row = rows.hasNext() ? rows.next() : null;
+            InputStream bytesStream = row != null ? (InputStream) row.get("bytes") : null;
+            if (bytesStream == null) {
+                closeCursor(cursor);
+                return null;
+            }
+
+            CursorInputStream cursorInputStream = new CursorInputStream(bytesStream, cursor);
+            getCommandContext().addCloseListener(cursorInputStream);
+            return cursorInputStream;
+
+        } catch (RuntimeException e) {
+            closeCursor(cursor);
+            throw new FlowableException("Could not read the bytes of byte array " + byteArrayEntityId, e);
+        }
+    }
+
+    protected static void closeCursor(Cursor<?> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            // Nothing to do anymore: the result set is closed with its connection at the latest
+        }
+    }
+
+    /**
+     * Stream of the bytes of the current row of a cursor, that closes the cursor when the stream
+     * or the command context is closed, whichever comes first.
+     * The database connection (and transaction) of the command context is in use until then.
+     */
+    protected static class CursorInputStream extends FilterInputStream implements CommandContextCloseListener {
+
+        protected final Cursor<?> cursor;
+
+        public CursorInputStream(InputStream bytesStream, Cursor<?> cursor) {
+            super(bytesStream);
+            this.cursor = cursor;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                closeCursor(cursor);
+            }
+        }
+
+        @Override
+        public void closing(CommandContext commandContext) {
+            IoUtil.closeSilently(this);
+        }
+
+        @Override
+        public void afterSessionsFlush(CommandContext commandContext) {
+        }
+
+        @Override
+        public void closed(CommandContext commandContext) {
+        }
+
+        @Override
+        public void closeFailure(CommandContext commandContext) {
+        }
+    }
 
 }
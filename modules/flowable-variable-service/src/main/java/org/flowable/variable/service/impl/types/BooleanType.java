@@ -55,6 +55,11 @@ public class BooleanType implements VariableType {
         }
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == BooleanType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -44,6 +44,11 @@ public class ByteArrayType implements VariableType {
         valueFields.setBytes((byte[]) value);
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == ByteArrayType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
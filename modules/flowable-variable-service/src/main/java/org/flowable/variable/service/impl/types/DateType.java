@@ -34,6 +34,11 @@ public class DateType implements VariableType {
         return true;
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == DateType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -17,12 +17,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.variable.api.types.SizeLimitedVariableType;
 import org.flowable.variable.api.types.VariableType;
 import org.flowable.variable.api.types.VariableTypes;
 
 /**
+ * The types are checked in the order of the list to find the type of a value.
+ * To avoid checking all types for every value, the types that are able to store the values of a class are cached per value class,
+ * see {@link VariableType#isValueClassBased()} and {@link SizeLimitedVariableType}. The cache is cleared when the types are changed.
+ *
  * @author Tom Baeyens
  */
 public class DefaultVariableTypes implements VariableTypes, Serializable {
@@ -32,6 +38,9 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     private final List<VariableType> typesList = new ArrayList<>();
     private final Map<String, VariableType> typesMap = new HashMap<>();
 
+    private transient volatile Map<Class<?>, ValueClassTypes> typesByValueClass;
+    private transient volatile VariableType nullValueType;
+
     @Override
     public DefaultVariableTypes addType(VariableType type) {
         return addType(type, typesList.size());
@@ -41,6 +50,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public DefaultVariableTypes addType(VariableType type, int index) {
         typesList.add(index, type);
         typesMap.put(type.getTypeName(), type);
+        clearValueClassTypes();
         return this;
     }
 
@@ -51,6 +61,7 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
         for (VariableType type : typesList) {
             typesMap.put(type.getTypeName(), type);
         }
+        clearValueClassTypes();
     }
 
     @Override
@@ -60,12 +71,78 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
 
     @Override
     public VariableType findVariableType(Object value) {
+        VariableType variableType;
+        if (value == null) {
+            variableType = nullValueType;
+            if (variableType == null) {
+                variableType = findVariableTypeInList(null);
+                nullValueType = variableType;
+            }
+
+        } else {
+            Map<Class<?>, ValueClassTypes> typesByValueClass = getTypesByValueClass();
+            ValueClassTypes valueClassTypes = typesByValueClass.get(value.getClass());
+            if (valueClassTypes == null) {
+                valueClassTypes = createValueClassTypes(value);
+                typesByValueClass.put(value.getClass(), valueClassTypes);
+            }
+            variableType = valueClassTypes.findVariableType(value);
+        }
+
+        if (variableType == null) {
+            throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
+        }
+        return variableType;
+    }
+
+    protected VariableType findVariableTypeInList(Object value) {
         for (VariableType type : typesList) {
             if (type.isAbleToStore(value)) {
                 return type;
             }
         }
-        throw new FlowableException("couldn't find a variable type that is able to serialize " + value);
+        return null;
+    }
+
+    protected ValueClassTypes createValueClassTypes(Object value) {
+        Class<?> valueClass = value.getClass();
+        List<VariableType> valueDependentTypes = new ArrayList<>();
+        VariableType valueClassType = null;
+        for (VariableType type : typesList) {
+            if (type instanceof SizeLimitedVariableType) {
+                if (((SizeLimitedVariableType) type).getValueClass().isAssignableFrom(valueClass)) {
+                    valueDependentTypes.add(type);
+                }
+
+            } else if (type.isValueClassBased()) {
+                // Types after this one are never checked for values of this class
+                if (type.isAbleToStore(value)) {
+                    valueClassType = type;
+                    break;
+                }
+
+            } else {
+                valueDependentTypes.add(type);
+            }
+        }
+        return new ValueClassTypes(valueDependentTypes.toArray(new VariableType[0]), valueClassType);
+    }
+
+    protected Map<Class<?>, ValueClassTypes> getTypesByValueClass() {
+        Map<Class<?>, ValueClassTypes> typesByValueClass = this.typesByValueClass;
+        if (typesByValueClass == null) {
+            typesByValueClass = new ConcurrentHashMap<>();
+            this.typesByValueClass = typesByValueClass;
+        }
+        return typesByValueClass;
+    }
+
+    /**
+     * Clears the types that are cached per value class. This is done automatically when types are added or removed.
+     */
+    public void clearValueClassTypes() {
+        typesByValueClass = null;
+        nullValueType = null;
     }
 
     @Override
@@ -87,6 +164,37 @@ public class DefaultVariableTypes implements VariableTypes, Serializable {
     public VariableTypes removeType(VariableType type) {
         typesList.remove(type);
         typesMap.remove(type.getTypeName());
+        clearValueClassTypes();
         return this;
     }
+
+    /**
+     * The types that are able to store values of one class, in the order in which they need to be checked.
+     */
+    protected static class ValueClassTypes {
+
+        protected final VariableType[] valueDependentTypes;
+        protected final VariableType valueClassType;
+
+        public ValueClassTypes(VariableType[] valueDependentTypes, VariableType valueClassType) {
+            this.valueDependentTypes = valueDependentTypes;
+            this.valueClassType = valueClassType;
+        }
+
+        public VariableType findVariableType(Object value) {
+            for (VariableType type : valueDependentTypes) {
+                if (type instanceof SizeLimitedVariableType) {
+                    SizeLimitedVariableType sizeLimitedType = (SizeLimitedVariableType) type;
+                    int valueSize = sizeLimitedType.getValueSize(value);
+                    if (valueSize >= sizeLimitedType.getMinValueSize() && valueSize <= sizeLimitedType.getMaxValueSize()) {
+                        return type;
+                    }
+
+                } else if (type.isAbleToStore(value)) {
+                    return type;
+                }
+            }
+            return valueClassType;
+        }
+    }
 }
@@ -44,6 +44,11 @@ public class DoubleType implements VariableType {
         valueFields.setDoubleValue((Double) value);
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == DoubleType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -34,6 +34,11 @@ public class InstantType implements VariableType {
         return true;
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == InstantType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
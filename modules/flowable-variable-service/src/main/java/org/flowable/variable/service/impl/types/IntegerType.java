@@ -53,6 +53,11 @@ public class IntegerType implements VariableType {
         }
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == IntegerType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -45,6 +45,11 @@ public class JPAEntityVariableType implements VariableType, CacheableVariable {
         return forceCacheable;
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == JPAEntityVariableType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
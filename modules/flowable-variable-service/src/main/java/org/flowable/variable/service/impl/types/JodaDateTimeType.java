@@ -33,6 +33,11 @@ public class JodaDateTimeType implements VariableType {
         return true;
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == JodaDateTimeType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -33,6 +33,11 @@ public class JodaDateType implements VariableType {
         return true;
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == JodaDateType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -157,6 +157,11 @@ public class JsonType implements VariableType, MutableVariableType<JsonNode, Jso
         }
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == JsonType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
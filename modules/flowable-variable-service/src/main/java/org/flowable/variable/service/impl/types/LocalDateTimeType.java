@@ -36,6 +36,11 @@ public class LocalDateTimeType implements VariableType {
         return true;
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == LocalDateTimeType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
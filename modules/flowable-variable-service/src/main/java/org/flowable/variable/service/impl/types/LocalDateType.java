@@ -34,6 +34,11 @@ public class LocalDateType implements VariableType {
         return true;
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == LocalDateType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
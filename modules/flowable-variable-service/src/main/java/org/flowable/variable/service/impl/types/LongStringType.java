@@ -12,10 +12,12 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import org.flowable.variable.api.types.SizeLimitedVariableType;
+
 /**
  * @author Martin Grofcik
  */
-public class LongStringType extends SerializableType {
+public class LongStringType extends SerializableType implements SizeLimitedVariableType {
 
     public static final String TYPE_NAME = "longString";
     private final int minLength;
@@ -29,6 +31,31 @@ public class LongStringType extends SerializableType {
         return TYPE_NAME;
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return false;
+    }
+
+    @Override
+    public Class<?> getValueClass() {
+        return String.class;
+    }
+
+    @Override
+    public int getValueSize(Object value) {
+        return ((String) value).length();
+    }
+
+    @Override
+    public int getMinValueSize() {
+        return minLength;
+    }
+
+    @Override
+    public int getMaxValueSize() {
+        return Integer.MAX_VALUE;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -49,6 +49,11 @@ public class LongType implements VariableType {
         }
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == LongType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -39,6 +39,11 @@ public class NullType implements VariableType {
         return null;
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == NullType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         return (value == null);
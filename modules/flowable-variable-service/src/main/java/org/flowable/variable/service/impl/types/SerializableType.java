@@ -154,6 +154,11 @@ public class SerializableType extends ByteArrayType implements MutableVariableTy
         }
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == SerializableType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         // TODO don't we need null support here?
@@ -53,6 +53,11 @@ public class ShortType implements VariableType {
         }
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == ShortType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
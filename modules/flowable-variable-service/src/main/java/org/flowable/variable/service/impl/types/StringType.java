@@ -12,13 +12,13 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import org.flowable.variable.api.types.SizeLimitedVariableType;
 import org.flowable.variable.api.types.ValueFields;
-import org.flowable.variable.api.types.VariableType;
 
 /**
  * @author Tom Baeyens
  */
-public class StringType implements VariableType {
+public class StringType implements SizeLimitedVariableType {
 
     public static final String TYPE_NAME = "string";
     private final int maxLength;
@@ -47,6 +47,26 @@ public class StringType implements VariableType {
         valueFields.setTextValue((String) value);
     }
 
+    @Override
+    public Class<?> getValueClass() {
+        return String.class;
+    }
+
+    @Override
+    public int getValueSize(Object value) {
+        return ((String) value).length();
+    }
+
+    @Override
+    public int getMinValueSize() {
+        return 0;
+    }
+
+    @Override
+    public int getMaxValueSize() {
+        return maxLength;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
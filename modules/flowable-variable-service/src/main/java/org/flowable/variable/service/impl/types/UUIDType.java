@@ -53,6 +53,11 @@ public class UUIDType implements VariableType {
         }
     }
 
+    @Override
+    public boolean isValueClassBased() {
+        return getClass() == UUIDType.class;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         if (value == null) {
@@ -16,6 +16,7 @@ create table ACT_HI_VARINST (
   TEXT2_ varchar(4000),
   CREATE_TIME_ timestamp,
   LAST_UPDATED_TIME_ timestamp,
+  PARTITION_TIME_ timestamp,
   primary key (ID_)
 );
 
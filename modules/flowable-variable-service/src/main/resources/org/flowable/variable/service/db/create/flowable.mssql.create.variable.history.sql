@@ -16,6 +16,7 @@ create table ACT_HI_VARINST (
     TEXT2_ nvarchar(4000),
     CREATE_TIME_ datetime,
     LAST_UPDATED_TIME_ datetime2,
+    PARTITION_TIME_ datetime,
     primary key (ID_)
 );
 
@@ -16,6 +16,7 @@ create table ACT_HI_VARINST (
     TEXT2_ varchar(4000),
     CREATE_TIME_ datetime(3),
     LAST_UPDATED_TIME_ datetime(3),
+    PARTITION_TIME_ datetime(3),
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
 
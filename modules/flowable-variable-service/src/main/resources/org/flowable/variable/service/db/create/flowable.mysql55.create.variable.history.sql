@@ -16,6 +16,7 @@ create table ACT_HI_VARINST (
     TEXT2_ varchar(4000),
     CREATE_TIME_ datetime,
     LAST_UPDATED_TIME_ datetime,
+    PARTITION_TIME_ datetime,
     primary key (ID_)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE utf8_bin;
 
@@ -0,0 +1,27 @@
+create table ACT_HI_VARINST (
+    ID_ NVARCHAR2(64) not null,
+    REV_ INTEGER default 1,
+    PROC_INST_ID_ NVARCHAR2(64),
+    EXECUTION_ID_ NVARCHAR2(64),
+    TASK_ID_ NVARCHAR2(64),
+    NAME_ NVARCHAR2(255) not null,
+    VAR_TYPE_ NVARCHAR2(100),
+    SCOPE_ID_ NVARCHAR2(255),
+    SUB_SCOPE_ID_ NVARCHAR2(255),
+    SCOPE_TYPE_ NVARCHAR2(255),
+    BYTEARRAY_ID_ NVARCHAR2(64),
+    DOUBLE_ NUMBER(*,10),
+    LONG_ NUMBER(19,0),
+    TEXT_ NVARCHAR2(2000),
+    TEXT2_ NVARCHAR2(2000),
+    CREATE_TIME_ TIMESTAMP(6),
+    LAST_UPDATED_TIME_ TIMESTAMP(6),
+    PARTITION_TIME_ TIMESTAMP(6) default on null TIMESTAMP '1970-01-01 00:00:00',
+    primary key (ID_)
+)
+partition by range (PARTITION_TIME_) interval (numtoyminterval(1, 'MONTH'))
+(partition ACT_HI_VARINST_P0 values less than (TIMESTAMP '2000-01-01 00:00:00'));
+
+create index ACT_IDX_HI_PROCVAR_NAME_TYPE on ACT_HI_VARINST(NAME_, VAR_TYPE_);
+create index ACT_IDX_HI_VAR_SCOPE_ID_TYPE on ACT_HI_VARINST(SCOPE_ID_, SCOPE_TYPE_);
+create index ACT_IDX_HI_VAR_SUB_ID_TYPE on ACT_HI_VARINST(SUB_SCOPE_ID_, SCOPE_TYPE_);
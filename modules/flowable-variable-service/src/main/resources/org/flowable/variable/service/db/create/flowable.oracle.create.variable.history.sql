@@ -16,6 +16,7 @@ create table ACT_HI_VARINST (
     TEXT2_ NVARCHAR2(2000),
     CREATE_TIME_ TIMESTAMP(6),
     LAST_UPDATED_TIME_ TIMESTAMP(6),
+    PARTITION_TIME_ TIMESTAMP(6),
     primary key (ID_)
 );
 
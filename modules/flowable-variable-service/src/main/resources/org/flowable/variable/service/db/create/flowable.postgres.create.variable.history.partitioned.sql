@@ -0,0 +1,27 @@
+create table ACT_HI_VARINST (
+    ID_ varchar(64) not null,
+    REV_ integer default 1,
+    PROC_INST_ID_ varchar(64),
+    EXECUTION_ID_ varchar(64),
+    TASK_ID_ varchar(64),
+    NAME_ varchar(255) not null,
+    VAR_TYPE_ varchar(100),
+    SCOPE_ID_ varchar(255),
+    SUB_SCOPE_ID_ varchar(255),
+    SCOPE_TYPE_ varchar(255),
+    BYTEARRAY_ID_ varchar(64),
+    DOUBLE_ double precision,
+    LONG_ bigint,
+    TEXT_ varchar(4000),
+    TEXT2_ varchar(4000),
+    CREATE_TIME_ timestamp,
+    LAST_UPDATED_TIME_ timestamp,
+    PARTITION_TIME_ timestamp
+) partition by range (PARTITION_TIME_);
+
+create table ACT_HI_VARINST_DEFAULT partition of ACT_HI_VARINST default;
+
+create index ACT_IDX_HI_PROCVAR_NAME_TYPE on ACT_HI_VARINST(NAME_, VAR_TYPE_);
+create index ACT_IDX_HI_VAR_SCOPE_ID_TYPE on ACT_HI_VARINST(SCOPE_ID_, SCOPE_TYPE_);
+create index ACT_IDX_HI_VAR_SUB_ID_TYPE on ACT_HI_VARINST(SUB_SCOPE_ID_, SCOPE_TYPE_);
+create index ACT_IDX_HI_VAR_INST_ID on ACT_HI_VARINST(ID_);
\ No newline at end of file
@@ -0,0 +1 @@
+alter table ACT_HI_VARINST add column PARTITION_TIME_ datetime;
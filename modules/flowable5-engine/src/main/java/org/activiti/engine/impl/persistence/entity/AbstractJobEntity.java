@@ -231,6 +231,11 @@ public abstract class AbstractJobEntity implements Job, PersistentObject, HasRev
         this.elementName = elementName;
     }
 
+    @Override
+    public int getPriority() {
+        return DEFAULT_PRIORITY;
+    }
+
     @Override
     public String getScopeId() {
         return scopeId;